@@ -0,0 +1,82 @@
+package org.mockserver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.mockserver.codec.BodyDecoderEncoder;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.Body;
+import org.mockserver.model.BodyWithContentType;
+import org.mockserver.model.MediaType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mockserver.model.BinaryBody.binary;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.StringBody.exact;
+
+/**
+ * Time taken to encode a body to a buffer, to decode a received buffer to a body and to parse the Content-Type header,
+ * for each body content type
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BodyDecoderEncoderBenchmark {
+
+    @Param({"text/plain; charset=utf-8", "application/json", "application/octet-stream"})
+    public String contentType;
+
+    @Param({"128", "16384"})
+    public int bodySize;
+
+    private BodyDecoderEncoder bodyDecoderEncoder;
+    private Body<?> body;
+    private ByteBuf content;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        bodyDecoderEncoder = new BodyDecoderEncoder(new MockServerLogger());
+        char[] characters = new char[bodySize];
+        Arrays.fill(characters, 'a');
+        String value = new String(characters);
+        if (contentType.startsWith("text/plain")) {
+            body = exact(value);
+        } else if (contentType.equals("application/json")) {
+            body = json("{\"value\":\"" + value.substring(Math.min(12, value.length())) + "\"}");
+        } else {
+            body = binary(value.getBytes(UTF_8));
+        }
+        content = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(body.getRawBytes()));
+    }
+
+    @Benchmark
+    public int encode() {
+        ByteBuf byteBuf = bodyDecoderEncoder.bodyToByteBuf(body, contentType);
+        try {
+            return byteBuf.readableBytes();
+        } finally {
+            byteBuf.release();
+        }
+    }
+
+    @Benchmark
+    public BodyWithContentType decode() {
+        return bodyDecoderEncoder.byteBufToBody(content.duplicate(), contentType);
+    }
+
+    @Benchmark
+    public MediaType parseContentType() {
+        return MediaType.parse(contentType);
+    }
+}
@@ -0,0 +1,111 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.MockServerMatcher;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.ExpectationSerializer;
+import org.mockserver.server.initialize.ExpectationInitializerLoader;
+import org.mockserver.ui.MockServerMatcherNotifier.Cause;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.Parameter.param;
+
+/**
+ * Time taken to load new expectations into an empty MockServerMatcher, as a single batch, one at a time, and from a
+ * JSON initialization file (including parsing the file), as happens when MockServer starts
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpectationLoadingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int expectationCount;
+
+    private MockServerLogger mockServerLogger;
+    private Scheduler scheduler;
+    private Expectation[] expectations;
+    private File initializationJsonFile;
+    private MockServerMatcher mockServerMatcher;
+
+    @Setup
+    public void setup() throws IOException {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        ConfigurationProperties.maxExpectations(expectationCount);
+        mockServerLogger = new MockServerLogger();
+        scheduler = new Scheduler(mockServerLogger);
+        expectations = new Expectation[expectationCount];
+        for (int i = 0; i < expectationCount; i++) {
+            expectations[i] = expectation(i);
+        }
+        initializationJsonFile = File.createTempFile("expectationLoadingBenchmark", ".json");
+        Files.write(initializationJsonFile.toPath(), new ExpectationSerializer(mockServerLogger).serialize(expectations).getBytes(StandardCharsets.UTF_8));
+        ConfigurationProperties.initializationJsonPath(initializationJsonFile.getAbsolutePath());
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyMatcher() {
+        mockServerMatcher = new MockServerMatcher(mockServerLogger, scheduler, new WebSocketClientRegistry(mockServerLogger, scheduler));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty("mockserver.initializationJsonPath");
+        initializationJsonFile.delete();
+        scheduler.shutdown();
+    }
+
+    private Expectation expectation(int index) {
+        return new Expectation(
+            request("/some_path_" + index)
+                .withMethod("POST")
+                .withQueryStringParameters(param("queryOne", "valueOne"))
+                .withHeaders(header("Content-Type", "application/json"), header("X-Request-Id", "some_id_" + index))
+                .withBody(json("{ \"id\": " + index + ", \"name\": \"some_name\" }"))
+        )
+            .withId("expectation_" + index)
+            .thenRespond(
+                response("response_" + index)
+                    .withHeader("Content-Type", "text/plain")
+            );
+    }
+
+    @Benchmark
+    public MockServerMatcher addAll() {
+        mockServerMatcher.addAll(expectations, Cause.API);
+        return mockServerMatcher;
+    }
+
+    @Benchmark
+    public MockServerMatcher addOneAtATime() {
+        for (Expectation expectation : expectations) {
+            mockServerMatcher.add(expectation, Cause.API);
+        }
+        return mockServerMatcher;
+    }
+
+    @Benchmark
+    public MockServerMatcher loadFromInitializationJson() {
+        new ExpectationInitializerLoader(mockServerLogger, mockServerMatcher);
+        return mockServerMatcher;
+    }
+}
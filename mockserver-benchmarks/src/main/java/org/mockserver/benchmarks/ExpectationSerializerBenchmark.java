@@ -0,0 +1,87 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.Expectation;
+import org.mockserver.serialization.ExpectationSerializer;
+import org.mockserver.serialization.ExpectationSnapshotSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.Parameter.param;
+
+/**
+ * Time taken to serialize and deserialize expectations, including loading a file of expectations at startup from
+ * JSON (which is validated against the JSON schema) compared to from a binary snapshot
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpectationSerializerBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int expectationCount;
+
+    private ExpectationSerializer expectationSerializer;
+    private ExpectationSnapshotSerializer expectationSnapshotSerializer;
+    private Expectation[] expectations;
+    private String json;
+    private byte[] snapshot;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        expectationSerializer = new ExpectationSerializer(new MockServerLogger());
+        expectationSnapshotSerializer = new ExpectationSnapshotSerializer();
+        expectations = new Expectation[expectationCount];
+        for (int i = 0; i < expectationCount; i++) {
+            expectations[i] = new Expectation(
+                request()
+                    .withMethod("POST")
+                    .withPath("/some_path_" + i)
+                    .withQueryStringParameters(param("queryOne", "valueOne"))
+                    .withHeaders(header("Content-Type", "application/json"))
+                    .withBody(json("{ \"id\": " + i + ", \"name\": \"some_name\" }"))
+            ).thenRespond(
+                response()
+                    .withStatusCode(200)
+                    .withHeaders(header("Content-Type", "application/json"))
+                    .withBody("{ \"id\": " + i + ", \"status\": \"created\" }")
+            );
+        }
+        json = expectationSerializer.serialize(expectations);
+        snapshot = expectationSnapshotSerializer.serialize(expectations);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return expectationSerializer.serialize(expectations);
+    }
+
+    @Benchmark
+    public Expectation[] deserialize() {
+        return expectationSerializer.deserializeArray(json, false);
+    }
+
+    @Benchmark
+    public byte[] serializeSnapshot() {
+        return expectationSnapshotSerializer.serialize(expectations);
+    }
+
+    @Benchmark
+    public Expectation[] deserializeSnapshot() {
+        return expectationSnapshotSerializer.deserialize(ByteBuffer.wrap(snapshot));
+    }
+}
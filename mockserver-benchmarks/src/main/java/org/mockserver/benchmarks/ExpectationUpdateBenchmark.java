@@ -0,0 +1,100 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.MockServerMatcher;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.ui.MockServerMatcherNotifier.Cause;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.Cookie.cookie;
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.Parameter.param;
+
+/**
+ * Time taken to update all expectations with equal (but not the same) expectations, as when the same expectations are
+ * loaded again from an initialisation file, and to compare and hash a single expectation
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpectationUpdateBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int expectationCount;
+
+    private Scheduler scheduler;
+    private MockServerMatcher mockServerMatcher;
+    private Expectation[] equalExpectations;
+    private Expectation expectation;
+    private Expectation equalExpectation;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        ConfigurationProperties.maxExpectations(expectationCount);
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        scheduler = new Scheduler(mockServerLogger);
+        mockServerMatcher = new MockServerMatcher(mockServerLogger, scheduler, new WebSocketClientRegistry(mockServerLogger, scheduler));
+        Expectation[] expectations = new Expectation[expectationCount];
+        equalExpectations = new Expectation[expectationCount];
+        for (int i = 0; i < expectationCount; i++) {
+            expectations[i] = expectation(i);
+            equalExpectations[i] = expectation(i);
+        }
+        mockServerMatcher.update(expectations, Cause.API);
+        expectation = expectation(0);
+        equalExpectation = expectation(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private Expectation expectation(int index) {
+        return new Expectation(
+            request("/some_path_" + index)
+                .withMethod("POST")
+                .withQueryStringParameters(param("queryOne", "valueOne"), param("queryTwo", "valueTwo"))
+                .withHeaders(header("Content-Type", "application/json"), header("X-Request-Id", "some_id_" + index))
+                .withCookies(cookie("session", "some_session"))
+                .withBody(json("{ \"id\": " + index + ", \"name\": \"some_name\" }"))
+        )
+            .withId("expectation_" + index)
+            .thenRespond(
+                response("response_" + index)
+                    .withHeader("Content-Type", "text/plain")
+                    .withCookie("session", "some_session")
+            );
+    }
+
+    @Benchmark
+    public MockServerMatcher updateWithEqualExpectations() {
+        mockServerMatcher.update(equalExpectations, Cause.API);
+        return mockServerMatcher;
+    }
+
+    @Benchmark
+    public boolean expectationEquals() {
+        return expectation.equals(equalExpectation);
+    }
+
+    @Benchmark
+    public int expectationHashCode() {
+        return equalExpectation.hashCode();
+    }
+}
@@ -0,0 +1,164 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.model.HttpRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.Cookie.cookie;
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.JsonPathBody.jsonPath;
+import static org.mockserver.model.Parameter.param;
+import static org.mockserver.model.RegexBody.regex;
+import static org.mockserver.model.StringBody.exact;
+import static org.mockserver.model.XPathBody.xpath;
+import static org.mockserver.model.XmlBody.xml;
+
+/**
+ * Time taken by a request matcher to match each request field on its own, and all fields together
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpRequestMatcherBenchmark {
+
+    private static final String JSON_BODY = "{" +
+        "  \"id\": 1," +
+        "  \"name\": \"some_name\"," +
+        "  \"tags\": [\"one\", \"two\", \"three\"]," +
+        "  \"address\": { \"street\": \"some_street\", \"city\": \"some_city\" }" +
+        "}";
+    private static final String XML_BODY = "<element id=\"1\">" +
+        "<name>some_name</name>" +
+        "<tags><tag>one</tag><tag>two</tag><tag>three</tag></tags>" +
+        "<address><street>some_street</street><city>some_city</city></address>" +
+        "</element>";
+
+    private HttpRequest jsonRequest;
+    private HttpRequest xmlRequest;
+    private HttpRequestMatcher methodMatcher;
+    private HttpRequestMatcher pathMatcher;
+    private HttpRequestMatcher pathRegexMatcher;
+    private HttpRequestMatcher queryStringParameterMatcher;
+    private HttpRequestMatcher headerMatcher;
+    private HttpRequestMatcher cookieMatcher;
+    private HttpRequestMatcher stringBodyMatcher;
+    private HttpRequestMatcher regexBodyMatcher;
+    private HttpRequestMatcher jsonBodyMatcher;
+    private HttpRequestMatcher jsonPathBodyMatcher;
+    private HttpRequestMatcher xmlBodyMatcher;
+    private HttpRequestMatcher xpathBodyMatcher;
+    private HttpRequestMatcher allFieldsMatcher;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        MatcherBuilder matcherBuilder = new MatcherBuilder(new MockServerLogger());
+        jsonRequest = request()
+            .withMethod("POST")
+            .withPath("/some/path/1")
+            .withQueryStringParameters(param("queryOne", "valueOne"), param("queryTwo", "valueTwo"))
+            .withHeaders(header("Host", "localhost:1080"), header("Content-Type", "application/json"), header("Accept", "application/json"), header("X-Request-Id", "some_id"))
+            .withCookies(cookie("session", "some_session"), cookie("theme", "dark"))
+            .withBody(exact(JSON_BODY));
+        xmlRequest = jsonRequest.clone().withBody(exact(XML_BODY));
+
+        methodMatcher = matcherBuilder.transformsToMatcher(request().withMethod("POST"));
+        pathMatcher = matcherBuilder.transformsToMatcher(request().withPath("/some/path/1"));
+        pathRegexMatcher = matcherBuilder.transformsToMatcher(request().withPath("/some/.*/[0-9]+"));
+        queryStringParameterMatcher = matcherBuilder.transformsToMatcher(request().withQueryStringParameters(param("queryTwo", "value.*")));
+        headerMatcher = matcherBuilder.transformsToMatcher(request().withHeaders(header("Content-Type", "application/json"), header("X-Request-Id", ".*")));
+        cookieMatcher = matcherBuilder.transformsToMatcher(request().withCookies(cookie("session", "some_session")));
+        stringBodyMatcher = matcherBuilder.transformsToMatcher(request().withBody(exact(JSON_BODY)));
+        regexBodyMatcher = matcherBuilder.transformsToMatcher(request().withBody(regex(".*\"name\": \"some_name\".*")));
+        jsonBodyMatcher = matcherBuilder.transformsToMatcher(request().withBody(json("{ \"name\": \"some_name\", \"address\": { \"city\": \"some_city\" } }")));
+        jsonPathBodyMatcher = matcherBuilder.transformsToMatcher(request().withBody(jsonPath("$.tags[?(@ == 'two')]")));
+        xmlBodyMatcher = matcherBuilder.transformsToMatcher(request().withBody(xml(XML_BODY)));
+        xpathBodyMatcher = matcherBuilder.transformsToMatcher(request().withBody(xpath("/element[name='some_name']")));
+        allFieldsMatcher = matcherBuilder.transformsToMatcher(request()
+            .withMethod("POST")
+            .withPath("/some/.*/[0-9]+")
+            .withQueryStringParameters(param("queryTwo", "value.*"))
+            .withHeaders(header("Content-Type", "application/json"))
+            .withCookies(cookie("session", "some_session"))
+            .withBody(json("{ \"name\": \"some_name\" }"))
+        );
+    }
+
+    @Benchmark
+    public boolean method() {
+        return methodMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean path() {
+        return pathMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean pathRegex() {
+        return pathRegexMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean queryStringParameters() {
+        return queryStringParameterMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean headers() {
+        return headerMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean cookies() {
+        return cookieMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean stringBody() {
+        return stringBodyMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean regexBody() {
+        return regexBodyMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean jsonBody() {
+        return jsonBodyMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean jsonPathBody() {
+        return jsonPathBodyMatcher.matches(jsonRequest);
+    }
+
+    @Benchmark
+    public boolean xmlBody() {
+        return xmlBodyMatcher.matches(xmlRequest);
+    }
+
+    @Benchmark
+    public boolean xpathBody() {
+        return xpathBodyMatcher.matches(xmlRequest);
+    }
+
+    @Benchmark
+    public boolean allFields() {
+        return allFieldsMatcher.matches(jsonRequest);
+    }
+}
@@ -0,0 +1,105 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.collections.CaseInsensitiveKeyIndex;
+import org.mockserver.collections.CaseInsensitiveRegexHashMap;
+import org.mockserver.collections.CaseInsensitiveRegexMultiMap;
+import org.mockserver.collections.CaseInsensitiveRegexSubSet;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.NottableString;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.Cookie.cookie;
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.Parameter.param;
+
+/**
+ * Throughput of many threads matching a new request per invocation against the same expectation's headers, query
+ * string parameters and cookies, comparing the previous path (a synchronized map checked for emptiness and the
+ * expected entries checked one at a time with containsKeyValue) with {@link CaseInsensitiveRegexSubSet}, both on
+ * the same expectation and request
+ *
+ * The expectation has no notted entries, so checking each entry with containsKeyValue is the whole of the previous
+ * containsAll for this workload
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class MatcherContentionBenchmark {
+
+    private MockServerLogger mockServerLogger;
+    private CaseInsensitiveRegexMultiMap sharedQueryStringParameters;
+    private CaseInsensitiveRegexMultiMap sharedHeaders;
+    private CaseInsensitiveRegexHashMap sharedCookies;
+    private List<Map.Entry<NottableString, NottableString>> queryStringParameterEntries;
+    private List<Map.Entry<NottableString, NottableString>> headerEntries;
+    private List<Map.Entry<NottableString, NottableString>> cookieEntries;
+    private CaseInsensitiveRegexSubSet queryStringParameterSubSet;
+    private CaseInsensitiveRegexSubSet headerSubSet;
+    private CaseInsensitiveRegexSubSet cookieSubSet;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        mockServerLogger = new MockServerLogger();
+        HttpRequest expectation = request()
+            .withQueryStringParameters(param("queryTwo", "value.*"))
+            .withHeaders(header("Content-Type", "application/json"), header("X-Request-Id", "[a-z_]+"))
+            .withCookies(cookie("session", "some_session"));
+        sharedQueryStringParameters = expectation.getQueryStringParameters().toCaseInsensitiveRegexMultiMap(mockServerLogger, false);
+        sharedHeaders = expectation.getHeaders().toCaseInsensitiveRegexMultiMap(mockServerLogger, false);
+        sharedCookies = expectation.getCookies().toCaseInsensitiveRegexMultiMap(mockServerLogger, false);
+        queryStringParameterEntries = sharedQueryStringParameters.entryList();
+        headerEntries = sharedHeaders.entryList();
+        cookieEntries = new ArrayList<>(sharedCookies.entrySet());
+        queryStringParameterSubSet = new CaseInsensitiveRegexSubSet(queryStringParameterEntries);
+        headerSubSet = new CaseInsensitiveRegexSubSet(headerEntries);
+        cookieSubSet = new CaseInsensitiveRegexSubSet(cookieEntries);
+    }
+
+    private static HttpRequest requestToMatch() {
+        return request()
+            .withQueryStringParameters(param("queryOne", "valueOne"), param("queryTwo", "valueTwo"))
+            .withHeaders(header("Host", "localhost:1080"), header("Content-Type", "application/json"), header("Accept", "application/json"), header("X-Request-Id", "some_id"))
+            .withCookies(cookie("session", "some_session"), cookie("theme", "dark"));
+    }
+
+    private static boolean containsEveryEntry(CaseInsensitiveKeyIndex keyIndex, List<Map.Entry<NottableString, NottableString>> entries) {
+        for (Map.Entry<NottableString, NottableString> entry : entries) {
+            if (!keyIndex.containsKeyValue(entry.getKey(), entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean synchronizedMapContainsAll() {
+        HttpRequest request = requestToMatch();
+        return !sharedQueryStringParameters.isEmpty() && containsEveryEntry(request.getQueryStringParameters().toCaseInsensitiveKeyIndex(mockServerLogger, false), queryStringParameterEntries)
+            && !sharedHeaders.isEmpty() && containsEveryEntry(request.getHeaders().toCaseInsensitiveKeyIndex(mockServerLogger, false), headerEntries)
+            && !sharedCookies.isEmpty() && containsEveryEntry(request.getCookies().toCaseInsensitiveKeyIndex(mockServerLogger, false), cookieEntries);
+    }
+
+    @Benchmark
+    public boolean lockFreeSubSet() {
+        HttpRequest request = requestToMatch();
+        return !queryStringParameterSubSet.isEmpty() && queryStringParameterSubSet.isSubSetOf(request.getQueryStringParameters().toCaseInsensitiveKeyIndex(mockServerLogger, false))
+            && !headerSubSet.isEmpty() && headerSubSet.isSubSetOf(request.getHeaders().toCaseInsensitiveKeyIndex(mockServerLogger, false))
+            && !cookieSubSet.isEmpty() && cookieSubSet.isSubSetOf(request.getCookies().toCaseInsensitiveKeyIndex(mockServerLogger, false));
+    }
+}
@@ -0,0 +1,105 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.log.MockServerEventLog;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.model.VerificationResultsDTO;
+import org.mockserver.verify.Verification;
+import org.mockserver.verify.VerificationSequence;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.log.model.LogEntry.LogMessageType.RECEIVED_REQUEST;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.verify.Verification.verification;
+import static org.mockserver.verify.VerificationTimes.atLeast;
+
+/**
+ * Time taken to add a received request to a full event log (so the oldest entry is evicted) and to verify requests
+ * against the log, log entries are processed on the calling thread so adding isn't limited by the ring buffer
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MockServerEventLogBenchmark {
+
+    private static final int DISTINCT_PATHS = 10;
+
+    @Param({"100", "1000", "10000"})
+    public int logSize;
+
+    private Scheduler scheduler;
+    private MockServerEventLog mockServerEventLog;
+    private HttpRequest receivedRequest;
+    private Verification verification;
+    private List<Verification> verifications;
+    private List<VerificationSequence> verificationSequences;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        ConfigurationProperties.maxLogEntries(logSize);
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        scheduler = new Scheduler(mockServerLogger);
+        mockServerEventLog = new MockServerEventLog(mockServerLogger, scheduler, false);
+        for (int i = 0; i < logSize; i++) {
+            mockServerEventLog.add(receivedRequestLogEntry(request("/some_path_" + (i % DISTINCT_PATHS)).withHeader("Host", "localhost:1080")));
+        }
+        receivedRequest = request("/some_path_0").withHeader("Host", "localhost:1080");
+        verification = verification().withRequest(request("/some_path_" + (DISTINCT_PATHS - 1))).withTimes(atLeast(1));
+        verifications = new ArrayList<>();
+        for (int i = 0; i < DISTINCT_PATHS; i++) {
+            verifications.add(verification().withRequest(request("/some_path_" + i)).withTimes(atLeast(1)));
+        }
+        verificationSequences = Collections.singletonList(new VerificationSequence().withRequests(request("/some_path_0"), request("/some_path_" + (DISTINCT_PATHS - 1))));
+    }
+
+    @TearDown
+    public void tearDown() {
+        mockServerEventLog.stop();
+        scheduler.shutdown();
+    }
+
+    private LogEntry receivedRequestLogEntry(HttpRequest httpRequest) {
+        return new LogEntry()
+            .setType(RECEIVED_REQUEST)
+            .setHttpRequest(httpRequest);
+    }
+
+    @Benchmark
+    public void add() {
+        mockServerEventLog.add(receivedRequestLogEntry(receivedRequest));
+    }
+
+    @Benchmark
+    public String verify() throws Exception {
+        return mockServerEventLog.verify(verification).get();
+    }
+
+    @Benchmark
+    public String verifyEachSeparately() throws Exception {
+        StringBuilder failures = new StringBuilder();
+        for (Verification verification : verifications) {
+            failures.append(mockServerEventLog.verify(verification).get());
+        }
+        return failures.toString();
+    }
+
+    @Benchmark
+    public VerificationResultsDTO verifyAll() throws Exception {
+        return mockServerEventLog.verifyAll(verifications, verificationSequences).get();
+    }
+}
@@ -0,0 +1,123 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.MockServerMatcher;
+import org.mockserver.model.Body;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.scheduler.Scheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.model.RegexBody.regex;
+import static org.mockserver.model.StringBody.exact;
+import static org.mockserver.model.XPathBody.xpath;
+
+/**
+ * Time taken to find the matching expectation for a request, the request matches the last expectation added so
+ * every expectation is checked
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MockServerMatcherBenchmark {
+
+    public enum BodyType {
+        NONE,
+        STRING,
+        REGEX,
+        JSON,
+        XPATH
+    }
+
+    @Param({"1", "10", "100", "1000"})
+    public int expectationCount;
+
+    @Param({"NONE", "STRING", "REGEX", "JSON", "XPATH"})
+    public BodyType bodyType;
+
+    private Scheduler scheduler;
+    private MockServerMatcher mockServerMatcher;
+    private HttpRequest matchingRequest;
+    private HttpRequest notMatchingRequest;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        ConfigurationProperties.maxExpectations(expectationCount);
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        scheduler = new Scheduler(mockServerLogger);
+        mockServerMatcher = new MockServerMatcher(mockServerLogger, scheduler, new WebSocketClientRegistry(mockServerLogger, scheduler));
+        for (int i = 0; i < expectationCount; i++) {
+            mockServerMatcher.add(new Expectation(requestMatcher(i)).thenRespond(response("response_" + i)));
+        }
+        matchingRequest = receivedRequest(expectationCount - 1);
+        notMatchingRequest = receivedRequest(expectationCount).withPath("/not_matching");
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private HttpRequest requestMatcher(int index) {
+        HttpRequest httpRequest = request("/some_path_" + index).withMethod("POST").withHeader("Content-Type", "application/json");
+        switch (bodyType) {
+            case STRING:
+                return httpRequest.withBody(exact("some_body_" + index));
+            case REGEX:
+                return httpRequest.withBody(regex("some_body_" + index + "[a-z]*"));
+            case JSON:
+                return httpRequest.withBody(json("{ \"id\": " + index + ", \"name\": \"some_name\" }"));
+            case XPATH:
+                return httpRequest.withBody(xpath("/element[@id='" + index + "']"));
+            default:
+                return httpRequest;
+        }
+    }
+
+    private HttpRequest receivedRequest(int index) {
+        return request()
+            .withMethod("POST")
+            .withPath("/some_path_" + index)
+            .withHeader("Content-Type", "application/json")
+            .withHeader("Host", "localhost:1080")
+            .withBody(body(index));
+    }
+
+    private Body<?> body(int index) {
+        switch (bodyType) {
+            case STRING:
+            case REGEX:
+                return exact("some_body_" + index);
+            case JSON:
+                return exact("{ \"id\": " + index + ", \"name\": \"some_name\", \"description\": \"some_description\" }");
+            case XPATH:
+                return exact("<element id=\"" + index + "\"><name>some_name</name></element>");
+            default:
+                return exact("");
+        }
+    }
+
+    @Benchmark
+    public Expectation firstMatchingExpectation() {
+        return mockServerMatcher.firstMatchingExpectation(matchingRequest);
+    }
+
+    @Benchmark
+    public Expectation noMatchingExpectation() {
+        return mockServerMatcher.firstMatchingExpectation(notMatchingRequest);
+    }
+}
@@ -0,0 +1,129 @@
+package org.mockserver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpServerCodec;
+import org.mockserver.codec.MockServerClientCodec;
+import org.mockserver.codec.MockServerServerCodec;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.model.Cookie.cookie;
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.Parameter.param;
+
+/**
+ * Time taken for a request and response to be encoded to bytes and decoded by the MockServer client and server codecs,
+ * and for the server codec to decode a request when only the method and path are read or when every field is read,
+ * using embedded channels so no socket I/O is included
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NettyCodecBenchmark {
+
+    private EmbeddedChannel clientChannel;
+    private EmbeddedChannel serverChannel;
+    private HttpRequest httpRequest;
+    private HttpResponse httpResponse;
+    private ByteBuf encodedRequest;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        clientChannel = new EmbeddedChannel(
+            new HttpClientCodec(),
+            new HttpObjectAggregator(Integer.MAX_VALUE),
+            new MockServerClientCodec(mockServerLogger)
+        );
+        serverChannel = new EmbeddedChannel(
+            new HttpServerCodec(),
+            new HttpObjectAggregator(Integer.MAX_VALUE),
+            new MockServerServerCodec(mockServerLogger, false)
+        );
+        httpRequest = request()
+            .withMethod("POST")
+            .withPath("/some/path")
+            .withQueryStringParameters(param("queryOne", "valueOne"))
+            .withHeaders(header("Host", "localhost:1080"), header("Content-Type", "application/json"), header("Accept", "application/json"))
+            .withCookies(cookie("session", "some_session"))
+            .withBody("{ \"id\": 1, \"name\": \"some_name\" }");
+        httpResponse = response()
+            .withStatusCode(200)
+            .withHeaders(header("Content-Type", "application/json"))
+            .withBody("{ \"id\": 1, \"status\": \"created\" }");
+        clientChannel.writeOutbound(httpRequest);
+        encodedRequest = Unpooled.buffer();
+        ByteBuf byteBuf;
+        while ((byteBuf = clientChannel.readOutbound()) != null) {
+            encodedRequest.writeBytes(byteBuf);
+            byteBuf.release();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        clientChannel.finishAndReleaseAll();
+        serverChannel.finishAndReleaseAll();
+        encodedRequest.release();
+    }
+
+    @Benchmark
+    public HttpResponse roundTrip() {
+        clientChannel.writeOutbound(httpRequest);
+        transfer(clientChannel, serverChannel);
+        HttpRequest receivedRequest = serverChannel.readInbound();
+        serverChannel.writeOutbound(httpResponse);
+        transfer(serverChannel, clientChannel);
+        HttpResponse receivedResponse = clientChannel.readInbound();
+        if (receivedRequest == null || receivedResponse == null) {
+            throw new IllegalStateException("request or response was not decoded");
+        }
+        return receivedResponse;
+    }
+
+    @Benchmark
+    public String decodeRequestMethodAndPath() {
+        HttpRequest receivedRequest = decodeRequest();
+        return receivedRequest.getMethod().getValue() + receivedRequest.getPath().getValue();
+    }
+
+    @Benchmark
+    public int decodeRequestAllFields() {
+        HttpRequest receivedRequest = decodeRequest();
+        return receivedRequest.getHeaderList().size() + receivedRequest.getCookieList().size() + receivedRequest.getQueryStringParameterList().size() + receivedRequest.getBodyAsString().length();
+    }
+
+    private HttpRequest decodeRequest() {
+        serverChannel.writeInbound(encodedRequest.retainedDuplicate());
+        HttpRequest receivedRequest = serverChannel.readInbound();
+        if (receivedRequest == null) {
+            throw new IllegalStateException("request was not decoded");
+        }
+        return receivedRequest;
+    }
+
+    private void transfer(EmbeddedChannel from, EmbeddedChannel to) {
+        ByteBuf byteBuf;
+        while ((byteBuf = from.readOutbound()) != null) {
+            to.writeInbound(byteBuf);
+        }
+    }
+}
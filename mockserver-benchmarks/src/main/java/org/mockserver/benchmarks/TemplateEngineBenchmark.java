@@ -0,0 +1,81 @@
+package org.mockserver.benchmarks;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.serialization.model.HttpResponseDTO;
+import org.mockserver.templates.engine.javascript.JavaScriptTemplateEngine;
+import org.mockserver.templates.engine.velocity.VelocityTemplateEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockserver.character.Character.NEW_LINE;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * Time taken by each template engine to generate a response from a request
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateEngineBenchmark {
+
+    private static final String VELOCITY_TEMPLATE = "#if ( $request.method == 'POST' && $request.path == '/somePath' )" + NEW_LINE +
+        "    {" + NEW_LINE +
+        "        'statusCode': 200," + NEW_LINE +
+        "        'body': \"{'name': 'value'}\"" + NEW_LINE +
+        "    }" + NEW_LINE +
+        "#else" + NEW_LINE +
+        "    {" + NEW_LINE +
+        "        'statusCode': 406," + NEW_LINE +
+        "        'body': \"$!request.body\"" + NEW_LINE +
+        "    }" + NEW_LINE +
+        "#end";
+    private static final String JAVASCRIPT_TEMPLATE = "" +
+        "if (request.method === 'POST' && request.path === '/somePath') {" + NEW_LINE +
+        "    return {" + NEW_LINE +
+        "        'statusCode': 200," + NEW_LINE +
+        "        'body': JSON.stringify({name: 'value'})" + NEW_LINE +
+        "    };" + NEW_LINE +
+        "} else {" + NEW_LINE +
+        "    return {" + NEW_LINE +
+        "        'statusCode': 406," + NEW_LINE +
+        "        'body': request.body" + NEW_LINE +
+        "    };" + NEW_LINE +
+        "}";
+
+    private VelocityTemplateEngine velocityTemplateEngine;
+    private JavaScriptTemplateEngine javaScriptTemplateEngine;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        velocityTemplateEngine = new VelocityTemplateEngine(mockServerLogger);
+        javaScriptTemplateEngine = new JavaScriptTemplateEngine(mockServerLogger);
+        httpRequest = request()
+            .withMethod("POST")
+            .withPath("/somePath")
+            .withHeader("Host", "localhost:1080")
+            .withBody("some_body");
+    }
+
+    @Benchmark
+    public HttpResponse velocity() {
+        return velocityTemplateEngine.executeTemplate(VELOCITY_TEMPLATE, httpRequest, HttpResponseDTO.class);
+    }
+
+    @Benchmark
+    public HttpResponse javascript() {
+        return javaScriptTemplateEngine.executeTemplate(JAVASCRIPT_TEMPLATE, httpRequest, HttpResponseDTO.class);
+    }
+}
@@ -0,0 +1,68 @@
+package org.mockserver.benchmarks;
+
+import io.netty.channel.EventLoopGroup;
+import org.mockserver.client.PooledNettyHttpClient;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.echo.http.EchoServer;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.socket.tls.NettySslContextFactory;
+import org.mockserver.socket.transport.NettyTransport;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * Throughput and latency distribution (including p99) of requests sent by eight threads over pooled keep-alive
+ * connections to a local echo server, for each Netty transport (EPOLL falls back to NIO if it is not available)
+ *
+ * @author jamesdbloom
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+
+    @Param({"NIO", "EPOLL"})
+    public String transportType;
+
+    private EchoServer echoServer;
+    private EventLoopGroup clientEventLoopGroup;
+    private PooledNettyHttpClient pooledNettyHttpClient;
+    private HttpRequest httpRequest;
+
+    @Setup
+    public void setup() {
+        ConfigurationProperties.logLevel("WARN");
+        ConfigurationProperties.disableSystemOut(true);
+        ConfigurationProperties.transportType(transportType);
+        MockServerLogger mockServerLogger = new MockServerLogger();
+        echoServer = new EchoServer(false);
+        clientEventLoopGroup = NettyTransport.eventLoopGroup(4, new Scheduler.SchedulerThreadFactory(TransportBenchmark.class.getSimpleName() + "-eventLoop"));
+        pooledNettyHttpClient = new PooledNettyHttpClient(mockServerLogger, clientEventLoopGroup, new InetSocketAddress("127.0.0.1", echoServer.getPort()), false, 8, new NettySslContextFactory(mockServerLogger));
+        httpRequest = request("/some_path")
+            .withHeader("Host", "127.0.0.1:" + echoServer.getPort())
+            .withBody("some_body");
+    }
+
+    @TearDown
+    public void tearDown() {
+        pooledNettyHttpClient.close();
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+        echoServer.stop();
+    }
+
+    @Benchmark
+    public int sendRequest() throws Exception {
+        return pooledNettyHttpClient.sendRequest(httpRequest).get(10, TimeUnit.SECONDS).getStatusCode();
+    }
+}
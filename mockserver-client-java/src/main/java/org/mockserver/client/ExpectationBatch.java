@@ -0,0 +1,66 @@
+package org.mockserver.client;
+
+import org.mockserver.mock.Expectation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects expectations so they are sent to MockServer as a single request, instead of one request per expectation
+ *
+ * @author jamesdbloom
+ */
+public class ExpectationBatch {
+
+    private final MockServerClient mockServerClient;
+    private final List<Expectation> expectations = new ArrayList<>();
+
+    ExpectationBatch(MockServerClient mockServerClient) {
+        this.mockServerClient = mockServerClient;
+    }
+
+    /**
+     * Add one or more expectations to the batch
+     *
+     * @param expectations one or more expectations
+     */
+    public ExpectationBatch add(Expectation... expectations) {
+        this.expectations.addAll(Arrays.asList(expectations));
+        return this;
+    }
+
+    /**
+     * Add a list of expectations to the batch
+     *
+     * @param expectations list of expectations
+     */
+    public ExpectationBatch add(List<Expectation> expectations) {
+        this.expectations.addAll(expectations);
+        return this;
+    }
+
+    public List<Expectation> getExpectations() {
+        return expectations;
+    }
+
+    /**
+     * Send all expectations in the batch in a single request and wait for them to be added
+     */
+    public void send() {
+        mockServerClient.waitFor(sendAsync());
+    }
+
+    /**
+     * Send all expectations in the batch in a single request without waiting for the response
+     *
+     * @return a future completed when all expectations have been added
+     */
+    public CompletableFuture<Void> sendAsync() {
+        if (expectations.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return mockServerClient.sendExpectationAsync(expectations.toArray(new Expectation[0]));
+    }
+}
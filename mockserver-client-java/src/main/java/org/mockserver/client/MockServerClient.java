@@ -1,7 +1,6 @@
 package org.mockserver.client;
 
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import org.mockserver.Version;
 import org.mockserver.client.MockServerEventBus.EventType;
 import org.mockserver.configuration.ConfigurationProperties;
@@ -14,6 +13,7 @@ import org.mockserver.model.*;
 import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.*;
 import org.mockserver.socket.tls.NettySslContextFactory;
+import org.mockserver.socket.transport.NettyTransport;
 import org.mockserver.stop.Stoppable;
 import org.mockserver.verify.Verification;
 import org.mockserver.verify.VerificationSequence;
@@ -21,11 +21,14 @@ import org.mockserver.verify.VerificationTimes;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -47,7 +50,7 @@ public class MockServerClient implements Stoppable {
 
     private static final MockServerLogger MOCK_SERVER_LOGGER = new MockServerLogger(MockServerClient.class);
     private static final Map<Integer, MockServerEventBus> EVENT_BUS_MAP = new ConcurrentHashMap<>();
-    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(5, new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"));
+    private final EventLoopGroup eventLoopGroup = NettyTransport.eventLoopGroup(5, new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"));
     private final String host;
     private final String contextPath;
     private final Class<MockServerClient> clientClass;
@@ -55,12 +58,15 @@ public class MockServerClient implements Stoppable {
     private Boolean secure;
     private Integer port;
     private NettyHttpClient nettyHttpClient = new NettyHttpClient(MOCK_SERVER_LOGGER, eventLoopGroup, null, false, new NettySslContextFactory(MOCK_SERVER_LOGGER));
+    // keep-alive connections used by the asynchronous methods, created when first used
+    private PooledNettyHttpClient pooledNettyHttpClient;
     private HttpRequest requestOverride;
     private HttpRequestSerializer httpRequestSerializer = new HttpRequestSerializer(MOCK_SERVER_LOGGER);
     private LogEventRequestAndResponseSerializer httpRequestResponseSerializer = new LogEventRequestAndResponseSerializer(MOCK_SERVER_LOGGER);
     private PortBindingSerializer portBindingSerializer = new PortBindingSerializer(MOCK_SERVER_LOGGER);
     private ExpectationSerializer expectationSerializer = new ExpectationSerializer(MOCK_SERVER_LOGGER);
     private VerificationSerializer verificationSerializer = new VerificationSerializer(MOCK_SERVER_LOGGER);
+    private VerificationsSerializer verificationsSerializer = new VerificationsSerializer(MOCK_SERVER_LOGGER);
     private VerificationSequenceSerializer verificationSequenceSerializer = new VerificationSequenceSerializer(MOCK_SERVER_LOGGER);
 
     /**
@@ -186,19 +192,7 @@ public class MockServerClient implements Stoppable {
                 TimeUnit.MILLISECONDS
             );
 
-            if (response != null) {
-                if (response.getStatusCode() != null &&
-                    response.getStatusCode() == BAD_REQUEST.code()) {
-                    throw new IllegalArgumentException(response.getBodyAsString());
-                }
-                String serverVersion = response.getFirstHeader("version");
-                String clientVersion = Version.getVersion();
-                if (isNotBlank(serverVersion) && isNotBlank(clientVersion) && !clientVersion.equals(serverVersion)) {
-                    throw new ClientException("Client version \"" + clientVersion + "\" does not match server version \"" + serverVersion + "\"");
-                }
-            }
-
-            return response;
+            return validateResponse(response);
         } catch (RuntimeException rex) {
             if (isNotBlank(rex.getMessage()) && (rex.getMessage().contains("executor not accepting a task") || rex.getMessage().contains("loop shut down"))) {
                 throw new IllegalStateException(this.getClass().getSimpleName() + " has already been closed, please create new " + this.getClass().getSimpleName() + " instance");
@@ -208,6 +202,68 @@ public class MockServerClient implements Stoppable {
         }
     }
 
+    private HttpResponse validateResponse(HttpResponse response) {
+        if (response != null) {
+            if (response.getStatusCode() != null &&
+                response.getStatusCode() == BAD_REQUEST.code()) {
+                throw new IllegalArgumentException(response.getBodyAsString());
+            }
+            String serverVersion = response.getFirstHeader("version");
+            String clientVersion = Version.getVersion();
+            if (isNotBlank(serverVersion) && isNotBlank(clientVersion) && !clientVersion.equals(serverVersion)) {
+                throw new ClientException("Client version \"" + clientVersion + "\" does not match server version \"" + serverVersion + "\"");
+            }
+        }
+        return response;
+    }
+
+    private synchronized PooledNettyHttpClient pooledNettyHttpClient() {
+        if (eventLoopGroup.isShuttingDown()) {
+            throw new IllegalStateException(this.getClass().getSimpleName() + " has already been closed, please create new " + this.getClass().getSimpleName() + " instance");
+        }
+        if (pooledNettyHttpClient == null || pooledNettyHttpClient.isSecure() != isSecure()) {
+            if (pooledNettyHttpClient != null) {
+                pooledNettyHttpClient.close();
+            }
+            pooledNettyHttpClient = new PooledNettyHttpClient(MOCK_SERVER_LOGGER, eventLoopGroup, remoteAddress(), isSecure(), ConfigurationProperties.clientMaxConnections(), new NettySslContextFactory(MOCK_SERVER_LOGGER));
+        }
+        return pooledNettyHttpClient;
+    }
+
+    private CompletableFuture<HttpResponse> sendRequestAsync(HttpRequest request) {
+        try {
+            if (secure != null) {
+                request.withSecure(secure);
+            }
+            if (requestOverride != null) {
+                request = request.update(requestOverride);
+            }
+            return pooledNettyHttpClient()
+                .sendRequest(request.withHeader(HOST.toString(), this.host + ":" + port()))
+                .thenApply(this::validateResponse);
+        } catch (RuntimeException rex) {
+            CompletableFuture<HttpResponse> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(rex);
+            return failedFuture;
+        }
+    }
+
+    <T> T waitFor(CompletableFuture<T> future) {
+        try {
+            return future.get(maxFutureTimeout(), MILLISECONDS);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
+            } else if (ee.getCause() instanceof Error) {
+                throw (Error) ee.getCause();
+            } else {
+                throw new ClientException("Exception while sending request - " + ee.getCause().getMessage(), ee.getCause());
+            }
+        } catch (InterruptedException | TimeoutException ex) {
+            throw new ClientException("Exception while waiting for response - " + ex.getMessage(), ex);
+        }
+    }
+
     /**
      * Returns whether MockServer is running, if called too quickly after starting MockServer
      * this may return false because MockServer has not yet started, to ensure MockServer has
@@ -398,6 +454,12 @@ public class MockServerClient implements Stoppable {
                     );
                 }
             }
+            synchronized (this) {
+                if (pooledNettyHttpClient != null) {
+                    pooledNettyHttpClient.close();
+                    pooledNettyHttpClient = null;
+                }
+            }
             if (!eventLoopGroup.isShuttingDown()) {
                 eventLoopGroup.shutdownGracefully();
             }
@@ -424,6 +486,20 @@ public class MockServerClient implements Stoppable {
         return clientClass.cast(this);
     }
 
+    /**
+     * Reset MockServer by clearing all expectations, without waiting for the response
+     *
+     * @return a future completed when MockServer has been reset
+     */
+    public CompletableFuture<Void> resetAsync() {
+        getMockServerEventBus().publish(EventType.RESET);
+        return sendRequestAsync(
+            request()
+                .withMethod("PUT")
+                .withPath(calculatePath("reset"))
+        ).thenApply(httpResponse -> null);
+    }
+
     /**
      * Clear all expectations and logs that match the http
      *
@@ -539,6 +615,59 @@ public class MockServerClient implements Stoppable {
         return clientClass.cast(this);
     }
 
+    /**
+     * Verify multiple requests have each been sent the specified number of times, all verifications are checked by
+     * MockServer in a single verifyAll request for example:
+     * <pre>
+     * mockServerClient
+     *  .verifyAll(
+     *      verification()
+     *          .withRequest(request().withPath("/first_path"))
+     *          .withTimes(VerificationTimes.once()),
+     *      verification()
+     *          .withRequest(request().withPath("/second_path"))
+     *          .withTimes(VerificationTimes.exactly(2))
+     *  );
+     * </pre>
+     *
+     * @param verifications the verifications that must all pass
+     * @throws AssertionError if any verification fails, with the result of each verification
+     */
+    public MockServerClient verifyAll(Verification... verifications) throws AssertionError {
+        waitFor(verifyAllAsync(verifications));
+        return clientClass.cast(this);
+    }
+
+    /**
+     * Verify multiple requests have each been sent the specified number of times, without waiting for the response, all
+     * verifications are checked by MockServer in a single verifyAll request
+     *
+     * @param verifications the verifications that must all pass
+     * @return a future completed when all verifications have passed, or completed exceptionally with an AssertionError,
+     * containing the result of each verification, if any verification fails or with an IllegalArgumentException if no
+     * verifications are provided
+     */
+    public CompletableFuture<Void> verifyAllAsync(Verification... verifications) {
+        if (verifications == null || verifications.length == 0) {
+            CompletableFuture<Void> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(new IllegalArgumentException("verifyAll(Verification...) requires a non null non empty array of Verification objects"));
+            return failedFuture;
+        }
+
+        return sendRequestAsync(
+            request()
+                .withMethod("PUT")
+                .withContentType(APPLICATION_JSON_UTF_8)
+                .withPath(calculatePath("verifyAll"))
+                .withBody(verificationsSerializer.serialize(Arrays.asList(verifications), Collections.emptyList()), StandardCharsets.UTF_8)
+        ).thenApply(httpResponse -> {
+            if (httpResponse.getStatusCode() == null || httpResponse.getStatusCode() != ACCEPTED.code()) {
+                throw new AssertionError(httpResponse.getBodyAsString());
+            }
+            return null;
+        });
+    }
+
     /**
      * Verify no requests have been sent.
      *
@@ -810,6 +939,47 @@ public class MockServerClient implements Stoppable {
         }
     }
 
+    /**
+     * Send one or more expectations in a single request, without waiting for the response
+     *
+     * @param expectations one or more expectations
+     * @return a future completed when all expectations have been added
+     */
+    public CompletableFuture<Void> sendExpectationAsync(Expectation... expectations) {
+        return sendRequestAsync(
+            request()
+                .withMethod("PUT")
+                .withContentType(APPLICATION_JSON_UTF_8)
+                .withPath(calculatePath("expectation"))
+                .withBody(expectationSerializer.serialize(expectations), StandardCharsets.UTF_8)
+        ).thenApply(httpResponse -> {
+            if (httpResponse != null && httpResponse.getStatusCode() != 201) {
+                throw new ClientException(formatLogMessage("error:{}while submitted expectations:{}", httpResponse.getBody(), expectations));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Create a batch of expectations that are sent to MockServer in a single request, for example:
+     * <pre>
+     * mockServerClient
+     *  .expectationBatch()
+     *  .add(
+     *      when(request().withPath("/first_path"))
+     *          .thenRespond(response().withBody("first_body")),
+     *      when(request().withPath("/second_path"))
+     *          .thenRespond(response().withBody("second_body"))
+     *  )
+     *  .send();
+     * </pre>
+     *
+     * @return an empty batch of expectations
+     */
+    public ExpectationBatch expectationBatch() {
+        return new ExpectationBatch(this);
+    }
+
     /**
      * Retrieve the active expectations match the httpRequest parameter, use null for the parameter to retrieve all expectations
      *
@@ -821,6 +821,75 @@ public class MockServerClientIntegrationTest {
         }
     }
 
+    @Test
+    public void shouldSendExpectationBatchInSingleRequest() {
+        // given
+        echoServerOne.withNextResponse(response().withStatusCode(201));
+
+        // when
+        mockServerClientOne
+            .expectationBatch()
+            .add(
+                new Expectation(request().withPath("/some_path"))
+                    .thenRespond(response().withBody("some_response_body")),
+                new Expectation(request().withPath("/some_other_path"))
+                    .thenRespond(response().withBody("some_other_response_body"))
+            )
+            .send();
+
+        // then
+        assertThat(retrieveRequests(request()).size(), is(1));
+        String result = verify(verification().withRequest(
+            request()
+                .withMethod("PUT")
+                .withPath("/mockserver/expectation")
+                .withBody(json("" +
+                    "[ {" + NEW_LINE +
+                    "  \"httpRequest\" : {" + NEW_LINE +
+                    "    \"path\" : \"/some_path\"" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"httpResponse\" : {" + NEW_LINE +
+                    "    \"body\" : \"some_response_body\"" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"times\" : {" + NEW_LINE +
+                    "    \"unlimited\" : true" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"timeToLive\" : {" + NEW_LINE +
+                    "    \"unlimited\" : true" + NEW_LINE +
+                    "  }" + NEW_LINE +
+                    "}, {" + NEW_LINE +
+                    "  \"httpRequest\" : {" + NEW_LINE +
+                    "    \"path\" : \"/some_other_path\"" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"httpResponse\" : {" + NEW_LINE +
+                    "    \"body\" : \"some_other_response_body\"" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"times\" : {" + NEW_LINE +
+                    "    \"unlimited\" : true" + NEW_LINE +
+                    "  }," + NEW_LINE +
+                    "  \"timeToLive\" : {" + NEW_LINE +
+                    "    \"unlimited\" : true" + NEW_LINE +
+                    "  }" + NEW_LINE +
+                    "} ]", APPLICATION_JSON_UTF_8))
+        ));
+        if (result != null && !result.isEmpty()) {
+            throw new AssertionError(result);
+        }
+    }
+
+    @Test
+    public void shouldSendAsyncRequestsOverPooledConnections() throws Exception {
+        // when
+        List<CompletableFuture<Void>> resetFutures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            resetFutures.add(mockServerClientOne.resetAsync());
+        }
+        CompletableFuture.allOf(resetFutures.toArray(new CompletableFuture[0])).get(10, SECONDS);
+
+        // then
+        assertThat(retrieveRequests(request().withMethod("PUT").withPath("/mockserver/reset")).size(), is(20));
+    }
+
     @Test
     public void shouldSendStopRequest() {
         // given
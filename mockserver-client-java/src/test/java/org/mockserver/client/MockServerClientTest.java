@@ -20,12 +20,18 @@ import org.mockserver.verify.VerificationSequence;
 import org.mockserver.verify.VerificationTimes;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_ACCEPTABLE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -53,6 +59,8 @@ public class MockServerClientTest {
     @Mock
     private NettyHttpClient mockHttpClient;
     @Mock
+    private PooledNettyHttpClient mockPooledHttpClient;
+    @Mock
     private ExpectationSerializer mockExpectationSerializer;
     @Mock
     private HttpRequestSerializer mockHttpRequestSerializer;
@@ -62,6 +70,8 @@ public class MockServerClientTest {
     private VerificationSerializer mockVerificationSerializer;
     @Mock
     private VerificationSequenceSerializer mockVerificationSequenceSerializer;
+    @Mock
+    private VerificationsSerializer mockVerificationsSerializer;
     @InjectMocks
     private MockServerClient mockServerClient;
 
@@ -1212,6 +1222,101 @@ public class MockServerClientTest {
         }
     }
 
+    @Test
+    public void shouldSendExpectationBatchInSingleRequest() {
+        // given
+        Expectation expectationOne = new Expectation(request("/some_path")).thenRespond(response("some_body"));
+        Expectation expectationTwo = new Expectation(request("/some_other_path")).thenRespond(response("some_other_body"));
+        when(mockExpectationSerializer.serialize(expectationOne, expectationTwo)).thenReturn("expectations_json");
+        when(mockPooledHttpClient.sendRequest(any(HttpRequest.class))).thenReturn(CompletableFuture.completedFuture(response().withStatusCode(201)));
+
+        // when
+        mockServerClient
+            .expectationBatch()
+            .add(expectationOne)
+            .add(expectationTwo)
+            .send();
+
+        // then
+        verify(mockPooledHttpClient).sendRequest(
+            request()
+                .withHeader(HOST.toString(), "localhost:" + 1080)
+                .withMethod("PUT")
+                .withContentType(APPLICATION_JSON_UTF_8)
+                .withPath("/mockserver/expectation")
+                .withBody("expectations_json", StandardCharsets.UTF_8)
+        );
+        verifyNoMoreInteractions(mockHttpClient);
+    }
+
+    @Test
+    public void shouldVerifyAllInSingleRequest() {
+        // given
+        Verification verificationOne = verification().withRequest(request("/some_path")).withTimes(once());
+        Verification verificationTwo = verification().withRequest(request("/some_other_path")).withTimes(atLeast(2));
+        when(mockVerificationsSerializer.serialize(Arrays.asList(verificationOne, verificationTwo), Collections.emptyList())).thenReturn("verifications_json");
+        when(mockPooledHttpClient.sendRequest(any(HttpRequest.class))).thenReturn(CompletableFuture.completedFuture(response().withStatusCode(NOT_ACCEPTABLE.code()).withBody("verification_results_json")));
+
+        try {
+            // when
+            mockServerClient.verifyAll(verificationOne, verificationTwo);
+
+            // then
+            fail("expected exception to be thrown");
+        } catch (AssertionError ae) {
+            verify(mockPooledHttpClient).sendRequest(
+                request()
+                    .withHeader(HOST.toString(), "localhost:" + 1080)
+                    .withMethod("PUT")
+                    .withContentType(APPLICATION_JSON_UTF_8)
+                    .withPath("/mockserver/verifyAll")
+                    .withBody("verifications_json", StandardCharsets.UTF_8)
+            );
+            assertThat(ae.getMessage(), is("verification_results_json"));
+        }
+    }
+
+    @Test
+    public void shouldPassVerifyAllWhenAllVerificationsAccepted() {
+        // given
+        Verification verification = verification().withRequest(request("/some_path")).withTimes(once());
+        when(mockVerificationsSerializer.serialize(Collections.singletonList(verification), Collections.emptyList())).thenReturn("verifications_json");
+        when(mockPooledHttpClient.sendRequest(any(HttpRequest.class))).thenReturn(CompletableFuture.completedFuture(response().withStatusCode(ACCEPTED.code()).withBody("verification_results_json")));
+
+        // when
+        mockServerClient.verifyAll(verification);
+
+        // then
+        verify(mockPooledHttpClient).sendRequest(any(HttpRequest.class));
+    }
+
+    @Test
+    public void shouldHandleEmptyVerifyAll() {
+        // then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage(containsString("verifyAll(Verification...) requires a non null non empty array of Verification objects"));
+
+        // when
+        mockServerClient.verifyAll();
+    }
+
+    @Test
+    public void shouldReturnFailedFutureForEmptyVerifyAllAsync() {
+        // when
+        CompletableFuture<Void> result = mockServerClient.verifyAllAsync();
+
+        // then
+        assertThat(result.isCompletedExceptionally(), is(true));
+        try {
+            result.join();
+            fail("expected exception to be thrown");
+        } catch (CompletionException ce) {
+            assertThat(ce.getCause() instanceof IllegalArgumentException, is(true));
+            assertThat(ce.getCause().getMessage(), is("verifyAll(Verification...) requires a non null non empty array of Verification objects"));
+        }
+        verifyNoMoreInteractions(mockPooledHttpClient);
+    }
+
     @Test
     public void shouldHandleNullHttpRequest() {
         // then
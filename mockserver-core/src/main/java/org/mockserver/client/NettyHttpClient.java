@@ -6,7 +6,6 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.AttributeKey;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
@@ -14,6 +13,7 @@ import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.proxyconfiguration.ProxyConfiguration;
 import org.mockserver.socket.tls.NettySslContextFactory;
+import org.mockserver.socket.transport.NettyTransport;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
@@ -67,7 +67,7 @@ public class NettyHttpClient {
             final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
             new Bootstrap()
                 .group(eventLoopGroup)
-                .channel(NioSocketChannel.class)
+                .channel(NettyTransport.socketChannelClass(eventLoopGroup))
                 .option(ChannelOption.AUTO_READ, true)
                 .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
@@ -0,0 +1,55 @@
+package org.mockserver.client;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import org.mockserver.model.HttpResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.netty.handler.codec.http.HttpHeaderNames.CONNECTION;
+import static io.netty.handler.codec.http.HttpHeaderValues.CLOSE;
+import static org.mockserver.client.NettyHttpClient.RESPONSE_FUTURE;
+
+/**
+ * Completes the response future of a pooled connection without closing the connection, so it can be returned to the pool
+ *
+ * @author jamesdbloom
+ */
+@ChannelHandler.Sharable
+public class PooledHttpClientHandler extends SimpleChannelInboundHandler<HttpResponse> {
+
+    PooledHttpClientHandler() {
+        super(false);
+    }
+
+    @Override
+    public void channelRead0(ChannelHandlerContext ctx, HttpResponse response) {
+        CompletableFuture<HttpResponse> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).getAndSet(null);
+        if (CLOSE.toString().equalsIgnoreCase(response.getFirstHeader(CONNECTION.toString()))) {
+            // close before completing so the connection is not handed out again by the pool
+            ctx.close();
+        }
+        if (responseFuture != null) {
+            responseFuture.complete(response);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        CompletableFuture<HttpResponse> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).getAndSet(null);
+        if (responseFuture != null) {
+            responseFuture.completeExceptionally(new SocketConnectionException("Connection closed before valid response has been received"));
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        CompletableFuture<HttpResponse> responseFuture = ctx.channel().attr(RESPONSE_FUTURE).getAndSet(null);
+        ctx.close();
+        if (responseFuture != null) {
+            responseFuture.completeExceptionally(cause);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.mockserver.client;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.pool.AbstractChannelPoolHandler;
+import io.netty.channel.pool.ChannelHealthChecker;
+import io.netty.channel.pool.FixedChannelPool;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.mockserver.codec.MockServerClientCodec;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.LoggingHandler;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.socket.tls.NettySslContextFactory;
+import org.mockserver.socket.transport.NettyTransport;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockserver.client.NettyHttpClient.RESPONSE_FUTURE;
+import static org.slf4j.event.Level.TRACE;
+
+/**
+ * Sends requests to a single remote address over a pool of keep-alive connections, unlike {@link NettyHttpClient}
+ * connections are not closed after each response so many requests can be sent without a new connection (and TLS handshake)
+ * for each one.
+ *
+ * Each connection carries one request at a time and is returned to the pool when its response is received, requests sent
+ * while all connections are waiting for a response are queued by the pool until a connection is free.
+ *
+ * @author jamesdbloom
+ */
+public class PooledNettyHttpClient {
+
+    private final InetSocketAddress remoteAddress;
+    private final boolean secure;
+    private final long responseTimeoutMillis;
+    private final FixedChannelPool channelPool;
+
+    public PooledNettyHttpClient(MockServerLogger mockServerLogger, EventLoopGroup eventLoopGroup, InetSocketAddress remoteAddress, boolean secure, int maxConnections, NettySslContextFactory nettySslContextFactory) {
+        this.remoteAddress = remoteAddress;
+        this.secure = secure;
+        this.responseTimeoutMillis = ConfigurationProperties.maxSocketTimeout();
+        Bootstrap bootstrap = new Bootstrap()
+            .group(eventLoopGroup)
+            .channel(NettyTransport.socketChannelClass(eventLoopGroup))
+            .option(ChannelOption.AUTO_READ, true)
+            .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, ConfigurationProperties.socketConnectionTimeout())
+            .remoteAddress(remoteAddress);
+        PooledHttpClientHandler pooledHttpClientHandler = new PooledHttpClientHandler();
+        this.channelPool = new FixedChannelPool(bootstrap, new AbstractChannelPoolHandler() {
+            @Override
+            public void channelCreated(Channel channel) {
+                ChannelPipeline pipeline = channel.pipeline();
+                if (secure) {
+                    pipeline.addLast(nettySslContextFactory.createClientSslContext(false).newHandler(channel.alloc(), remoteAddress.getHostName(), remoteAddress.getPort()));
+                }
+                if (MockServerLogger.isEnabled(TRACE)) {
+                    pipeline.addLast(new LoggingHandler("PooledNettyHttpClient -->"));
+                }
+                pipeline.addLast(new HttpClientCodec());
+                pipeline.addLast(new HttpContentDecompressor());
+                pipeline.addLast(new HttpObjectAggregator(Integer.MAX_VALUE));
+                pipeline.addLast(new MockServerClientCodec(mockServerLogger));
+                pipeline.addLast(pooledHttpClientHandler);
+            }
+        }, ChannelHealthChecker.ACTIVE, FixedChannelPool.AcquireTimeoutAction.FAIL, responseTimeoutMillis, maxConnections, Integer.MAX_VALUE);
+    }
+
+    public InetSocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    public boolean isSecure() {
+        return secure;
+    }
+
+    /**
+     * Send the request over a pooled connection, the returned future is completed on a connection's event loop so
+     * dependent stages should not block
+     */
+    public CompletableFuture<HttpResponse> sendRequest(final HttpRequest httpRequest) {
+        final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+        channelPool.acquire().addListener((FutureListener<Channel>) acquireFuture -> {
+            if (acquireFuture.isSuccess()) {
+                Channel channel = acquireFuture.getNow();
+                channel.attr(RESPONSE_FUTURE).set(httpResponseFuture);
+                ScheduledFuture<?> responseTimeout = channel.eventLoop().schedule(() -> {
+                    if (channel.attr(RESPONSE_FUTURE).compareAndSet(httpResponseFuture, null)) {
+                        // the connection can't be reused as the late response would be read as the response to the next request
+                        channel.close();
+                        httpResponseFuture.completeExceptionally(new SocketCommunicationException("Response was not received from MockServer after " + responseTimeoutMillis + " milliseconds, to wait longer please use \"mockserver.maxSocketTimeout\" system property or ConfigurationProperties.maxSocketTimeout(long milliseconds)", null));
+                    }
+                }, responseTimeoutMillis, MILLISECONDS);
+                httpResponseFuture.whenComplete((httpResponse, throwable) -> {
+                    responseTimeout.cancel(false);
+                    channelPool.release(channel);
+                });
+                channel.writeAndFlush(httpRequest).addListener((ChannelFutureListener) writeFuture -> {
+                    if (!writeFuture.isSuccess() && channel.attr(RESPONSE_FUTURE).compareAndSet(httpResponseFuture, null)) {
+                        channel.close();
+                        httpResponseFuture.completeExceptionally(writeFuture.cause());
+                    }
+                });
+            } else {
+                httpResponseFuture.completeExceptionally(acquireFuture.cause());
+            }
+        });
+        return httpResponseFuture;
+    }
+
+    public void close() {
+        channelPool.close();
+    }
+}
@@ -1,14 +1,15 @@
 package org.mockserver.closurecallback.websocketclient;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
@@ -23,15 +24,18 @@ import org.mockserver.model.HttpObject;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpRequestAndHttpResponse;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.serialization.WebSocketBinaryMessageSerializer;
 import org.mockserver.serialization.WebSocketMessageSerializer;
 import org.mockserver.serialization.model.WebSocketClientIdDTO;
 import org.mockserver.serialization.model.WebSocketErrorDTO;
+import org.mockserver.socket.transport.NettyTransport;
 import org.slf4j.event.Level;
 
 import javax.net.ssl.SSLException;
 import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 
@@ -49,6 +53,7 @@ public class WebSocketClient<T extends HttpObject> {
     private final MockServerLogger mockServerLogger;
     private Channel channel;
     private WebSocketMessageSerializer webSocketMessageSerializer;
+    private final WebSocketBinaryMessageSerializer webSocketBinaryMessageSerializer = new WebSocketBinaryMessageSerializer();
     private ExpectationCallback<T> expectationCallback;
     private ExpectationForwardAndResponseCallback expectationForwardResponseCallback;
     private boolean isStopped = false;
@@ -68,7 +73,7 @@ public class WebSocketClient<T extends HttpObject> {
         try {
             new Bootstrap()
                 .group(this.eventLoopGroup)
-                .channel(NioSocketChannel.class)
+                .channel(NettyTransport.socketChannelClass(this.eventLoopGroup))
                 .attr(REGISTRATION_FUTURE, registrationFuture)
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
@@ -118,112 +123,143 @@ public class WebSocketClient<T extends HttpObject> {
 
     void receivedTextWebSocketFrame(TextWebSocketFrame textWebSocketFrame) {
         try {
-            Object deserializedMessage = webSocketMessageSerializer.deserialize(textWebSocketFrame.text());
-            if (deserializedMessage instanceof HttpRequest) {
-                HttpRequest request = (HttpRequest) deserializedMessage;
-                String webSocketCorrelationId = request.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME);
-                if (MockServerLogger.isEnabled(TRACE)) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(TRACE)
-                            .setHttpRequest(request)
-                            .setMessageFormat("received request{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
-                            .setArguments(request)
-                    );
+            Object reply = handleMessage(webSocketMessageSerializer.deserialize(textWebSocketFrame.text()));
+            if (reply != null) {
+                channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(reply)));
+            }
+        } catch (Exception e) {
+            throw new WebSocketException("Exception while receiving web socket message", e);
+        }
+    }
+
+    /**
+     * Binary frames are only sent by servers that accepted the binary callback protocol and contain a batch of messages,
+     * the replies to all of them are returned in a single binary frame.
+     */
+    void receivedBinaryWebSocketFrame(BinaryWebSocketFrame binaryWebSocketFrame) {
+        try {
+            List<Object> replies = new ArrayList<>();
+            for (Object message : webSocketBinaryMessageSerializer.deserialize(binaryWebSocketFrame.content())) {
+                Object reply = handleMessage(message);
+                if (reply != null) {
+                    replies.add(reply);
                 }
-                if (expectationCallback != null) {
-                    try {
-                        T result = expectationCallback.handle(request);
-                        if (MockServerLogger.isEnabled(TRACE)) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setLogLevel(TRACE)
-                                    .setHttpRequest(request)
-                                    .setMessageFormat("returning{}for request{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
-                                    .setArguments(result, request)
-                            );
-                        }
-                        result.withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId);
-                        channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(result)));
-                    } catch (Throwable throwable) {
+            }
+            if (!replies.isEmpty()) {
+                ByteBuf byteBuf = channel.alloc().buffer();
+                try {
+                    webSocketBinaryMessageSerializer.serialize(replies, byteBuf);
+                } catch (Exception e) {
+                    byteBuf.release();
+                    throw e;
+                }
+                channel.writeAndFlush(new BinaryWebSocketFrame(byteBuf));
+            }
+        } catch (Exception e) {
+            throw new WebSocketException("Exception while receiving binary web socket message", e);
+        }
+    }
+
+    private Object handleMessage(Object deserializedMessage) {
+        if (deserializedMessage instanceof HttpRequest) {
+            HttpRequest request = (HttpRequest) deserializedMessage;
+            String webSocketCorrelationId = request.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME);
+            if (MockServerLogger.isEnabled(TRACE)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(TRACE)
+                        .setHttpRequest(request)
+                        .setMessageFormat("received request{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
+                        .setArguments(request)
+                );
+            }
+            if (expectationCallback != null) {
+                try {
+                    T result = expectationCallback.handle(request);
+                    if (MockServerLogger.isEnabled(TRACE)) {
                         mockServerLogger.logEvent(
                             new LogEntry()
-                                .setType(LogEntry.LogMessageType.EXCEPTION)
-                                .setLogLevel(Level.ERROR)
+                                .setLogLevel(TRACE)
                                 .setHttpRequest(request)
-                                .setMessageFormat("exception thrown while handling callback for request - " + throwable.getMessage())
-                                .setThrowable(throwable)
+                                .setMessageFormat("returning{}for request{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
+                                .setArguments(result, request)
                         );
-                        channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(
-                            new WebSocketErrorDTO()
-                                .setMessage(throwable.getMessage())
-                                .setWebSocketCorrelationId(webSocketCorrelationId)
-                        )));
                     }
-                }
-            } else if (deserializedMessage instanceof HttpRequestAndHttpResponse) {
-                HttpRequestAndHttpResponse httpRequestAndHttpResponse = (HttpRequestAndHttpResponse) deserializedMessage;
-                HttpRequest httpRequest = httpRequestAndHttpResponse.getHttpRequest();
-                HttpResponse httpResponse = httpRequestAndHttpResponse.getHttpResponse();
-                String webSocketCorrelationId = httpRequest.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME);
-                if (MockServerLogger.isEnabled(TRACE)) {
+                    result.withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId);
+                    return result;
+                } catch (Throwable throwable) {
                     mockServerLogger.logEvent(
                         new LogEntry()
-                            .setLogLevel(TRACE)
-                            .setHttpRequest(httpRequestAndHttpResponse.getHttpRequest())
-                            .setMessageFormat("received request and response{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
-                            .setArguments(httpRequestAndHttpResponse)
+                            .setType(LogEntry.LogMessageType.EXCEPTION)
+                            .setLogLevel(Level.ERROR)
+                            .setHttpRequest(request)
+                            .setMessageFormat("exception thrown while handling callback for request - " + throwable.getMessage())
+                            .setThrowable(throwable)
                     );
+                    return new WebSocketErrorDTO()
+                        .setMessage(throwable.getMessage())
+                        .setWebSocketCorrelationId(webSocketCorrelationId);
                 }
-                if (expectationForwardResponseCallback != null) {
-                    try {
-                        HttpResponse response = expectationForwardResponseCallback.handle(httpRequest, httpResponse);
-                        if (MockServerLogger.isEnabled(TRACE)) {
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setLogLevel(TRACE)
-                                    .setHttpRequest(httpRequestAndHttpResponse.getHttpRequest())
-                                    .setMessageFormat("returning response{}for request and response{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
-                                    .setArguments(response, httpRequestAndHttpResponse)
-                            );
-                        }
-                        response.withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId);
-                        channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(response)));
-                    } catch (Throwable throwable) {
+            }
+        } else if (deserializedMessage instanceof HttpRequestAndHttpResponse) {
+            HttpRequestAndHttpResponse httpRequestAndHttpResponse = (HttpRequestAndHttpResponse) deserializedMessage;
+            HttpRequest httpRequest = httpRequestAndHttpResponse.getHttpRequest();
+            HttpResponse httpResponse = httpRequestAndHttpResponse.getHttpResponse();
+            String webSocketCorrelationId = httpRequest.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME);
+            if (MockServerLogger.isEnabled(TRACE)) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(TRACE)
+                        .setHttpRequest(httpRequestAndHttpResponse.getHttpRequest())
+                        .setMessageFormat("received request and response{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
+                        .setArguments(httpRequestAndHttpResponse)
+                );
+            }
+            if (expectationForwardResponseCallback != null) {
+                try {
+                    HttpResponse response = expectationForwardResponseCallback.handle(httpRequest, httpResponse);
+                    if (MockServerLogger.isEnabled(TRACE)) {
                         mockServerLogger.logEvent(
                             new LogEntry()
-                                .setType(LogEntry.LogMessageType.EXCEPTION)
-                                .setLogLevel(Level.ERROR)
-                                .setHttpRequest(httpRequest)
-                                .setMessageFormat("exception thrown while handling callback for request and response - " + throwable.getMessage())
-                                .setThrowable(throwable)
+                                .setLogLevel(TRACE)
+                                .setHttpRequest(httpRequestAndHttpResponse.getHttpRequest())
+                                .setMessageFormat("returning response{}for request and response{}over websocket for client " + clientId + " for correlationId " + webSocketCorrelationId)
+                                .setArguments(response, httpRequestAndHttpResponse)
                         );
-                        channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(
-                            new WebSocketErrorDTO()
-                                .setMessage(throwable.getMessage())
-                                .setWebSocketCorrelationId(webSocketCorrelationId)
-                        )));
                     }
+                    response.withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId);
+                    return response;
+                } catch (Throwable throwable) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setType(LogEntry.LogMessageType.EXCEPTION)
+                            .setLogLevel(Level.ERROR)
+                            .setHttpRequest(httpRequest)
+                            .setMessageFormat("exception thrown while handling callback for request and response - " + throwable.getMessage())
+                            .setThrowable(throwable)
+                    );
+                    return new WebSocketErrorDTO()
+                        .setMessage(throwable.getMessage())
+                        .setWebSocketCorrelationId(webSocketCorrelationId);
                 }
-            } else if (deserializedMessage instanceof WebSocketClientIdDTO) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setLogLevel(TRACE)
-                        .setMessageFormat("received client id{}")
-                        .setArguments(deserializedMessage)
-                );
-            } else {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setLogLevel(WARN)
-                        .setMessageFormat("web socket client received a message that isn't HttpRequest or HttpRequestAndHttpResponse{} which has been deserialized as{}")
-                        .setArguments(textWebSocketFrame.text(), deserializedMessage)
-                );
-                throw new WebSocketException("Unsupported web socket message " + textWebSocketFrame.text());
             }
-        } catch (Exception e) {
-            throw new WebSocketException("Exception while receiving web socket message", e);
+        } else if (deserializedMessage instanceof WebSocketClientIdDTO) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(TRACE)
+                    .setMessageFormat("received client id{}")
+                    .setArguments(deserializedMessage)
+            );
+        } else {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(WARN)
+                    .setMessageFormat("web socket client received a message that isn't HttpRequest or HttpRequestAndHttpResponse{}")
+                    .setArguments(deserializedMessage)
+            );
+            throw new WebSocketException("Unsupported web socket message " + deserializedMessage);
         }
+        return null;
     }
 
     public void stopClient() {
@@ -21,6 +21,8 @@ import static io.netty.handler.codec.http.HttpHeaderValues.WEBSOCKET;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.closurecallback.websocketclient.WebSocketClient.CLIENT_REGISTRATION_ID_HEADER;
 import static org.mockserver.closurecallback.websocketclient.WebSocketClient.REGISTRATION_FUTURE;
+import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.BINARY_CALLBACK_PROTOCOL;
+import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.CALLBACK_PROTOCOL_HEADER;
 import static org.slf4j.event.Level.*;
 
 @SuppressWarnings("rawtypes")
@@ -39,7 +41,9 @@ public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object>
             WebSocketVersion.V13,
             null,
             false,
-            new DefaultHttpHeaders().add(CLIENT_REGISTRATION_ID_HEADER, clientId),
+            new DefaultHttpHeaders()
+                .add(CLIENT_REGISTRATION_ID_HEADER, clientId)
+                .add(CALLBACK_PROTOCOL_HEADER, BINARY_CALLBACK_PROTOCOL),
             Integer.MAX_VALUE
         );
         this.webSocketClient = webSocketClient;
@@ -119,6 +123,8 @@ public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object>
             WebSocketFrame frame = (WebSocketFrame) msg;
             if (frame instanceof TextWebSocketFrame) {
                 webSocketClient.receivedTextWebSocketFrame((TextWebSocketFrame) frame);
+            } else if (frame instanceof BinaryWebSocketFrame) {
+                webSocketClient.receivedBinaryWebSocketFrame((BinaryWebSocketFrame) frame);
             } else if (frame instanceof PingWebSocketFrame) {
                 ctx.write(new PongWebSocketFrame(frame.content().retain()));
             } else if (frame instanceof CloseWebSocketFrame) {
@@ -1,121 +1,180 @@
 package org.mockserver.closurecallback.websocketregistry;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.Timeout;
+import org.mockserver.closurecallback.websocketclient.WebSocketException;
 import org.mockserver.collections.CircularHashMap;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.LatencyHistogram;
 import org.mockserver.metrics.Metrics;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpRequestAndHttpResponse;
 import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.HttpResponseSerializer;
+import org.mockserver.serialization.WebSocketBinaryMessageSerializer;
 import org.mockserver.serialization.WebSocketMessageSerializer;
+import org.mockserver.serialization.model.InFlightCallbacksDTO;
 import org.mockserver.serialization.model.WebSocketClientIdDTO;
 import org.mockserver.serialization.model.WebSocketErrorDTO;
-import org.mockserver.closurecallback.websocketclient.WebSocketException;
+import org.slf4j.event.Level;
 
-import java.util.Collections;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import static io.netty.handler.codec.http.HttpHeaderNames.RETRY_AFTER;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.configuration.ConfigurationProperties.maxWebSocketExpectations;
 import static org.mockserver.metrics.Metrics.Name.*;
 import static org.mockserver.metrics.Metrics.clearWebSocketMetrics;
+import static org.mockserver.model.HttpResponse.notFoundResponse;
 import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.HttpStatusCode.SERVICE_UNAVAILABLE_503;
 import static org.slf4j.event.Level.TRACE;
 import static org.slf4j.event.Level.WARN;
 
 /**
+ * Pending callbacks are held in concurrent maps by correlation id, each is removed exactly once whether by its response,
+ * its timeout (see {@link ConfigurationProperties#webSocketCallbackTimeout()} and
+ * {@link ConfigurationProperties#webSocketCallbackTimeoutResponse()}) or its client disconnecting, and the number of
+ * callbacks in flight for each client is limited (see {@link ConfigurationProperties#webSocketCallbackMaxInFlight()}).
+ * The time each client takes to respond is recorded in a latency histogram per client.
+ *
+ * Clients that support the binary callback protocol are sent batches of messages in binary frames, messages sent while the
+ * client's event loop is busy are written as a single frame.
+ *
  * @author jamesdbloom
  */
 public class WebSocketClientRegistry {
 
     public static final String WEB_SOCKET_CORRELATION_ID_HEADER_NAME = "WebSocketCorrelationId";
+    // sent by clients that support batches of messages in binary frames and returned by MockServer if it will send them
+    public static final String CALLBACK_PROTOCOL_HEADER = "X-CALLBACK-PROTOCOL";
+    public static final String BINARY_CALLBACK_PROTOCOL = "binary";
+    private static final int MAX_BATCH_SIZE = 100;
     private final MockServerLogger mockServerLogger;
+    private final Scheduler scheduler;
     private final WebSocketMessageSerializer webSocketMessageSerializer;
-    private final Map<String, Channel> clientRegistry = Collections.synchronizedMap(new CircularHashMap<>(maxWebSocketExpectations()));
-    private final Map<String, WebSocketResponseCallback> responseCallbackRegistry = new CircularHashMap<>(maxWebSocketExpectations());
-    private final Map<String, WebSocketRequestCallback> forwardCallbackRegistry = new CircularHashMap<>(maxWebSocketExpectations());
+    private final WebSocketBinaryMessageSerializer webSocketBinaryMessageSerializer = new WebSocketBinaryMessageSerializer();
+    private final Map<String, CallbackClient> clientRegistry = Collections.synchronizedMap(new CircularHashMap<>(maxWebSocketExpectations()));
+    private final Map<String, PendingCallback<WebSocketResponseCallback>> responseCallbackRegistry = new ConcurrentHashMap<>();
+    private final Map<String, PendingCallback<WebSocketRequestCallback>> forwardCallbackRegistry = new ConcurrentHashMap<>();
+    private final HttpResponseSerializer httpResponseSerializer;
+    private volatile Map.Entry<String, HttpResponse> timeoutResponse = new AbstractMap.SimpleImmutableEntry<>("", notFoundResponse());
 
-    public WebSocketClientRegistry(MockServerLogger mockServerLogger) {
+    public WebSocketClientRegistry(MockServerLogger mockServerLogger, Scheduler scheduler) {
         this.mockServerLogger = mockServerLogger;
+        this.scheduler = scheduler;
         this.webSocketMessageSerializer = new WebSocketMessageSerializer(mockServerLogger);
+        this.httpResponseSerializer = new HttpResponseSerializer(mockServerLogger);
     }
 
     void receivedTextWebSocketFrame(TextWebSocketFrame textWebSocketFrame) {
         try {
-            Object deserializedMessage = webSocketMessageSerializer.deserialize(textWebSocketFrame.text());
-            if (MockServerLogger.isEnabled(TRACE)) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setLogLevel(TRACE)
-                        .setMessageFormat("received message over websocket{}")
-                        .setArguments(deserializedMessage)
-                );
+            receivedMessage(webSocketMessageSerializer.deserialize(textWebSocketFrame.text()));
+        } catch (Exception e) {
+            throw new WebSocketException("Exception while receiving web socket message" + textWebSocketFrame.text(), e);
+        }
+    }
+
+    void receivedBinaryWebSocketFrame(BinaryWebSocketFrame binaryWebSocketFrame) {
+        try {
+            for (Object message : webSocketBinaryMessageSerializer.deserialize(binaryWebSocketFrame.content())) {
+                receivedMessage(message);
             }
-            if (deserializedMessage instanceof HttpResponse) {
-                HttpResponse httpResponse = (HttpResponse) deserializedMessage;
-                String firstHeader = httpResponse.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME);
-                WebSocketResponseCallback webSocketResponseCallback = responseCallbackRegistry.get(firstHeader);
-                if (webSocketResponseCallback != null) {
-                    webSocketResponseCallback.handle(httpResponse);
-                }
-            } else if (deserializedMessage instanceof HttpRequest) {
-                HttpRequest httpRequest = (HttpRequest) deserializedMessage;
-                final String firstHeader = httpRequest.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME);
-                WebSocketRequestCallback webSocketRequestCallback = forwardCallbackRegistry.get(firstHeader);
-                if (webSocketRequestCallback != null) {
-                    webSocketRequestCallback.handle(httpRequest);
-                }
-            } else if (deserializedMessage instanceof WebSocketErrorDTO) {
-                WebSocketErrorDTO webSocketErrorDTO = (WebSocketErrorDTO) deserializedMessage;
-                if (forwardCallbackRegistry.containsKey(webSocketErrorDTO.getWebSocketCorrelationId())) {
-                    forwardCallbackRegistry
-                        .get(webSocketErrorDTO.getWebSocketCorrelationId())
-                        .handleError(
-                            response()
-                                .withStatusCode(404)
-                                .withBody(webSocketErrorDTO.getMessage())
-                        );
-                } else if (responseCallbackRegistry.containsKey(webSocketErrorDTO.getWebSocketCorrelationId())) {
-                    responseCallbackRegistry
-                        .get(webSocketErrorDTO.getWebSocketCorrelationId())
-                        .handle(
-                            response()
-                                .withStatusCode(404)
-                                .withBody(webSocketErrorDTO.getMessage())
-                        );
-                }
+        } catch (Exception e) {
+            throw new WebSocketException("Exception while receiving binary web socket message", e);
+        }
+    }
+
+    private void receivedMessage(Object deserializedMessage) {
+        if (MockServerLogger.isEnabled(TRACE)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setLogLevel(TRACE)
+                    .setMessageFormat("received message over websocket{}")
+                    .setArguments(deserializedMessage)
+            );
+        }
+        if (deserializedMessage instanceof HttpResponse) {
+            HttpResponse httpResponse = (HttpResponse) deserializedMessage;
+            PendingCallback<WebSocketResponseCallback> pendingCallback = removePendingCallback(responseCallbackRegistry, httpResponse.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME));
+            if (pendingCallback != null) {
+                pendingCallback.recordLatency();
+                pendingCallback.callback.handle(httpResponse);
+            }
+        } else if (deserializedMessage instanceof HttpRequest) {
+            HttpRequest httpRequest = (HttpRequest) deserializedMessage;
+            PendingCallback<WebSocketRequestCallback> pendingCallback = removePendingCallback(forwardCallbackRegistry, httpRequest.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME));
+            if (pendingCallback != null) {
+                pendingCallback.recordLatency();
+                pendingCallback.callback.handle(httpRequest);
+            }
+        } else if (deserializedMessage instanceof WebSocketErrorDTO) {
+            WebSocketErrorDTO webSocketErrorDTO = (WebSocketErrorDTO) deserializedMessage;
+            HttpResponse errorResponse = response()
+                .withStatusCode(404)
+                .withBody(webSocketErrorDTO.getMessage());
+            PendingCallback<WebSocketRequestCallback> forwardCallback = removePendingCallback(forwardCallbackRegistry, webSocketErrorDTO.getWebSocketCorrelationId());
+            if (forwardCallback != null) {
+                forwardCallback.recordLatency();
+                forwardCallback.callback.handleError(errorResponse);
             } else {
-                throw new WebSocketException("Unsupported web socket message " + deserializedMessage);
+                PendingCallback<WebSocketResponseCallback> responseCallback = removePendingCallback(responseCallbackRegistry, webSocketErrorDTO.getWebSocketCorrelationId());
+                if (responseCallback != null) {
+                    responseCallback.recordLatency();
+                    responseCallback.callback.handle(errorResponse);
+                }
             }
-        } catch (Exception e) {
-            throw new WebSocketException("Exception while receiving web socket message" + textWebSocketFrame.text(), e);
+        } else {
+            throw new WebSocketException("Unsupported web socket message " + deserializedMessage);
         }
     }
 
     void registerClient(String clientId, ChannelHandlerContext ctx) {
+        registerClient(clientId, ctx, false);
+    }
+
+    void registerClient(String clientId, ChannelHandlerContext ctx, boolean binary) {
+        CallbackClient callbackClient = new CallbackClient(clientId, ctx.channel(), binary);
         try {
-            ctx.channel().writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(new WebSocketClientIdDTO().setClientId(clientId))));
+            callbackClient.send(new WebSocketClientIdDTO().setClientId(clientId));
         } catch (Exception e) {
             throw new WebSocketException("Exception while sending web socket registration client id message to client " + clientId, e);
         }
-        clientRegistry.put(clientId, ctx.channel());
+        clientRegistry.put(clientId, callbackClient);
         Metrics.set(WEBSOCKET_CALLBACK_CLIENT_COUNT, clientRegistry.size());
         if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
                 new LogEntry()
                     .setLogLevel(TRACE)
-                    .setMessageFormat("registering client " + clientId + "")
+                    .setMessageFormat("registering client " + clientId + (binary ? " using binary callback protocol" : ""))
             );
         }
     }
 
     public void unregisterClient(String clientId) {
         LocalCallbackRegistry.unregisterCallback(clientId);
-        Channel removeChannel = clientRegistry.remove(clientId);
-        if (removeChannel != null && removeChannel.isOpen()) {
-            removeChannel.close();
+        CallbackClient removedClient = clientRegistry.remove(clientId);
+        if (removedClient != null) {
+            if (removedClient.channel.isOpen()) {
+                removedClient.channel.close();
+            }
+            // fail callbacks already sent to the client instead of waiting for them to time out
+            failPendingCallbacks(removedClient, "client " + clientId + " has closed web socket connection");
         }
         Metrics.set(WEBSOCKET_CALLBACK_CLIENT_COUNT, clientRegistry.size());
         if (MockServerLogger.isEnabled(TRACE)) {
@@ -128,7 +187,9 @@ public class WebSocketClientRegistry {
     }
 
     public void registerResponseCallbackHandler(String webSocketCorrelationId, WebSocketResponseCallback expectationResponseCallback) {
-        responseCallbackRegistry.put(webSocketCorrelationId, expectationResponseCallback);
+        PendingCallback<WebSocketResponseCallback> pendingCallback = new PendingCallback<>(expectationResponseCallback);
+        responseCallbackRegistry.put(webSocketCorrelationId, pendingCallback);
+        scheduleTimeout(responseCallbackRegistry, webSocketCorrelationId, pendingCallback, timeoutResponse -> expectationResponseCallback.handle(timeoutResponse));
         Metrics.set(WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT, responseCallbackRegistry.size());
         if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
@@ -140,8 +201,7 @@ public class WebSocketClientRegistry {
     }
 
     public void unregisterResponseCallbackHandler(String webSocketCorrelationId) {
-        responseCallbackRegistry.remove(webSocketCorrelationId);
-        Metrics.set(WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT, responseCallbackRegistry.size());
+        removePendingCallback(responseCallbackRegistry, webSocketCorrelationId);
         if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
                 new LogEntry()
@@ -152,7 +212,9 @@ public class WebSocketClientRegistry {
     }
 
     public void registerForwardCallbackHandler(String webSocketCorrelationId, WebSocketRequestCallback expectationForwardCallback) {
-        forwardCallbackRegistry.put(webSocketCorrelationId, expectationForwardCallback);
+        PendingCallback<WebSocketRequestCallback> pendingCallback = new PendingCallback<>(expectationForwardCallback);
+        forwardCallbackRegistry.put(webSocketCorrelationId, pendingCallback);
+        scheduleTimeout(forwardCallbackRegistry, webSocketCorrelationId, pendingCallback, expectationForwardCallback::handleError);
         Metrics.set(WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT, forwardCallbackRegistry.size());
         if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
@@ -164,8 +226,7 @@ public class WebSocketClientRegistry {
     }
 
     public void unregisterForwardCallbackHandler(String webSocketCorrelationId) {
-        forwardCallbackRegistry.remove(webSocketCorrelationId);
-        Metrics.set(WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT, forwardCallbackRegistry.size());
+        removePendingCallback(forwardCallbackRegistry, webSocketCorrelationId);
         if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
                 new LogEntry()
@@ -175,9 +236,120 @@ public class WebSocketClientRegistry {
         }
     }
 
-    public boolean sendClientMessage(String clientId, HttpRequest httpRequest, HttpResponse httpResponse) {
+    private <T> void scheduleTimeout(Map<String, PendingCallback<T>> callbackRegistry, String webSocketCorrelationId, PendingCallback<T> pendingCallback, Consumer<HttpResponse> timeoutHandler) {
+        long callbackTimeout = ConfigurationProperties.webSocketCallbackTimeout();
+        if (scheduler != null && callbackTimeout > 0) {
+            pendingCallback.timeout = scheduler.scheduleTimeout(() -> {
+                if (callbackRegistry.remove(webSocketCorrelationId, pendingCallback)) {
+                    pendingCallback.completed();
+                    updateCallbackMetrics();
+                    Metrics.increment(WEBSOCKET_CALLBACK_TIMEOUT_COUNT);
+                    HttpResponse timeoutResponse = timeoutResponse();
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(WARN)
+                            .setMessageFormat("returning{}because no response was received from callback client after " + callbackTimeout + "ms for correlationId " + webSocketCorrelationId)
+                            .setArguments(timeoutResponse)
+                    );
+                    timeoutHandler.accept(timeoutResponse);
+                }
+            }, callbackTimeout, MILLISECONDS);
+        }
+    }
+
+    private HttpResponse timeoutResponse() {
+        String json = ConfigurationProperties.webSocketCallbackTimeoutResponse();
+        Map.Entry<String, HttpResponse> timeoutResponse = this.timeoutResponse;
+        if (!timeoutResponse.getKey().equals(json)) {
+            HttpResponse httpResponse = notFoundResponse();
+            if (isNotBlank(json)) {
+                try {
+                    httpResponse = httpResponseSerializer.deserialize(json);
+                } catch (Throwable throwable) {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setType(LogEntry.LogMessageType.EXCEPTION)
+                            .setLogLevel(Level.ERROR)
+                            .setMessageFormat("invalid webSocketCallbackTimeoutResponse{}returning 404 response instead")
+                            .setArguments(json)
+                            .setThrowable(throwable)
+                    );
+                }
+            }
+            timeoutResponse = new AbstractMap.SimpleImmutableEntry<>(json, httpResponse);
+            this.timeoutResponse = timeoutResponse;
+        }
+        // callbacks modify the response they are passed
+        return timeoutResponse.getValue().clone();
+    }
+
+    private <T> PendingCallback<T> removePendingCallback(Map<String, PendingCallback<T>> callbackRegistry, String webSocketCorrelationId) {
+        PendingCallback<T> pendingCallback = webSocketCorrelationId != null ? callbackRegistry.remove(webSocketCorrelationId) : null;
+        if (pendingCallback != null) {
+            pendingCallback.completed();
+            updateCallbackMetrics();
+        }
+        return pendingCallback;
+    }
+
+    private void failPendingCallbacks(CallbackClient callbackClient, String reason) {
+        failPendingCallbacks(pendingCallback -> pendingCallback.client == callbackClient, reason);
+    }
+
+    private void failPendingCallbacks(Predicate<PendingCallback<?>> shouldFail, String reason) {
+        responseCallbackRegistry.forEach((webSocketCorrelationId, pendingCallback) -> {
+            if (shouldFail.test(pendingCallback) && responseCallbackRegistry.remove(webSocketCorrelationId, pendingCallback)) {
+                pendingCallback.completed();
+                logFailedPendingCallback(webSocketCorrelationId, reason);
+                pendingCallback.callback.handle(notFoundResponse());
+            }
+        });
+        forwardCallbackRegistry.forEach((webSocketCorrelationId, pendingCallback) -> {
+            if (shouldFail.test(pendingCallback) && forwardCallbackRegistry.remove(webSocketCorrelationId, pendingCallback)) {
+                pendingCallback.completed();
+                logFailedPendingCallback(webSocketCorrelationId, reason);
+                pendingCallback.callback.handleError(notFoundResponse());
+            }
+        });
+        updateCallbackMetrics();
+    }
+
+    private void logFailedPendingCallback(String webSocketCorrelationId, String reason) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(WARN)
+                .setMessageFormat("returning{}because " + reason + " for correlationId " + webSocketCorrelationId)
+                .setArguments(notFoundResponse())
+        );
+    }
+
+    private void updateCallbackMetrics() {
+        Metrics.set(WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT, responseCallbackRegistry.size());
+        Metrics.set(WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT, forwardCallbackRegistry.size());
+    }
+
+    /**
+     * @return SENT unless the client is not connected or already has the maximum number of callbacks in flight, in which
+     * case any callback registered for the message's correlation id is removed
+     */
+    public SendResult sendClientMessage(String clientId, HttpRequest httpRequest, HttpResponse httpResponse) {
+        String webSocketCorrelationId = httpRequest.getFirstHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME);
         try {
-            if (clientRegistry.containsKey(clientId)) {
+            CallbackClient callbackClient = clientRegistry.get(clientId);
+            if (callbackClient != null) {
+                PendingCallback<?> pendingCallback = httpResponse == null && forwardCallbackRegistry.containsKey(webSocketCorrelationId) ? forwardCallbackRegistry.get(webSocketCorrelationId) : responseCallbackRegistry.get(webSocketCorrelationId);
+                if (pendingCallback != null && !pendingCallback.sentTo(callbackClient)) {
+                    Metrics.increment(WEBSOCKET_CALLBACK_REJECTED_COUNT);
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setLogLevel(WARN)
+                            .setHttpRequest(httpRequest)
+                            .setMessageFormat("client " + clientId + " already has " + ConfigurationProperties.webSocketCallbackMaxInFlight() + " callbacks in flight, the maximum, so not sending request{}")
+                            .setArguments(httpRequest)
+                    );
+                    removeRejectedCallback(webSocketCorrelationId);
+                    return SendResult.MAX_IN_FLIGHT;
+                }
                 if (httpResponse == null) {
                     if (MockServerLogger.isEnabled(TRACE)) {
                         mockServerLogger.logEvent(
@@ -188,7 +360,7 @@ public class WebSocketClientRegistry {
                                 .setArguments(httpRequest)
                         );
                     }
-                    clientRegistry.get(clientId).writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(httpRequest)));
+                    callbackClient.send(httpRequest);
                 } else {
                     HttpRequestAndHttpResponse httpRequestAndHttpResponse = new HttpRequestAndHttpResponse()
                         .withHttpRequest(httpRequest)
@@ -202,32 +374,219 @@ public class WebSocketClientRegistry {
                                 .setArguments(httpRequestAndHttpResponse)
                         );
                     }
-                    clientRegistry.get(clientId).writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(httpRequestAndHttpResponse)));
+                    callbackClient.send(httpRequestAndHttpResponse);
                 }
-                return true;
+                return SendResult.SENT;
             } else {
                 mockServerLogger.logEvent(
                     new LogEntry()
                         .setLogLevel(WARN)
                         .setHttpRequest(httpRequest)
                         .setMessageFormat("client " + clientId + " not found for request{}client registry only contains{}")
-                        .setArguments(httpRequest, clientRegistry)
+                        .setArguments(httpRequest, clientRegistry.keySet())
                 );
-                return false;
+                removeRejectedCallback(webSocketCorrelationId);
+                return SendResult.CLIENT_NOT_FOUND;
             }
         } catch (Exception e) {
             throw new WebSocketException("Exception while sending web socket message " + httpRequest + " to client " + clientId, e);
         }
     }
 
+    private void removeRejectedCallback(String webSocketCorrelationId) {
+        // the caller returns a response itself so the callback is removed without being called
+        removePendingCallback(forwardCallbackRegistry, webSocketCorrelationId);
+        removePendingCallback(responseCallbackRegistry, webSocketCorrelationId);
+    }
+
+    public InFlightCallbacksDTO retrieveInFlightCallbacks() {
+        InFlightCallbacksDTO inFlightCallbacks = new InFlightCallbacksDTO();
+        clientRegistry.forEach((clientId, callbackClient) -> inFlightCallbacks.getClients().add(
+            new InFlightCallbacksDTO.Client()
+                .setClientId(clientId)
+                .setBinary(callbackClient.binary)
+                .setInFlight(callbackClient.inFlight.get())
+                .setResponseCount(callbackClient.latency.getCount())
+                .setLatencyP50Micros(callbackClient.latency.getValueAtPercentile(50))
+                .setLatencyP99Micros(callbackClient.latency.getValueAtPercentile(99))
+        ));
+        long now = System.nanoTime();
+        responseCallbackRegistry.forEach((webSocketCorrelationId, pendingCallback) -> inFlightCallbacks.getCallbacks().add(pendingCallback.toDTO(webSocketCorrelationId, "RESPONSE", now)));
+        forwardCallbackRegistry.forEach((webSocketCorrelationId, pendingCallback) -> inFlightCallbacks.getCallbacks().add(pendingCallback.toDTO(webSocketCorrelationId, "FORWARD", now)));
+        return inFlightCallbacks;
+    }
+
+    public Map<String, Integer> retrieveInFlightCountByClient() {
+        Map<String, Integer> inFlightCountByClient = new TreeMap<>();
+        clientRegistry.forEach((clientId, callbackClient) -> inFlightCountByClient.put(clientId, callbackClient.inFlight.get()));
+        return inFlightCountByClient;
+    }
+
+    /**
+     * @return the time taken by each connected client to respond to object callbacks
+     */
+    public Map<String, LatencyHistogram> retrieveCallbackLatencies() {
+        Map<String, LatencyHistogram> callbackLatencies = new TreeMap<>();
+        clientRegistry.forEach((clientId, callbackClient) -> callbackLatencies.put(clientId, callbackClient.latency));
+        return callbackLatencies;
+    }
+
     public synchronized void reset() {
-        forwardCallbackRegistry.clear();
-        responseCallbackRegistry.clear();
-        clientRegistry.forEach((clientId, channel) -> {
+        // completed with a 404, as if each client had disconnected, so no request is left waiting for a callback that can't arrive
+        failPendingCallbacks(pendingCallback -> true, "callbacks have been reset");
+        clientRegistry.forEach((clientId, callbackClient) -> {
             LocalCallbackRegistry.unregisterCallback(clientId);
-            channel.close();
+            callbackClient.channel.close();
         });
         clientRegistry.clear();
         clearWebSocketMetrics();
     }
+
+    public enum SendResult {
+        SENT,
+        CLIENT_NOT_FOUND,
+        MAX_IN_FLIGHT;
+
+        /**
+         * @return the response returned instead of the callback's response when the message was not sent, a 503 the
+         * caller can retry (like requests rejected by admission control) if the client has too many callbacks in flight,
+         * otherwise a 404
+         */
+        public HttpResponse notSentResponse() {
+            if (this == MAX_IN_FLIGHT) {
+                return response()
+                    .withStatusCode(SERVICE_UNAVAILABLE_503.code())
+                    .withReasonPhrase(SERVICE_UNAVAILABLE_503.reasonPhrase())
+                    .withHeader(RETRY_AFTER.toString(), "1");
+            } else {
+                return notFoundResponse();
+            }
+        }
+
+        public String notSentReason(String clientId) {
+            if (this == MAX_IN_FLIGHT) {
+                return "client " + clientId + " already has the maximum number of callbacks in flight";
+            } else {
+                return "client " + clientId + " has closed web socket connection";
+            }
+        }
+    }
+
+    private static class PendingCallback<T> {
+        private final T callback;
+        private final long registeredNanos = System.nanoTime();
+        private volatile Timeout timeout;
+        private volatile CallbackClient client;
+        private volatile long sentNanos;
+
+        private PendingCallback(T callback) {
+            this.callback = callback;
+        }
+
+        /**
+         * @return false if the client already has the maximum number of callbacks in flight
+         */
+        private boolean sentTo(CallbackClient callbackClient) {
+            if (client != callbackClient) {
+                if (callbackClient.inFlight.incrementAndGet() > ConfigurationProperties.webSocketCallbackMaxInFlight()) {
+                    callbackClient.inFlight.decrementAndGet();
+                    return false;
+                }
+                sentNanos = System.nanoTime();
+                client = callbackClient;
+            }
+            return true;
+        }
+
+        private void recordLatency() {
+            CallbackClient client = this.client;
+            if (client != null) {
+                client.latency.record(System.nanoTime() - sentNanos, NANOSECONDS);
+            }
+        }
+
+        private InFlightCallbacksDTO.Callback toDTO(String webSocketCorrelationId, String type, long now) {
+            CallbackClient client = this.client;
+            return new InFlightCallbacksDTO.Callback()
+                .setWebSocketCorrelationId(webSocketCorrelationId)
+                .setType(type)
+                .setClientId(client != null ? client.clientId : null)
+                .setAgeMillis(NANOSECONDS.toMillis(now - registeredNanos));
+        }
+
+        // only called by the thread that removed this callback from its registry
+        private void completed() {
+            Timeout timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            CallbackClient client = this.client;
+            if (client != null) {
+                client.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private class CallbackClient {
+        private final String clientId;
+        private final Channel channel;
+        private final boolean binary;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Queue<Object> pendingMessages = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private CallbackClient(String clientId, Channel channel, boolean binary) {
+            this.clientId = clientId;
+            this.channel = channel;
+            this.binary = binary;
+        }
+
+        private void send(Object message) throws Exception {
+            if (binary) {
+                pendingMessages.add(message);
+                if (flushScheduled.compareAndSet(false, true)) {
+                    channel.eventLoop().execute(this::flush);
+                }
+            } else {
+                channel.writeAndFlush(new TextWebSocketFrame(webSocketMessageSerializer.serialize(message)));
+            }
+        }
+
+        // runs on the channel's event loop, so all messages sent while it was busy are written together
+        private void flush() {
+            flushScheduled.set(false);
+            List<Object> batch = new ArrayList<>();
+            Object message;
+            while ((message = pendingMessages.poll()) != null) {
+                batch.add(message);
+                if (batch.size() == MAX_BATCH_SIZE) {
+                    write(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+            channel.flush();
+        }
+
+        private void write(List<Object> batch) {
+            ByteBuf byteBuf = channel.alloc().buffer();
+            try {
+                webSocketBinaryMessageSerializer.serialize(batch, byteBuf);
+                channel.write(new BinaryWebSocketFrame(byteBuf));
+            } catch (Exception e) {
+                byteBuf.release();
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(LogEntry.LogMessageType.EXCEPTION)
+                        .setLogLevel(Level.ERROR)
+                        .setMessageFormat("exception while sending binary web socket messages{}")
+                        .setArguments(batch)
+                        .setThrowable(e)
+                );
+            }
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package org.mockserver.collections;
+
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.RegexStringMatcher;
+import org.mockserver.model.NottableString;
+
+import java.util.*;
+
+/**
+ * Immutable index of the key value entries of a request's headers, query string parameters or cookies, used to check
+ * whether the entries contain all of an expectation's entries using the same case insensitive regex matching as
+ * {@link CaseInsensitiveRegexMultiMap} and {@link CaseInsensitiveRegexHashMap}.
+ *
+ * Entries are indexed by lower case key so an expectation key that is a literal (ASCII without regex characters) only
+ * has to be compared with the entries that have the same key, any other expectation key (i.e. a regex) is compared with
+ * every entry. Entries that could match a literal key with a different lower case value (notted, non ASCII and, for
+ * control plane matching, regex keys) are compared with every literal key.
+ *
+ * @author jamesdbloom
+ */
+public class CaseInsensitiveKeyIndex {
+
+    private static final String REGEX_CHARACTERS = "\\.[]{}()*+?^$|";
+    private final RegexStringMatcher regexStringMatcher;
+    private final List<Map.Entry<NottableString, NottableString>> entries;
+    private final Map<String, List<Map.Entry<NottableString, NottableString>>> entriesByLowerCaseKey = new HashMap<>();
+    private final List<Map.Entry<NottableString, NottableString>> unindexedEntries = new ArrayList<>();
+
+    public CaseInsensitiveKeyIndex(MockServerLogger mockServerLogger, boolean controlPlaneMatcher, Collection<Map.Entry<NottableString, NottableString>> entries) {
+        this.regexStringMatcher = new RegexStringMatcher(mockServerLogger, controlPlaneMatcher);
+        List<Map.Entry<NottableString, NottableString>> entryList = new ArrayList<>();
+        for (Map.Entry<NottableString, NottableString> entry : entries) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                entryList.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+            }
+        }
+        this.entries = Collections.unmodifiableList(entryList);
+        for (Map.Entry<NottableString, NottableString> entry : this.entries) {
+            NottableString key = entry.getKey();
+            // control plane matching also uses the entry's key as a regex, so only literal keys can be looked up
+            if (!key.isNot() && (controlPlaneMatcher ? isAsciiLiteral(key.getValue()) : isAscii(key.getValue()))) {
+                entriesByLowerCaseKey.computeIfAbsent(key.getValue().toLowerCase(Locale.ROOT), lowerCaseKey -> new ArrayList<>()).add(entry);
+            } else {
+                unindexedEntries.add(entry);
+            }
+        }
+    }
+
+    private static boolean isAsciiLiteral(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character > 127 || REGEX_CHARACTERS.indexOf(character) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public boolean containsAll(List<Map.Entry<NottableString, NottableString>> subSet) {
+        return new CaseInsensitiveRegexSubSet(subSet).isSubSetOf(this);
+    }
+
+    static boolean isLiteralKey(NottableString key) {
+        return !key.isNot() && !key.isBlank() && isAsciiLiteral(key.getValue());
+    }
+
+    public boolean containsKeyValue(NottableString key, NottableString value) {
+        if (isLiteralKey(key)) {
+            return containsLiteralKeyValue(key.getValue().toLowerCase(Locale.ROOT), key, value);
+        } else {
+            return containsKeyValue(entries, key, value);
+        }
+    }
+
+    boolean containsLiteralKeyValue(String lowerCaseKey, NottableString key, NottableString value) {
+        List<Map.Entry<NottableString, NottableString>> entriesWithKey = entriesByLowerCaseKey.get(lowerCaseKey);
+        return entriesWithKey != null && containsKeyValue(entriesWithKey, key, value) || containsKeyValue(unindexedEntries, key, value);
+    }
+
+    private boolean containsKeyValue(List<Map.Entry<NottableString, NottableString>> entries, NottableString key, NottableString value) {
+        for (Map.Entry<NottableString, NottableString> entry : entries) {
+            if (regexStringMatcher.matches(key, entry.getKey(), true)
+                && regexStringMatcher.matches(value, entry.getValue(), true)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Map.Entry<NottableString, NottableString> retrieveEntry(NottableString key, NottableString value) {
+        for (Map.Entry<NottableString, NottableString> entry : entries) {
+            if (regexStringMatcher.matches(value, entry.getValue(), true)
+                && regexStringMatcher.matches(key, entry.getKey(), true)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
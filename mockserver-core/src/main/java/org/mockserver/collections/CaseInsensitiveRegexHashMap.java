@@ -5,6 +5,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.RegexStringMatcher;
 import org.mockserver.model.NottableString;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -18,9 +19,13 @@ import static org.mockserver.model.NottableString.string;
 public class CaseInsensitiveRegexHashMap extends LinkedHashMap<NottableString, NottableString> implements Map<NottableString, NottableString> {
 
     private final RegexStringMatcher regexStringMatcher;
+    private final MockServerLogger mockServerLogger;
+    private final boolean controlPlaneMatcher;
 
     public CaseInsensitiveRegexHashMap(MockServerLogger mockServerLogger, boolean controlPlaneMatcher) {
         regexStringMatcher = new RegexStringMatcher(mockServerLogger, controlPlaneMatcher);
+        this.mockServerLogger = mockServerLogger;
+        this.controlPlaneMatcher = controlPlaneMatcher;
     }
 
     @VisibleForTesting
@@ -46,23 +51,7 @@ public class CaseInsensitiveRegexHashMap extends LinkedHashMap<NottableString, N
     }
 
     public boolean containsAll(CaseInsensitiveRegexHashMap subSet) {
-        if (size() == 0 && subSet.allKeysNotted()) {
-            return true;
-        } else {
-            for (Entry<NottableString, NottableString> entry : subSet.entrySet()) {
-                if ((entry.getKey().isNot() || entry.getValue().isNot()) && containsKeyValue(entry.getKey().getValue(), entry.getValue().getValue())) {
-                    Entry<NottableString, NottableString> matchingEntry = retrieveEntry(entry.getKey(), entry.getValue());
-                    if (matchingEntry != null) {
-                        return entry.getKey().isNot() == matchingEntry.getKey().isNot() && entry.getValue().isNot() == matchingEntry.getValue().isNot();
-                    } else {
-                        return false;
-                    }
-                } else if (!containsKeyValue(entry.getKey(), entry.getValue())) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new CaseInsensitiveKeyIndex(mockServerLogger, controlPlaneMatcher, new ArrayList<>(entrySet())).containsAll(new ArrayList<>(subSet.entrySet()));
     }
 
     public boolean allKeysNotted() {
@@ -92,16 +81,6 @@ public class CaseInsensitiveRegexHashMap extends LinkedHashMap<NottableString, N
         return result;
     }
 
-    private synchronized Entry<NottableString, NottableString> retrieveEntry(NottableString key, NottableString value) {
-        for (Entry<NottableString, NottableString> matcherEntry : entrySet()) {
-            if (regexStringMatcher.matches(value, matcherEntry.getValue(), true)
-                && regexStringMatcher.matches(key, matcherEntry.getKey(), true)) {
-                return matcherEntry;
-            }
-        }
-        return null;
-    }
-
     @Override
     public synchronized boolean containsKey(Object key) {
         boolean result = false;
@@ -18,12 +18,17 @@ import static org.mockserver.model.NottableString.strings;
  * @author jamesdbloom
  */
 public class CaseInsensitiveRegexMultiMap extends ObjectWithReflectiveEqualsHashCodeToString implements Map<NottableString, NottableString> {
+    private static final String[] EXCLUDED_FIELDS = {"mockServerLogger"};
     private final CaseInsensitiveNottableRegexListHashMap backingMap;
 
     private final RegexStringMatcher regexStringMatcher;
+    private final MockServerLogger mockServerLogger;
+    private final boolean controlPlaneMatcher;
 
     public CaseInsensitiveRegexMultiMap(MockServerLogger mockServerLogger, boolean controlPlaneMatcher) {
         regexStringMatcher = new RegexStringMatcher(mockServerLogger, controlPlaneMatcher);
+        this.mockServerLogger = mockServerLogger;
+        this.controlPlaneMatcher = controlPlaneMatcher;
         backingMap = new CaseInsensitiveNottableRegexListHashMap(mockServerLogger, controlPlaneMatcher);
     }
 
@@ -54,23 +59,7 @@ public class CaseInsensitiveRegexMultiMap extends ObjectWithReflectiveEqualsHash
     }
 
     public boolean containsAll(CaseInsensitiveRegexMultiMap subSet) {
-        if (isEmpty() && subSet.allKeysNotted()) {
-            return true;
-        } else {
-            for (Entry<NottableString, NottableString> entry : subSet.entryList()) {
-                if ((entry.getKey().isNot() || entry.getValue().isNot()) && containsKeyValue(entry.getKey().getValue(), entry.getValue().getValue())) {
-                    Entry<NottableString, NottableString> matchingEntry = retrieveEntry(entry.getKey(), entry.getValue());
-                    if (matchingEntry != null) {
-                        return entry.getKey().isNot() == matchingEntry.getKey().isNot() && entry.getValue().isNot() == matchingEntry.getValue().isNot();
-                    } else {
-                        return false;
-                    }
-                } else if (!containsKeyValue(entry.getKey(), entry.getValue())) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new CaseInsensitiveKeyIndex(mockServerLogger, controlPlaneMatcher, entryList()).containsAll(subSet.entryList());
     }
 
     public boolean allKeysNotted() {
@@ -99,18 +88,6 @@ public class CaseInsensitiveRegexMultiMap extends ObjectWithReflectiveEqualsHash
         return false;
     }
 
-    private synchronized Entry<NottableString, NottableString> retrieveEntry(NottableString key, NottableString value) {
-        if (!isEmpty()) {
-            for (Entry<NottableString, NottableString> matcherEntry : entryList()) {
-                if (regexStringMatcher.matches(value, matcherEntry.getValue(), true)
-                    && regexStringMatcher.matches(key, matcherEntry.getKey(), true)) {
-                    return matcherEntry;
-                }
-            }
-        }
-        return null;
-    }
-
     @Override
     public synchronized boolean containsKey(Object key) {
         return backingMap.containsKey(key);
@@ -311,6 +288,11 @@ public class CaseInsensitiveRegexMultiMap extends ObjectWithReflectiveEqualsHash
         return backingMap.isEmpty();
     }
 
+    @Override
+    protected String[] fieldsExcludedFromEqualsAndHashCode() {
+        return EXCLUDED_FIELDS;
+    }
+
     static class ImmutableEntry extends ObjectWithReflectiveEqualsHashCodeToString implements Entry<NottableString, NottableString> {
         private final NottableString key;
         private final NottableString value;
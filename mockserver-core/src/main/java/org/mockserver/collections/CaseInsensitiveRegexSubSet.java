@@ -0,0 +1,112 @@
+package org.mockserver.collections;
+
+import org.mockserver.model.NottableString;
+
+import java.util.*;
+
+import static org.mockserver.model.NottableString.string;
+
+/**
+ * Immutable and pre-analysed form of an expectation's headers, query string parameters or cookies, used by matchers
+ * to check if a request's {@link CaseInsensitiveKeyIndex} contains all of the expected entries without any locking.
+ *
+ * Entries are split into literal keys (looked up by lower case key), regex keys (compared with every request entry)
+ * and notted keys or values, which are evaluated last once all literal and regex keys have matched, every notted entry
+ * must match so a matching notted entry does not skip the notted entries after it.
+ *
+ * @author jamesdbloom
+ */
+public class CaseInsensitiveRegexSubSet {
+
+    private final NottableString[] literalKeys;
+    private final String[] lowerCaseLiteralKeys;
+    private final NottableString[] literalKeyValues;
+    private final NottableString[] regexKeys;
+    private final NottableString[] regexKeyValues;
+    private final NottableString[] nottedKeys;
+    private final NottableString[] nottedKeyValues;
+    private final NottableString[] nottedKeysWithoutNot;
+    private final NottableString[] nottedKeyValuesWithoutNot;
+    private final boolean empty;
+    private final boolean allKeysNotted;
+
+    public CaseInsensitiveRegexSubSet(Collection<Map.Entry<NottableString, NottableString>> entries) {
+        List<Map.Entry<NottableString, NottableString>> literalEntries = new ArrayList<>();
+        List<Map.Entry<NottableString, NottableString>> regexEntries = new ArrayList<>();
+        List<Map.Entry<NottableString, NottableString>> nottedEntries = new ArrayList<>();
+        boolean allKeysNotted = true;
+        for (Map.Entry<NottableString, NottableString> entry : entries) {
+            if (!entry.getKey().isNot()) {
+                allKeysNotted = false;
+            }
+            if (entry.getKey().isNot() || entry.getValue().isNot()) {
+                nottedEntries.add(entry);
+            } else if (CaseInsensitiveKeyIndex.isLiteralKey(entry.getKey())) {
+                literalEntries.add(entry);
+            } else {
+                regexEntries.add(entry);
+            }
+        }
+        this.empty = entries.isEmpty();
+        this.allKeysNotted = allKeysNotted;
+        this.literalKeys = new NottableString[literalEntries.size()];
+        this.lowerCaseLiteralKeys = new String[literalEntries.size()];
+        this.literalKeyValues = new NottableString[literalEntries.size()];
+        for (int i = 0; i < literalEntries.size(); i++) {
+            literalKeys[i] = literalEntries.get(i).getKey();
+            lowerCaseLiteralKeys[i] = literalKeys[i].getValue().toLowerCase(Locale.ROOT);
+            literalKeyValues[i] = literalEntries.get(i).getValue();
+        }
+        this.regexKeys = new NottableString[regexEntries.size()];
+        this.regexKeyValues = new NottableString[regexEntries.size()];
+        for (int i = 0; i < regexEntries.size(); i++) {
+            regexKeys[i] = regexEntries.get(i).getKey();
+            regexKeyValues[i] = regexEntries.get(i).getValue();
+        }
+        this.nottedKeys = new NottableString[nottedEntries.size()];
+        this.nottedKeyValues = new NottableString[nottedEntries.size()];
+        this.nottedKeysWithoutNot = new NottableString[nottedEntries.size()];
+        this.nottedKeyValuesWithoutNot = new NottableString[nottedEntries.size()];
+        for (int i = 0; i < nottedEntries.size(); i++) {
+            nottedKeys[i] = nottedEntries.get(i).getKey();
+            nottedKeyValues[i] = nottedEntries.get(i).getValue();
+            nottedKeysWithoutNot[i] = string(nottedKeys[i].getValue());
+            nottedKeyValuesWithoutNot[i] = string(nottedKeyValues[i].getValue());
+        }
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    public boolean allKeysNotted() {
+        return allKeysNotted;
+    }
+
+    public boolean isSubSetOf(CaseInsensitiveKeyIndex keyIndex) {
+        if (keyIndex.isEmpty() && allKeysNotted) {
+            return true;
+        }
+        for (int i = 0; i < literalKeys.length; i++) {
+            if (!keyIndex.containsLiteralKeyValue(lowerCaseLiteralKeys[i], literalKeys[i], literalKeyValues[i])) {
+                return false;
+            }
+        }
+        for (int i = 0; i < regexKeys.length; i++) {
+            if (!keyIndex.containsKeyValue(regexKeys[i], regexKeyValues[i])) {
+                return false;
+            }
+        }
+        for (int i = 0; i < nottedKeys.length; i++) {
+            if (keyIndex.containsKeyValue(nottedKeysWithoutNot[i], nottedKeyValuesWithoutNot[i])) {
+                Map.Entry<NottableString, NottableString> matchingEntry = keyIndex.retrieveEntry(nottedKeys[i], nottedKeyValues[i]);
+                if (matchingEntry == null || nottedKeys[i].isNot() != matchingEntry.getKey().isNot() || nottedKeyValues[i].isNot() != matchingEntry.getValue().isNot()) {
+                    return false;
+                }
+            } else if (!keyIndex.containsKeyValue(nottedKeys[i], nottedKeyValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -13,6 +13,14 @@ public class CircularHashMap<K, V> extends LinkedHashMap<K, V> {
         this.maxSize = maxSize;
     }
 
+    /**
+     * @param accessOrder if true the least recently accessed entry is removed (i.e. an LRU cache) otherwise the oldest inserted entry
+     */
+    public CircularHashMap(int maxSize, boolean accessOrder) {
+        super(16, 0.75f, accessOrder);
+        this.maxSize = maxSize;
+    }
+
     @Override
     protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
         return size() > maxSize;
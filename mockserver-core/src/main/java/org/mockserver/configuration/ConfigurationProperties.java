@@ -8,10 +8,14 @@ import com.google.common.net.InetAddresses;
 import io.netty.util.NettyRuntime;
 import io.netty.util.internal.SystemPropertyUtil;
 import org.mockserver.file.FileReader;
+import org.mockserver.log.EventLogOverflowPolicy;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.persistence.PersistedExpectationsFormat;
+import org.mockserver.scheduler.BlockingExecutorType;
 import org.mockserver.socket.tls.ForwardProxyTLSX509CertificatesTrustManager;
 import org.mockserver.socket.tls.jdk.CertificateSigningRequest;
+import org.mockserver.socket.transport.TransportType;
 import org.slf4j.event.Level;
 
 import java.io.*;
@@ -44,6 +48,12 @@ public class ConfigurationProperties {
     private static final int DEFAULT_MAX_FUTURE_TIMEOUT = 60;
     private static final int DEFAULT_MAX_EXPECTATIONS = 5000;
     private static final int DEFAULT_MAX_WEB_SOCKET_EXPECTATIONS = 1500;
+    private static final int DEFAULT_WEB_SOCKET_CALLBACK_MAX_IN_FLIGHT = 1000;
+    private static final int DEFAULT_CLIENT_MAX_CONNECTIONS = 8;
+    private static final int DEFAULT_SOCKET_BACKLOG = 1024;
+    private static final int DEFAULT_SOCKET_WRITE_BUFFER_LOW_WATER_MARK = 8 * 1024;
+    private static final int DEFAULT_SOCKET_WRITE_BUFFER_HIGH_WATER_MARK = 32 * 1024;
+    private static final int DEFAULT_ACCEPTORS_PER_PORT = 1;
     private static final int DEFAULT_MAX_INITIAL_LINE_LENGTH = Integer.MAX_VALUE;
     private static final int DEFAULT_MAX_HEADER_SIZE = Integer.MAX_VALUE;
     private static final int DEFAULT_MAX_CHUNK_SIZE = Integer.MAX_VALUE;
@@ -67,22 +77,51 @@ public class ConfigurationProperties {
     private static final String DEFAULT_CORS_ALLOW_CREDENTIALS = "true";
     private static final int DEFAULT_CORS_MAX_AGE_IN_SECONDS = 300;
     private static final String DEFAULT_LIVENESS_HTTP_GET_PATH = "";
+    private static final String DEFAULT_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL = "false";
+    private static final String DEFAULT_BLOCKING_ACTION_EXECUTOR_TYPE = "POOL";
+    private static final String DEFAULT_TRANSPORT_TYPE = "AUTO";
+    private static final String DEFAULT_EVENT_LOG_OVERFLOW_POLICY = "DROP";
+    private static final long DEFAULT_EVENT_LOG_OVERFLOW_TIMEOUT = 100;
+    private static final String DEFAULT_PERSISTED_EXPECTATIONS_FORMAT = "JSON";
+    private static final long DEFAULT_DASHBOARD_UPDATE_INTERVAL = 1000;
+    private static final long DEFAULT_LISTENER_NOTIFICATION_INTERVAL = 100;
 
     private static final String MOCKSERVER_PROPERTY_FILE = "mockserver.propertyFile";
     private static final String MOCKSERVER_ENABLE_CORS_FOR_API = "mockserver.enableCORSForAPI";
     private static final String MOCKSERVER_ENABLE_CORS_FOR_ALL_RESPONSES = "mockserver.enableCORSForAllResponses";
     private static final String MOCKSERVER_MAX_EXPECTATIONS = "mockserver.maxExpectations";
     private static final String MOCKSERVER_MAX_LOG_ENTRIES = "mockserver.maxLogEntries";
+    private static final String MOCKSERVER_EVENT_LOG_OVERFLOW_POLICY = "mockserver.eventLogOverflowPolicy";
+    private static final String MOCKSERVER_EVENT_LOG_OVERFLOW_TIMEOUT = "mockserver.eventLogOverflowTimeout";
     private static final String MOCKSERVER_MAX_WEB_SOCKET_EXPECTATIONS = "mockserver.maxWebSocketExpectations";
+    private static final String MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT = "mockserver.webSocketCallbackTimeout";
+    private static final String MOCKSERVER_WEB_SOCKET_CALLBACK_MAX_IN_FLIGHT = "mockserver.webSocketCallbackMaxInFlight";
+    private static final String MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT_RESPONSE = "mockserver.webSocketCallbackTimeoutResponse";
     private static final String MOCKSERVER_MAX_INITIAL_LINE_LENGTH = "mockserver.maxInitialLineLength";
     private static final String MOCKSERVER_MAX_HEADER_SIZE = "mockserver.maxHeaderSize";
     private static final String MOCKSERVER_MAX_CHUNK_SIZE = "mockserver.maxChunkSize";
     private static final String MOCKSERVER_NIO_EVENT_LOOP_THREAD_COUNT = "mockserver.nioEventLoopThreadCount";
     private static final String MOCKSERVER_ACTION_HANDLER_THREAD_COUNT = "mockserver.actionHandlerThreadCount";
+    private static final String MOCKSERVER_BLOCKING_ACTION_EXECUTOR_TYPE = "mockserver.blockingActionExecutorType";
+    private static final String MOCKSERVER_TRANSPORT_TYPE = "mockserver.transportType";
     private static final String MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT = "mockserver.webSocketClientEventLoopThreadCount";
     private static final String MOCKSERVER_MAX_SOCKET_TIMEOUT = "mockserver.maxSocketTimeout";
     private static final String MOCKSERVER_MAX_FUTURE_TIMEOUT = "mockserver.maxFutureTimeout";
     private static final String MOCKSERVER_SOCKET_CONNECTION_TIMEOUT = "mockserver.socketConnectionTimeout";
+    private static final String MOCKSERVER_CLIENT_MAX_CONNECTIONS = "mockserver.clientMaxConnections";
+    private static final String MOCKSERVER_SOCKET_BACKLOG = "mockserver.socketBacklog";
+    private static final String MOCKSERVER_SOCKET_TCP_NO_DELAY = "mockserver.socketTcpNoDelay";
+    private static final String MOCKSERVER_SOCKET_RECEIVE_BUFFER_SIZE = "mockserver.socketReceiveBufferSize";
+    private static final String MOCKSERVER_SOCKET_SEND_BUFFER_SIZE = "mockserver.socketSendBufferSize";
+    private static final String MOCKSERVER_SOCKET_WRITE_BUFFER_LOW_WATER_MARK = "mockserver.socketWriteBufferLowWaterMark";
+    private static final String MOCKSERVER_SOCKET_WRITE_BUFFER_HIGH_WATER_MARK = "mockserver.socketWriteBufferHighWaterMark";
+    private static final String MOCKSERVER_ACCEPTORS_PER_PORT = "mockserver.acceptorsPerPort";
+    private static final String MOCKSERVER_MAX_CONNECTIONS_PER_PORT = "mockserver.maxConnectionsPerPort";
+    private static final String MOCKSERVER_MAX_IN_FLIGHT_REQUESTS = "mockserver.maxInFlightRequests";
+    private static final String MOCKSERVER_CLIENT_RATE_LIMIT = "mockserver.clientRateLimit";
+    private static final String MOCKSERVER_CLIENT_RATE_LIMIT_BURST = "mockserver.clientRateLimitBurst";
+    private static final String MOCKSERVER_DASHBOARD_UPDATE_INTERVAL = "mockserver.dashboardUpdateInterval";
+    private static final String MOCKSERVER_LISTENER_NOTIFICATION_INTERVAL = "mockserver.listenerNotificationInterval";
     private static final String MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS = "mockserver.alwaysCloseSocketConnections";
     private static final String MOCKSERVER_SSL_CERTIFICATE_DOMAIN_NAME = "mockserver.sslCertificateDomainName";
     private static final String MOCKSERVER_SSL_SUBJECT_ALTERNATIVE_NAME_DOMAINS = "mockserver.sslSubjectAlternativeNameDomains";
@@ -119,13 +158,16 @@ public class ConfigurationProperties {
     private static final String MOCKSERVER_INITIALIZATION_CLASS = "mockserver.initializationClass";
     private static final String MOCKSERVER_INITIALIZATION_JSON_PATH = "mockserver.initializationJsonPath";
     private static final String MOCKSERVER_WATCH_INITIALIZATION_JSON = "mockserver.watchInitializationJson";
+    private static final String MOCKSERVER_INITIALIZATION_SNAPSHOT_PATH = "mockserver.initializationSnapshotPath";
     private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_PATH = "mockserver.persistedExpectationsPath";
+    private static final String MOCKSERVER_PERSISTED_EXPECTATIONS_FORMAT = "mockserver.persistedExpectationsFormat";
     private static final String MOCKSERVER_PERSIST_EXPECTATIONS = "mockserver.persistExpectations";
     private static final String MOCKSERVER_CORS_ALLOW_HEADERS = "mockserver.corsAllowHeaders";
     private static final String MOCKSERVER_CORS_ALLOW_METHODS = "mockserver.corsAllowMethods";
     private static final String MOCKSERVER_CORS_ALLOW_CREDENTIALS = "mockserver.corsAllowCredentials";
     private static final String MOCKSERVER_CORS_MAX_AGE_IN_SECONDS = "mockserver.corsMaxAgeInSeconds";
     private static final String MOCKSERVER_LIVENESS_HTTP_GET_PATH = "mockserver.livenessHttpGetPath";
+    private static final String MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL = "mockserver.javaScriptTemplateJsonRequestModel";
 
     private static final Properties PROPERTIES = readPropertyFile();
     private static final Set<String> ALL_SUBJECT_ALTERNATIVE_DOMAINS = Sets.newConcurrentHashSet();
@@ -211,6 +253,7 @@ public class ConfigurationProperties {
     private static boolean preventCertificateDynamicUpdate = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE, "MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE", DEFAULT_PREVENT_CERTIFICATE_DYNAMIC_UPDATE));
     private static boolean alwaysCloseConnections = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS, "MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS", DEFAULT_MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS));
     private static String livenessHttpGetPath = readPropertyHierarchically(MOCKSERVER_LIVENESS_HTTP_GET_PATH, "MOCKSERVER_LIVENESS_HTTP_GET_PATH", DEFAULT_LIVENESS_HTTP_GET_PATH);
+    private static boolean javaScriptTemplateJsonRequestModel = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL, "MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL", DEFAULT_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL));
 
     @VisibleForTesting
     static void reset() {
@@ -237,6 +280,7 @@ public class ConfigurationProperties {
         preventCertificateDynamicUpdate = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE, "MOCKSERVER_PREVENT_CERTIFICATE_DYNAMIC_UPDATE", DEFAULT_PREVENT_CERTIFICATE_DYNAMIC_UPDATE));
         alwaysCloseConnections = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS, "MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS", DEFAULT_MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS));
         livenessHttpGetPath = readPropertyHierarchically(MOCKSERVER_LIVENESS_HTTP_GET_PATH, "MOCKSERVER_LIVENESS_HTTP_GET_PATH", DEFAULT_LIVENESS_HTTP_GET_PATH);
+        javaScriptTemplateJsonRequestModel = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL, "MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL", DEFAULT_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL));
     }
 
     private static String propertyFile() {
@@ -259,6 +303,48 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_MAX_LOG_ENTRIES, "" + count);
     }
 
+    public static EventLogOverflowPolicy eventLogOverflowPolicy() {
+        String eventLogOverflowPolicy = readPropertyHierarchically(MOCKSERVER_EVENT_LOG_OVERFLOW_POLICY, "MOCKSERVER_EVENT_LOG_OVERFLOW_POLICY", DEFAULT_EVENT_LOG_OVERFLOW_POLICY);
+        try {
+            return EventLogOverflowPolicy.valueOf(eventLogOverflowPolicy.trim().toUpperCase());
+        } catch (IllegalArgumentException iae) {
+            MOCK_SERVER_LOGGER.logEvent(
+                new LogEntry()
+                    .setType(LogEntry.LogMessageType.EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("Invalid value for " + MOCKSERVER_EVENT_LOG_OVERFLOW_POLICY + " [" + eventLogOverflowPolicy + "] the only supported values are: " + Arrays.toString(EventLogOverflowPolicy.values()))
+                    .setThrowable(iae)
+            );
+            return EventLogOverflowPolicy.valueOf(DEFAULT_EVENT_LOG_OVERFLOW_POLICY);
+        }
+    }
+
+    /**
+     * What happens to request and response records (i.e. received, forwarded and returned requests used for verification
+     * and retrieval) when the event log ring buffer is full, diagnostic log entries are always dropped before records, as follows:
+     * <p>
+     * DROP - the record is dropped and counted by the mockserver_event_log_dropped_count metric (default)
+     * BLOCK - the thread handling the request waits up to eventLogOverflowTimeout for space before the record is dropped
+     *
+     * @param eventLogOverflowPolicy the overflow policy
+     */
+    public static void eventLogOverflowPolicy(String eventLogOverflowPolicy) {
+        System.setProperty(MOCKSERVER_EVENT_LOG_OVERFLOW_POLICY, eventLogOverflowPolicy);
+    }
+
+    public static long eventLogOverflowTimeout() {
+        return readLongProperty(MOCKSERVER_EVENT_LOG_OVERFLOW_TIMEOUT, "MOCKSERVER_EVENT_LOG_OVERFLOW_TIMEOUT", DEFAULT_EVENT_LOG_OVERFLOW_TIMEOUT);
+    }
+
+    /**
+     * Maximum time in milliseconds to wait for space in the event log ring buffer when eventLogOverflowPolicy is BLOCK
+     *
+     * @param milliseconds maximum time to wait
+     */
+    public static void eventLogOverflowTimeout(long milliseconds) {
+        System.setProperty(MOCKSERVER_EVENT_LOG_OVERFLOW_TIMEOUT, "" + milliseconds);
+    }
+
     public static int ringBufferSize() {
         return nextPowerOfTwo(maxExpectations() * maxExpectations());
     }
@@ -281,6 +367,49 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_MAX_WEB_SOCKET_EXPECTATIONS, "" + count);
     }
 
+    public static long webSocketCallbackTimeout() {
+        return readLongProperty(MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT, "MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT", maxSocketTimeout());
+    }
+
+    /**
+     * Maximum time to wait for a web socket callback client to respond to an object callback, after which a 404 response is
+     * returned and the pending callback is removed, defaults to maxSocketTimeout
+     *
+     * @param milliseconds maximum time to wait for a callback client to respond
+     */
+    public static void webSocketCallbackTimeout(long milliseconds) {
+        System.setProperty(MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT, "" + milliseconds);
+    }
+
+    public static String webSocketCallbackTimeoutResponse() {
+        return readPropertyHierarchically(MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT_RESPONSE, "MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT_RESPONSE", "");
+    }
+
+    /**
+     * The response, as JSON (i.e. {"statusCode": 503}), returned when a web socket callback client does not respond within
+     * webSocketCallbackTimeout, if blank or invalid a 404 response is returned
+     *
+     * @param webSocketCallbackTimeoutResponse JSON response returned when an object callback times out
+     */
+    public static void webSocketCallbackTimeoutResponse(String webSocketCallbackTimeoutResponse) {
+        System.setProperty(MOCKSERVER_WEB_SOCKET_CALLBACK_TIMEOUT_RESPONSE, webSocketCallbackTimeoutResponse);
+    }
+
+    public static int webSocketCallbackMaxInFlight() {
+        return readIntegerProperty(MOCKSERVER_WEB_SOCKET_CALLBACK_MAX_IN_FLIGHT, "MOCKSERVER_WEB_SOCKET_CALLBACK_MAX_IN_FLIGHT", DEFAULT_WEB_SOCKET_CALLBACK_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Maximum number of object callbacks sent to a single web socket callback client that it has not yet responded to, further
+     * callbacks for that client immediately return a 404 response so a slow client applies backpressure instead of callbacks
+     * being queued without limit
+     *
+     * @param count maximum number of callbacks in flight per callback client
+     */
+    public static void webSocketCallbackMaxInFlight(int count) {
+        System.setProperty(MOCKSERVER_WEB_SOCKET_CALLBACK_MAX_IN_FLIGHT, "" + count);
+    }
+
     public static int maxInitialLineLength() {
         return maxInitialLineLength;
     }
@@ -324,6 +453,63 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_ACTION_HANDLER_THREAD_COUNT, "" + count);
     }
 
+    public static BlockingExecutorType blockingActionExecutorType() {
+        String blockingActionExecutorType = readPropertyHierarchically(MOCKSERVER_BLOCKING_ACTION_EXECUTOR_TYPE, "MOCKSERVER_BLOCKING_ACTION_EXECUTOR_TYPE", DEFAULT_BLOCKING_ACTION_EXECUTOR_TYPE);
+        try {
+            return BlockingExecutorType.valueOf(blockingActionExecutorType.trim().toUpperCase());
+        } catch (IllegalArgumentException iae) {
+            MOCK_SERVER_LOGGER.logEvent(
+                new LogEntry()
+                    .setType(LogEntry.LogMessageType.EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("Invalid value for " + MOCKSERVER_BLOCKING_ACTION_EXECUTOR_TYPE + " [" + blockingActionExecutorType + "] the only supported values are: " + Arrays.toString(BlockingExecutorType.values()))
+                    .setThrowable(iae)
+            );
+            return BlockingExecutorType.valueOf(DEFAULT_BLOCKING_ACTION_EXECUTOR_TYPE);
+        }
+    }
+
+    /**
+     * Executor used for actions that may block a thread, such as class callbacks, as follows:
+     * <p>
+     * POOL - blocking actions are run by the action handler thread pool (default)
+     * VIRTUAL_THREAD - each blocking action is run by a new virtual thread, this requires Java 21+ and falls back to POOL on older JVMs
+     *
+     * @param blockingActionExecutorType the executor type for blocking actions
+     */
+    public static void blockingActionExecutorType(String blockingActionExecutorType) {
+        System.setProperty(MOCKSERVER_BLOCKING_ACTION_EXECUTOR_TYPE, blockingActionExecutorType);
+    }
+
+    public static TransportType transportType() {
+        String transportType = readPropertyHierarchically(MOCKSERVER_TRANSPORT_TYPE, "MOCKSERVER_TRANSPORT_TYPE", DEFAULT_TRANSPORT_TYPE);
+        try {
+            return TransportType.valueOf(transportType.trim().toUpperCase());
+        } catch (IllegalArgumentException iae) {
+            MOCK_SERVER_LOGGER.logEvent(
+                new LogEntry()
+                    .setType(LogEntry.LogMessageType.EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("Invalid value for " + MOCKSERVER_TRANSPORT_TYPE + " [" + transportType + "] the only supported values are: " + Arrays.toString(TransportType.values()))
+                    .setThrowable(iae)
+            );
+            return TransportType.valueOf(DEFAULT_TRANSPORT_TYPE);
+        }
+    }
+
+    /**
+     * Netty transport used by the server, forward client, relay and web socket client event loops, as follows:
+     * <p>
+     * AUTO - native epoll when available (i.e. on Linux with the native library on the classpath), otherwise NIO (default)
+     * NIO - java NIO transport
+     * EPOLL - native epoll transport, falls back to NIO if it is not available
+     *
+     * @param transportType the transport type
+     */
+    public static void transportType(String transportType) {
+        System.setProperty(MOCKSERVER_TRANSPORT_TYPE, transportType);
+    }
+
     public static int webSocketClientEventLoopThreadCount() {
         return readIntegerProperty(MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT, "MOCKSERVER_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT", DEFAULT_WEB_SOCKET_CLIENT_EVENT_LOOP_THREAD_COUNT);
     }
@@ -356,6 +542,196 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_SOCKET_CONNECTION_TIMEOUT, "" + milliseconds);
     }
 
+    public static int clientMaxConnections() {
+        return readIntegerProperty(MOCKSERVER_CLIENT_MAX_CONNECTIONS, "MOCKSERVER_CLIENT_MAX_CONNECTIONS", DEFAULT_CLIENT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * Maximum number of keep-alive connections the asynchronous MockServerClient methods open to MockServer, requests sent
+     * while all connections are waiting for a response are queued until a connection is free
+     *
+     * @param count maximum number of pooled client connections
+     */
+    public static void clientMaxConnections(int count) {
+        System.setProperty(MOCKSERVER_CLIENT_MAX_CONNECTIONS, "" + count);
+    }
+
+    public static int socketBacklog() {
+        return readIntegerProperty(MOCKSERVER_SOCKET_BACKLOG, "MOCKSERVER_SOCKET_BACKLOG", DEFAULT_SOCKET_BACKLOG);
+    }
+
+    /**
+     * Maximum number of connections waiting to be accepted by each bound port, connections above this are refused
+     *
+     * @param backlog the accept queue length
+     */
+    public static void socketBacklog(int backlog) {
+        System.setProperty(MOCKSERVER_SOCKET_BACKLOG, "" + backlog);
+    }
+
+    public static boolean socketTcpNoDelay() {
+        return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_SOCKET_TCP_NO_DELAY, "MOCKSERVER_SOCKET_TCP_NO_DELAY", "" + true));
+    }
+
+    /**
+     * Disable Nagle's algorithm (TCP_NODELAY) for accepted connections so responses are sent without waiting for more data, the default is true
+     *
+     * @param tcpNoDelay true to disable Nagle's algorithm
+     */
+    public static void socketTcpNoDelay(boolean tcpNoDelay) {
+        System.setProperty(MOCKSERVER_SOCKET_TCP_NO_DELAY, "" + tcpNoDelay);
+    }
+
+    public static int socketReceiveBufferSize() {
+        return readIntegerProperty(MOCKSERVER_SOCKET_RECEIVE_BUFFER_SIZE, "MOCKSERVER_SOCKET_RECEIVE_BUFFER_SIZE", 0);
+    }
+
+    /**
+     * Receive buffer size (SO_RCVBUF) in bytes for accepted connections, the default of 0 uses the operating system's default
+     *
+     * @param bytes receive buffer size
+     */
+    public static void socketReceiveBufferSize(int bytes) {
+        System.setProperty(MOCKSERVER_SOCKET_RECEIVE_BUFFER_SIZE, "" + bytes);
+    }
+
+    public static int socketSendBufferSize() {
+        return readIntegerProperty(MOCKSERVER_SOCKET_SEND_BUFFER_SIZE, "MOCKSERVER_SOCKET_SEND_BUFFER_SIZE", 0);
+    }
+
+    /**
+     * Send buffer size (SO_SNDBUF) in bytes for accepted connections, the default of 0 uses the operating system's default
+     *
+     * @param bytes send buffer size
+     */
+    public static void socketSendBufferSize(int bytes) {
+        System.setProperty(MOCKSERVER_SOCKET_SEND_BUFFER_SIZE, "" + bytes);
+    }
+
+    public static int socketWriteBufferLowWaterMark() {
+        return readIntegerProperty(MOCKSERVER_SOCKET_WRITE_BUFFER_LOW_WATER_MARK, "MOCKSERVER_SOCKET_WRITE_BUFFER_LOW_WATER_MARK", DEFAULT_SOCKET_WRITE_BUFFER_LOW_WATER_MARK);
+    }
+
+    /**
+     * Number of bytes queued for writing on an accepted connection below which it becomes writable again, the default is 8192
+     *
+     * @param bytes low water mark
+     */
+    public static void socketWriteBufferLowWaterMark(int bytes) {
+        System.setProperty(MOCKSERVER_SOCKET_WRITE_BUFFER_LOW_WATER_MARK, "" + bytes);
+    }
+
+    public static int socketWriteBufferHighWaterMark() {
+        return readIntegerProperty(MOCKSERVER_SOCKET_WRITE_BUFFER_HIGH_WATER_MARK, "MOCKSERVER_SOCKET_WRITE_BUFFER_HIGH_WATER_MARK", DEFAULT_SOCKET_WRITE_BUFFER_HIGH_WATER_MARK);
+    }
+
+    /**
+     * Number of bytes queued for writing on an accepted connection above which it is no longer writable, the default is 32768
+     *
+     * @param bytes high water mark
+     */
+    public static void socketWriteBufferHighWaterMark(int bytes) {
+        System.setProperty(MOCKSERVER_SOCKET_WRITE_BUFFER_HIGH_WATER_MARK, "" + bytes);
+    }
+
+    public static int acceptorsPerPort() {
+        return readIntegerProperty(MOCKSERVER_ACCEPTORS_PER_PORT, "MOCKSERVER_ACCEPTORS_PER_PORT", DEFAULT_ACCEPTORS_PER_PORT);
+    }
+
+    /**
+     * Number of server sockets bound to each port with SO_REUSEPORT, so the kernel spreads new connections across several
+     * acceptor threads; this requires the epoll transport, with the NIO transport a single acceptor is bound to each port
+     *
+     * @param count acceptors per port
+     */
+    public static void acceptorsPerPort(int count) {
+        System.setProperty(MOCKSERVER_ACCEPTORS_PER_PORT, "" + count);
+    }
+
+    public static int maxConnectionsPerPort() {
+        return readIntegerProperty(MOCKSERVER_MAX_CONNECTIONS_PER_PORT, "MOCKSERVER_MAX_CONNECTIONS_PER_PORT", 0);
+    }
+
+    /**
+     * Maximum number of open connections to each port, further connections are closed as soon as they are accepted, the default of 0 is unlimited
+     *
+     * @param count maximum connections per port
+     */
+    public static void maxConnectionsPerPort(int count) {
+        System.setProperty(MOCKSERVER_MAX_CONNECTIONS_PER_PORT, "" + count);
+    }
+
+    public static int maxInFlightRequests() {
+        return readIntegerProperty(MOCKSERVER_MAX_IN_FLIGHT_REQUESTS, "MOCKSERVER_MAX_IN_FLIGHT_REQUESTS", 0);
+    }
+
+    /**
+     * Maximum number of requests being handled at once, further requests are immediately returned a 503 (Service Unavailable)
+     * response, control plane requests (i.e. /mockserver/...) are not limited, the default of 0 is unlimited
+     *
+     * @param count maximum in flight requests
+     */
+    public static void maxInFlightRequests(int count) {
+        System.setProperty(MOCKSERVER_MAX_IN_FLIGHT_REQUESTS, "" + count);
+    }
+
+    public static int clientRateLimit() {
+        return readIntegerProperty(MOCKSERVER_CLIENT_RATE_LIMIT, "MOCKSERVER_CLIENT_RATE_LIMIT", 0);
+    }
+
+    /**
+     * Maximum requests per second from each client IP address, further requests are immediately returned a 429 (Too Many Requests)
+     * response, control plane requests (i.e. /mockserver/...) are not limited, the default of 0 is unlimited
+     *
+     * @param requestsPerSecond maximum requests per second for each client IP address
+     */
+    public static void clientRateLimit(int requestsPerSecond) {
+        System.setProperty(MOCKSERVER_CLIENT_RATE_LIMIT, "" + requestsPerSecond);
+    }
+
+    public static int clientRateLimitBurst() {
+        return readIntegerProperty(MOCKSERVER_CLIENT_RATE_LIMIT_BURST, "MOCKSERVER_CLIENT_RATE_LIMIT_BURST", clientRateLimit());
+    }
+
+    /**
+     * Number of requests a client IP address can send at once before the clientRateLimit applies, the default is the clientRateLimit
+     *
+     * @param requests maximum burst of requests for each client IP address
+     */
+    public static void clientRateLimitBurst(int requests) {
+        System.setProperty(MOCKSERVER_CLIENT_RATE_LIMIT_BURST, "" + requests);
+    }
+
+    public static long dashboardUpdateInterval() {
+        // the interval is a fixed rate period which must be positive
+        return Math.max(1, readLongProperty(MOCKSERVER_DASHBOARD_UPDATE_INTERVAL, "MOCKSERVER_DASHBOARD_UPDATE_INTERVAL", DEFAULT_DASHBOARD_UPDATE_INTERVAL));
+    }
+
+    /**
+     * Interval at which changes to the log and expectations are coalesced and sent to connected dashboards, a shorter
+     * interval makes the dashboard more responsive at the cost of more frequent updates while MockServer is busy,
+     * values below 1 are treated as 1
+     *
+     * @param milliseconds interval between dashboard updates in milliseconds
+     */
+    public static void dashboardUpdateInterval(long milliseconds) {
+        System.setProperty(MOCKSERVER_DASHBOARD_UPDATE_INTERVAL, "" + milliseconds);
+    }
+
+    public static long listenerNotificationInterval() {
+        return readLongProperty(MOCKSERVER_LISTENER_NOTIFICATION_INTERVAL, "MOCKSERVER_LISTENER_NOTIFICATION_INTERVAL", DEFAULT_LISTENER_NOTIFICATION_INTERVAL);
+    }
+
+    /**
+     * Interval over which changes to the log or expectations are coalesced into a single notification of listeners
+     * (such as the dashboard and expectation persistence), so a burst of changes results in a bounded number of notifications
+     *
+     * @param milliseconds interval between listener notifications in milliseconds
+     */
+    public static void listenerNotificationInterval(long milliseconds) {
+        System.setProperty(MOCKSERVER_LISTENER_NOTIFICATION_INTERVAL, "" + milliseconds);
+    }
+
     public static void alwaysCloseSocketConnections(boolean alwaysClose) {
         System.setProperty(MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS, "" + alwaysClose);
         alwaysCloseConnections = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS, "MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS", DEFAULT_MOCKSERVER_ALWAYS_CLOSE_SOCKET_CONNECTIONS));
@@ -830,6 +1206,21 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_WATCH_INITIALIZATION_JSON, "" + enable);
     }
 
+    public static String initializationSnapshotPath() {
+        return readPropertyHierarchically(MOCKSERVER_INITIALIZATION_SNAPSHOT_PATH, "MOCKSERVER_INITIALIZATION_SNAPSHOT_PATH", "");
+    }
+
+    /**
+     * Path, or classpath resource, of a binary expectation snapshot to load when MockServer starts, snapshots are written by
+     * expectation persistence when persistedExpectationsFormat is SNAPSHOT and load much faster than JSON initialization files
+     * because they are memory mapped and are not validated
+     *
+     * @param initializationSnapshotPath path of the expectation snapshot to load
+     */
+    public static void initializationSnapshotPath(String initializationSnapshotPath) {
+        System.setProperty(MOCKSERVER_INITIALIZATION_SNAPSHOT_PATH, initializationSnapshotPath);
+    }
+
     public static boolean persistExpectations() {
         return Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_PERSIST_EXPECTATIONS, "MOCKSERVER_PERSIST_EXPECTATIONS", "" + false));
     }
@@ -846,6 +1237,34 @@ public class ConfigurationProperties {
         System.setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_PATH, persistedExpectationsPath);
     }
 
+    public static PersistedExpectationsFormat persistedExpectationsFormat() {
+        String persistedExpectationsFormat = readPropertyHierarchically(MOCKSERVER_PERSISTED_EXPECTATIONS_FORMAT, "MOCKSERVER_PERSISTED_EXPECTATIONS_FORMAT", DEFAULT_PERSISTED_EXPECTATIONS_FORMAT);
+        try {
+            return PersistedExpectationsFormat.valueOf(persistedExpectationsFormat.trim().toUpperCase());
+        } catch (IllegalArgumentException iae) {
+            MOCK_SERVER_LOGGER.logEvent(
+                new LogEntry()
+                    .setType(LogEntry.LogMessageType.EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("Invalid value for " + MOCKSERVER_PERSISTED_EXPECTATIONS_FORMAT + " [" + persistedExpectationsFormat + "] the only supported values are: " + Arrays.toString(PersistedExpectationsFormat.values()))
+                    .setThrowable(iae)
+            );
+            return PersistedExpectationsFormat.valueOf(DEFAULT_PERSISTED_EXPECTATIONS_FORMAT);
+        }
+    }
+
+    /**
+     * Format used to persist expectations, as follows:
+     * <p>
+     * JSON - a pretty printed JSON array, that can be loaded using initializationJsonPath (default)
+     * SNAPSHOT - a versioned binary snapshot, that can be loaded using initializationSnapshotPath
+     *
+     * @param persistedExpectationsFormat the format used to persist expectations
+     */
+    public static void persistedExpectationsFormat(String persistedExpectationsFormat) {
+        System.setProperty(MOCKSERVER_PERSISTED_EXPECTATIONS_FORMAT, persistedExpectationsFormat);
+    }
+
     public static boolean enableCORSForAPI() {
         return enableCORSForAPI;
     }
@@ -919,6 +1338,22 @@ public class ConfigurationProperties {
         livenessHttpGetPath = readPropertyHierarchically(MOCKSERVER_LIVENESS_HTTP_GET_PATH, "MOCKSERVER_LIVENESS_HTTP_GET_PATH", DEFAULT_LIVENESS_HTTP_GET_PATH);
     }
 
+    public static boolean javaScriptTemplateJsonRequestModel() {
+        return javaScriptTemplateJsonRequestModel;
+    }
+
+    /**
+     * Pass the request to JavaScript templates as a parsed JSON object and read the template result by JSON serialisation (as in previous versions).
+     *
+     * By default the request is passed to the template as a read-only map and the template result is mapped directly into a response or request, which avoids two JSON round-trips per template.
+     *
+     * @param enable pass the request to and read the result from JavaScript templates using JSON serialisation
+     */
+    public static void javaScriptTemplateJsonRequestModel(boolean enable) {
+        System.setProperty(MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL, "" + enable);
+        javaScriptTemplateJsonRequestModel = Boolean.parseBoolean(readPropertyHierarchically(MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL, "MOCKSERVER_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL", DEFAULT_JAVASCRIPT_TEMPLATE_JSON_REQUEST_MODEL));
+    }
+
     @SuppressWarnings("ConstantConditions")
     private static void fileExists(String file) {
         try {
@@ -0,0 +1,16 @@
+package org.mockserver.log;
+
+/**
+ * What {@link MockServerEventLog} does with a request or response record (i.e. received, forwarded and returned
+ * requests used for verification and retrieval) when its ring buffer is full, diagnostic entries are always dropped
+ * first as they can't use the last quarter of the ring buffer, which is kept for records
+ *
+ * DROP - the record is dropped
+ * BLOCK - the thread adding the record waits up to eventLogOverflowTimeout for space, then the record is dropped
+ *
+ * @author jamesdbloom
+ */
+public enum EventLogOverflowPolicy {
+    DROP,
+    BLOCK
+}
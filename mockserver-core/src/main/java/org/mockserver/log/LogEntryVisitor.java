@@ -0,0 +1,24 @@
+package org.mockserver.log;
+
+import org.mockserver.log.model.LogEntry;
+
+/**
+ * Visits log entries newest first on the log thread, see {@link MockServerEventLog#retrieveLogEntriesInReverse(long, LogEntryVisitor)}
+ *
+ * @author jamesdbloom
+ */
+public interface LogEntryVisitor {
+
+    /**
+     * @return false to stop visiting older entries
+     */
+    boolean visit(LogEntry logEntry);
+
+    /**
+     * @param latestSequence sequence number of the newest entry in the log, to pass to the next retrieval
+     * @param incremental    true if only entries added since the requested sequence number were visited, false if
+     *                       entries have been cleared since then so all entries were visited
+     */
+    void completed(long latestSequence, boolean incremental);
+
+}
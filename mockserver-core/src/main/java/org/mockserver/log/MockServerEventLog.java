@@ -1,6 +1,7 @@
 package org.mockserver.log;
 
 import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 import org.mockserver.collections.BoundedConcurrentLinkedDeque;
 import org.mockserver.configuration.ConfigurationProperties;
@@ -13,6 +14,7 @@ import org.mockserver.model.HttpRequest;
 import org.mockserver.model.LogEventRequestAndResponse;
 import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.HttpRequestSerializer;
+import org.mockserver.serialization.model.VerificationResultsDTO;
 import org.mockserver.ui.MockServerEventLogNotifier;
 import org.mockserver.verify.Verification;
 import org.mockserver.verify.VerificationSequence;
@@ -24,7 +26,10 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -48,6 +53,13 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         -> input.getType() == EXPECTATION_RESPONSE
         || input.getType() == EXPECTATION_NOT_MATCHED_RESPONSE
         || input.getType() == FORWARDED_REQUEST;
+    private static final Set<LogEntry.LogMessageType> REQUEST_AND_RESPONSE_RECORDS = EnumSet.of(
+        RECEIVED_REQUEST,
+        EXPECTATION_RESPONSE,
+        EXPECTATION_NOT_MATCHED_RESPONSE,
+        FORWARDED_REQUEST
+    );
+    private static final long OVERFLOW_RETRY_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
     private static final Predicate<LogEntry> recordedExpectationLogPredicate = input
         -> input.getType() == FORWARDED_REQUEST;
     private static final Function<LogEntry, HttpRequest[]> logEntryToRequest = LogEntry::getHttpRequests;
@@ -58,12 +70,22 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
             .withHttpResponse(logEntry.getHttpResponse())
             .withTimestamp(logEntry.getTimestamp());
     private static final String[] EXCLUDED_FIELDS = {"id", "disruptor"};
+    private static final int MAX_CLOSEST_MATCHES = 3;
     private MockServerLogger mockServerLogger;
     private Deque<LogEntry> eventLog = new BoundedConcurrentLinkedDeque<>(ConfigurationProperties.maxLogEntries());
     private MatcherBuilder matcherBuilder;
     private HttpRequestSerializer httpRequestSerializer;
     private final boolean asynchronousEventProcessing;
     private Disruptor<LogEntry> disruptor;
+    private final EventLogOverflowPolicy overflowPolicy = ConfigurationProperties.eventLogOverflowPolicy();
+    private final long overflowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(ConfigurationProperties.eventLogOverflowTimeout());
+    // ring buffer capacity kept for request and response records, so diagnostic entries are dropped first
+    private final int recordReservedCapacity = ConfigurationProperties.ringBufferSize() / 4;
+    private final Map<LogEntry.LogMessageType, LongAdder> droppedEventCounts = new EnumMap<>(LogEntry.LogMessageType.class);
+    private volatile boolean recordDropLogged;
+    // only accessed on the log thread, or the calling thread when events are processed synchronously
+    private long sequence;
+    private long clearedSequence;
 
     public MockServerEventLog(MockServerLogger mockServerLogger, Scheduler scheduler, boolean asynchronousEventProcessing) {
         super(scheduler);
@@ -71,14 +93,28 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         this.matcherBuilder = new MatcherBuilder(mockServerLogger);
         this.httpRequestSerializer = new HttpRequestSerializer(mockServerLogger);
         this.asynchronousEventProcessing = asynchronousEventProcessing;
+        for (LogEntry.LogMessageType type : LogEntry.LogMessageType.values()) {
+            droppedEventCounts.put(type, new LongAdder());
+        }
         startRingBuffer();
     }
 
     public void add(LogEntry logEntry) {
         if (asynchronousEventProcessing) {
-            if (!disruptor.getRingBuffer().tryPublishEvent(logEntry)) {
-                // if ring buffer full only write WARN and ERROR to logger
-                if (logEntry.getLogLevel().toInt() >= Level.WARN.toInt()) {
+            RingBuffer<LogEntry> ringBuffer = disruptor.getRingBuffer();
+            boolean published;
+            if (REQUEST_AND_RESPONSE_RECORDS.contains(logEntry.getType())) {
+                published = ringBuffer.tryPublishEvent(logEntry) || (overflowPolicy == EventLogOverflowPolicy.BLOCK && tryPublishEventUntilTimeout(ringBuffer, logEntry));
+            } else {
+                published = ringBuffer.remainingCapacity() > recordReservedCapacity && ringBuffer.tryPublishEvent(logEntry);
+            }
+            if (!published) {
+                droppedEventCounts.get(logEntry.getType()).increment();
+                // if ring buffer full only write WARN and ERROR to logger, and the first dropped record
+                if (!recordDropLogged && REQUEST_AND_RESPONSE_RECORDS.contains(logEntry.getType())) {
+                    recordDropLogged = true;
+                    logger.warn("Too many log events request and response records are being dropped from the event log, so verification and retrieval of requests may be incomplete, see eventLogOverflowPolicy");
+                } else if (logEntry.getLogLevel().toInt() >= Level.WARN.toInt()) {
                     logger.warn("Too many log events failed to add log event to ring buffer: " + logEntry);
                 }
             }
@@ -87,6 +123,17 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         }
     }
 
+    private boolean tryPublishEventUntilTimeout(RingBuffer<LogEntry> ringBuffer, LogEntry logEntry) {
+        long deadline = System.nanoTime() + overflowTimeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(OVERFLOW_RETRY_NANOS);
+            if (ringBuffer.tryPublishEvent(logEntry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void startRingBuffer() {
         disruptor = new Disruptor<>(LogEntry::new, ConfigurationProperties.ringBufferSize(), new Scheduler.SchedulerThreadFactory("EventLog"));
 
@@ -121,11 +168,32 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
 
     @SuppressWarnings("DuplicatedCode")
     private void processLogEntry(LogEntry logEntry) {
-        eventLog.add(logEntry);
+        eventLog.add(logEntry.setSequence(++sequence));
         notifyListeners(this);
         writeToSystemOut(logger, logEntry);
     }
 
+    public int size() {
+        return eventLog.size();
+    }
+
+    public long ringBufferRemainingCapacity() {
+        return disruptor.getRingBuffer().remainingCapacity();
+    }
+
+    /**
+     * @return number of entries dropped because the ring buffer was full, by lower case log message type
+     */
+    public Map<String, Long> getDroppedEventCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<LogEntry.LogMessageType, LongAdder> entry : droppedEventCounts.entrySet()) {
+            if (entry.getKey() != RUNNABLE) {
+                counts.put(entry.getKey().name().toLowerCase(), entry.getValue().sum());
+            }
+        }
+        return counts;
+    }
+
     public void stop() {
         try {
             disruptor.shutdown(2, SECONDS);
@@ -146,6 +214,8 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
             .setType(RUNNABLE)
             .setConsumer(() -> {
                 eventLog.clear();
+                // consumes a sequence number so any retrieval from before the clear is not incremental
+                clearedSequence = ++sequence;
                 future.complete("done");
                 notifyListeners(this);
             })
@@ -182,6 +252,8 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
                 } else {
                     eventLog.clear();
                 }
+                // consumes a sequence number so any retrieval from before the clear is not incremental
+                clearedSequence = ++sequence;
                 future.complete("done");
                 notifyListeners(this);
             })
@@ -301,6 +373,28 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         );
     }
 
+    /**
+     * Visits the entries added after the sequence number, newest first, stopping as soon as the visitor returns false so
+     * callers that only need the latest entries do not iterate (or copy) the whole log; if entries have been cleared since
+     * the sequence number, or the sequence number is negative, all entries are visited instead
+     */
+    public void retrieveLogEntriesInReverse(long afterSequence, LogEntryVisitor visitor) {
+        disruptor.publishEvent(new LogEntry()
+            .setType(RUNNABLE)
+            .setConsumer(() -> {
+                boolean incremental = afterSequence >= clearedSequence && afterSequence <= sequence;
+                Iterator<LogEntry> reverseIterator = this.eventLog.descendingIterator();
+                while (reverseIterator.hasNext()) {
+                    LogEntry logEntry = reverseIterator.next();
+                    if ((incremental && logEntry.getSequence() <= afterSequence) || !visitor.visit(logEntry)) {
+                        break;
+                    }
+                }
+                visitor.completed(sequence, incremental);
+            })
+        );
+    }
+
     public Future<String> verify(Verification verification) {
         CompletableFuture<String> result = new CompletableFuture<>();
         verify(verification, result::complete);
@@ -311,22 +405,7 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         if (verification != null) {
             retrieveRequests(verification.getHttpRequest(), httpRequests -> {
                 if (!verification.getTimes().matches(httpRequests.size())) {
-                    retrieveRequests(null, allRequests -> {
-                        String failureMessage;
-                        String serializedRequestToBeVerified = httpRequestSerializer.serialize(true, verification.getHttpRequest());
-                        String serializedAllRequestInLog = allRequests.size() == 1 ? httpRequestSerializer.serialize(true, allRequests.get(0)) : httpRequestSerializer.serialize(true, allRequests);
-                        failureMessage = "Request not found " + verification.getTimes() + ", expected:<" + serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
-                        final Object[] arguments = new Object[]{verification.getHttpRequest(), allRequests.size() == 1 ? allRequests.get(0) : allRequests};
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setType(VERIFICATION_FAILED)
-                                .setLogLevel(Level.INFO)
-                                .setHttpRequest(verification.getHttpRequest())
-                                .setMessageFormat("request not found " + verification.getTimes() + ", expected:{}but was:{}")
-                                .setArguments(arguments)
-                        );
-                        resultConsumer.accept(failureMessage);
-                    });
+                    retrieveRequests(null, allRequests -> resultConsumer.accept(verificationFailed(verification, allRequests)));
                 } else {
                     resultConsumer.accept("");
                 }
@@ -336,6 +415,145 @@ public class MockServerEventLog extends MockServerEventLogNotifier {
         }
     }
 
+    /**
+     * Verify each verification and verification sequence against a single snapshot of the log, returning a result
+     * for each one in the order requested, failed results include the requests in the log that most closely match
+     */
+    public Future<VerificationResultsDTO> verifyAll(List<Verification> verifications, List<VerificationSequence> verificationSequences) {
+        CompletableFuture<VerificationResultsDTO> result = new CompletableFuture<>();
+        verifyAll(verifications, verificationSequences, result::complete);
+        return result;
+    }
+
+    public void verifyAll(List<Verification> verifications, List<VerificationSequence> verificationSequences, Consumer<VerificationResultsDTO> resultConsumer) {
+        disruptor.publishEvent(new LogEntry()
+            .setType(RUNNABLE)
+            .setConsumer(() -> {
+                List<HttpRequest> allRequests = retrieveRequests(null);
+                VerificationResultsDTO verificationResults = new VerificationResultsDTO();
+                for (int index = 0; verifications != null && index < verifications.size(); index++) {
+                    Verification verification = verifications.get(index);
+                    if (verification != null) {
+                        verificationResults.addResult(verifyAgainst(index, verification, allRequests));
+                    }
+                }
+                for (int index = 0; verificationSequences != null && index < verificationSequences.size(); index++) {
+                    VerificationSequence verificationSequence = verificationSequences.get(index);
+                    if (verificationSequence != null) {
+                        verificationResults.addResult(verifyAgainst(index, verificationSequence, allRequests));
+                    }
+                }
+                resultConsumer.accept(verificationResults);
+            })
+        );
+    }
+
+    private VerificationResultsDTO.Result verifyAgainst(int index, Verification verification, List<HttpRequest> allRequests) {
+        HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(verification.getHttpRequest());
+        int matchingRequestCount = 0;
+        for (HttpRequest request : allRequests) {
+            if (httpRequestMatcher.matches(request)) {
+                matchingRequestCount++;
+            }
+        }
+        VerificationResultsDTO.Result result = new VerificationResultsDTO.Result()
+            .setType(VerificationResultsDTO.VERIFICATION)
+            .setIndex(index)
+            .setMatchingRequestCount(matchingRequestCount)
+            .setPassed(verification.getTimes().matches(matchingRequestCount));
+        if (!result.getPassed()) {
+            List<HttpRequest> closestMatches = closestMatches(httpRequestMatcher, allRequests);
+            result
+                .setMessage("Request not found " + verification.getTimes() + ", found " + matchingRequestCount + " matching request" + (matchingRequestCount == 1 ? "" : "s"))
+                .setClosestMatches(closestMatches);
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(VERIFICATION_FAILED)
+                    .setLogLevel(Level.INFO)
+                    .setHttpRequest(verification.getHttpRequest())
+                    .setMessageFormat("request not found " + verification.getTimes() + ", expected:{}closest matches were:{}")
+                    .setArguments(verification.getHttpRequest(), closestMatches)
+            );
+        }
+        return result;
+    }
+
+    private VerificationResultsDTO.Result verifyAgainst(int index, VerificationSequence verificationSequence, List<HttpRequest> allRequests) {
+        VerificationResultsDTO.Result result = new VerificationResultsDTO.Result()
+            .setType(VerificationResultsDTO.VERIFICATION_SEQUENCE)
+            .setIndex(index)
+            .setPassed(true);
+        int requestLogCounter = 0;
+        List<HttpRequest> httpRequests = verificationSequence.getHttpRequests();
+        for (int sequenceIndex = 0; sequenceIndex < httpRequests.size(); sequenceIndex++) {
+            HttpRequest verificationHttpRequest = httpRequests.get(sequenceIndex);
+            if (verificationHttpRequest != null) {
+                HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(verificationHttpRequest);
+                boolean foundRequest = false;
+                for (; !foundRequest && requestLogCounter < allRequests.size(); requestLogCounter++) {
+                    if (httpRequestMatcher.matches(allRequests.get(requestLogCounter))) {
+                        foundRequest = true;
+                    }
+                }
+                if (!foundRequest) {
+                    List<HttpRequest> closestMatches = closestMatches(httpRequestMatcher, allRequests);
+                    result
+                        .setPassed(false)
+                        .setMessage("Request sequence not found, request at position " + sequenceIndex + " not found in order")
+                        .setClosestMatches(closestMatches);
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setType(VERIFICATION_FAILED)
+                            .setLogLevel(Level.INFO)
+                            .setHttpRequests(httpRequests.toArray(new HttpRequest[0]))
+                            .setMessageFormat("request sequence not found, expected:{}closest matches for request at position " + sequenceIndex + " were:{}")
+                            .setArguments(httpRequests, closestMatches)
+                    );
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<HttpRequest> closestMatches(HttpRequestMatcher httpRequestMatcher, List<HttpRequest> allRequests) {
+        // stable sort keeps requests with the same number of matching fields in the order they were received
+        return allRequests
+            .stream()
+            .map(request -> new AbstractMap.SimpleEntry<>(request, httpRequestMatcher.matchingFieldCount(request)))
+            .sorted((first, second) -> Integer.compare(second.getValue(), first.getValue()))
+            .limit(MAX_CLOSEST_MATCHES)
+            .map(AbstractMap.SimpleEntry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    private List<HttpRequest> retrieveRequests(HttpRequest httpRequest) {
+        HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(httpRequest);
+        return this.eventLog
+            .stream()
+            .filter(logItem -> logItem.matches(httpRequestMatcher))
+            .filter(requestLogPredicate)
+            .map(logEntryToRequest)
+            .filter(Objects::nonNull)
+            .flatMap(Arrays::stream)
+            .collect(Collectors.toList());
+    }
+
+    private String verificationFailed(Verification verification, List<HttpRequest> allRequests) {
+        String serializedRequestToBeVerified = httpRequestSerializer.serialize(true, verification.getHttpRequest());
+        String serializedAllRequestInLog = allRequests.size() == 1 ? httpRequestSerializer.serialize(true, allRequests.get(0)) : httpRequestSerializer.serialize(true, allRequests);
+        final Object[] arguments = new Object[]{verification.getHttpRequest(), allRequests.size() == 1 ? allRequests.get(0) : allRequests};
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(VERIFICATION_FAILED)
+                .setLogLevel(Level.INFO)
+                .setHttpRequest(verification.getHttpRequest())
+                .setMessageFormat("request not found " + verification.getTimes() + ", expected:{}but was:{}")
+                .setArguments(arguments)
+        );
+        return "Request not found " + verification.getTimes() + ", expected:<" + serializedRequestToBeVerified + "> but was:<" + serializedAllRequestInLog + ">";
+    }
+
     public Future<String> verify(VerificationSequence verification) {
         CompletableFuture<String> result = new CompletableFuture<>();
         verify(verification, result::complete);
@@ -29,11 +29,14 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
     private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
     private static final String[] EXCLUDED_FIELDS = {
         "id",
+        "sequence",
         "timestamp",
         "message",
-        "throwable"
+        "throwable",
+        "updatedArguments"
     };
     private String id;
+    private long sequence;
     private Level logLevel = Level.INFO;
     public static final DateFormat LOG_DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
     private long epochTime = TimeService.currentTimeMillis();
@@ -50,6 +53,7 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
 
     private String messageFormat;
     private Object[] arguments;
+    private Object[] updatedArguments;
     private String message;
 
     public LogEntry() {
@@ -64,6 +68,19 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
         return id;
     }
 
+    /**
+     * @return position of this entry in the event log, assigned when the entry is added to the log
+     */
+    @JsonIgnore
+    public long getSequence() {
+        return sequence;
+    }
+
+    public LogEntry setSequence(long sequence) {
+        this.sequence = sequence;
+        return this;
+    }
+
     public void clear() {
         logLevel = Level.INFO;
         epochTime = -1;
@@ -76,6 +93,9 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
         consumer = null;
         messageFormat = null;
         arguments = null;
+        updatedArguments = null;
+        httpUpdatedRequests = null;
+        httpUpdatedResponse = null;
         message = null;
     }
 
@@ -250,12 +270,9 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
     }
 
     public Object[] getArguments() {
-        return arguments;
-    }
-
-    public LogEntry setArguments(Object... arguments) {
-        if (arguments != null) {
-            this.arguments = Arrays
+        // bodies are converted for display when first needed, instead of for every log entry created
+        if (arguments != null && updatedArguments == null) {
+            updatedArguments = Arrays
                 .stream(arguments)
                 .map(argument -> {
                     if (argument instanceof HttpRequest) {
@@ -267,9 +284,13 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
                     }
                 })
                 .toArray(Object[]::new);
-        } else {
-            this.arguments = null;
         }
+        return updatedArguments;
+    }
+
+    public LogEntry setArguments(Object... arguments) {
+        this.arguments = arguments;
+        this.updatedArguments = null;
         return this;
     }
 
@@ -291,20 +312,20 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
             if (body != null && JsonBody.class.isAssignableFrom(body.getClass())) {
                 try {
                     return httpRequest
-                        .clone()
+                        .shallowClone()
                         .withBody(
                             new LogEventBody(OBJECT_MAPPER.readTree(body.toString()))
                         );
                 } catch (Throwable throwable) {
                     return httpRequest
-                        .clone()
+                        .shallowClone()
                         .withBody(
                             new LogEventBody(body.toString())
                         );
                 }
             } else if (body != null && !(body instanceof LogEventBody) && BodyWithContentType.class.isAssignableFrom(body.getClass())) {
                 return httpRequest
-                    .clone()
+                    .shallowClone()
                     .withBody(
                         new LogEventBody(body.toString())
                     );
@@ -322,20 +343,20 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
             if (body != null && JsonBody.class.isAssignableFrom(body.getClass())) {
                 try {
                     return httpResponse
-                        .clone()
+                        .shallowClone()
                         .withBody(
                             new LogEventBody(OBJECT_MAPPER.readTree(body.toString()))
                         );
                 } catch (Throwable throwable) {
                     return httpResponse
-                        .clone()
+                        .shallowClone()
                         .withBody(
                             new LogEventBody(body.toString())
                         );
                 }
             } else if (body != null && !(body instanceof LogEventBody)) {
                 return httpResponse
-                    .clone()
+                    .shallowClone()
                     .withBody(
                         new LogEventBody(body.toString())
                     );
@@ -358,7 +379,7 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
             .setHttpError(getHttpError())
             .setExpectation(getExpectation())
             .setMessageFormat(getMessageFormat())
-            .setArguments(getArguments())
+            .setArguments(arguments)
             .setThrowable(getThrowable())
             .setConsumer(getConsumer());
     }
@@ -374,7 +395,7 @@ public class LogEntry extends ObjectWithJsonToString implements EventTranslator<
             .setHttpError(getHttpError())
             .setExpectation(getExpectation())
             .setMessageFormat(getMessageFormat())
-            .setArguments(getArguments())
+            .setArguments(arguments)
             .setThrowable(getThrowable())
             .setConsumer(getConsumer());
         clear();
@@ -12,7 +12,9 @@ import org.mockserver.model.HttpRequest;
 import org.mockserver.url.URLParser;
 import org.slf4j.event.Level;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpHeaderNames.COOKIE;
@@ -40,12 +42,13 @@ public class FullHttpRequestToMockServerRequest {
                 setMethod(httpRequest, fullHttpRequest);
 
                 setPath(httpRequest, fullHttpRequest);
-                if (fullHttpRequest.uri().contains("?")) {
-                    setQueryString(httpRequest, new QueryStringDecoder(fullHttpRequest.uri()));
-                }
-
-                setHeaders(httpRequest, fullHttpRequest);
-                setCookies(httpRequest, fullHttpRequest);
+                // headers, cookies and query string parameters are converted when first used, the headers aren't
+                // reference counted so (unlike the body content) can be used after the request has been released
+                httpRequest.withLazilyDecoded(
+                    fullHttpRequest.uri().contains("?") ? queryStringParameters(httpRequest, fullHttpRequest.uri()) : null,
+                    headers(fullHttpRequest.headers()),
+                    cookies(fullHttpRequest.headers())
+                );
                 setBody(httpRequest, fullHttpRequest);
 
                 httpRequest.withKeepAlive(isKeepAlive(fullHttpRequest));
@@ -73,45 +76,54 @@ public class FullHttpRequestToMockServerRequest {
         httpRequest.withPath(URLParser.returnPath(fullHttpRequest.uri()));
     }
 
-    private void setQueryString(HttpRequest httpRequest, QueryStringDecoder queryStringDecoder) {
-        Parameters parameters = new Parameters();
-        try {
-            parameters.withEntries(queryStringDecoder.parameters());
-        } catch (IllegalArgumentException iae) {
-            mockServerLogger.logEvent(
-                new LogEntry()
-                    .setType(LogEntry.LogMessageType.EXCEPTION)
-                    .setLogLevel(Level.ERROR)
-                    .setHttpRequest(httpRequest)
-                    .setMessageFormat("exception while parsing query string")
-                    .setArguments(iae)
-            );
-        }
-        httpRequest.withQueryStringParameters(parameters);
+    private Supplier<Parameters> queryStringParameters(HttpRequest httpRequest, String uri) {
+        return () -> {
+            Parameters parameters = new Parameters();
+            try {
+                parameters.withEntries(new QueryStringDecoder(uri).parameters());
+            } catch (IllegalArgumentException iae) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(LogEntry.LogMessageType.EXCEPTION)
+                        .setLogLevel(Level.ERROR)
+                        .setHttpRequest(httpRequest)
+                        .setMessageFormat("exception while parsing query string{}")
+                        .setArguments(uri, iae)
+                );
+            }
+            return parameters;
+        };
     }
 
-    private void setHeaders(HttpRequest httpRequest, FullHttpRequest fullHttpResponse) {
-        Headers headers = new Headers();
-        HttpHeaders httpHeaders = fullHttpResponse.headers();
-        for (String headerName : httpHeaders.names()) {
-            headers.withEntry(headerName, httpHeaders.getAll(headerName));
-        }
-        httpRequest.withHeaders(headers);
+    private Supplier<Headers> headers(HttpHeaders httpHeaders) {
+        return () -> {
+            Headers headers = new Headers();
+            for (String headerName : httpHeaders.names()) {
+                headers.withEntry(headerName, httpHeaders.getAll(headerName));
+            }
+            return headers;
+        };
     }
 
-    private void setCookies(HttpRequest httpRequest, FullHttpRequest fullHttpResponse) {
-        Cookies cookies = new Cookies();
-        for (String cookieHeader : fullHttpResponse.headers().getAll(COOKIE)) {
-            Set<Cookie> decodedCookies =
-                ServerCookieDecoder.LAX.decode(cookieHeader);
-            for (io.netty.handler.codec.http.cookie.Cookie decodedCookie : decodedCookies) {
-                cookies.withEntry(
-                    decodedCookie.name(),
-                    decodedCookie.value()
-                );
-            }
+    private Supplier<Cookies> cookies(HttpHeaders httpHeaders) {
+        List<String> cookieHeaders = httpHeaders.getAll(COOKIE);
+        if (cookieHeaders.isEmpty()) {
+            return null;
         }
-        httpRequest.withCookies(cookies);
+        return () -> {
+            Cookies cookies = new Cookies();
+            for (String cookieHeader : cookieHeaders) {
+                Set<Cookie> decodedCookies =
+                    ServerCookieDecoder.LAX.decode(cookieHeader);
+                for (io.netty.handler.codec.http.cookie.Cookie decodedCookie : decodedCookies) {
+                    cookies.withEntry(
+                        decodedCookie.name(),
+                        decodedCookie.value()
+                    );
+                }
+            }
+            return cookies;
+        };
     }
 
     private void setBody(HttpRequest httpRequest, FullHttpRequest fullHttpRequest) {
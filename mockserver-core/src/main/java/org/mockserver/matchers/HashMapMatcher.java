@@ -1,6 +1,7 @@
 package org.mockserver.matchers;
 
 import org.mockserver.collections.CaseInsensitiveRegexHashMap;
+import org.mockserver.collections.CaseInsensitiveRegexSubSet;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
@@ -14,28 +15,32 @@ import static org.slf4j.event.Level.DEBUG;
 @SuppressWarnings("rawtypes")
 public class HashMapMatcher extends NotMatcher<KeysAndValues> {
 
+    private static final String[] EXCLUDED_FIELDS = {"hashMapSubSet"};
     private final MockServerLogger mockServerLogger;
     private final boolean controlPlaneMatcher;
     private final CaseInsensitiveRegexHashMap hashMap;
+    private final CaseInsensitiveRegexSubSet hashMapSubSet;
 
     HashMapMatcher(MockServerLogger mockServerLogger, KeysAndValues keysAndValues, boolean controlPlaneMatcher) {
         this.mockServerLogger = mockServerLogger;
         this.controlPlaneMatcher = controlPlaneMatcher;
         if (keysAndValues != null) {
             this.hashMap = keysAndValues.toCaseInsensitiveRegexMultiMap(mockServerLogger, controlPlaneMatcher);
+            this.hashMapSubSet = new CaseInsensitiveRegexSubSet(hashMap.entrySet());
         } else {
             this.hashMap = null;
+            this.hashMapSubSet = null;
         }
     }
 
     public boolean matches(final HttpRequest context, KeysAndValues values) {
         boolean result;
 
-        if (hashMap == null || hashMap.isEmpty()) {
+        if (hashMapSubSet == null || hashMapSubSet.isEmpty()) {
             result = true;
         } else if (values == null || values.isEmpty()) {
-            result = hashMap.allKeysNotted();
-        } else if (values.toCaseInsensitiveRegexMultiMap(mockServerLogger, controlPlaneMatcher).containsAll(hashMap)) {
+            result = hashMapSubSet.allKeysNotted();
+        } else if (hashMapSubSet.isSubSetOf(values.toCaseInsensitiveKeyIndex(mockServerLogger, controlPlaneMatcher))) {
             result = true;
         } else {
             mockServerLogger.logEvent(
@@ -50,4 +55,9 @@ public class HashMapMatcher extends NotMatcher<KeysAndValues> {
 
         return not != result;
     }
+
+    @Override
+    protected String[] fieldsExcludedFromEqualsAndHashCode() {
+        return EXCLUDED_FIELDS;
+    }
 }
@@ -202,7 +202,7 @@ public class HttpRequestMatcher extends NotMatcher<HttpRequest> {
     public boolean matches(final HttpRequest context, final HttpRequest request) {
         StringBuilder becauseBuilder = new StringBuilder();
         boolean overallMatch = matches(context, request, becauseBuilder);
-        if (!controlPlaneMatcher) {
+        if (!controlPlaneMatcher && MockServerLogger.isEnabled(Level.INFO)) {
             if (overallMatch) {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -211,7 +211,7 @@ public class HttpRequestMatcher extends NotMatcher<HttpRequest> {
                         .setHttpRequest(request)
                         .setExpectation(this.expectation)
                         .setMessageFormat(this.expectation == null ? REQUEST_DID_MATCH : EXPECTATION_DID_MATCH)
-                        .setArguments(request, (this.expectation == null ? this : this.expectation.clone()))
+                        .setArguments(request, (this.expectation == null ? this : this.expectation.snapshot()))
                 );
             } else {
                 mockServerLogger.logEvent(
@@ -221,7 +221,7 @@ public class HttpRequestMatcher extends NotMatcher<HttpRequest> {
                         .setHttpRequest(request)
                         .setExpectation(this.expectation)
                         .setMessageFormat(this.expectation == null ? REQUEST_DID_NOT_MATCH : becauseBuilder.length() > 0 ? EXPECTATION_DID_NOT_MATCH : EXPECTATION_DID_NOT_MATCH_WITHOUT_BECAUSE)
-                        .setArguments(request, (this.expectation == null ? this : this.expectation.clone()), becauseBuilder.toString())
+                        .setArguments(request, (this.expectation == null ? this : this.expectation.snapshot()), becauseBuilder.toString())
                 );
             }
         }
@@ -285,6 +285,26 @@ public class HttpRequestMatcher extends NotMatcher<HttpRequest> {
         return false;
     }
 
+    /**
+     * Number of request fields (method, path, body, headers, cookies, query, keep-alive and ssl) that match, without
+     * stopping at the first field that doesn't match, used to rank how close a request is to matching
+     */
+    public int matchingFieldCount(final HttpRequest request) {
+        if (request == null || this.httpRequest == null) {
+            return 0;
+        }
+        int count = 0;
+        count += isBlank(request.getMethod().getValue()) || matches(null, methodMatcher, request.getMethod()) ? 1 : 0;
+        count += isBlank(request.getPath().getValue()) || matches(null, pathMatcher, request.getPath()) ? 1 : 0;
+        count += bodyMatches(null, request) ? 1 : 0;
+        count += matches(null, headerMatcher, request.getHeaders()) ? 1 : 0;
+        count += matches(null, cookieMatcher, request.getCookies()) ? 1 : 0;
+        count += matches(null, queryStringParameterMatcher, request.getQueryStringParameters()) ? 1 : 0;
+        count += matches(null, keepAliveMatcher, request.isKeepAlive()) ? 1 : 0;
+        count += matches(null, sslMatcher, request.isSecure()) ? 1 : 0;
+        return count;
+    }
+
     private static boolean combineResults(boolean... inputs) {
         int count = 0;
         for (boolean input : inputs) {
@@ -2,6 +2,7 @@ package org.mockserver.matchers;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.mockserver.collections.CaseInsensitiveRegexMultiMap;
+import org.mockserver.collections.CaseInsensitiveRegexSubSet;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
@@ -14,9 +15,10 @@ import static org.slf4j.event.Level.DEBUG;
  */
 @SuppressWarnings("rawtypes")
 public class MultiValueMapMatcher extends NotMatcher<KeysToMultiValues> {
-    private static final String[] EXCLUDED_FIELDS = {"mockServerLogger"};
+    private static final String[] EXCLUDED_FIELDS = {"mockServerLogger", "multiMapSubSet"};
     private final MockServerLogger mockServerLogger;
     private final CaseInsensitiveRegexMultiMap multiMap;
+    private final CaseInsensitiveRegexSubSet multiMapSubSet;
     private final boolean controlPlaneMatcher;
 
     MultiValueMapMatcher(MockServerLogger mockServerLogger, KeysToMultiValues keysToMultiValues, boolean controlPlaneMatcher) {
@@ -24,19 +26,21 @@ public class MultiValueMapMatcher extends NotMatcher<KeysToMultiValues> {
         this.controlPlaneMatcher = controlPlaneMatcher;
         if (keysToMultiValues != null) {
             this.multiMap = keysToMultiValues.toCaseInsensitiveRegexMultiMap(mockServerLogger, controlPlaneMatcher);
+            this.multiMapSubSet = new CaseInsensitiveRegexSubSet(multiMap.entryList());
         } else {
             this.multiMap = null;
+            this.multiMapSubSet = null;
         }
     }
 
     public boolean matches(final HttpRequest context, KeysToMultiValues values) {
         boolean result;
 
-        if (multiMap == null || multiMap.isEmpty()) {
+        if (multiMapSubSet == null || multiMapSubSet.isEmpty()) {
             result = true;
         } else if (values == null || values.isEmpty()) {
-            result = multiMap.allKeysNotted();
-        } else if (values.toCaseInsensitiveRegexMultiMap(mockServerLogger, controlPlaneMatcher).containsAll(multiMap)) {
+            result = multiMapSubSet.allKeysNotted();
+        } else if (multiMapSubSet.isSubSetOf(values.toCaseInsensitiveKeyIndex(mockServerLogger, controlPlaneMatcher))) {
             result = true;
         } else {
             mockServerLogger.logEvent(
@@ -3,6 +3,7 @@ package org.mockserver.matchers;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
 
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -73,4 +74,24 @@ public class TimeToLive extends ObjectWithReflectiveEqualsHashCodeToString {
     protected String[] fieldsExcludedFromEqualsAndHashCode() {
         return EXCLUDED_FIELDS;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        // instanceof (not getClass) as unlimited() is an anonymous subclass
+        if (!(o instanceof TimeToLive)) {
+            return false;
+        }
+        TimeToLive that = (TimeToLive) o;
+        return unlimited == that.unlimited &&
+            timeUnit == that.timeUnit &&
+            Objects.equals(timeToLive, that.timeToLive);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timeUnit, timeToLive, unlimited);
+    }
 }
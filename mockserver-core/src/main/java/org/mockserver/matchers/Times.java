@@ -2,6 +2,8 @@ package org.mockserver.matchers;
 
 import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
@@ -73,4 +75,23 @@ public class Times extends ObjectWithReflectiveEqualsHashCodeToString {
             return Times.exactly(remainingTimes);
         }
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        // instanceof (not getClass) as unlimited() is an anonymous subclass
+        if (!(o instanceof Times)) {
+            return false;
+        }
+        Times that = (Times) o;
+        return remainingTimes == that.remainingTimes &&
+            unlimited == that.unlimited;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(remainingTimes, unlimited);
+    }
 }
@@ -0,0 +1,105 @@
+package org.mockserver.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets (in the style of an HDR histogram), values are recorded in microseconds.
+ *
+ * Each power of two range is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets so any recorded value is
+ * reported with a relative error of at most 1 / {@link #SUB_BUCKET_COUNT}, while recording is a single array increment.
+ *
+ * @author jamesdbloom
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    public void record(long duration, TimeUnit timeUnit) {
+        long microseconds = Math.max(0, timeUnit.toMicros(duration));
+        buckets.incrementAndGet(bucketIndex(microseconds));
+        count.increment();
+        sum.add(microseconds);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of all recorded values in microseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return the number of recorded values less than or equal to the value (in microseconds), exact when the value is a bucket upper bound
+     */
+    public long getCountAtOrBelow(long microseconds) {
+        long total = 0;
+        int lastBucket = bucketIndex(Math.max(0, microseconds));
+        for (int i = 0; i <= lastBucket; i++) {
+            total += buckets.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @return the upper bound (in microseconds) of the bucket containing the value at the percentile, or zero if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long totalCount = 0;
+        long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            totalCount += snapshot[i];
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil((Math.min(100.0, Math.max(0.0, percentile)) / 100.0) * totalCount));
+        long runningCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            runningCount += snapshot[i];
+            if (runningCount >= countAtPercentile) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(BUCKET_COUNT - 1);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long upperBound = ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+        return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+    }
+}
@@ -3,91 +3,120 @@ package org.mockserver.metrics;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.model.Action;
 
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * @author jamesdbloom
  */
-@SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
 public class Metrics {
 
-    private static Map<Name, Integer> metrics = new ConcurrentHashMap<>();
+    // all entries are created up front so the maps are never modified and can be read without locking
+    private static final Map<Name, LongAdder> metrics = new EnumMap<>(Name.class);
+    private static final Map<Action.Type, Name> actionMetricNames = new EnumMap<>(Action.Type.class);
+    private static final Map<Latency, Map<Action.Type, LatencyHistogram>> actionLatencies = new EnumMap<>(Latency.class);
+    private static final Map<Latency, LatencyHistogram> noActionLatencies = new EnumMap<>(Latency.class);
+
+    static {
+        for (Name name : Name.values()) {
+            metrics.put(name, new LongAdder());
+        }
+        for (Action.Type type : Action.Type.values()) {
+            actionMetricNames.put(type, Name.valueOf("ACTION_" + type.name() + "_COUNT"));
+        }
+        for (Latency latency : Latency.values()) {
+            Map<Action.Type, LatencyHistogram> histograms = new EnumMap<>(Action.Type.class);
+            for (Action.Type type : Action.Type.values()) {
+                histograms.put(type, new LatencyHistogram());
+            }
+            actionLatencies.put(latency, histograms);
+            noActionLatencies.put(latency, new LatencyHistogram());
+        }
+    }
 
     public static void clear() {
-        metrics.clear();
+        for (LongAdder value : metrics.values()) {
+            value.reset();
+        }
+        for (Latency latency : Latency.values()) {
+            for (LatencyHistogram histogram : actionLatencies.get(latency).values()) {
+                histogram.reset();
+            }
+            noActionLatencies.get(latency).reset();
+        }
     }
 
     public static void set(Name name, Integer value) {
-        metrics.put(name, value);
+        LongAdder metric = metrics.get(name);
+        metric.reset();
+        metric.add(value);
     }
 
     public static Integer get(Name name) {
-        Integer value = metrics.get(name);
-        return value != null ? value : 0;
+        return metrics.get(name).intValue();
     }
 
     public static void increment(Name name) {
         if (ConfigurationProperties.metricsEnabled()) {
-            synchronized (name) {
-                metrics.merge(name, 1, Integer::sum);
-            }
+            metrics.get(name).increment();
         }
     }
 
     public static void decrement(Name name) {
         if (ConfigurationProperties.metricsEnabled()) {
-            synchronized (name) {
-                final Integer currentValue = metrics.get(name);
-                if (currentValue != null) {
-                    metrics.put(name, currentValue - 1);
-                } else {
-                    throw new IllegalArgumentException("Can not decrement metric \"" + name + "\" because it not exist");
-                }
-            }
+            metrics.get(name).decrement();
         }
     }
 
     public static void increment(Action.Type type) {
         if (ConfigurationProperties.metricsEnabled()) {
-            Name name = Name.valueOf("ACTION_" + type.name() + "_COUNT");
-            synchronized (name) {
-                metrics.merge(name, 1, Integer::sum);
-            }
+            metrics.get(actionMetricNames.get(type)).increment();
         }
     }
 
     public static void decrement(Action.Type type) {
         if (ConfigurationProperties.metricsEnabled()) {
-            Name name = Name.valueOf("ACTION_" + type.name() + "_COUNT");
-            synchronized (name) {
-                final Integer currentValue = metrics.get(name);
-                if (currentValue != null) {
-                    metrics.put(name, currentValue - 1);
-                } else {
-                    throw new IllegalArgumentException("Can not decrement metric \"" + name + "\" because it not exist");
-                }
-            }
+            metrics.get(actionMetricNames.get(type)).decrement();
         }
     }
 
     public static void clearActionMetrics() {
-        metrics.remove(Name.ACTION_FORWARD_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_TEMPLATE_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_CLASS_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_OBJECT_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_FORWARD_REPLACE_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_TEMPLATE_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_CLASS_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_RESPONSE_OBJECT_CALLBACK_COUNT);
-        metrics.remove(Name.ACTION_ERROR_COUNT);
+        for (Name name : actionMetricNames.values()) {
+            metrics.get(name).reset();
+        }
     }
 
     public static void clearWebSocketMetrics() {
-        metrics.remove(Name.WEBSOCKET_CALLBACK_CLIENT_COUNT);
-        metrics.remove(Name.WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT);
-        metrics.remove(Name.WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT);
+        metrics.get(Name.WEBSOCKET_CALLBACK_CLIENT_COUNT).reset();
+        metrics.get(Name.WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT).reset();
+        metrics.get(Name.WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT).reset();
+    }
+
+    /**
+     * Start timing a latency, when metrics are disabled no clock is read and zero is returned so the matching
+     * {@link #recordLatency(Latency, Action.Type, long)} is a no-op
+     */
+    public static long startLatency() {
+        return ConfigurationProperties.metricsEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @param type       the action type of the matched expectation or null if no expectation matched
+     * @param startNanos value returned by {@link #startLatency()}
+     */
+    public static void recordLatency(Latency latency, Action.Type type, long startNanos) {
+        if (startNanos != 0 && ConfigurationProperties.metricsEnabled()) {
+            getLatency(latency, type).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @param type the action type of the matched expectation or null for requests that did not match an expectation
+     */
+    public static LatencyHistogram getLatency(Latency latency, Action.Type type) {
+        return type != null ? actionLatencies.get(latency).get(type) : noActionLatencies.get(latency);
     }
 
     public enum Name {
@@ -106,6 +135,22 @@ public class Metrics {
         ACTION_ERROR_COUNT,
         WEBSOCKET_CALLBACK_CLIENT_COUNT,
         WEBSOCKET_CALLBACK_RESPONSE_HANDLER_COUNT,
-        WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT
+        WEBSOCKET_CALLBACK_FORWARD_HANDLER_COUNT,
+        WEBSOCKET_CALLBACK_TIMEOUT_COUNT,
+        WEBSOCKET_CALLBACK_REJECTED_COUNT,
+        EVENT_LOG_CHANGE_COUNT,
+        EVENT_LOG_NOTIFICATION_COUNT,
+        EXPECTATION_CHANGE_COUNT,
+        EXPECTATION_NOTIFICATION_COUNT,
+        CONNECTION_REJECTED_COUNT,
+        REQUEST_REJECTED_IN_FLIGHT_LIMIT_COUNT,
+        REQUEST_REJECTED_RATE_LIMIT_COUNT
+    }
+
+    public enum Latency {
+        MATCH,
+        ACTION,
+        FORWARD_ROUND_TRIP,
+        END_TO_END
     }
 }
@@ -0,0 +1,161 @@
+package org.mockserver.metrics;
+
+import org.mockserver.model.Action;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Renders all {@link Metrics} counters and latency histograms, plus any registered gauges, counters and histograms, in the Prometheus text exposition format.
+ *
+ * Values are only read when the metrics are rendered, so registering a gauge or histogram adds no cost to the request path.
+ * Lines are always separated by \n, as required by the format, regardless of the platform line separator.
+ *
+ * @author jamesdbloom
+ */
+public class PrometheusMetrics {
+
+    // response writers append the charset
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4";
+    private static final Set<Metrics.Name> MONOTONIC_COUNTERS = EnumSet.of(
+        Metrics.Name.EXPECTATION_NOT_MATCHED_COUNT,
+        Metrics.Name.RESPONSE_EXPECTATION_MATCHED_COUNT,
+        Metrics.Name.FORWARD_EXPECTATION_MATCHED_COUNT,
+        Metrics.Name.WEBSOCKET_CALLBACK_TIMEOUT_COUNT,
+        Metrics.Name.WEBSOCKET_CALLBACK_REJECTED_COUNT,
+        Metrics.Name.EVENT_LOG_CHANGE_COUNT,
+        Metrics.Name.EVENT_LOG_NOTIFICATION_COUNT,
+        Metrics.Name.EXPECTATION_CHANGE_COUNT,
+        Metrics.Name.EXPECTATION_NOTIFICATION_COUNT,
+        Metrics.Name.CONNECTION_REJECTED_COUNT,
+        Metrics.Name.REQUEST_REJECTED_IN_FLIGHT_LIMIT_COUNT,
+        Metrics.Name.REQUEST_REJECTED_RATE_LIMIT_COUNT
+    );
+    // bucket boundaries in microseconds, each is rounded up to the upper bound of the histogram bucket it falls in so bucket counts are exact
+    private static final long[] BUCKET_BOUNDARIES = new long[]{100, 500, 1_000, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000, 30_000_000, 60_000_000};
+    private final List<Gauge> gauges = new CopyOnWriteArrayList<>();
+    private final List<Histogram> histograms = new CopyOnWriteArrayList<>();
+
+    public PrometheusMetrics gauge(String name, String help, Supplier<? extends Number> value) {
+        gauges.add(new Gauge(name, help, "gauge", null, () -> Collections.singletonMap("", value.get())));
+        return this;
+    }
+
+    public PrometheusMetrics gauge(String name, String help, String labelName, Supplier<Map<String, ? extends Number>> values) {
+        gauges.add(new Gauge(name, help, "gauge", labelName, values));
+        return this;
+    }
+
+    public PrometheusMetrics counter(String name, String help, String labelName, Supplier<Map<String, ? extends Number>> values) {
+        gauges.add(new Gauge(name, help, "counter", labelName, values));
+        return this;
+    }
+
+    public PrometheusMetrics histogram(String name, String help, String labelName, Supplier<Map<String, LatencyHistogram>> values) {
+        histograms.add(new Histogram(name, help, labelName, values));
+        return this;
+    }
+
+    public String render() {
+        StringBuilder output = new StringBuilder();
+        for (Metrics.Name name : Metrics.Name.values()) {
+            String metricName = "mockserver_" + name.name().toLowerCase();
+            writeHeader(output, metricName, name.name().toLowerCase().replace('_', ' '), MONOTONIC_COUNTERS.contains(name) ? "counter" : "gauge");
+            output.append(metricName).append(' ').append(Metrics.get(name)).append('\n');
+        }
+        writeHeader(output, "mockserver_latency_seconds", "latency of matching, actions, forwarded requests and end-to-end responses by action type", "histogram");
+        for (Metrics.Latency latency : Metrics.Latency.values()) {
+            writeHistogram(output, latency, null);
+            for (Action.Type type : Action.Type.values()) {
+                writeHistogram(output, latency, type);
+            }
+        }
+        for (Histogram histogram : histograms) {
+            Map<String, LatencyHistogram> values = histogram.values.get();
+            if (values != null) {
+                writeHeader(output, histogram.name, histogram.help, "histogram");
+                for (Map.Entry<String, LatencyHistogram> entry : values.entrySet()) {
+                    writeHistogram(output, histogram.name, histogram.labelName + "=\"" + escapeLabelValue(entry.getKey()) + "\"", entry.getValue());
+                }
+            }
+        }
+        for (Gauge gauge : gauges) {
+            Map<String, ? extends Number> values = gauge.values.get();
+            if (values != null) {
+                writeHeader(output, gauge.name, gauge.help, gauge.type);
+                for (Map.Entry<String, ? extends Number> entry : values.entrySet()) {
+                    output.append(gauge.name);
+                    if (gauge.labelName != null) {
+                        output.append('{').append(gauge.labelName).append("=\"").append(escapeLabelValue(entry.getKey())).append("\"}");
+                    }
+                    output.append(' ').append(entry.getValue()).append('\n');
+                }
+            }
+        }
+        return output.toString();
+    }
+
+    private void writeHistogram(StringBuilder output, Metrics.Latency latency, Action.Type type) {
+        String labels = "latency=\"" + latency.name().toLowerCase() + "\",action=\"" + (type != null ? type.name().toLowerCase() : "none") + "\"";
+        writeHistogram(output, "mockserver_latency_seconds", labels, Metrics.getLatency(latency, type));
+    }
+
+    private void writeHistogram(StringBuilder output, String name, String labels, LatencyHistogram histogram) {
+        long count = histogram.getCount();
+        if (count > 0) {
+            for (long boundary : BUCKET_BOUNDARIES) {
+                long upperBound = LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(boundary));
+                output
+                    .append(name).append("_bucket{").append(labels).append(",le=\"").append(microsecondsToSeconds(upperBound)).append("\"} ")
+                    .append(histogram.getCountAtOrBelow(upperBound)).append('\n');
+            }
+            output.append(name).append("_bucket{").append(labels).append(",le=\"+Inf\"} ").append(count).append('\n');
+            output.append(name).append("_sum{").append(labels).append("} ").append(microsecondsToSeconds(histogram.getSum())).append('\n');
+            output.append(name).append("_count{").append(labels).append("} ").append(count).append('\n');
+        }
+    }
+
+    private void writeHeader(StringBuilder output, String name, String help, String type) {
+        output.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        output.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private String microsecondsToSeconds(long microseconds) {
+        return String.valueOf(microseconds / 1_000_000.0);
+    }
+
+    private String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static class Gauge {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final String labelName;
+        private final Supplier<Map<String, ? extends Number>> values;
+
+        private Gauge(String name, String help, String type, String labelName, Supplier<Map<String, ? extends Number>> values) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labelName = labelName;
+            this.values = values;
+        }
+    }
+
+    private static class Histogram {
+        private final String name;
+        private final String help;
+        private final String labelName;
+        private final Supplier<Map<String, LatencyHistogram>> values;
+
+        private Histogram(String name, String help, String labelName, Supplier<Map<String, LatencyHistogram>> values) {
+            this.name = name;
+            this.help = help;
+            this.labelName = labelName;
+            this.values = values;
+        }
+    }
+}
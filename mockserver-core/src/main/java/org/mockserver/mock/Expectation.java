@@ -6,6 +6,8 @@ import org.mockserver.matchers.Times;
 import org.mockserver.model.*;
 import org.mockserver.uuid.UUIDService;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
@@ -298,9 +300,53 @@ public class Expectation extends ObjectWithJsonToString {
             .thenError(httpError);
     }
 
+    /**
+     * Copy of this expectation for log entries, as only the remaining times change once an expectation has been added an
+     * expectation with unlimited times is returned as is, instead of copying it each time it is logged
+     */
+    public Expectation snapshot() {
+        if (times == null || times.isUnlimited()) {
+            return this;
+        } else {
+            return clone();
+        }
+    }
+
     @Override
     @JsonIgnore
     public String[] fieldsExcludedFromEqualsAndHashCode() {
         return excludedFields;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
+        Expectation that = (Expectation) o;
+        return Objects.equals(httpRequest, that.httpRequest) &&
+            Objects.equals(times, that.times) &&
+            Objects.equals(timeToLive, that.timeToLive) &&
+            Objects.equals(httpResponse, that.httpResponse) &&
+            Objects.equals(httpResponseTemplate, that.httpResponseTemplate) &&
+            Objects.equals(httpResponseClassCallback, that.httpResponseClassCallback) &&
+            Objects.equals(httpResponseObjectCallback, that.httpResponseObjectCallback) &&
+            Objects.equals(httpForward, that.httpForward) &&
+            Objects.equals(httpForwardTemplate, that.httpForwardTemplate) &&
+            Objects.equals(httpForwardClassCallback, that.httpForwardClassCallback) &&
+            Objects.equals(httpForwardObjectCallback, that.httpForwardObjectCallback) &&
+            Objects.equals(httpOverrideForwardedRequest, that.httpOverrideForwardedRequest) &&
+            Objects.equals(httpError, that.httpError);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(httpRequest, times, timeToLive, httpResponse, httpResponseTemplate, httpResponseClassCallback, httpResponseObjectCallback, httpForward, httpForwardTemplate, httpForwardClassCallback, httpForwardObjectCallback, httpOverrideForwardedRequest, httpError);
+    }
 }
@@ -1,9 +1,11 @@
 package org.mockserver.mock;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
 import org.mockserver.log.MockServerEventLog;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.PrometheusMetrics;
 import org.mockserver.model.*;
 import org.mockserver.persistence.ExpectationFileSystemPersistence;
 import org.mockserver.persistence.ExpectationFileWatcher;
@@ -12,11 +14,14 @@ import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.*;
 import org.mockserver.serialization.java.ExpectationToJavaSerializer;
 import org.mockserver.serialization.java.HttpRequestToJavaSerializer;
+import org.mockserver.serialization.model.VerificationResultsDTO;
+import org.mockserver.serialization.model.VerificationsDTO;
 import org.mockserver.server.initialize.ExpectationInitializerLoader;
 import org.mockserver.verify.Verification;
 import org.mockserver.verify.VerificationSequence;
 import org.slf4j.event.Level;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -38,6 +43,7 @@ import static org.mockserver.configuration.ConfigurationProperties.maxFutureTime
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.ui.MockServerMatcherNotifier.Cause.API;
 import static org.slf4j.event.Level.TRACE;
 
 /**
@@ -52,6 +58,7 @@ public class HttpStateHandler {
     private final Scheduler scheduler;
     private final ExpectationFileSystemPersistence expectationFileSystemPersistence;
     private final ExpectationFileWatcher expectationFileWatcher;
+    private final PrometheusMetrics prometheusMetrics;
     // mockserver
     private MockServerMatcher mockServerMatcher;
     private final MockServerLogger mockServerLogger;
@@ -64,12 +71,14 @@ public class HttpStateHandler {
     private ExpectationToJavaSerializer expectationToJavaSerializer;
     private VerificationSerializer verificationSerializer;
     private VerificationSequenceSerializer verificationSequenceSerializer;
+    private VerificationsSerializer verificationsSerializer;
     private LogEntrySerializer logEntrySerializer;
+    private final ObjectWriter objectWriter = ObjectMapperFactory.createObjectMapper().writerWithDefaultPrettyPrinter();
 
     public HttpStateHandler(MockServerLogger mockServerLogger, Scheduler scheduler) {
         this.mockServerLogger = mockServerLogger.setHttpStateHandler(this);
         this.scheduler = scheduler;
-        this.webSocketClientRegistry = new WebSocketClientRegistry(mockServerLogger);
+        this.webSocketClientRegistry = new WebSocketClientRegistry(mockServerLogger, scheduler);
         this.mockServerLog = new MockServerEventLog(mockServerLogger, scheduler, true);
         this.mockServerMatcher = new MockServerMatcher(mockServerLogger, scheduler, webSocketClientRegistry);
         this.httpRequestSerializer = new HttpRequestSerializer(mockServerLogger);
@@ -79,10 +88,22 @@ public class HttpStateHandler {
         this.expectationToJavaSerializer = new ExpectationToJavaSerializer();
         this.verificationSerializer = new VerificationSerializer(mockServerLogger);
         this.verificationSequenceSerializer = new VerificationSequenceSerializer(mockServerLogger);
+        this.verificationsSerializer = new VerificationsSerializer(mockServerLogger);
         this.logEntrySerializer = new LogEntrySerializer(mockServerLogger);
         this.expectationFileSystemPersistence = new ExpectationFileSystemPersistence(mockServerLogger, mockServerMatcher);
         this.expectationFileWatcher = new ExpectationFileWatcher(mockServerLogger, mockServerMatcher);
         new ExpectationInitializerLoader(mockServerLogger, mockServerMatcher);
+        this.prometheusMetrics = new PrometheusMetrics()
+            .gauge("mockserver_expectation_count", "number of active expectations", mockServerMatcher::size)
+            .gauge("mockserver_event_log_size", "number of entries in the event log", mockServerLog::size)
+            .gauge("mockserver_event_log_ring_buffer_remaining_capacity", "remaining capacity of the event log ring buffer", mockServerLog::ringBufferRemainingCapacity)
+            .counter("mockserver_event_log_dropped_count", "number of event log entries dropped because the ring buffer was full by log message type", "type", mockServerLog::getDroppedEventCounts)
+            .gauge("mockserver_scheduler_queue_depth", "number of tasks waiting for an action handler thread", scheduler::getQueueDepth)
+            .gauge("mockserver_scheduler_active_task_count", "number of action handler threads running a task", scheduler::getActiveTaskCount)
+            .gauge("mockserver_scheduler_blocking_task_count", "number of blocking actions in progress", scheduler::getBlockingTaskCount)
+            .gauge("mockserver_scheduler_pending_delay_count", "number of delayed actions waiting for their delay to expire", scheduler::getPendingDelayCount)
+            .gauge("mockserver_websocket_callback_in_flight_count", "number of object callbacks sent to each web socket callback client without a response", "client_id", webSocketClientRegistry::retrieveInFlightCountByClient)
+            .histogram("mockserver_websocket_callback_latency_seconds", "time taken by each web socket callback client to respond to object callbacks", "client_id", webSocketClientRegistry::retrieveCallbackLatencies);
     }
 
     public MockServerLogger getMockServerLogger() {
@@ -158,8 +179,8 @@ public class HttpStateHandler {
                     scheduler.submit(() -> addSubjectAlternativeName(hostHeader));
                 }
             }
-            mockServerMatcher.add(expectation);
         }
+        mockServerMatcher.addAll(expectations, API);
     }
 
     public Expectation firstMatchingExpectation(HttpRequest request) {
@@ -430,6 +451,16 @@ public class HttpStateHandler {
         mockServerLog.verify(verification, resultConsumer);
     }
 
+    public Future<VerificationResultsDTO> verifyAll(List<Verification> verifications, List<VerificationSequence> verificationSequences) {
+        CompletableFuture<VerificationResultsDTO> result = new CompletableFuture<>();
+        verifyAll(verifications, verificationSequences, result::complete);
+        return result;
+    }
+
+    public void verifyAll(List<Verification> verifications, List<VerificationSequence> verificationSequences, Consumer<VerificationResultsDTO> resultConsumer) {
+        mockServerLog.verifyAll(verifications, verificationSequences, resultConsumer);
+    }
+
     public boolean handle(HttpRequest request, ResponseWriter responseWriter, boolean warDeployment) {
 
         mockServerLogger.logEvent(
@@ -446,11 +477,14 @@ public class HttpStateHandler {
 
             if (request.matches("PUT", PATH_PREFIX + "/expectation", "/expectation")) {
 
+                List<Expectation> validExpectations = new ArrayList<>();
                 for (Expectation expectation : expectationSerializer.deserializeArray(request.getBodyAsString(), false)) {
                     if (!warDeployment || validateSupportedFeatures(expectation, request, responseWriter)) {
-                        add(expectation);
+                        validExpectations.add(expectation);
                     }
                 }
+                // added as a single batch so listeners are notified once for the whole request
+                add(validExpectations.toArray(new Expectation[0]));
                 responseWriter.writeResponse(request, CREATED);
                 canHandle.complete(true);
 
@@ -512,6 +546,21 @@ public class HttpStateHandler {
                     canHandle.complete(true);
                 });
 
+            } else if (request.matches("PUT", PATH_PREFIX + "/verifyAll", "/verifyAll")) {
+
+                VerificationsDTO verifications = verificationsSerializer.deserialize(request.getBodyAsString());
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(VERIFICATION)
+                        .setLogLevel(Level.INFO)
+                        .setMessageFormat("verifying " + verifications.getVerifications().size() + " verifications and " + verifications.getVerificationSequences().size() + " verification sequences:{}")
+                        .setArguments(verifications)
+                );
+                verifyAll(verifications.buildVerifications(), verifications.buildVerificationSequences(), result -> {
+                    responseWriter.writeResponse(request, result.getPassed() ? ACCEPTED : NOT_ACCEPTABLE, verificationsSerializer.serialize(result), "application/json");
+                    canHandle.complete(true);
+                });
+
             } else {
                 canHandle.complete(false);
             }
@@ -522,6 +571,20 @@ public class HttpStateHandler {
                 return false;
             }
 
+        } else if (request.matches("GET", PATH_PREFIX + "/metrics")) {
+
+            responseWriter.writeResponse(request, OK, prometheusMetrics.render(), PrometheusMetrics.CONTENT_TYPE);
+            return true;
+
+        } else if (request.matches("GET", PATH_PREFIX + "/callbacks")) {
+
+            try {
+                responseWriter.writeResponse(request, OK, objectWriter.writeValueAsString(webSocketClientRegistry.retrieveInFlightCallbacks()), "application/json");
+            } catch (Exception e) {
+                throw new RuntimeException("Exception while serializing in flight callbacks to JSON", e);
+            }
+            return true;
+
         } else {
 
             return false;
@@ -548,6 +611,10 @@ public class HttpStateHandler {
         return valid;
     }
 
+    public PrometheusMetrics getPrometheusMetrics() {
+        return prometheusMetrics;
+    }
+
     public WebSocketClientRegistry getWebSocketClientRegistry() {
         return webSocketClientRegistry;
     }
@@ -15,7 +15,7 @@ import org.mockserver.ui.MockServerMatcherNotifier;
 import org.slf4j.event.Level;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.mockserver.configuration.ConfigurationProperties.maxExpectations;
@@ -27,7 +27,10 @@ import static org.mockserver.metrics.Metrics.Name.*;
  */
 public class MockServerMatcher extends MockServerMatcherNotifier {
 
-    final List<HttpRequestMatcher> httpRequestMatchers = Collections.synchronizedList(new CircularLinkedList<>(maxExpectations()));
+    private final int maxExpectations = maxExpectations();
+    final List<HttpRequestMatcher> httpRequestMatchers = Collections.synchronizedList(new CircularLinkedList<>(maxExpectations));
+    // only modified together with httpRequestMatchers while holding its lock, so while the lock is held a matcher is in the index only if it is in the list
+    private final Map<String, HttpRequestMatcher> httpRequestMatchersById = new ConcurrentHashMap<>();
     private final MockServerLogger mockServerLogger;
     private WebSocketClientRegistry webSocketClientRegistry;
     private MatcherBuilder matcherBuilder;
@@ -44,110 +47,136 @@ public class MockServerMatcher extends MockServerMatcherNotifier {
     }
 
     public void add(Expectation expectation, Cause cause) {
-        if (expectation != null) {
-            httpRequestMatchers
-                .stream()
-                .filter(existingHttpRequestMatcher -> existingHttpRequestMatcher.getExpectation().getId().equals(expectation.getId()))
-                .findFirst()
-                .map(httpRequestMatcher -> {
-                    if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
-                        Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
-                    }
-                    if (httpRequestMatcher.update(expectation)) {
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setType(UPDATED_EXPECTATION)
-                                .setLogLevel(Level.DEBUG)
-                                .setHttpRequest(expectation.getHttpRequest())
-                                .setMessageFormat("updated expectation:{}")
-                                .setArguments(expectation.clone())
-                        );
-                        if (expectation.getAction() != null) {
-                            Metrics.increment(expectation.getAction().getType());
-                        }
-                    }
-                    return httpRequestMatcher;
-                })
-                .orElseGet(() -> {
-                    HttpRequestMatcher httpRequestMatcher = matcherBuilder.transformsToMatcher(expectation);
-                    httpRequestMatchers.add(httpRequestMatcher);
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setType(CREATED_EXPECTATION)
-                            .setLogLevel(Level.INFO)
-                            .setHttpRequest(expectation.getHttpRequest())
-                            .setMessageFormat("creating expectation:{}")
-                            .setArguments(expectation.clone())
-                    );
-                    if (expectation.getAction() != null) {
-                        Metrics.increment(expectation.getAction().getType());
-                    }
-                    return httpRequestMatcher;
-                });
-            notifyListeners(this, cause);
+        addAll(new Expectation[]{expectation}, cause);
+    }
+
+    /**
+     * Adds, or updates if an expectation with the same id exists, all the expectations as a single batch, existing
+     * expectations are found using an index by id (instead of scanning all expectations for each one) and listeners are
+     * notified once for the whole batch
+     *
+     * The matchers are built before, and the changes are logged after, the httpRequestMatchers lock is held so only the
+     * list and the index are changed while the lock is held (i.e. a full event log can't block matching requests)
+     */
+    public void addAll(Expectation[] expectations, Cause cause) {
+        if (expectations != null) {
+            List<HttpRequestMatcher> newHttpRequestMatchers = transformsToMatchers(Arrays.asList(expectations));
+            List<Runnable> changes = new ArrayList<>();
+            synchronized (httpRequestMatchers) {
+                for (HttpRequestMatcher newHttpRequestMatcher : newHttpRequestMatchers) {
+                    addOrReplace(newHttpRequestMatcher, changes);
+                }
+            }
+            changes.forEach(Runnable::run);
+            if (!changes.isEmpty()) {
+                notifyListeners(this, cause);
+            }
         }
     }
 
+    /**
+     * Replaces all expectations with the expectations provided, as a single batch, expectations with the id of an existing
+     * expectation update it and any existing expectations that are not provided are removed
+     */
     public void update(Expectation[] expectations, Cause cause) {
-        AtomicInteger numberOfChanges = new AtomicInteger(0);
         if (expectations != null) {
-            Set<String> existingKeys = new HashSet<>();
-            Map<String, HttpRequestMatcher> httpRequestMatchersByKey = httpRequestMatchers.stream().collect(Collectors.toMap(httpRequestMatcher -> {
-                existingKeys.add(httpRequestMatcher.getExpectation().getId());
-                return httpRequestMatcher.getExpectation().getId();
-            }, httpRequestMatcher -> httpRequestMatcher));
             Map<String, Expectation> expectationsByKey = new LinkedHashMap<>();
             Arrays.stream(expectations).forEach(expectation -> expectationsByKey.put(expectation.getId(), expectation));
-            expectationsByKey
-                .forEach((key, expectation) -> {
-                    existingKeys.remove(key);
-                    if (httpRequestMatchersByKey.containsKey(key)) {
-                        HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(key);
-                        if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
-                            Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
-                        }
-                        if (httpRequestMatcher.update(expectation)) {
-                            numberOfChanges.getAndIncrement();
-                            mockServerLogger.logEvent(
-                                new LogEntry()
-                                    .setType(UPDATED_EXPECTATION)
-                                    .setLogLevel(Level.INFO)
-                                    .setHttpRequest(expectation.getHttpRequest())
-                                    .setMessageFormat("updated expectation:{}")
-                                    .setArguments(expectation.clone())
-                            );
-                            if (expectation.getAction() != null) {
-                                Metrics.increment(expectation.getAction().getType());
+            List<HttpRequestMatcher> newHttpRequestMatchers = transformsToMatchers(expectationsByKey.values());
+            List<Runnable> changes = new ArrayList<>();
+            synchronized (httpRequestMatchers) {
+                Set<String> existingKeys = new HashSet<>(httpRequestMatchersById.keySet());
+                for (HttpRequestMatcher newHttpRequestMatcher : newHttpRequestMatchers) {
+                    existingKeys.remove(newHttpRequestMatcher.getExpectation().getId());
+                    addOrReplace(newHttpRequestMatcher, changes);
+                }
+                for (String key : existingKeys) {
+                    HttpRequestMatcher httpRequestMatcher = httpRequestMatchersById.remove(key);
+                    if (httpRequestMatcher != null && httpRequestMatchers.remove(httpRequestMatcher)) {
+                        changes.add(() -> {
+                            removed(httpRequestMatcher, cause, false);
+                            if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
+                                Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
                             }
-                        }
-                    } else {
-                        httpRequestMatchers.add(matcherBuilder.transformsToMatcher(expectation));
-                        if (expectation.getAction() != null) {
-                            Metrics.increment(expectation.getAction().getType());
-                        }
-                        numberOfChanges.getAndIncrement();
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setType(CREATED_EXPECTATION)
-                                .setLogLevel(Level.INFO)
-                                .setHttpRequest(expectation.getHttpRequest())
-                                .setMessageFormat("creating expectation:{}")
-                                .setArguments(expectation.clone())
-                        );
+                        });
                     }
-                });
-            existingKeys
-                .forEach(key -> {
-                    numberOfChanges.getAndIncrement();
-                    HttpRequestMatcher httpRequestMatcher = httpRequestMatchersByKey.get(key);
-                    removeHttpRequestMatcher(httpRequestMatcher, cause, false);
-                    if (httpRequestMatcher.getExpectation() != null && httpRequestMatcher.getExpectation().getAction() != null) {
-                        Metrics.decrement(httpRequestMatcher.getExpectation().getAction().getType());
+                }
+            }
+            changes.forEach(Runnable::run);
+            if (!changes.isEmpty()) {
+                notifyListeners(this, cause);
+            }
+        }
+    }
+
+    private List<HttpRequestMatcher> transformsToMatchers(Collection<Expectation> expectations) {
+        List<HttpRequestMatcher> newHttpRequestMatchers = new ArrayList<>();
+        for (Expectation expectation : expectations) {
+            if (expectation != null) {
+                newHttpRequestMatchers.add(matcherBuilder.transformsToMatcher(expectation));
+            }
+        }
+        return newHttpRequestMatchers;
+    }
+
+    /**
+     * must be called holding the httpRequestMatchers lock, so an expectation found in the index can't be removed before
+     * it is replaced, the logging and metrics for the change are added to changes to be run once the lock is released
+     */
+    private void addOrReplace(HttpRequestMatcher newHttpRequestMatcher, List<Runnable> changes) {
+        Expectation expectation = newHttpRequestMatcher.getExpectation();
+        HttpRequestMatcher existingHttpRequestMatcher = httpRequestMatchersById.get(expectation.getId());
+        if (existingHttpRequestMatcher != null) {
+            if (!expectation.equals(existingHttpRequestMatcher.getExpectation())) {
+                // replaced in the same position so the order expectations are matched in is unchanged
+                ListIterator<HttpRequestMatcher> iterator = httpRequestMatchers.listIterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next() == existingHttpRequestMatcher) {
+                        newHttpRequestMatcher.setResponseInProgress(existingHttpRequestMatcher.isResponseInProgress());
+                        iterator.set(newHttpRequestMatcher);
+                        httpRequestMatchersById.put(expectation.getId(), newHttpRequestMatcher);
+                        break;
+                    }
+                }
+                Action existingAction = existingHttpRequestMatcher.getExpectation() != null ? existingHttpRequestMatcher.getExpectation().getAction() : null;
+                changes.add(() -> {
+                    mockServerLogger.logEvent(
+                        new LogEntry()
+                            .setType(UPDATED_EXPECTATION)
+                            .setLogLevel(Level.INFO)
+                            .setHttpRequest(expectation.getHttpRequest())
+                            .setMessageFormat("updated expectation:{}")
+                            .setArguments(expectation.snapshot())
+                    );
+                    if (existingAction != null) {
+                        Metrics.decrement(existingAction.getType());
+                    }
+                    if (expectation.getAction() != null) {
+                        Metrics.increment(expectation.getAction().getType());
                     }
                 });
-            if (numberOfChanges.get() > 0) {
-                notifyListeners(this, cause);
             }
+        } else {
+            if (httpRequestMatchers.size() >= maxExpectations) {
+                // evict the oldest expectation here, instead of in the circular list, so the index is kept in step
+                HttpRequestMatcher evictedHttpRequestMatcher = httpRequestMatchers.remove(0);
+                httpRequestMatchersById.remove(evictedHttpRequestMatcher.getExpectation().getId(), evictedHttpRequestMatcher);
+            }
+            httpRequestMatchers.add(newHttpRequestMatcher);
+            httpRequestMatchersById.put(expectation.getId(), newHttpRequestMatcher);
+            changes.add(() -> {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(CREATED_EXPECTATION)
+                        .setLogLevel(Level.INFO)
+                        .setHttpRequest(expectation.getHttpRequest())
+                        .setMessageFormat("creating expectation:{}")
+                        .setArguments(expectation.snapshot())
+                );
+                if (expectation.getAction() != null) {
+                    Metrics.increment(expectation.getAction().getType());
+                }
+            });
         }
     }
 
@@ -161,6 +190,10 @@ public class MockServerMatcher extends MockServerMatcherNotifier {
         notifyListeners(this, cause);
     }
 
+    public int size() {
+        return httpRequestMatchers.size();
+    }
+
     public void reset() {
         reset(Cause.API);
     }
@@ -227,32 +260,44 @@ public class MockServerMatcher extends MockServerMatcherNotifier {
         removeHttpRequestMatcher(httpRequestMatcher, Cause.API, true);
     }
 
-    @SuppressWarnings("rawtypes")
     private void removeHttpRequestMatcher(HttpRequestMatcher httpRequestMatcher, Cause cause, boolean notifyAndUpdateMetrics) {
-        if (httpRequestMatchers.remove(httpRequestMatcher)) {
-            if (httpRequestMatcher.getExpectation() != null) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setType(REMOVED_EXPECTATION)
-                        .setLogLevel(Level.INFO)
-                        .setHttpRequest(httpRequestMatcher.getExpectation().getHttpRequest())
-                        .setMessageFormat("removed expectation:{}")
-                        .setArguments(httpRequestMatcher.getExpectation().clone())
-                );
+        boolean removed;
+        synchronized (httpRequestMatchers) {
+            removed = httpRequestMatchers.remove(httpRequestMatcher);
+            if (removed && httpRequestMatcher.getExpectation() != null) {
+                httpRequestMatchersById.remove(httpRequestMatcher.getExpectation().getId(), httpRequestMatcher);
             }
-            if (httpRequestMatcher.getExpectation() != null) {
-                final Action action = httpRequestMatcher.getExpectation().getAction();
-                if (action instanceof HttpObjectCallback) {
-                    webSocketClientRegistry.unregisterClient(((HttpObjectCallback) action).getClientId());
-                }
-                if (notifyAndUpdateMetrics && action != null) {
-                    Metrics.decrement(action.getType());
-                }
+        }
+        if (removed) {
+            removed(httpRequestMatcher, cause, notifyAndUpdateMetrics);
+        }
+    }
+
+    /**
+     * must be called without holding the httpRequestMatchers lock, as logging can block until the event log has space
+     */
+    @SuppressWarnings("rawtypes")
+    private void removed(HttpRequestMatcher httpRequestMatcher, Cause cause, boolean notifyAndUpdateMetrics) {
+        if (httpRequestMatcher.getExpectation() != null) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(REMOVED_EXPECTATION)
+                    .setLogLevel(Level.INFO)
+                    .setHttpRequest(httpRequestMatcher.getExpectation().getHttpRequest())
+                    .setMessageFormat("removed expectation:{}")
+                    .setArguments(httpRequestMatcher.getExpectation().snapshot())
+            );
+            final Action action = httpRequestMatcher.getExpectation().getAction();
+            if (action instanceof HttpObjectCallback) {
+                webSocketClientRegistry.unregisterClient(((HttpObjectCallback) action).getClientId());
             }
-            if (notifyAndUpdateMetrics) {
-                notifyListeners(this, cause);
+            if (notifyAndUpdateMetrics && action != null) {
+                Metrics.decrement(action.getType());
             }
         }
+        if (notifyAndUpdateMetrics) {
+            notifyListeners(this, cause);
+        }
     }
 
     public List<Expectation> retrieveActiveExpectations(HttpRequest httpRequest) {
@@ -9,10 +9,12 @@ import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.filters.HopByHopHeaderFilter;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.HttpStateHandler;
 import org.mockserver.model.*;
 import org.mockserver.proxyconfiguration.ProxyConfiguration;
+import org.mockserver.responsewriter.LatencyRecordingResponseWriter;
 import org.mockserver.responsewriter.ResponseWriter;
 import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.curl.HttpRequestToCurlSerializer;
@@ -33,6 +35,7 @@ import static org.mockserver.configuration.ConfigurationProperties.*;
 import static org.mockserver.cors.CORSHeaders.isPreflightRequest;
 import static org.mockserver.exception.ExceptionHandling.*;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+import static org.mockserver.metrics.Metrics.Latency.*;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 import static org.slf4j.event.Level.TRACE;
 
@@ -71,7 +74,8 @@ public class ActionHandler {
         this.httpClient = new NettyHttpClient(mockServerLogger, eventLoopGroup, proxyConfiguration, true, nettySslContextFactory);
     }
 
-    public void processAction(final HttpRequest request, final ResponseWriter responseWriter, final ChannelHandlerContext ctx, Set<String> localAddresses, boolean proxyingRequest, final boolean synchronous) {
+    public void processAction(final HttpRequest request, final ResponseWriter originalResponseWriter, final ChannelHandlerContext ctx, Set<String> localAddresses, boolean proxyingRequest, final boolean synchronous) {
+        final long startNanos = Metrics.startLatency();
         if (request.getHeaders() == null || !request.getHeaders().containsEntry(httpStateHandler.getUniqueLoopPreventionHeaderName(), httpStateHandler.getUniqueLoopPreventionHeaderValue())) {
             mockServerLogger.logEvent(
                 new LogEntry()
@@ -82,7 +86,11 @@ public class ActionHandler {
                     .setArguments(request)
             );
         }
+        final long matchStartNanos = Metrics.startLatency();
         final Expectation expectation = httpStateHandler.firstMatchingExpectation(request);
+        final Action.Type actionType = expectation != null && expectation.getAction() != null ? expectation.getAction().getType() : null;
+        Metrics.recordLatency(MATCH, actionType, matchStartNanos);
+        final ResponseWriter responseWriter = startNanos != 0 ? new LatencyRecordingResponseWriter(originalResponseWriter, actionType, startNanos) : originalResponseWriter;
         Runnable expectationPostProcessor = () -> httpStateHandler.postProcess(expectation);
         final boolean potentiallyHttpProxy = !isEmpty(request.getFirstHeader(HOST.toString())) && !localAddresses.contains(request.getFirstHeader(HOST.toString()));
 
@@ -107,7 +115,7 @@ public class ActionHandler {
                     break;
                 }
                 case RESPONSE_CLASS_CALLBACK: {
-                    scheduler.schedule(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
+                    scheduler.scheduleBlocking(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
                         final HttpResponse response = getHttpResponseClassCallbackActionHandler().handle((HttpClassCallback) action, request);
                         writeResponseActionResponse(response, responseWriter, request, action, synchronous);
                         expectationPostProcessor.run();
@@ -137,7 +145,7 @@ public class ActionHandler {
                     break;
                 }
                 case FORWARD_CLASS_CALLBACK: {
-                    scheduler.schedule(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
+                    scheduler.scheduleBlocking(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
                         final HttpForwardActionResult responseFuture = getHttpForwardClassCallbackActionHandler().handle((HttpClassCallback) action, request);
                         writeForwardActionResponse(responseFuture, responseWriter, request, action, synchronous);
                         expectationPostProcessor.run();
@@ -160,16 +168,28 @@ public class ActionHandler {
                 }
                 case ERROR: {
                     scheduler.schedule(() -> handleAnyException(request, responseWriter, synchronous, action, () -> {
-                        getHttpErrorActionHandler().handle((HttpError) action, ctx);
-                        mockServerLogger.logEvent(
-                            new LogEntry()
-                                .setType(EXPECTATION_RESPONSE)
-                                .setLogLevel(Level.INFO)
-                                .setHttpRequest(request)
-                                .setHttpError((HttpError) action)
-                                .setMessageFormat("returning error:{}for request:{}for action:{}")
-                                .setArguments(action, request, action)
-                        );
+                        if (ctx == null) {
+                            // errors are written directly to the channel, without one (i.e. deployed as a WAR) a not found response is returned so the request still completes
+                            mockServerLogger.logEvent(
+                                new LogEntry()
+                                    .setLogLevel(Level.WARN)
+                                    .setHttpRequest(request)
+                                    .setMessageFormat("returning{}because HttpError is not supported by MockServer deployed as a WAR for request:{}")
+                                    .setArguments(notFoundResponse(), request)
+                            );
+                            writeResponseActionResponse(notFoundResponse(), responseWriter, request, action, synchronous);
+                        } else {
+                            getHttpErrorActionHandler().handle((HttpError) action, ctx);
+                            mockServerLogger.logEvent(
+                                new LogEntry()
+                                    .setType(EXPECTATION_RESPONSE)
+                                    .setLogLevel(Level.INFO)
+                                    .setHttpRequest(request)
+                                    .setHttpError((HttpError) action)
+                                    .setMessageFormat("returning error:{}for request:{}for action:{}")
+                                    .setArguments(action, request, action)
+                            );
+                        }
                         expectationPostProcessor.run();
                     }), synchronous, action.getDelay());
                     break;
@@ -201,9 +221,11 @@ public class ActionHandler {
             } else {
 
                 final InetSocketAddress remoteAddress = ctx != null ? ctx.channel().attr(REMOTE_SOCKET).get() : null;
+                final long forwardStartNanos = Metrics.startLatency();
                 final HttpRequest clonedRequest = hopByHopHeaderFilter.onRequest(request).withHeader(httpStateHandler.getUniqueLoopPreventionHeaderName(), httpStateHandler.getUniqueLoopPreventionHeaderValue());
                 final HttpForwardActionResult responseFuture = new HttpForwardActionResult(clonedRequest, httpClient.sendRequest(clonedRequest, remoteAddress, potentiallyHttpProxy ? 1000 : ConfigurationProperties.socketConnectionTimeout()), null, remoteAddress);
                 scheduler.submit(responseFuture, () -> {
+                    Metrics.recordLatency(FORWARD_ROUND_TRIP, null, forwardStartNanos);
                     try {
                         HttpResponse response = responseFuture.getHttpResponse().get(maxFutureTimeout(), MILLISECONDS);
                         if (response == null) {
@@ -281,8 +303,10 @@ public class ActionHandler {
     }
 
     private void handleAnyException(HttpRequest request, ResponseWriter responseWriter, boolean synchronous, Action action, Runnable processAction) {
+        final long actionStartNanos = Metrics.startLatency();
         try {
             processAction.run();
+            Metrics.recordLatency(ACTION, action.getType(), actionStartNanos);
         } catch (Throwable throwable) {
             writeResponseActionResponse(notFoundResponse(), responseWriter, request, action, synchronous);
             mockServerLogger.logEvent(
@@ -312,11 +336,17 @@ public class ActionHandler {
     }
 
     void executeAfterForwardActionResponse(final HttpForwardActionResult responseFuture, final BiConsumer<HttpResponse, Throwable> command, final boolean synchronous) {
-        scheduler.submit(responseFuture, command, synchronous);
+        final long forwardStartNanos = Metrics.startLatency();
+        scheduler.submit(responseFuture, (httpResponse, throwable) -> {
+            Metrics.recordLatency(FORWARD_ROUND_TRIP, Action.Type.FORWARD_OBJECT_CALLBACK, forwardStartNanos);
+            command.accept(httpResponse, throwable);
+        }, synchronous);
     }
 
     void writeForwardActionResponse(final HttpForwardActionResult responseFuture, final ResponseWriter responseWriter, final HttpRequest request, final Action action, boolean synchronous) {
+        final long forwardStartNanos = Metrics.startLatency();
         scheduler.submit(responseFuture, () -> {
+            Metrics.recordLatency(FORWARD_ROUND_TRIP, action.getType(), forwardStartNanos);
             try {
                 HttpResponse response = responseFuture.getHttpResponse().get(maxFutureTimeout(), MILLISECONDS);
                 responseWriter.writeResponse(request, response, false);
@@ -46,8 +46,12 @@ public abstract class HttpForwardAction {
     }
 
     HttpForwardActionResult notFoundFuture(HttpRequest httpRequest) {
-        CompletableFuture<HttpResponse> notFoundFuture = new CompletableFuture<>();
-        notFoundFuture.complete(notFoundResponse());
-        return new HttpForwardActionResult(httpRequest, notFoundFuture, null);
+        return completedFuture(httpRequest, notFoundResponse());
+    }
+
+    HttpForwardActionResult completedFuture(HttpRequest httpRequest, HttpResponse httpResponse) {
+        CompletableFuture<HttpResponse> responseFuture = new CompletableFuture<>();
+        responseFuture.complete(httpResponse);
+        return new HttpForwardActionResult(httpRequest, responseFuture, null);
     }
 }
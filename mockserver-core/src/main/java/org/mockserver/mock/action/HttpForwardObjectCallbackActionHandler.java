@@ -3,6 +3,7 @@ package org.mockserver.mock.action;
 import org.mockserver.client.NettyHttpClient;
 import org.mockserver.closurecallback.websocketregistry.LocalCallbackRegistry;
 import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.SendResult;
 import org.mockserver.closurecallback.websocketregistry.WebSocketRequestCallback;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
@@ -149,15 +150,9 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction {
                 actionHandler.writeResponseActionResponse(httpResponse, responseWriter, request, httpObjectCallback, synchronous);
             }
         });
-        if (!webSocketClientRegistry.sendClientMessage(clientId, request.clone().withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId), null)) {
-            mockServerLogger.logEvent(
-                new LogEntry()
-                    .setLogLevel(WARN)
-                    .setHttpRequest(request)
-                    .setMessageFormat("returning{}because client " + clientId + " has closed web socket connection")
-                    .setArguments(notFoundResponse())
-            );
-            actionHandler.writeForwardActionResponse(notFoundFuture(request), responseWriter, request, httpObjectCallback, synchronous);
+        SendResult sendResult = webSocketClientRegistry.sendClientMessage(clientId, request.clone().withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId), null);
+        if (sendResult != SendResult.SENT) {
+            writeNotSentResponse(sendResult, actionHandler, httpObjectCallback, request, responseWriter, synchronous, clientId);
         } else if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
                 new LogEntry()
@@ -196,15 +191,9 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction {
                     httpResponseCompletableFuture.complete(overriddenResponse.removeHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME));
                 });
                 // send websocket message to override response
-                if (!webSocketClientRegistry.sendClientMessage(clientId, request.clone().withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId), httpResponse)) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setLogLevel(WARN)
-                            .setHttpRequest(request)
-                            .setMessageFormat("returning{}because client " + clientId + " has closed web socket connection")
-                            .setArguments(notFoundResponse())
-                    );
-                    actionHandler.writeForwardActionResponse(notFoundFuture(request), responseWriter, request, httpObjectCallback, synchronous);
+                SendResult sendResult = webSocketClientRegistry.sendClientMessage(clientId, request.clone().withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId), httpResponse);
+                if (sendResult != SendResult.SENT) {
+                    writeNotSentResponse(sendResult, actionHandler, httpObjectCallback, request, responseWriter, synchronous, clientId);
                 } else if (MockServerLogger.isEnabled(TRACE)) {
                     mockServerLogger.logEvent(
                         new LogEntry()
@@ -222,4 +211,16 @@ public class HttpForwardObjectCallbackActionHandler extends HttpForwardAction {
         }, synchronous);
     }
 
+    private void writeNotSentResponse(SendResult sendResult, ActionHandler actionHandler, HttpObjectCallback httpObjectCallback, HttpRequest request, ResponseWriter responseWriter, boolean synchronous, String clientId) {
+        HttpResponse notSentResponse = sendResult.notSentResponse();
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setLogLevel(WARN)
+                .setHttpRequest(request)
+                .setMessageFormat("returning{}because " + sendResult.notSentReason(clientId))
+                .setArguments(notSentResponse)
+        );
+        actionHandler.writeForwardActionResponse(completedFuture(request, notSentResponse), responseWriter, request, httpObjectCallback, synchronous);
+    }
+
 }
@@ -2,6 +2,7 @@ package org.mockserver.mock.action;
 
 import org.mockserver.closurecallback.websocketregistry.LocalCallbackRegistry;
 import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.SendResult;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.HttpStateHandler;
@@ -80,15 +81,17 @@ public class HttpResponseObjectCallbackActionHandler {
             }
             actionHandler.writeResponseActionResponse(response.removeHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME), responseWriter, request, httpObjectCallback, synchronous);
         });
-        if (!webSocketClientRegistry.sendClientMessage(clientId, request.clone().withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId), null)) {
+        SendResult sendResult = webSocketClientRegistry.sendClientMessage(clientId, request.clone().withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId), null);
+        if (sendResult != SendResult.SENT) {
+            HttpResponse notSentResponse = sendResult.notSentResponse();
             mockServerLogger.logEvent(
                 new LogEntry()
                     .setLogLevel(WARN)
                     .setHttpRequest(request)
-                    .setMessageFormat("returning{}because client " + clientId + " has closed web socket connection")
-                    .setArguments(notFoundResponse())
+                    .setMessageFormat("returning{}because " + sendResult.notSentReason(clientId))
+                    .setArguments(notSentResponse)
             );
-            actionHandler.writeResponseActionResponse(notFoundResponse(), responseWriter, request, httpObjectCallback, synchronous);
+            actionHandler.writeResponseActionResponse(notSentResponse, responseWriter, request, httpObjectCallback, synchronous);
         } else if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
                 new LogEntry()
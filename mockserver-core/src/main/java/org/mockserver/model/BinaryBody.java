@@ -2,6 +2,8 @@ package org.mockserver.model;
 
 import org.mockserver.serialization.Base64Converter;
 
+import java.util.Arrays;
+
 /**
  * @author jamesdbloom
  */
@@ -9,6 +11,7 @@ public class BinaryBody extends BodyWithContentType<byte[]> {
 
     private final byte[] bytes;
     private final Base64Converter base64Converter = new Base64Converter();
+    private int hashCode;
 
     public BinaryBody(byte[] bytes) {
         this(bytes, null);
@@ -39,4 +42,21 @@ public class BinaryBody extends BodyWithContentType<byte[]> {
     public String toString() {
         return bytes != null ? base64Converter.bytesToBase64String(bytes) : null;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        BinaryBody that = (BinaryBody) o;
+        return Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Arrays.hashCode(bytes);
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
@@ -3,6 +3,7 @@ package org.mockserver.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.nio.charset.Charset;
+import java.util.Objects;
 
 /**
  * @author jamesdbloom
@@ -38,4 +39,17 @@ public abstract class BodyWithContentType<T> extends Body<T> {
         return (contentType != null ? contentType.toString() : null);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        BodyWithContentType<?> that = (BodyWithContentType<?>) o;
+        return Objects.equals(contentType, that.contentType);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hashCode(contentType);
+    }
 }
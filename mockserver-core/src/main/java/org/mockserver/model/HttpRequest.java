@@ -7,6 +7,8 @@ import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpHeaderNames.HOST;
@@ -30,6 +32,10 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
     private Boolean keepAlive = null;
     private Boolean secure = null;
     private SocketAddress socketAddress;
+    // set when decoding a received request, so the entries are only built if they are used
+    private volatile Supplier<Parameters> queryStringParametersSupplier;
+    private volatile Supplier<Headers> headersSupplier;
+    private volatile Supplier<Cookies> cookiesSupplier;
 
     public static HttpRequest request() {
         return new HttpRequest();
@@ -175,18 +181,59 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
         return matches;
     }
 
+    /**
+     * Used by the request decoder only (not part of the builder api) to set the query string parameters, headers and
+     * cookies of a received request as suppliers that are only called when each is first used, a null supplier leaves
+     * that field unchanged
+     *
+     * @param queryStringParametersSupplier supplier of the query string parameters
+     * @param headersSupplier               supplier of the headers
+     * @param cookiesSupplier               supplier of the cookies
+     */
+    public HttpRequest withLazilyDecoded(Supplier<Parameters> queryStringParametersSupplier, Supplier<Headers> headersSupplier, Supplier<Cookies> cookiesSupplier) {
+        if (queryStringParametersSupplier != null) {
+            this.queryStringParameters = null;
+            this.queryStringParametersSupplier = queryStringParametersSupplier;
+        }
+        if (headersSupplier != null) {
+            this.headers = null;
+            this.headersSupplier = headersSupplier;
+        }
+        if (cookiesSupplier != null) {
+            this.cookies = null;
+            this.cookiesSupplier = cookiesSupplier;
+        }
+        return this;
+    }
+
+    private Parameters queryStringParameters() {
+        if (queryStringParametersSupplier != null) {
+            synchronized (this) {
+                Supplier<Parameters> supplier = queryStringParametersSupplier;
+                if (supplier != null) {
+                    // cleared first so anything reading this request while the supplier runs (i.e. logging) doesn't call it again
+                    this.queryStringParametersSupplier = null;
+                    Parameters suppliedParameters = supplier.get();
+                    this.queryStringParameters = suppliedParameters == null || suppliedParameters.isEmpty() ? null : suppliedParameters;
+                }
+            }
+        }
+        return queryStringParameters;
+    }
+
     public Parameters getQueryStringParameters() {
-        return this.queryStringParameters;
+        return queryStringParameters();
     }
 
     private Parameters getOrCreateQueryStringParameters() {
-        if (this.queryStringParameters == null) {
+        if (queryStringParameters() == null) {
             this.queryStringParameters = new Parameters();
         }
-        return this.queryStringParameters;
+        return queryStringParameters();
     }
 
     public HttpRequest withQueryStringParameters(Parameters parameters) {
+        this.queryStringParametersSupplier = null;
         if (parameters == null || parameters.isEmpty()) {
             this.queryStringParameters = null;
         } else {
@@ -266,8 +313,8 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
     }
 
     public List<Parameter> getQueryStringParameterList() {
-        if (this.queryStringParameters != null) {
-            return this.queryStringParameters.getEntries();
+        if (queryStringParameters() != null) {
+            return queryStringParameters().getEntries();
         } else {
             return Collections.emptyList();
         }
@@ -275,8 +322,8 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
 
     @SuppressWarnings("unused")
     public boolean hasQueryStringParameter(String name, String value) {
-        if (this.queryStringParameters != null) {
-            return this.queryStringParameters.containsEntry(name, value);
+        if (queryStringParameters() != null) {
+            return queryStringParameters().containsEntry(name, value);
         } else {
             return false;
         }
@@ -284,16 +331,16 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
 
     @SuppressWarnings("unused")
     public boolean hasQueryStringParameter(NottableString name, NottableString value) {
-        if (this.queryStringParameters != null) {
-            return this.queryStringParameters.containsEntry(name, value);
+        if (queryStringParameters() != null) {
+            return queryStringParameters().containsEntry(name, value);
         } else {
             return false;
         }
     }
 
     public String getFirstQueryStringParameter(String name) {
-        if (this.queryStringParameters != null) {
-            return this.queryStringParameters.getFirstValue(name);
+        if (queryStringParameters() != null) {
+            return queryStringParameters().getFirstValue(name);
         } else {
             return "";
         }
@@ -428,18 +475,34 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
         }
     }
 
+    private Headers headers() {
+        if (headersSupplier != null) {
+            synchronized (this) {
+                Supplier<Headers> supplier = headersSupplier;
+                if (supplier != null) {
+                    // cleared first so anything reading this request while the supplier runs (i.e. logging) doesn't call it again
+                    this.headersSupplier = null;
+                    Headers suppliedHeaders = supplier.get();
+                    this.headers = suppliedHeaders == null || suppliedHeaders.isEmpty() ? null : suppliedHeaders;
+                }
+            }
+        }
+        return headers;
+    }
+
     public Headers getHeaders() {
-        return this.headers;
+        return headers();
     }
 
     private Headers getOrCreateHeaders() {
-        if (this.headers == null) {
+        if (headers() == null) {
             this.headers = new Headers();
         }
-        return this.headers;
+        return headers();
     }
 
     public HttpRequest withHeaders(Headers headers) {
+        this.headersSupplier = null;
         if (headers == null || headers.isEmpty()) {
             this.headers = null;
         } else {
@@ -524,24 +587,24 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
     }
 
     public List<Header> getHeaderList() {
-        if (this.headers != null) {
-            return this.headers.getEntries();
+        if (headers() != null) {
+            return headers().getEntries();
         } else {
             return Collections.emptyList();
         }
     }
 
     public List<String> getHeader(String name) {
-        if (this.headers != null) {
-            return this.headers.getValues(name);
+        if (headers() != null) {
+            return headers().getValues(name);
         } else {
             return Collections.emptyList();
         }
     }
 
     public String getFirstHeader(String name) {
-        if (this.headers != null) {
-            return this.headers.getFirstValue(name);
+        if (headers() != null) {
+            return headers().getFirstValue(name);
         } else {
             return "";
         }
@@ -554,8 +617,8 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
      * @return true if a header has been added with that name otherwise false
      */
     public boolean containsHeader(String name) {
-        if (this.headers != null) {
-            return this.headers.containsEntry(name);
+        if (headers() != null) {
+            return headers().containsEntry(name);
         } else {
             return false;
         }
@@ -569,39 +632,55 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
      * @return true if a header has been added with that name otherwise false
      */
     public boolean containsHeader(String name, String value) {
-        if (this.headers != null) {
-            return this.headers.containsEntry(name, value);
+        if (headers() != null) {
+            return headers().containsEntry(name, value);
         } else {
             return false;
         }
     }
 
     public HttpRequest removeHeader(String name) {
-        if (this.headers != null) {
-            headers.remove(name);
+        if (headers() != null) {
+            headers().remove(name);
         }
         return this;
     }
 
     public HttpRequest removeHeader(NottableString name) {
-        if (this.headers != null) {
-            headers.remove(name);
+        if (headers() != null) {
+            headers().remove(name);
         }
         return this;
     }
 
+    private Cookies cookies() {
+        if (cookiesSupplier != null) {
+            synchronized (this) {
+                Supplier<Cookies> supplier = cookiesSupplier;
+                if (supplier != null) {
+                    // cleared first so anything reading this request while the supplier runs (i.e. logging) doesn't call it again
+                    this.cookiesSupplier = null;
+                    Cookies suppliedCookies = supplier.get();
+                    this.cookies = suppliedCookies == null || suppliedCookies.isEmpty() ? null : suppliedCookies;
+                }
+            }
+        }
+        return cookies;
+    }
+
     public Cookies getCookies() {
-        return this.cookies;
+        return cookies();
     }
 
     private Cookies getOrCreateCookies() {
-        if (this.cookies == null) {
+        if (cookies() == null) {
             this.cookies = new Cookies();
         }
-        return this.cookies;
+        return cookies();
     }
 
     public HttpRequest withCookies(Cookies cookies) {
+        this.cookiesSupplier = null;
         if (cookies == null || cookies.isEmpty()) {
             this.cookies = null;
         } else {
@@ -670,8 +749,8 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
     }
 
     public List<Cookie> getCookieList() {
-        if (this.cookies != null) {
-            return this.cookies.getEntries();
+        if (cookies() != null) {
+            return cookies().getEntries();
         } else {
             return Collections.emptyList();
         }
@@ -695,10 +774,27 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
         return not(request(), not)
             .withMethod(method)
             .withPath(path)
-            .withQueryStringParameters(queryStringParameters != null ? queryStringParameters.clone() : null)
+            .withQueryStringParameters(queryStringParameters() != null ? queryStringParameters().clone() : null)
             .withBody(body)
-            .withHeaders(headers != null ? headers.clone() : null)
-            .withCookies(cookies != null ? cookies.clone() : null)
+            .withHeaders(headers() != null ? headers().clone() : null)
+            .withCookies(cookies() != null ? cookies().clone() : null)
+            .withKeepAlive(keepAlive)
+            .withSecure(secure)
+            .withSocketAddress(socketAddress);
+    }
+
+    /**
+     * Copy that shares the headers, cookies and query string parameters with this request, so is only safe to use for
+     * copies that replace fields (such as the body) but don't modify those entries, use clone() for a fully independent copy
+     */
+    public HttpRequest shallowClone() {
+        return not(request(), not)
+            .withMethod(method)
+            .withPath(path)
+            .withQueryStringParameters(queryStringParameters())
+            .withBody(body)
+            .withHeaders(headers())
+            .withCookies(cookies())
             .withKeepAlive(keepAlive)
             .withSecure(secure)
             .withSocketAddress(socketAddress);
@@ -734,4 +830,34 @@ public class HttpRequest extends Not implements HttpObject<HttpRequest, Body> {
         }
         return this;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
+        HttpRequest that = (HttpRequest) o;
+        return Objects.equals(not, that.not) &&
+            Objects.equals(method, that.method) &&
+            Objects.equals(path, that.path) &&
+            Objects.equals(queryStringParameters(), that.queryStringParameters()) &&
+            Objects.equals(body, that.body) &&
+            Objects.equals(headers(), that.headers()) &&
+            Objects.equals(cookies(), that.cookies()) &&
+            Objects.equals(keepAlive, that.keepAlive) &&
+            Objects.equals(secure, that.secure) &&
+            Objects.equals(socketAddress, that.socketAddress);
+    }
+
+    @Override
+    public int hashCode() {
+        // not cached, as the headers, cookies and query string parameters can be modified directly, but each of them caches its own hash code
+        return Objects.hash(not, method, path, queryStringParameters(), body, headers(), cookies(), keepAlive, secure, socketAddress);
+    }
 }
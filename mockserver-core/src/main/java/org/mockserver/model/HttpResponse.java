@@ -8,6 +8,7 @@ import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpHeaderNames.SET_COOKIE;
@@ -505,6 +506,21 @@ public class HttpResponse extends Action<HttpResponse> implements HttpObject<Htt
             .withConnectionOptions(connectionOptions);
     }
 
+    /**
+     * Copy that shares the headers and cookies with this response, so is only safe to use for copies that replace fields
+     * (such as the body) but don't modify those entries, use clone() for a fully independent copy
+     */
+    public HttpResponse shallowClone() {
+        return response()
+            .withStatusCode(statusCode)
+            .withReasonPhrase(reasonPhrase)
+            .withBody(body)
+            .withHeaders(headers)
+            .withCookies(cookies)
+            .withDelay(getDelay())
+            .withConnectionOptions(connectionOptions);
+    }
+
     public HttpResponse update(HttpResponse replaceResponse) {
         if (replaceResponse.getStatusCode() != null) {
             withStatusCode(replaceResponse.getStatusCode());
@@ -526,4 +542,30 @@ public class HttpResponse extends Action<HttpResponse> implements HttpObject<Htt
         }
         return this;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
+        HttpResponse that = (HttpResponse) o;
+        return Objects.equals(statusCode, that.statusCode) &&
+            Objects.equals(reasonPhrase, that.reasonPhrase) &&
+            Objects.equals(body, that.body) &&
+            Objects.equals(headers, that.headers) &&
+            Objects.equals(cookies, that.cookies) &&
+            Objects.equals(connectionOptions, that.connectionOptions) &&
+            Objects.equals(getDelay(), that.getDelay());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statusCode, reasonPhrase, body, headers, cookies, connectionOptions, getDelay());
+    }
 }
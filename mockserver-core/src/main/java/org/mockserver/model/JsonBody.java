@@ -5,6 +5,8 @@ import org.mockserver.matchers.MatchType;
 import org.mockserver.serialization.ObjectMapperFactory;
 
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
 
 import static org.mockserver.model.MediaType.DEFAULT_HTTP_CHARACTER_SET;
 
@@ -18,6 +20,7 @@ public class JsonBody extends BodyWithContentType<String> {
     private final String json;
     private final MatchType matchType;
     private final byte[] rawBytes;
+    private int hashCode;
 
     public JsonBody(String json) {
         this(json, null, DEFAULT_CONTENT_TYPE, DEFAULT_MATCH_TYPE);
@@ -118,4 +121,22 @@ public class JsonBody extends BodyWithContentType<String> {
         return json;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        JsonBody that = (JsonBody) o;
+        return Objects.equals(json, that.json) &&
+            Objects.equals(matchType, that.matchType) &&
+            Arrays.equals(rawBytes, that.rawBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(json, matchType, Arrays.hashCode(rawBytes));
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
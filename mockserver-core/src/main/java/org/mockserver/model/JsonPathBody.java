@@ -1,11 +1,14 @@
 package org.mockserver.model;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
 public class JsonPathBody extends Body {
 
     private final String jsonPath;
+    private int hashCode;
 
     public JsonPathBody(String jsonPath) {
         super(Type.JSON_PATH);
@@ -19,4 +22,21 @@ public class JsonPathBody extends Body {
     public String getValue() {
         return jsonPath;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        JsonPathBody that = (JsonPathBody) o;
+        return Objects.equals(jsonPath, that.jsonPath);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(jsonPath);
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
@@ -2,12 +2,15 @@ package org.mockserver.model;
 
 import org.mockserver.file.FileReader;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
 public class JsonSchemaBody extends Body {
 
     private final String jsonSchema;
+    private int hashCode;
 
     public JsonSchemaBody(String jsonSchema) {
         super(Type.JSON_SCHEMA);
@@ -25,4 +28,21 @@ public class JsonSchemaBody extends Body {
     public String getValue() {
         return jsonSchema;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        JsonSchemaBody that = (JsonSchemaBody) o;
+        return Objects.equals(jsonSchema, that.jsonSchema);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(jsonSchema);
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
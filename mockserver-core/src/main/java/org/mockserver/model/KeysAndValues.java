@@ -1,5 +1,6 @@
 package org.mockserver.model;
 
+import org.mockserver.collections.CaseInsensitiveKeyIndex;
 import org.mockserver.collections.CaseInsensitiveRegexHashMap;
 import org.mockserver.logging.MockServerLogger;
 
@@ -14,6 +15,10 @@ import static org.mockserver.model.NottableString.string;
 public abstract class KeysAndValues<T extends KeyAndValue, K extends KeysAndValues> extends ObjectWithJsonToString {
 
     private final Map<NottableString, NottableString> map = new LinkedHashMap<>();
+    // built when first matched and discarded when modified, so a request's entries aren't rebuilt for every expectation
+    private volatile CaseInsensitiveKeyIndex dataPlaneKeyIndex;
+    private volatile CaseInsensitiveKeyIndex controlPlaneKeyIndex;
+    private int hashCode;
 
     public CaseInsensitiveRegexHashMap toCaseInsensitiveRegexMultiMap(MockServerLogger mockServerLogger, List<T> entries, boolean controlPlaneMatcher) {
         CaseInsensitiveRegexHashMap caseInsensitiveRegexHashMap = new CaseInsensitiveRegexHashMap(mockServerLogger, controlPlaneMatcher);
@@ -28,6 +33,7 @@ public abstract class KeysAndValues<T extends KeyAndValue, K extends KeysAndValu
     public abstract T build(NottableString name, NottableString value);
 
     public K withEntries(List<T> cookies) {
+        entriesModified();
         map.clear();
         if (cookies != null) {
             for (T cookie : cookies) {
@@ -45,16 +51,19 @@ public abstract class KeysAndValues<T extends KeyAndValue, K extends KeysAndValu
     }
 
     public K withEntry(T cookie) {
+        entriesModified();
         map.put(cookie.getName(), cookie.getValue());
         return (K) this;
     }
 
     public K withEntry(String name, String value) {
+        entriesModified();
         map.put(string(name), string(value));
         return (K) this;
     }
 
     public K withEntry(NottableString name, NottableString value) {
+        entriesModified();
         map.put(name, value);
         return (K) this;
     }
@@ -79,7 +88,53 @@ public abstract class KeysAndValues<T extends KeyAndValue, K extends KeysAndValu
         return toCaseInsensitiveRegexMultiMap(mockServerLogger, this.getEntries(), controlPlaneMatcher);
     }
 
+    /**
+     * Index of the entries for matching against an expectation's entries, built once and shared by all expectations
+     * until the entries are modified
+     */
+    public CaseInsensitiveKeyIndex toCaseInsensitiveKeyIndex(MockServerLogger mockServerLogger, boolean controlPlaneMatcher) {
+        CaseInsensitiveKeyIndex keyIndex = controlPlaneMatcher ? controlPlaneKeyIndex : dataPlaneKeyIndex;
+        if (keyIndex == null) {
+            keyIndex = new CaseInsensitiveKeyIndex(mockServerLogger, controlPlaneMatcher, map.entrySet());
+            if (controlPlaneMatcher) {
+                controlPlaneKeyIndex = keyIndex;
+            } else {
+                dataPlaneKeyIndex = keyIndex;
+            }
+        }
+        return keyIndex;
+    }
+
+    private void entriesModified() {
+        dataPlaneKeyIndex = null;
+        controlPlaneKeyIndex = null;
+        hashCode = 0;
+    }
+
     public boolean isEmpty() {
         return map.isEmpty();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
+        KeysAndValues<?, ?> that = (KeysAndValues<?, ?>) o;
+        return Objects.equals(map, that.map);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(map);
+        }
+        return hashCode;
+    }
 }
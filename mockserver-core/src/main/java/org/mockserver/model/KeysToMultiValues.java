@@ -2,7 +2,9 @@ package org.mockserver.model;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
 import org.apache.commons.lang3.ArrayUtils;
+import org.mockserver.collections.CaseInsensitiveKeyIndex;
 import org.mockserver.collections.CaseInsensitiveRegexMultiMap;
 import org.mockserver.logging.MockServerLogger;
 
@@ -18,6 +20,10 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
 
     private final Multimap<NottableString, NottableString> listMultimap = LinkedHashMultimap.create();
     private final K k = (K) this;
+    // built when first matched and discarded when modified, so a request's entries aren't rebuilt for every expectation
+    private volatile CaseInsensitiveKeyIndex dataPlaneKeyIndex;
+    private volatile CaseInsensitiveKeyIndex controlPlaneKeyIndex;
+    private volatile int hashCode;
 
     private CaseInsensitiveRegexMultiMap toCaseInsensitiveRegexMultiMap(MockServerLogger mockServerLogger, final List<T> entries, boolean controlPlaneMatcher) {
         CaseInsensitiveRegexMultiMap caseInsensitiveRegexMultiMap = new CaseInsensitiveRegexMultiMap(mockServerLogger, controlPlaneMatcher);
@@ -40,6 +46,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
                 withEntry(name, value);
             }
         }
+        entriesModified();
         return k;
     }
 
@@ -50,6 +57,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
                 withEntry(entry);
             }
         }
+        entriesModified();
         return k;
     }
 
@@ -67,6 +75,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
         } else {
             listMultimap.putAll(entry.getName(), entry.getValues());
         }
+        entriesModified();
         return k;
     }
 
@@ -76,6 +85,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
         } else {
             listMultimap.putAll(string(name), deserializeNottableStrings(values));
         }
+        entriesModified();
         return k;
     }
 
@@ -85,6 +95,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
         } else {
             listMultimap.putAll(string(name), deserializeNottableStrings(values));
         }
+        entriesModified();
         return k;
     }
 
@@ -92,6 +103,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
         if (values != null) {
             listMultimap.putAll(name, values);
         }
+        entriesModified();
         return k;
     }
 
@@ -108,6 +120,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
                 listMultimap.removeAll(key);
             }
         }
+        entriesModified();
         return k;
     }
 
@@ -117,6 +130,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
                 listMultimap.removeAll(key);
             }
         }
+        entriesModified();
         return k;
     }
 
@@ -126,6 +140,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
             remove(entry.getName());
             listMultimap.putAll(entry.getName(), entry.getValues());
         }
+        entriesModified();
         return k;
     }
 
@@ -135,6 +150,7 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
             remove(name);
             listMultimap.putAll(string(name), deserializeNottableStrings(values));
         }
+        entriesModified();
         return k;
     }
 
@@ -150,16 +166,22 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
         }
     }
 
+    /**
+     * @return read only view of the keys, entries are only modified using with..., remove and replace... methods so the cached index and hash code are discarded
+     */
     public Set<NottableString> keySet() {
-        return listMultimap.keySet();
+        return Collections.unmodifiableSet(listMultimap.keySet());
     }
 
     public Collection<NottableString> getValues(NottableString key) {
-        return listMultimap.get(key);
+        return Collections.unmodifiableCollection(listMultimap.get(key));
     }
 
+    /**
+     * @return read only view of the entries, entries are only modified using with..., remove and replace... methods so the cached index and hash code are discarded
+     */
     public Multimap<NottableString, NottableString> getMultimap() {
-        return listMultimap;
+        return Multimaps.unmodifiableMultimap(listMultimap);
     }
 
     public List<String> getValues(final String name) {
@@ -230,6 +252,32 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
         return toCaseInsensitiveRegexMultiMap(mockServerLogger, this.getEntries(), controlPlaneMatcher);
     }
 
+    /**
+     * Index of the entries for matching against an expectation's entries, built once and shared by all expectations
+     * until the entries are modified
+     */
+    public CaseInsensitiveKeyIndex toCaseInsensitiveKeyIndex(MockServerLogger mockServerLogger, boolean controlPlaneMatcher) {
+        CaseInsensitiveKeyIndex keyIndex = controlPlaneMatcher ? controlPlaneKeyIndex : dataPlaneKeyIndex;
+        if (keyIndex == null) {
+            keyIndex = new CaseInsensitiveKeyIndex(mockServerLogger, controlPlaneMatcher, listMultimap.entries());
+            if (controlPlaneMatcher) {
+                controlPlaneKeyIndex = keyIndex;
+            } else {
+                dataPlaneKeyIndex = keyIndex;
+            }
+        }
+        return keyIndex;
+    }
+
+    /**
+     * called after the entries are modified, so a key index or hash code built concurrently from the old entries is discarded
+     */
+    private void entriesModified() {
+        dataPlaneKeyIndex = null;
+        controlPlaneKeyIndex = null;
+        hashCode = 0;
+    }
+
     public boolean isEmpty() {
         return listMultimap.isEmpty();
     }
@@ -242,12 +290,20 @@ public abstract class KeysToMultiValues<T extends KeyToMultiValue, K extends Key
         if (!(o instanceof KeysToMultiValues)) {
             return false;
         }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
         KeysToMultiValues<?, ?> that = (KeysToMultiValues<?, ?>) o;
         return Objects.equals(listMultimap, that.listMultimap);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(listMultimap);
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            hashCode = Objects.hash(listMultimap);
+            this.hashCode = hashCode;
+        }
+        return hashCode;
     }
 }
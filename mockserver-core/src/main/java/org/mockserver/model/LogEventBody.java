@@ -1,5 +1,7 @@
 package org.mockserver.model;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
@@ -16,4 +18,18 @@ public class LogEventBody extends BodyWithContentType<Object> {
     public Object getValue() {
         return value;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        LogEventBody that = (LogEventBody) o;
+        return Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + Objects.hash(value);
+    }
 }
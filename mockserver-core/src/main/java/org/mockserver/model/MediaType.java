@@ -8,9 +8,8 @@ import org.mockserver.serialization.ObjectMapperFactory;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.apache.commons.lang3.StringUtils.*;
@@ -33,12 +32,19 @@ public class MediaType extends ObjectWithJsonToString {
     private static final MockServerLogger MOCK_SERVER_LOGGER = new MockServerLogger(ObjectMapperFactory.class);
     private static final char TYPE_SEPARATOR = '/';
     private static final char PARAMETER_START = ';';
+    // bounded so requests with many distinct content types can't grow the cache without limit, once full an entry is evicted for each new content type
+    private static final int MAX_PARSED_MEDIA_TYPES = 256;
+    private static final Map<String, MediaType> PARSED_MEDIA_TYPES = new ConcurrentHashMap<>();
     private final String type;
     private final String subtype;
     private final Map<String, String> parameters;
     private final Charset charset;
     private final String toString;
     private final boolean isBlank;
+    private final boolean isJson;
+    private final boolean isXml;
+    private final boolean isString;
+    private final int hashCode;
 
     private static final String CHARSET_PARAMETER = "charset";
     private static final String MEDIA_TYPE_WILDCARD = "*";
@@ -75,8 +81,34 @@ public class MediaType extends ObjectWithJsonToString {
     public static final MediaType JPEG = new MediaType("image", "jpeg");
     public static final MediaType PNG = new MediaType("image", "png");
 
-    @SuppressWarnings("UnstableApiUsage")
+    /**
+     * Parse a Content-Type header value, parsed values are cached as MediaType is immutable and only a few distinct
+     * Content-Type values are normally received
+     *
+     * @param mediaTypeHeader the Content-Type header value
+     * @return the parsed media type
+     */
     public static MediaType parse(String mediaTypeHeader) {
+        if (mediaTypeHeader == null) {
+            return parseMediaType(null);
+        }
+        MediaType mediaType = PARSED_MEDIA_TYPES.get(mediaTypeHeader);
+        if (mediaType == null) {
+            mediaType = parseMediaType(mediaTypeHeader);
+            if (PARSED_MEDIA_TYPES.size() >= MAX_PARSED_MEDIA_TYPES) {
+                Iterator<String> parsedMediaTypes = PARSED_MEDIA_TYPES.keySet().iterator();
+                if (parsedMediaTypes.hasNext()) {
+                    parsedMediaTypes.next();
+                    parsedMediaTypes.remove();
+                }
+            }
+            PARSED_MEDIA_TYPES.putIfAbsent(mediaTypeHeader, mediaType);
+        }
+        return mediaType;
+    }
+
+    @SuppressWarnings("UnstableApiUsage")
+    private static MediaType parseMediaType(String mediaTypeHeader) {
         if (isNotBlank(mediaTypeHeader)) {
             int typeSeparator = mediaTypeHeader.indexOf(TYPE_SEPARATOR);
             int typeEndIndex = 0;
@@ -171,6 +203,26 @@ public class MediaType extends ObjectWithJsonToString {
         this.charset = parsedCharset;
         this.toString = initialiseToString();
         this.isBlank = isBlank(this.toString);
+        String lowerCaseToString = this.toString.toLowerCase();
+        this.isJson = !this.isBlank && contentTypeContains(lowerCaseToString, "json");
+        this.isXml = !this.isBlank && contentTypeContains(lowerCaseToString, "xml");
+        this.isString = this.isBlank || contentTypeContains(lowerCaseToString,
+            "utf-8",
+            "utf8",
+            "text",
+            "json",
+            "css",
+            "html",
+            "xhtml",
+            "form",
+            "javascript",
+            "ecmascript",
+            "xml",
+            "wsdl",
+            "csv",
+            "urlencoded"
+        );
+        this.hashCode = Objects.hash(this.type, this.subtype, this.parameters);
     }
 
     private String initialiseToString() {
@@ -200,7 +252,7 @@ public class MediaType extends ObjectWithJsonToString {
     }
 
     public Map<String, String> getParameters() {
-        return parameters;
+        return Collections.unmodifiableMap(parameters);
     }
 
     public MediaType withCharset(Charset charset) {
@@ -237,38 +289,18 @@ public class MediaType extends ObjectWithJsonToString {
     }
 
     public boolean isJson() {
-        return !isBlank && contentTypeContains(new String[]{
-            "json"
-        });
+        return isJson;
     }
 
     public boolean isXml() {
-        return !isBlank && contentTypeContains(new String[]{
-            "xml"
-        });
+        return isXml;
     }
 
     public boolean isString() {
-        return isBlank || contentTypeContains(new String[]{
-            "utf-8",
-            "utf8",
-            "text",
-            "json",
-            "css",
-            "html",
-            "xhtml",
-            "form",
-            "javascript",
-            "ecmascript",
-            "xml",
-            "wsdl",
-            "csv",
-            "urlencoded"
-        });
+        return isString;
     }
 
-    private boolean contentTypeContains(String[] subStrings) {
-        String contentType = toString().toLowerCase();
+    private static boolean contentTypeContains(String contentType, String... subStrings) {
         for (String subString : subStrings) {
             if (contentType.contains(subString)) {
                 return true;
@@ -281,4 +313,26 @@ public class MediaType extends ObjectWithJsonToString {
     public String toString() {
         return toString;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (hashCode() != o.hashCode()) {
+            return false;
+        }
+        MediaType that = (MediaType) o;
+        return Objects.equals(type, that.type) &&
+            Objects.equals(subtype, that.subtype) &&
+            Objects.equals(parameters, that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
@@ -1,11 +1,14 @@
 package org.mockserver.model;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
 public class RegexBody extends Body {
 
     private final String regex;
+    private int hashCode;
 
     public RegexBody(String regex) {
         super(Type.REGEX);
@@ -20,4 +23,20 @@ public class RegexBody extends Body {
         return new RegexBody(regex);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        RegexBody that = (RegexBody) o;
+        return Objects.equals(regex, that.regex);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(regex);
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
@@ -1,6 +1,8 @@
 package org.mockserver.model;
 
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
 
 import static org.mockserver.model.MediaType.DEFAULT_HTTP_CHARACTER_SET;
 
@@ -13,6 +15,7 @@ public class StringBody extends BodyWithContentType<String> {
     private final boolean subString;
     private final String value;
     private final byte[] rawBytes;
+    private int hashCode;
 
     public StringBody(String value) {
         this(value, null, false, null);
@@ -78,4 +81,23 @@ public class StringBody extends BodyWithContentType<String> {
     public String toString() {
         return value;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        StringBody that = (StringBody) o;
+        return subString == that.subString &&
+            Objects.equals(value, that.value) &&
+            Arrays.equals(rawBytes, that.rawBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(subString, value, Arrays.hashCode(rawBytes));
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
@@ -1,11 +1,14 @@
 package org.mockserver.model;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
 public class XPathBody extends Body {
 
     private final String xpath;
+    private int hashCode;
 
     public XPathBody(String xpath) {
         super(Type.XPATH);
@@ -20,4 +23,20 @@ public class XPathBody extends Body {
         return new XPathBody(xpath);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        XPathBody that = (XPathBody) o;
+        return Objects.equals(xpath, that.xpath);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(xpath);
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
@@ -1,6 +1,8 @@
 package org.mockserver.model;
 
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
 
 import static org.mockserver.model.MediaType.DEFAULT_HTTP_CHARACTER_SET;
 
@@ -12,6 +14,7 @@ public class XmlBody extends BodyWithContentType<String> {
     public static final MediaType DEFAULT_CONTENT_TYPE = MediaType.create("application", "xml");
     private final String xml;
     private final byte[] rawBytes;
+    private int hashCode;
 
     public XmlBody(String xml) {
         this(xml, DEFAULT_CONTENT_TYPE);
@@ -60,4 +63,22 @@ public class XmlBody extends BodyWithContentType<String> {
     public String toString() {
         return xml;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        XmlBody that = (XmlBody) o;
+        return Objects.equals(xml, that.xml) &&
+            Arrays.equals(rawBytes, that.rawBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(xml, Arrays.hashCode(rawBytes));
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
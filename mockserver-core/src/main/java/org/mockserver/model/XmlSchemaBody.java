@@ -2,12 +2,15 @@ package org.mockserver.model;
 
 import org.mockserver.file.FileReader;
 
+import java.util.Objects;
+
 /**
  * @author jamesdbloom
  */
 public class XmlSchemaBody extends Body {
 
     private final String xmlSchema;
+    private int hashCode;
 
     public XmlSchemaBody(String xmlSchema) {
         super(Type.XML_SCHEMA);
@@ -25,4 +28,21 @@ public class XmlSchemaBody extends Body {
     public String getValue() {
         return xmlSchema;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        XmlSchemaBody that = (XmlSchemaBody) o;
+        return Objects.equals(xmlSchema, that.xmlSchema);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hashCode == 0) {
+            hashCode = Objects.hash(xmlSchema);
+        }
+        return 31 * super.hashCode() + hashCode;
+    }
 }
@@ -6,6 +6,7 @@ import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.MockServerMatcher;
+import org.mockserver.serialization.ExpectationSnapshotSerializer;
 import org.mockserver.serialization.serializers.response.TimeToLiveSerializer;
 import org.mockserver.ui.MockServerMatcherListener;
 import org.mockserver.ui.MockServerMatcherNotifier;
@@ -24,12 +25,15 @@ import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.serialization.ObjectMapperFactory.createObjectMapper;
 import static org.slf4j.event.Level.*;
 
 public class ExpectationFileSystemPersistence implements MockServerMatcherListener {
 
     private final ObjectMapper objectMapper;
+    private final ExpectationSnapshotSerializer expectationSnapshotSerializer;
+    private final PersistedExpectationsFormat persistedExpectationsFormat;
     private final MockServerLogger mockServerLogger;
     private final Path filePath;
     private final boolean initializationPathMatchesPersistencePath;
@@ -41,6 +45,8 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
             this.mockServerLogger = mockServerLogger;
             this.mockServerMatcher = mockServerMatcher;
             this.objectMapper = createObjectMapper(new TimeToLiveSerializer());
+            this.expectationSnapshotSerializer = new ExpectationSnapshotSerializer();
+            this.persistedExpectationsFormat = ConfigurationProperties.persistedExpectationsFormat();
             this.filePath = Paths.get(ConfigurationProperties.persistedExpectationsPath());
             try {
                 Files.createFile(filePath);
@@ -54,18 +60,20 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
                         .setThrowable(throwable)
                 );
             }
-            this.initializationPathMatchesPersistencePath = ConfigurationProperties.initializationJsonPath().equals(ConfigurationProperties.persistedExpectationsPath());
+            this.initializationPathMatchesPersistencePath = initializationPath(persistedExpectationsFormat).equals(ConfigurationProperties.persistedExpectationsPath());
             mockServerMatcher.registerListener(this);
             mockServerLogger.logEvent(
                 new LogEntry()
                     .setLogLevel(INFO)
-                    .setMessageFormat("created expectation file system persistence for{}")
-                    .setArguments(ConfigurationProperties.persistedExpectationsPath())
+                    .setMessageFormat("created expectation file system persistence for{}using format{}")
+                    .setArguments(ConfigurationProperties.persistedExpectationsPath(), persistedExpectationsFormat)
             );
         } else {
             this.mockServerLogger = null;
             this.mockServerMatcher = null;
             this.objectMapper = null;
+            this.expectationSnapshotSerializer = null;
+            this.persistedExpectationsFormat = null;
             this.filePath = null;
             this.initializationPathMatchesPersistencePath = true;
         }
@@ -90,17 +98,17 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
                                     new LogEntry()
                                         .setLogLevel(TRACE)
                                         .setMessageFormat("persisting expectations{}to{}")
-                                        .setArguments(expectations, ConfigurationProperties.initializationJsonPath())
+                                        .setArguments(expectations, filePath)
                                 );
                             } else if (MockServerLogger.isEnabled(DEBUG)) {
                                 mockServerLogger.logEvent(
                                     new LogEntry()
                                         .setLogLevel(DEBUG)
                                         .setMessageFormat("persisting expectations to{}")
-                                        .setArguments(ConfigurationProperties.initializationJsonPath())
+                                        .setArguments(filePath)
                                 );
                             }
-                            byte[] data = serialize(expectations).getBytes(UTF_8);
+                            byte[] data = persistedExpectationsFormat == PersistedExpectationsFormat.SNAPSHOT ? expectationSnapshotSerializer.serialize(expectations) : serialize(expectations).getBytes(UTF_8);
                             ByteBuffer buffer = ByteBuffer.wrap(data);
                             buffer.put(data);
                             buffer.flip();
@@ -124,6 +132,21 @@ public class ExpectationFileSystemPersistence implements MockServerMatcherListen
         }
     }
 
+    /**
+     * @return true if expectations are persisted as a snapshot and loaded (and watched) from the initialization snapshot
+     */
+    static boolean snapshotInitialization(PersistedExpectationsFormat persistedExpectationsFormat) {
+        return persistedExpectationsFormat == PersistedExpectationsFormat.SNAPSHOT && isNotBlank(ConfigurationProperties.initializationSnapshotPath());
+    }
+
+    /**
+     * @return the initialization file expectations are loaded (and watched) from, the snapshot when expectations are
+     * persisted as a snapshot and an initialization snapshot is configured otherwise the JSON initialization file
+     */
+    static String initializationPath(PersistedExpectationsFormat persistedExpectationsFormat) {
+        return snapshotInitialization(persistedExpectationsFormat) ? ConfigurationProperties.initializationSnapshotPath() : ConfigurationProperties.initializationJsonPath();
+    }
+
     public String serialize(List<Expectation> expectations) {
         return serialize(expectations.toArray(new Expectation[0]));
     }
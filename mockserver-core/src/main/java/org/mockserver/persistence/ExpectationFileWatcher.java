@@ -7,6 +7,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.MockServerMatcher;
 import org.mockserver.serialization.ExpectationSerializer;
+import org.mockserver.serialization.ExpectationSnapshotSerializer;
 import org.mockserver.ui.MockServerMatcherNotifier;
 import org.slf4j.event.Level;
 
@@ -19,23 +20,30 @@ import static org.slf4j.event.Level.*;
 public class ExpectationFileWatcher {
 
     private final ExpectationSerializer expectationSerializer;
+    private final ExpectationSnapshotSerializer expectationSnapshotSerializer;
     private final MockServerLogger mockServerLogger;
+    private final boolean snapshot;
+    private final String initializationPath;
     private final MockServerMatcher mockServerMatcher;
     private FileWatcher fileWatcher;
 
     public ExpectationFileWatcher(MockServerLogger mockServerLogger, MockServerMatcher mockServerMatcher) {
         if (ConfigurationProperties.watchInitializationJson()) {
             this.expectationSerializer = new ExpectationSerializer(mockServerLogger);
+            this.expectationSnapshotSerializer = new ExpectationSnapshotSerializer();
             this.mockServerLogger = mockServerLogger;
             this.mockServerMatcher = mockServerMatcher;
+            // watch the same file persistence writes to and compares against, the snapshot when expectations are persisted as a snapshot
+            this.snapshot = ExpectationFileSystemPersistence.snapshotInitialization(ConfigurationProperties.persistedExpectationsFormat());
+            this.initializationPath = ExpectationFileSystemPersistence.initializationPath(ConfigurationProperties.persistedExpectationsFormat());
             try {
-                fileWatcher = new FileWatcher(ConfigurationProperties.initializationJsonPath(), () -> {
+                fileWatcher = new FileWatcher(initializationPath, () -> {
                     if (MockServerLogger.isEnabled(DEBUG)) {
                         mockServerLogger.logEvent(
                             new LogEntry()
                                 .setLogLevel(DEBUG)
                                 .setMessageFormat("expectation file watcher updating expectations as modification detected on file{}")
-                                .setArguments(ConfigurationProperties.initializationJsonPath())
+                                .setArguments(initializationPath)
                         );
                     }
                     addExpectationsFromInitializer();
@@ -53,7 +61,7 @@ public class ExpectationFileWatcher {
                         .setType(LogEntry.LogMessageType.EXCEPTION)
                         .setLogLevel(Level.ERROR)
                         .setMessageFormat("exception creating file watcher for{}")
-                        .setArguments(ConfigurationProperties.initializationJsonPath())
+                        .setArguments(initializationPath)
                         .setThrowable(throwable)
                 );
             }
@@ -61,23 +69,26 @@ public class ExpectationFileWatcher {
                 new LogEntry()
                     .setLogLevel(INFO)
                     .setMessageFormat("created expectation file watcher for{}")
-                    .setArguments(ConfigurationProperties.initializationJsonPath())
+                    .setArguments(initializationPath)
             );
         } else {
             this.expectationSerializer = null;
+            this.expectationSnapshotSerializer = null;
             this.mockServerLogger = null;
+            this.snapshot = false;
+            this.initializationPath = null;
             this.mockServerMatcher = null;
         }
     }
 
     private void addExpectationsFromInitializer() {
-        Expectation[] expectations = retrieveExpectationsFromJson();
+        Expectation[] expectations = snapshot ? retrieveExpectationsFromSnapshot() : retrieveExpectationsFromJson();
         if (MockServerLogger.isEnabled(TRACE)) {
             mockServerLogger.logEvent(
                 new LogEntry()
                     .setLogLevel(TRACE)
                     .setMessageFormat("updating expectations{}from{}")
-                    .setArguments(ConfigurationProperties.initializationJsonPath(), Arrays.asList(expectations))
+                    .setArguments(initializationPath, Arrays.asList(expectations))
             );
         }
         mockServerMatcher.update(expectations, MockServerMatcherNotifier.Cause.FILE_WATCHER);
@@ -87,12 +98,7 @@ public class ExpectationFileWatcher {
         String initializationJsonPath = ConfigurationProperties.initializationJsonPath();
         if (isNotBlank(initializationJsonPath)) {
             try {
-                String jsonExpectations = FileReader.readFileFromClassPathOrPath(initializationJsonPath);
-                if (isNotBlank(jsonExpectations)) {
-                    return expectationSerializer.deserializeArray(jsonExpectations, true);
-                } else {
-                    return new Expectation[0];
-                }
+                return expectationSerializer.deserializeArray(FileReader.openStreamToFileFromClassPathOrPath(initializationJsonPath), initializationJsonPath);
             } catch (Throwable throwable) {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -106,6 +112,21 @@ public class ExpectationFileWatcher {
         return new Expectation[0];
     }
 
+    private Expectation[] retrieveExpectationsFromSnapshot() {
+        try {
+            return expectationSnapshotSerializer.deserialize(initializationPath);
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(SERVER_CONFIGURATION)
+                    .setLogLevel(WARN)
+                    .setMessageFormat("exception while loading expectation snapshot with file watcher, ignoring snapshot")
+                    .setThrowable(throwable)
+            );
+        }
+        return new Expectation[0];
+    }
+
     public void stop() {
         if (fileWatcher != null) {
             fileWatcher.setRunning(false);
@@ -0,0 +1,14 @@
+package org.mockserver.persistence;
+
+/**
+ * Format used by {@link ExpectationFileSystemPersistence} to persist expectations
+ *
+ * JSON - a pretty printed JSON array, that can be loaded using the initializationJsonPath
+ * SNAPSHOT - a versioned binary snapshot, that can be loaded using the initializationSnapshotPath
+ *
+ * @author jamesdbloom
+ */
+public enum PersistedExpectationsFormat {
+    JSON,
+    SNAPSHOT
+}
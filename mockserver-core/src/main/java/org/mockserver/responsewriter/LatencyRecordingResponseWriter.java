@@ -0,0 +1,45 @@
+package org.mockserver.responsewriter;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.mockserver.metrics.Metrics;
+import org.mockserver.model.Action;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+
+import static org.mockserver.metrics.Metrics.Latency.END_TO_END;
+
+/**
+ * Records the end-to-end latency, from when the request was received, each time a response is written
+ *
+ * @author jamesdbloom
+ */
+public class LatencyRecordingResponseWriter extends ResponseWriter {
+
+    private final ResponseWriter responseWriter;
+    private final Action.Type actionType;
+    private final long startNanos;
+
+    public LatencyRecordingResponseWriter(ResponseWriter responseWriter, Action.Type actionType, long startNanos) {
+        this.responseWriter = responseWriter;
+        this.actionType = actionType;
+        this.startNanos = startNanos;
+    }
+
+    @Override
+    public void writeResponse(HttpRequest request, HttpResponseStatus responseStatus) {
+        responseWriter.writeResponse(request, responseStatus);
+        Metrics.recordLatency(END_TO_END, actionType, startNanos);
+    }
+
+    @Override
+    public void writeResponse(HttpRequest request, HttpResponseStatus responseStatus, String body, String contentType) {
+        responseWriter.writeResponse(request, responseStatus, body, contentType);
+        Metrics.recordLatency(END_TO_END, actionType, startNanos);
+    }
+
+    @Override
+    public void writeResponse(HttpRequest request, HttpResponse response, boolean apiResponse) {
+        responseWriter.writeResponse(request, response, apiResponse);
+        Metrics.recordLatency(END_TO_END, actionType, startNanos);
+    }
+}
@@ -0,0 +1,14 @@
+package org.mockserver.scheduler;
+
+/**
+ * Executor used by the {@link Scheduler} for actions that may block, such as class callbacks
+ *
+ * POOL - blocking actions share the bounded action handler thread pool
+ * VIRTUAL_THREAD - each blocking action runs on its own virtual thread (requires Java 21+, otherwise POOL is used)
+ *
+ * @author jamesdbloom
+ */
+public enum BlockingExecutorType {
+    POOL,
+    VIRTUAL_THREAD
+}
@@ -1,5 +1,7 @@
 package org.mockserver.scheduler;
 
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
 import org.mockserver.client.SocketCommunicationException;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.model.LogEntry;
@@ -10,6 +12,7 @@ import org.mockserver.model.HttpResponse;
 import org.slf4j.event.Level;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -21,11 +24,16 @@ import static org.mockserver.log.model.LogEntry.LogMessageType.WARN;
  */
 public class Scheduler {
 
-    private final ScheduledExecutorService scheduler = new ScheduledThreadPoolExecutor(
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
         ConfigurationProperties.actionHandlerThreadCount(),
         new SchedulerThreadFactory("Scheduler"),
         new ThreadPoolExecutor.CallerRunsPolicy()
     );
+    // blocking actions (i.e. class callbacks) are run by this executor, which is the action handler thread pool unless virtual threads are configured
+    private final ExecutorService blockingExecutor;
+    private final AtomicInteger blockingTaskCount = new AtomicInteger();
+    // delays are tracked by a single timer thread so pending delayed actions do not hold an action handler thread
+    private volatile HashedWheelTimer delayTimer;
 
     public static class SchedulerThreadFactory implements ThreadFactory {
 
@@ -48,10 +56,41 @@ public class Scheduler {
     private final MockServerLogger mockServerLogger;
 
     public Scheduler(MockServerLogger mockServerLogger) {
+        this(mockServerLogger, null);
+    }
+
+    /**
+     * @param blockingExecutor executor for actions that may block, such as class callbacks, this executor is shutdown with the scheduler;
+     *                         if null the executor is selected by ConfigurationProperties.blockingActionExecutorType()
+     */
+    public Scheduler(MockServerLogger mockServerLogger, ExecutorService blockingExecutor) {
         this.mockServerLogger = mockServerLogger;
+        this.blockingExecutor = blockingExecutor != null ? blockingExecutor : createBlockingExecutor(ConfigurationProperties.blockingActionExecutorType());
+    }
+
+    private ExecutorService createBlockingExecutor(BlockingExecutorType blockingExecutorType) {
+        if (blockingExecutorType == BlockingExecutorType.VIRTUAL_THREAD) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (Throwable throwable) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(WARN)
+                        .setLogLevel(Level.WARN)
+                        .setMessageFormat("virtual threads are not supported by this JVM, blocking actions will use the action handler thread pool")
+                );
+            }
+        }
+        return scheduler;
     }
 
     public synchronized void shutdown() {
+        if (delayTimer != null) {
+            delayTimer.stop();
+        }
+        if (blockingExecutor != scheduler && !blockingExecutor.isShutdown()) {
+            blockingExecutor.shutdown();
+        }
         if (!scheduler.isShutdown()) {
             scheduler.shutdown();
             try {
@@ -90,7 +129,26 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Run command after the total of the delays, when not synchronous the delay is applied by a timer
+     * (so no thread is used while the delay is pending) and the command is then run by the action handler thread pool.
+     *
+     * Synchronous scheduling blocks the calling thread for the delay and should only be used by callers that can not
+     * complete a response asynchronously.
+     */
     public void schedule(Runnable command, boolean synchronous, Delay... delays) {
+        schedule(command, synchronous, false, delays);
+    }
+
+    /**
+     * Run command that may block, such as a class callback, after the total of the delays, when not synchronous the command is
+     * always run by the blocking action executor so it never blocks the calling thread (i.e. a netty event loop thread).
+     */
+    public void scheduleBlocking(Runnable command, boolean synchronous, Delay... delays) {
+        schedule(command, synchronous, true, delays);
+    }
+
+    private void schedule(Runnable command, boolean synchronous, boolean blocking, Delay... delays) {
         Delay delay = addDelays(delays);
         if (synchronous) {
             if (delay != null) {
@@ -98,14 +156,57 @@ public class Scheduler {
             }
             run(command);
         } else {
-            if (delay != null) {
-                scheduler.schedule(() -> run(command), delay.getValue(), delay.getTimeUnit());
-            } else {
+            Runnable dispatch = blocking ? () -> submitBlocking(command) : () -> run(command);
+            if (delay == null && !blocking) {
                 run(command);
+            } else if (delay != null && delay.getTimeUnit() != null && delay.getValue() > 0) {
+                try {
+                    getDelayTimer().newTimeout(timeout -> submitDispatch(dispatch, blocking), delay.getValue(), delay.getTimeUnit());
+                } catch (IllegalStateException | RejectedExecutionException e) {
+                    // timer has been stopped or has too many pending timeouts
+                    scheduler.schedule(dispatch, delay.getValue(), delay.getTimeUnit());
+                }
+            } else {
+                submitDispatch(dispatch, blocking);
             }
         }
     }
 
+    private void submitDispatch(Runnable dispatch, boolean blocking) {
+        if (blocking) {
+            dispatch.run();
+        } else {
+            scheduler.submit(dispatch);
+        }
+    }
+
+    private void submitBlocking(Runnable command) {
+        blockingTaskCount.incrementAndGet();
+        try {
+            blockingExecutor.execute(() -> {
+                try {
+                    run(command);
+                } finally {
+                    blockingTaskCount.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            blockingTaskCount.decrementAndGet();
+            run(command);
+        }
+    }
+
+    private HashedWheelTimer getDelayTimer() {
+        if (delayTimer == null) {
+            synchronized (this) {
+                if (delayTimer == null) {
+                    delayTimer = new HashedWheelTimer(new SchedulerThreadFactory("DelayTimer"), 10, MILLISECONDS);
+                }
+            }
+        }
+        return delayTimer;
+    }
+
     private Delay addDelays(Delay... delays) {
         if (delays == null || delays.length == 0) {
             return null;
@@ -124,6 +225,22 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Run command, by the action handler thread pool, after the delay unless the returned timeout is cancelled first, cancelled
+     * timeouts are removed from the timer so, unlike a delayed {@link #schedule(Runnable, boolean, Delay...)}, nothing is
+     * retained until the delay expires
+     *
+     * @return the timeout, or null if the timer has been stopped
+     */
+    public Timeout scheduleTimeout(Runnable command, long delay, TimeUnit timeUnit) {
+        try {
+            return getDelayTimer().newTimeout(timeout -> scheduler.submit(() -> run(command)), delay, timeUnit);
+        } catch (IllegalStateException | RejectedExecutionException e) {
+            // timer has been stopped or has too many pending timeouts
+            return null;
+        }
+    }
+
     public void submit(Runnable command) {
         submit(command, false);
     }
@@ -136,6 +253,14 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Run command once the forwarded response is received, when not synchronous the command is run by the action handler
+     * thread pool on completion so no thread waits for the response.
+     *
+     * Synchronous waits (for up to maxSocketTimeout) are made on the calling thread and are not routed through the blocking
+     * action executor, they are only used by a servlet container without asynchronous support whose thread must write the
+     * response before returning, so handing the wait to another thread would still block the caller and use a second thread.
+     */
     public void submit(HttpForwardActionResult future, Runnable command, boolean synchronous) {
         if (future != null) {
             if (synchronous) {
@@ -153,6 +278,10 @@ public class Scheduler {
         }
     }
 
+    /**
+     * Pass the forwarded response, or the exception, to consumer once received, synchronous waits are made on the calling
+     * thread as described for {@link #submit(HttpForwardActionResult, Runnable, boolean)}
+     */
     public void submit(HttpForwardActionResult future, BiConsumer<HttpResponse, Throwable> consumer, boolean synchronous) {
         if (future != null) {
             if (synchronous) {
@@ -182,4 +311,33 @@ public class Scheduler {
         }
     }
 
+    /**
+     * @return the number of tasks waiting for an action handler thread (including delays scheduled directly on the pool)
+     */
+    public int getQueueDepth() {
+        return scheduler.getQueue().size();
+    }
+
+    /**
+     * @return the number of action handler threads currently running a task
+     */
+    public int getActiveTaskCount() {
+        return scheduler.getActiveCount();
+    }
+
+    /**
+     * @return the number of blocking actions (i.e. class callbacks) submitted and not yet completed
+     */
+    public int getBlockingTaskCount() {
+        return blockingTaskCount.get();
+    }
+
+    /**
+     * @return the number of delayed actions waiting for their delay to expire
+     */
+    public long getPendingDelayCount() {
+        HashedWheelTimer delayTimer = this.delayTimer;
+        return delayTimer != null ? delayTimer.pendingTimeouts() : 0;
+    }
+
 }
@@ -1,5 +1,8 @@
 package org.mockserver.serialization;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Joiner;
 import org.mockserver.log.model.LogEntry;
@@ -10,9 +13,11 @@ import org.mockserver.validator.jsonschema.JsonSchemaExpectationValidator;
 import org.mockserver.validator.jsonschema.JsonSchemaValidator;
 import org.slf4j.event.Level;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.mockserver.character.Character.NEW_LINE;
@@ -23,6 +28,8 @@ import static org.mockserver.validator.jsonschema.JsonSchemaValidator.OPEN_API_S
  * @author jamesdbloom
  */
 public class ExpectationSerializer implements Serializer<Expectation> {
+    // number of parsed array elements held in memory at once while streaming
+    private static final int STREAMING_CHUNK_SIZE = 1000;
     private final MockServerLogger mockServerLogger;
     private ObjectMapper objectMapper = ObjectMapperFactory.createObjectMapper();
     private JsonArraySerializer jsonArraySerializer = new JsonArraySerializer();
@@ -156,4 +163,78 @@ public class ExpectationSerializer implements Serializer<Expectation> {
         return expectations.toArray(new Expectation[0]);
     }
 
+    /**
+     * Reads an expectation, or an array of expectations, from the stream one element at a time so only a bounded number of parsed
+     * elements are held in memory, each chunk of elements is validated and converted in parallel with the order of the elements preserved.
+     *
+     * Elements that are invalid are logged, with their index, and skipped instead of failing the whole load, only an
+     * invalid JSON document causes an exception.
+     *
+     * @param inputStream stream of JSON, closed once it has been read
+     * @param source      description of where the stream was read from, included in errors
+     */
+    public Expectation[] deserializeArray(InputStream inputStream, String source) {
+        List<Expectation> expectations = new ArrayList<>();
+        try (JsonParser jsonParser = objectMapper.getFactory().createParser(inputStream)) {
+            JsonToken token = jsonParser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                List<JsonNode> chunk = new ArrayList<>();
+                int chunkStartIndex = 0;
+                while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    chunk.add(objectMapper.readTree(jsonParser));
+                    if (chunk.size() == STREAMING_CHUNK_SIZE) {
+                        expectations.addAll(deserializeChunk(chunk, chunkStartIndex, source));
+                        chunkStartIndex += chunk.size();
+                        chunk.clear();
+                    }
+                }
+                expectations.addAll(deserializeChunk(chunk, chunkStartIndex, source));
+            } else if (token != null) {
+                expectations.addAll(deserializeChunk(Collections.singletonList(objectMapper.readTree(jsonParser)), 0, source));
+            }
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("Exception while parsing expectations from " + source, ioe);
+        }
+        return expectations.toArray(new Expectation[0]);
+    }
+
+    private List<Expectation> deserializeChunk(List<JsonNode> chunk, int chunkStartIndex, String source) {
+        return IntStream
+            .range(0, chunk.size())
+            .parallel()
+            .mapToObj(index -> deserialize(chunk.get(index), chunkStartIndex + index, source))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private Expectation deserialize(JsonNode jsonExpectation, int index, String source) {
+        String validationErrors = expectationValidator.isValidJsonNode(jsonExpectation);
+        if (validationErrors.isEmpty()) {
+            try {
+                ExpectationDTO expectationDTO = objectMapper.treeToValue(jsonExpectation, ExpectationDTO.class);
+                if (expectationDTO != null) {
+                    return expectationDTO.buildObject();
+                }
+            } catch (Exception e) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(LogEntry.LogMessageType.EXCEPTION)
+                        .setLogLevel(Level.WARN)
+                        .setMessageFormat("exception while parsing expectation at index " + index + " from " + source + ", ignoring expectation:{}")
+                        .setArguments(jsonExpectation)
+                        .setThrowable(e)
+                );
+            }
+        } else {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(LogEntry.LogMessageType.EXCEPTION)
+                    .setLogLevel(Level.WARN)
+                    .setMessageFormat("validation failed for expectation at index " + index + " from " + source + ", ignoring expectation:{}validation errors:{}")
+                    .setArguments(jsonExpectation, validationErrors)
+            );
+        }
+        return null;
+    }
+
 }
@@ -0,0 +1,135 @@
+package org.mockserver.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.google.common.io.ByteStreams;
+import org.mockserver.file.FileReader;
+import org.mockserver.mock.Expectation;
+import org.mockserver.serialization.model.ExpectationDTO;
+import org.mockserver.serialization.serializers.response.TimeToLiveSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Serializes expectations to, and from, a compact versioned binary snapshot so a large number of expectations can be restored
+ * quickly, snapshots are only written by MockServer so, unlike JSON initialization files, they are not validated against the
+ * JSON schema and contain no whitespace.
+ *
+ * The format (big-endian) is: the magic bytes "MSES", the format version (int), the number of expectations (int), and then
+ * for each expectation its length (int) followed by the expectation as UTF-8 JSON.
+ *
+ * Snapshot files are memory mapped when read, and expectations are converted in parallel with their order preserved.
+ *
+ * @author jamesdbloom
+ */
+public class ExpectationSnapshotSerializer {
+
+    public static final int VERSION = 1;
+    private static final byte[] MAGIC = new byte[]{'M', 'S', 'E', 'S'};
+    private final ObjectMapper objectMapper = ObjectMapperFactory.createObjectMapper(new TimeToLiveSerializer());
+
+    public byte[] serialize(List<Expectation> expectations) {
+        return serialize(expectations.toArray(new Expectation[0]));
+    }
+
+    public byte[] serialize(Expectation... expectations) {
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+            dataOutputStream.write(MAGIC);
+            dataOutputStream.writeInt(VERSION);
+            dataOutputStream.writeInt(expectations != null ? expectations.length : 0);
+            if (expectations != null) {
+                for (Expectation expectation : expectations) {
+                    byte[] bytes = objectMapper.writeValueAsBytes(expectation);
+                    dataOutputStream.writeInt(bytes.length);
+                    dataOutputStream.write(bytes);
+                }
+            }
+            dataOutputStream.flush();
+            return byteArrayOutputStream.toByteArray();
+        } catch (IOException ioe) {
+            throw new RuntimeException("Exception while serializing expectations to snapshot with value " + Arrays.asList(expectations), ioe);
+        }
+    }
+
+    /**
+     * @param snapshotPath path of snapshot file, which is memory mapped, or classpath resource
+     */
+    public Expectation[] deserialize(String snapshotPath) {
+        Path path = Paths.get(snapshotPath);
+        try {
+            if (Files.isRegularFile(path)) {
+                try (FileChannel fileChannel = FileChannel.open(path, READ)) {
+                    return deserialize(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+                }
+            } else {
+                try (InputStream inputStream = FileReader.openStreamToFileFromClassPathOrPath(snapshotPath)) {
+                    return deserialize(ByteBuffer.wrap(ByteStreams.toByteArray(inputStream)));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("Exception while loading expectation snapshot \"" + snapshotPath + "\"", ioe);
+        }
+    }
+
+    public Expectation[] deserialize(ByteBuffer snapshot) {
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            snapshot.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalArgumentException("Invalid expectation snapshot, snapshot does not start with " + new String(MAGIC));
+            }
+            int version = snapshot.getInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported expectation snapshot version " + version + ", only version " + VERSION + " is supported");
+            }
+            // read the position of each expectation first so expectations can be converted in parallel
+            int count = snapshot.getInt();
+            // each expectation has at least a length, so a larger count can't be valid and isn't used to size the array
+            if (count < 0 || count > snapshot.remaining() / 4) {
+                throw new IllegalArgumentException("Invalid expectation snapshot, expectation count " + count + " is larger than the snapshot");
+            }
+            ByteBuffer[] elements = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                int length = snapshot.getInt();
+                if (length < 0 || length > snapshot.remaining()) {
+                    throw new BufferUnderflowException();
+                }
+                ByteBuffer element = snapshot.slice();
+                element.limit(length);
+                elements[i] = element;
+                snapshot.position(snapshot.position() + length);
+            }
+            return IntStream
+                .range(0, count)
+                .parallel()
+                .mapToObj(index -> deserialize(elements[index], index))
+                .toArray(Expectation[]::new);
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalArgumentException("Invalid expectation snapshot, snapshot is truncated", bue);
+        }
+    }
+
+    private Expectation deserialize(ByteBuffer element, int index) {
+        try {
+            return objectMapper.readValue(new ByteBufferBackedInputStream(element), ExpectationDTO.class).buildObject();
+        } catch (IOException ioe) {
+            throw new IllegalArgumentException("Exception while parsing expectation at index " + index + " in expectation snapshot", ioe);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.mockserver.serialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.serialization.model.VerificationResultsDTO;
+import org.mockserver.serialization.model.VerificationsDTO;
+import org.mockserver.verify.Verification;
+import org.mockserver.verify.VerificationSequence;
+import org.slf4j.event.Level;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.mockserver.character.Character.NEW_LINE;
+import static org.mockserver.validator.jsonschema.JsonSchemaValidator.OPEN_API_SPECIFICATION_URL;
+
+/**
+ * Serializes the verifications and verification sequences of a verifyAll request and its results, each verification
+ * and verification sequence is validated the same way as when sent individually
+ *
+ * @author jamesdbloom
+ */
+public class VerificationsSerializer {
+    private final MockServerLogger mockServerLogger;
+    private ObjectMapper objectMapper = ObjectMapperFactory.createObjectMapper();
+    private VerificationSerializer verificationSerializer;
+    private VerificationSequenceSerializer verificationSequenceSerializer;
+
+    public VerificationsSerializer(MockServerLogger mockServerLogger) {
+        this.mockServerLogger = mockServerLogger;
+        this.verificationSerializer = new VerificationSerializer(mockServerLogger);
+        this.verificationSequenceSerializer = new VerificationSequenceSerializer(mockServerLogger);
+    }
+
+    public String serialize(List<Verification> verifications, List<VerificationSequence> verificationSequences) {
+        return serializeObject(new VerificationsDTO(verifications, verificationSequences), "verifications");
+    }
+
+    public String serialize(VerificationResultsDTO verificationResults) {
+        return serializeObject(verificationResults, "verification results");
+    }
+
+    private String serializeObject(Object object, String description) {
+        try {
+            return objectMapper
+                .writerWithDefaultPrettyPrinter()
+                .writeValueAsString(object);
+        } catch (Exception e) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(LogEntry.LogMessageType.EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception while serializing " + description + " to JSON with value " + object)
+                    .setThrowable(e)
+            );
+            throw new RuntimeException("Exception while serializing " + description + " to JSON with value " + object, e);
+        }
+    }
+
+    public VerificationsDTO deserialize(String jsonVerifications) {
+        if (isBlank(jsonVerifications)) {
+            throw new IllegalArgumentException(
+                "1 error:" + NEW_LINE +
+                    " - verifications are required but value was \"" + jsonVerifications + "\"" + NEW_LINE +
+                    NEW_LINE +
+                    OPEN_API_SPECIFICATION_URL
+            );
+        }
+        JsonNode jsonNode;
+        try {
+            jsonNode = objectMapper.readTree(jsonVerifications);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Exception while parsing [" + jsonVerifications + "] for verifications", e);
+        }
+        if (jsonNode == null || !jsonNode.isObject()) {
+            throw new IllegalArgumentException(
+                "1 error:" + NEW_LINE +
+                    " - verifications must be an object with \"verifications\" and / or \"verificationSequences\" arrays but value was \"" + jsonVerifications + "\"" + NEW_LINE +
+                    NEW_LINE +
+                    OPEN_API_SPECIFICATION_URL
+            );
+        }
+        List<Verification> verifications = new ArrayList<>();
+        List<String> validationErrors = new ArrayList<>();
+        for (JsonNode verification : arrayElements(jsonNode, "verifications", validationErrors)) {
+            try {
+                verifications.add(verificationSerializer.deserialize(verification.toString()));
+            } catch (IllegalArgumentException iae) {
+                validationErrors.add(iae.getMessage());
+            }
+        }
+        List<VerificationSequence> verificationSequences = new ArrayList<>();
+        for (JsonNode verificationSequence : arrayElements(jsonNode, "verificationSequences", validationErrors)) {
+            try {
+                verificationSequences.add(verificationSequenceSerializer.deserialize(verificationSequence.toString()));
+            } catch (IllegalArgumentException iae) {
+                validationErrors.add(iae.getMessage());
+            }
+        }
+        if (!validationErrors.isEmpty()) {
+            throw new IllegalArgumentException(String.join(NEW_LINE, validationErrors));
+        }
+        return new VerificationsDTO(verifications, verificationSequences);
+    }
+
+    private List<JsonNode> arrayElements(JsonNode jsonNode, String fieldName, List<String> validationErrors) {
+        List<JsonNode> elements = new ArrayList<>();
+        JsonNode field = jsonNode.get(fieldName);
+        if (field != null && !field.isNull()) {
+            if (field.isArray()) {
+                field.forEach(elements::add);
+            } else {
+                validationErrors.add("\"" + fieldName + "\" must be an array but value was \"" + field + "\"");
+            }
+        }
+        return elements;
+    }
+
+}
@@ -0,0 +1,107 @@
+package org.mockserver.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpRequestAndHttpResponse;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.serialization.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serializes a batch of web socket callback messages into a single binary frame, used instead of one pretty printed
+ * {@link WebSocketMessageSerializer} text frame per message when both ends support the binary callback protocol.
+ *
+ * The format (big-endian) is: the format version (byte), the number of messages (int), and then for each message its
+ * type (byte), its length (int) and the message as compact UTF-8 JSON, so unlike text frames there is no wrapper object
+ * containing the message as an escaped JSON string and no class name to resolve.
+ *
+ * @author jamesdbloom
+ */
+public class WebSocketBinaryMessageSerializer {
+
+    public static final byte VERSION = 1;
+    private static final byte HTTP_REQUEST = 1;
+    private static final byte HTTP_RESPONSE = 2;
+    private static final byte HTTP_REQUEST_AND_HTTP_RESPONSE = 3;
+    private static final byte WEB_SOCKET_ERROR = 4;
+    private static final byte WEB_SOCKET_CLIENT_ID = 5;
+    private final ObjectMapper objectMapper = ObjectMapperFactory.createObjectMapper();
+
+    public void serialize(List<Object> messages, ByteBuf byteBuf) throws IOException {
+        byteBuf.writeByte(VERSION);
+        byteBuf.writeInt(messages.size());
+        for (Object message : messages) {
+            if (message instanceof HttpRequest) {
+                write(HTTP_REQUEST, new HttpRequestDTO((HttpRequest) message), byteBuf);
+            } else if (message instanceof HttpResponse) {
+                write(HTTP_RESPONSE, new HttpResponseDTO((HttpResponse) message), byteBuf);
+            } else if (message instanceof HttpRequestAndHttpResponse) {
+                write(HTTP_REQUEST_AND_HTTP_RESPONSE, new HttpRequestAndHttpResponseDTO((HttpRequestAndHttpResponse) message), byteBuf);
+            } else if (message instanceof WebSocketErrorDTO) {
+                write(WEB_SOCKET_ERROR, message, byteBuf);
+            } else if (message instanceof WebSocketClientIdDTO) {
+                write(WEB_SOCKET_CLIENT_ID, message, byteBuf);
+            } else {
+                throw new IllegalArgumentException("Unsupported web socket message " + message);
+            }
+        }
+    }
+
+    private void write(byte type, Object value, ByteBuf byteBuf) throws IOException {
+        byteBuf.writeByte(type);
+        int lengthIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        objectMapper.writeValue((OutputStream) new ByteBufOutputStream(byteBuf), value);
+        byteBuf.setInt(lengthIndex, byteBuf.writerIndex() - lengthIndex - 4);
+    }
+
+    public List<Object> deserialize(ByteBuf byteBuf) throws IOException {
+        byte version = byteBuf.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported web socket binary message version " + version + ", only version " + VERSION + " is supported");
+        }
+        int count = byteBuf.readInt();
+        // each message has at least a type and a length, so a larger count can't be valid and isn't used to size the list
+        if (count < 0 || count > byteBuf.readableBytes() / 5) {
+            throw new IllegalArgumentException("Invalid web socket binary message count " + count + " for " + byteBuf.readableBytes() + " remaining bytes");
+        }
+        List<Object> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte type = byteBuf.readByte();
+            int length = byteBuf.readInt();
+            if (length < 0 || length > byteBuf.readableBytes()) {
+                throw new IllegalArgumentException("Invalid web socket binary message length " + length + " for " + byteBuf.readableBytes() + " remaining bytes");
+            }
+            try (InputStream inputStream = new ByteBufInputStream(byteBuf.readSlice(length))) {
+                switch (type) {
+                    case HTTP_REQUEST:
+                        messages.add(objectMapper.readValue(inputStream, HttpRequestDTO.class).buildObject());
+                        break;
+                    case HTTP_RESPONSE:
+                        messages.add(objectMapper.readValue(inputStream, HttpResponseDTO.class).buildObject());
+                        break;
+                    case HTTP_REQUEST_AND_HTTP_RESPONSE:
+                        messages.add(objectMapper.readValue(inputStream, HttpRequestAndHttpResponseDTO.class).buildObject());
+                        break;
+                    case WEB_SOCKET_ERROR:
+                        messages.add(objectMapper.readValue(inputStream, WebSocketErrorDTO.class));
+                        break;
+                    case WEB_SOCKET_CLIENT_ID:
+                        messages.add(objectMapper.readValue(inputStream, WebSocketClientIdDTO.class));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unsupported web socket binary message type " + type);
+                }
+            }
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,143 @@
+package org.mockserver.serialization.model;
+
+import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Connected web socket callback clients and the object callbacks waiting for a response from them
+ *
+ * @author jamesdbloom
+ */
+public class InFlightCallbacksDTO extends ObjectWithReflectiveEqualsHashCodeToString {
+
+    private List<Client> clients = new ArrayList<>();
+    private List<Callback> callbacks = new ArrayList<>();
+
+    public List<Client> getClients() {
+        return clients;
+    }
+
+    public InFlightCallbacksDTO setClients(List<Client> clients) {
+        this.clients = clients;
+        return this;
+    }
+
+    public List<Callback> getCallbacks() {
+        return callbacks;
+    }
+
+    public InFlightCallbacksDTO setCallbacks(List<Callback> callbacks) {
+        this.callbacks = callbacks;
+        return this;
+    }
+
+    public static class Client extends ObjectWithReflectiveEqualsHashCodeToString {
+
+        private String clientId;
+        private boolean binary;
+        private int inFlight;
+        private long responseCount;
+        private long latencyP50Micros;
+        private long latencyP99Micros;
+
+        public String getClientId() {
+            return clientId;
+        }
+
+        public Client setClientId(String clientId) {
+            this.clientId = clientId;
+            return this;
+        }
+
+        public boolean isBinary() {
+            return binary;
+        }
+
+        public Client setBinary(boolean binary) {
+            this.binary = binary;
+            return this;
+        }
+
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        public Client setInFlight(int inFlight) {
+            this.inFlight = inFlight;
+            return this;
+        }
+
+        public long getResponseCount() {
+            return responseCount;
+        }
+
+        public Client setResponseCount(long responseCount) {
+            this.responseCount = responseCount;
+            return this;
+        }
+
+        public long getLatencyP50Micros() {
+            return latencyP50Micros;
+        }
+
+        public Client setLatencyP50Micros(long latencyP50Micros) {
+            this.latencyP50Micros = latencyP50Micros;
+            return this;
+        }
+
+        public long getLatencyP99Micros() {
+            return latencyP99Micros;
+        }
+
+        public Client setLatencyP99Micros(long latencyP99Micros) {
+            this.latencyP99Micros = latencyP99Micros;
+            return this;
+        }
+    }
+
+    public static class Callback extends ObjectWithReflectiveEqualsHashCodeToString {
+
+        private String webSocketCorrelationId;
+        private String type;
+        private String clientId;
+        private long ageMillis;
+
+        public String getWebSocketCorrelationId() {
+            return webSocketCorrelationId;
+        }
+
+        public Callback setWebSocketCorrelationId(String webSocketCorrelationId) {
+            this.webSocketCorrelationId = webSocketCorrelationId;
+            return this;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public Callback setType(String type) {
+            this.type = type;
+            return this;
+        }
+
+        public String getClientId() {
+            return clientId;
+        }
+
+        public Callback setClientId(String clientId) {
+            this.clientId = clientId;
+            return this;
+        }
+
+        public long getAgeMillis() {
+            return ageMillis;
+        }
+
+        public Callback setAgeMillis(long ageMillis) {
+            this.ageMillis = ageMillis;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.mockserver.serialization.model;
+
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of each verification and verification sequence checked by a single verifyAll request, in the order they were requested
+ *
+ * @author jamesdbloom
+ */
+public class VerificationResultsDTO extends ObjectWithReflectiveEqualsHashCodeToString {
+
+    public static final String VERIFICATION = "VERIFICATION";
+    public static final String VERIFICATION_SEQUENCE = "VERIFICATION_SEQUENCE";
+
+    private Boolean passed = true;
+    private List<Result> results = new ArrayList<>();
+
+    public Boolean getPassed() {
+        return passed;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public VerificationResultsDTO addResult(Result result) {
+        this.results.add(result);
+        if (!result.getPassed()) {
+            this.passed = false;
+        }
+        return this;
+    }
+
+    public static class Result extends ObjectWithReflectiveEqualsHashCodeToString {
+
+        private String type;
+        private Integer index;
+        private Boolean passed;
+        private String message;
+        private Integer matchingRequestCount;
+        private List<HttpRequest> closestMatches = new ArrayList<>();
+
+        public String getType() {
+            return type;
+        }
+
+        public Result setType(String type) {
+            this.type = type;
+            return this;
+        }
+
+        public Integer getIndex() {
+            return index;
+        }
+
+        public Result setIndex(Integer index) {
+            this.index = index;
+            return this;
+        }
+
+        public Boolean getPassed() {
+            return passed;
+        }
+
+        public Result setPassed(Boolean passed) {
+            this.passed = passed;
+            return this;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public Result setMessage(String message) {
+            this.message = message;
+            return this;
+        }
+
+        public Integer getMatchingRequestCount() {
+            return matchingRequestCount;
+        }
+
+        public Result setMatchingRequestCount(Integer matchingRequestCount) {
+            this.matchingRequestCount = matchingRequestCount;
+            return this;
+        }
+
+        public List<HttpRequest> getClosestMatches() {
+            return closestMatches;
+        }
+
+        public Result setClosestMatches(List<HttpRequest> closestMatches) {
+            this.closestMatches = closestMatches;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.mockserver.serialization.model;
+
+import org.mockserver.model.ObjectWithReflectiveEqualsHashCodeToString;
+import org.mockserver.verify.Verification;
+import org.mockserver.verify.VerificationSequence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Verifications and verification sequences that are checked together by a single verifyAll request
+ *
+ * @author jamesdbloom
+ */
+public class VerificationsDTO extends ObjectWithReflectiveEqualsHashCodeToString {
+
+    private List<VerificationDTO> verifications = new ArrayList<>();
+    private List<VerificationSequenceDTO> verificationSequences = new ArrayList<>();
+
+    public VerificationsDTO(List<Verification> verifications, List<VerificationSequence> verificationSequences) {
+        if (verifications != null) {
+            this.verifications = verifications.stream().map(VerificationDTO::new).collect(Collectors.toList());
+        }
+        if (verificationSequences != null) {
+            this.verificationSequences = verificationSequences.stream().map(VerificationSequenceDTO::new).collect(Collectors.toList());
+        }
+    }
+
+    public VerificationsDTO() {
+    }
+
+    public List<Verification> buildVerifications() {
+        return verifications.stream().map(VerificationDTO::buildObject).collect(Collectors.toList());
+    }
+
+    public List<VerificationSequence> buildVerificationSequences() {
+        return verificationSequences.stream().map(VerificationSequenceDTO::buildObject).collect(Collectors.toList());
+    }
+
+    public List<VerificationDTO> getVerifications() {
+        return verifications;
+    }
+
+    public VerificationsDTO setVerifications(List<VerificationDTO> verifications) {
+        this.verifications = verifications != null ? verifications : new ArrayList<>();
+        return this;
+    }
+
+    public List<VerificationSequenceDTO> getVerificationSequences() {
+        return verificationSequences;
+    }
+
+    public VerificationsDTO setVerificationSequences(List<VerificationSequenceDTO> verificationSequences) {
+        this.verificationSequences = verificationSequences != null ? verificationSequences : new ArrayList<>();
+        return this;
+    }
+}
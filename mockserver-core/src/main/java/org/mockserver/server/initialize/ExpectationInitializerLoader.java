@@ -8,12 +8,14 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.MockServerMatcher;
 import org.mockserver.serialization.ExpectationSerializer;
+import org.mockserver.serialization.ExpectationSnapshotSerializer;
 
 import java.lang.reflect.Constructor;
 
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.mockserver.log.model.LogEntry.LogMessageType.SERVER_CONFIGURATION;
+import static org.mockserver.ui.MockServerMatcherNotifier.Cause.API;
 import static org.slf4j.event.Level.WARN;
 
 /**
@@ -22,20 +24,20 @@ import static org.slf4j.event.Level.WARN;
 public class ExpectationInitializerLoader {
 
     private final ExpectationSerializer expectationSerializer;
+    private final ExpectationSnapshotSerializer expectationSnapshotSerializer;
     private final MockServerLogger mockServerLogger;
     private final MockServerMatcher mockServerMatcher;
 
     public ExpectationInitializerLoader(MockServerLogger mockServerLogger, MockServerMatcher mockServerMatcher) {
         this.expectationSerializer = new ExpectationSerializer(mockServerLogger);
+        this.expectationSnapshotSerializer = new ExpectationSnapshotSerializer();
         this.mockServerLogger = mockServerLogger;
         this.mockServerMatcher = mockServerMatcher;
         addExpectationsFromInitializer();
     }
 
     private void addExpectationsFromInitializer() {
-        for (Expectation expectation : loadExpectations()) {
-            mockServerMatcher.add(expectation);
-        }
+        mockServerMatcher.addAll(loadExpectations(), API);
     }
 
     private Expectation[] retrieveExpectationsFromInitializerClass() {
@@ -61,12 +63,7 @@ public class ExpectationInitializerLoader {
         String initializationJsonPath = ConfigurationProperties.initializationJsonPath();
         if (isNotBlank(initializationJsonPath)) {
             try {
-                String jsonExpectations = FileReader.readFileFromClassPathOrPath(initializationJsonPath);
-                if (isNotBlank(jsonExpectations)) {
-                    return expectationSerializer.deserializeArray(jsonExpectations, true);
-                } else {
-                    return new Expectation[0];
-                }
+                return expectationSerializer.deserializeArray(FileReader.openStreamToFileFromClassPathOrPath(initializationJsonPath), initializationJsonPath);
             } catch (Throwable throwable) {
                 mockServerLogger.logEvent(
                     new LogEntry()
@@ -80,9 +77,28 @@ public class ExpectationInitializerLoader {
         return new Expectation[0];
     }
 
+    private Expectation[] retrieveExpectationsFromSnapshot() {
+        String initializationSnapshotPath = ConfigurationProperties.initializationSnapshotPath();
+        if (isNotBlank(initializationSnapshotPath)) {
+            try {
+                return expectationSnapshotSerializer.deserialize(initializationSnapshotPath);
+            } catch (Throwable throwable) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(SERVER_CONFIGURATION)
+                        .setLogLevel(WARN)
+                        .setMessageFormat("exception while loading expectation snapshot, ignoring snapshot")
+                        .setThrowable(throwable)
+                );
+            }
+        }
+        return new Expectation[0];
+    }
+
     public Expectation[] loadExpectations() {
         final Expectation[] expectationsFromInitializerClass = retrieveExpectationsFromInitializerClass();
+        final Expectation[] expectationsFromSnapshot = retrieveExpectationsFromSnapshot();
         final Expectation[] expectationsFromJson = retrieveExpectationsFromJson();
-        return ArrayUtils.addAll(expectationsFromInitializerClass, expectationsFromJson);
+        return ArrayUtils.addAll(ArrayUtils.addAll(expectationsFromInitializerClass, expectationsFromSnapshot), expectationsFromJson);
     }
 }
@@ -9,9 +9,14 @@ import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.responsewriter.ResponseWriter;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.netty.handler.codec.http.HttpResponseStatus.GATEWAY_TIMEOUT;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.mockserver.configuration.ConfigurationProperties.enableCORSForAPI;
 import static org.mockserver.configuration.ConfigurationProperties.enableCORSForAllResponses;
@@ -26,11 +31,48 @@ import static org.mockserver.model.HttpResponse.response;
 public class ServletResponseWriter extends ResponseWriter {
     private static final CORSHeaders CORS_HEADERS = new CORSHeaders();
     private final HttpServletResponse httpServletResponse;
+    private final AsyncContext asyncContext;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
     private MockServerResponseToHttpServletResponseEncoder mockServerResponseToHttpServletResponseEncoder;
 
     public ServletResponseWriter(MockServerLogger mockServerLogger, HttpServletResponse httpServletResponse) {
+        this(mockServerLogger, httpServletResponse, null);
+    }
+
+    /**
+     * @param asyncContext if not null the asynchronous request is completed once the response has been written, or
+     *                     with a 504 response if no response has been written before the asynchronous request times out
+     */
+    public ServletResponseWriter(MockServerLogger mockServerLogger, HttpServletResponse httpServletResponse, AsyncContext asyncContext) {
         this.httpServletResponse = httpServletResponse;
+        this.asyncContext = asyncContext;
         this.mockServerResponseToHttpServletResponseEncoder = new MockServerResponseToHttpServletResponseEncoder(mockServerLogger);
+        if (asyncContext != null) {
+            asyncContext.addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    if (completed.compareAndSet(false, true)) {
+                        httpServletResponse.setStatus(GATEWAY_TIMEOUT.code());
+                        asyncContext.complete();
+                    }
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    complete();
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+
+                }
+            });
+        }
     }
 
     @Override
@@ -52,6 +94,10 @@ public class ServletResponseWriter extends ResponseWriter {
 
     @Override
     public void writeResponse(final HttpRequest request, HttpResponse response, final boolean apiResponse) {
+        if (asyncContext != null && !completed.compareAndSet(false, true)) {
+            // the asynchronous request has already been completed (i.e. responded to or timed out)
+            return;
+        }
         if (response == null) {
             response = notFoundResponse();
         }
@@ -70,6 +116,19 @@ public class ServletResponseWriter extends ResponseWriter {
         }
 
         mockServerResponseToHttpServletResponseEncoder.mapMockServerResponseToHttpServletResponse(addConnectionHeader(request, response), httpServletResponse);
+        if (asyncContext != null) {
+            asyncContext.complete();
+        }
+    }
+
+    /**
+     * Completes the asynchronous request, if there is one, without writing a response, this is a no-op if it has
+     * already been completed so every terminal path of a request can safely call it
+     */
+    public void complete() {
+        if (asyncContext != null && completed.compareAndSet(false, true)) {
+            asyncContext.complete();
+        }
     }
 
 }
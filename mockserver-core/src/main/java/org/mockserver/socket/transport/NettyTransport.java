@@ -0,0 +1,89 @@
+package org.mockserver.socket.transport;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.mockserver.log.model.LogEntry.LogMessageType.WARN;
+
+/**
+ * Creates event loop groups for the transport selected by ConfigurationProperties.transportType() and the channel
+ * classes that match an event loop group, so a channel always uses the same transport as the event loop it is
+ * registered with, including event loop groups created outside of MockServer
+ *
+ * @author jamesdbloom
+ */
+public class NettyTransport {
+
+    private static final MockServerLogger MOCK_SERVER_LOGGER = new MockServerLogger(NettyTransport.class);
+
+    private NettyTransport() {
+
+    }
+
+    public static TransportType transportType() {
+        TransportType transportType = ConfigurationProperties.transportType();
+        if (transportType == TransportType.NIO) {
+            return TransportType.NIO;
+        } else if (Epoll.isAvailable()) {
+            return TransportType.EPOLL;
+        } else {
+            if (transportType == TransportType.EPOLL) {
+                MOCK_SERVER_LOGGER.logEvent(
+                    new LogEntry()
+                        .setType(WARN)
+                        .setLogLevel(Level.WARN)
+                        .setMessageFormat("epoll transport is not available, NIO transport will be used instead")
+                        .setThrowable(Epoll.unavailabilityCause())
+                );
+            }
+            return TransportType.NIO;
+        }
+    }
+
+    public static EventLoopGroup eventLoopGroup(int threadCount, ThreadFactory threadFactory) {
+        if (transportType() == TransportType.EPOLL) {
+            return new EpollEventLoopGroup(threadCount, threadFactory);
+        } else {
+            return new NioEventLoopGroup(threadCount, threadFactory);
+        }
+    }
+
+    public static Class<? extends SocketChannel> socketChannelClass(EventLoopGroup eventLoopGroup) {
+        if (isEpoll(eventLoopGroup)) {
+            return EpollSocketChannel.class;
+        } else {
+            return NioSocketChannel.class;
+        }
+    }
+
+    public static Class<? extends ServerSocketChannel> serverSocketChannelClass(EventLoopGroup eventLoopGroup) {
+        if (isEpoll(eventLoopGroup)) {
+            return EpollServerSocketChannel.class;
+        } else {
+            return NioServerSocketChannel.class;
+        }
+    }
+
+    public static boolean isEpoll(EventLoopGroup eventLoopGroup) {
+        // an event loop's parent is the group that created it, i.e. when a channel's event loop is reused for a new channel
+        if (eventLoopGroup instanceof EventLoop && ((EventLoop) eventLoopGroup).parent() != null) {
+            eventLoopGroup = ((EventLoop) eventLoopGroup).parent();
+        }
+        return eventLoopGroup instanceof EpollEventLoopGroup;
+    }
+}
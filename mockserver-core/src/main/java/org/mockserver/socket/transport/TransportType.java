@@ -0,0 +1,16 @@
+package org.mockserver.socket.transport;
+
+/**
+ * Netty transport used for the event loops and channels of the server, forward client, relay and web socket client
+ *
+ * AUTO - native epoll when it is available (i.e. on Linux with the native library on the classpath), otherwise NIO
+ * NIO - java NIO transport, available on all platforms
+ * EPOLL - native epoll transport (Linux only, otherwise NIO is used)
+ *
+ * @author jamesdbloom
+ */
+public enum TransportType {
+    AUTO,
+    NIO,
+    EPOLL
+}
@@ -1,18 +1,28 @@
 package org.mockserver.templates.engine.javascript;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.mockserver.collections.CircularHashMap;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
+import org.mockserver.serialization.ObjectMapperFactory;
 import org.mockserver.serialization.model.DTO;
 import org.mockserver.templates.engine.TemplateEngine;
 import org.mockserver.templates.engine.model.HttpRequestTemplateObject;
 import org.mockserver.templates.engine.serializer.HttpTemplateOutputDeserializer;
+import org.mockserver.templates.engine.serializer.HttpTemplateOutputMapper;
 
 import javax.script.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import jdk.nashorn.api.scripting.ScriptObjectMirror;
 import org.slf4j.event.Level;
 
+import static org.mockserver.configuration.ConfigurationProperties.javaScriptTemplateJsonRequestModel;
 import static org.mockserver.formatting.StringFormatter.formatLogMessage;
 import static org.mockserver.formatting.StringFormatter.indentAndToString;
 import static org.mockserver.log.model.LogEntry.LogMessageType.TEMPLATE_GENERATED;
@@ -22,8 +32,12 @@ import static org.mockserver.log.model.LogEntry.LogMessageType.TEMPLATE_GENERATE
  */
 public class JavaScriptTemplateEngine implements TemplateEngine {
 
+    private static final int MAX_COMPILED_SCRIPTS = 100;
+    private static final Map<String, CompiledScript> compiledScripts = Collections.synchronizedMap(new CircularHashMap<>(MAX_COMPILED_SCRIPTS, true));
     private static ScriptEngine engine;
     private final MockServerLogger logFormatter;
+    private static final ObjectWriter objectWriter = ObjectMapperFactory.createObjectMapper().writerWithDefaultPrettyPrinter();
+    private final HttpTemplateOutputMapper httpTemplateOutputMapper = new HttpTemplateOutputMapper();
     private HttpTemplateOutputDeserializer httpTemplateOutputDeserializer;
 
     public JavaScriptTemplateEngine(MockServerLogger logFormatter) {
@@ -40,14 +54,29 @@ public class JavaScriptTemplateEngine implements TemplateEngine {
         String script = "function handle(request) {" + indentAndToString(template)[0] + "}";
         try {
             if (engine != null) {
-                Compilable compilable = (Compilable) engine;
-                CompiledScript compiledScript = compilable.compile(script + " function serialise(request) { return JSON.stringify(handle(JSON.parse(request)), null, 2); }");
+                CompiledScript compiledScript = compile(script);
 
                 Bindings bindings = engine.createBindings();
                 compiledScript.eval(bindings);
 
-                ScriptObjectMirror scriptObjectMirror = (ScriptObjectMirror) bindings.get("serialise");
-                Object stringifiedResponse = scriptObjectMirror.call(null, new HttpRequestTemplateObject(request));
+                Object generatedOutput;
+                if (javaScriptTemplateJsonRequestModel()) {
+                    ScriptObjectMirror scriptObjectMirror = (ScriptObjectMirror) bindings.get("serialise");
+                    generatedOutput = scriptObjectMirror.call(null, new HttpRequestTemplateObject(request));
+                    result = httpTemplateOutputDeserializer.deserializer(request, (String) generatedOutput, dtoClass);
+                } else {
+                    ScriptObjectMirror scriptObjectMirror = (ScriptObjectMirror) bindings.get("handle");
+                    Object scriptRequest = toScriptObject(new HttpRequestTemplateObject(request).asMap(), (ScriptObjectMirror) bindings.get("Object"), (ScriptObjectMirror) bindings.get("Array"));
+                    Object output = toJavaObject(scriptObjectMirror.call(null, scriptRequest));
+                    result = output instanceof Map ? httpTemplateOutputMapper.map(toMap(output), dtoClass) : null;
+                    if (result != null) {
+                        generatedOutput = result;
+                    } else {
+                        // fields not supported by the direct mapping are handled by the (slower) json deserializer
+                        generatedOutput = objectWriter.writeValueAsString(output);
+                        result = httpTemplateOutputDeserializer.deserializer(request, (String) generatedOutput, dtoClass);
+                    }
+                }
 
                 // HttpResponse handle(HttpRequest httpRequest) - ES5
                 logFormatter.logEvent(
@@ -56,9 +85,8 @@ public class JavaScriptTemplateEngine implements TemplateEngine {
                         .setLogLevel(Level.INFO)
                         .setHttpRequest(request)
                         .setMessageFormat("generated output:{}from template:{}for request:{}")
-                        .setArguments(stringifiedResponse, script, request)
+                        .setArguments(generatedOutput, script, request)
                 );
-                result = httpTemplateOutputDeserializer.deserializer(request, (String) stringifiedResponse, dtoClass);
             } else {
                 logFormatter.logEvent(
                     new LogEntry()
@@ -77,4 +105,84 @@ public class JavaScriptTemplateEngine implements TemplateEngine {
         }
         return result;
     }
+
+    /**
+     * compiled scripts are cached by template so each template is only parsed and compiled once, the serialise function is
+     * only needed (and so only compiled) when the request is passed to the template as JSON
+     */
+    private CompiledScript compile(String script) throws ScriptException {
+        String source = javaScriptTemplateJsonRequestModel() ? script + " function serialise(request) { return JSON.stringify(handle(JSON.parse(request)), null, 2); }" : script;
+        CompiledScript compiledScript = compiledScripts.get(source);
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) engine).compile(source);
+            compiledScripts.put(source, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> toMap(Object output) {
+        return (Map<String, Object>) output;
+    }
+
+    /**
+     * converts java maps and lists into native javascript objects and arrays without using JSON, so templates can use
+     * them in the same way as parsed JSON, i.e. with JSON.stringify, Object.keys or for...in
+     */
+    private Object toScriptObject(Object object, ScriptObjectMirror objectConstructor, ScriptObjectMirror arrayConstructor) {
+        if (object instanceof Map) {
+            ScriptObjectMirror scriptObject = (ScriptObjectMirror) objectConstructor.newObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                scriptObject.setMember(String.valueOf(entry.getKey()), toScriptObject(entry.getValue(), objectConstructor, arrayConstructor));
+            }
+            return scriptObject;
+        } else if (object instanceof List) {
+            ScriptObjectMirror scriptArray = (ScriptObjectMirror) arrayConstructor.newObject();
+            List<?> list = (List<?>) object;
+            for (int i = 0; i < list.size(); i++) {
+                scriptArray.setSlot(i, toScriptObject(list.get(i), objectConstructor, arrayConstructor));
+            }
+            return scriptArray;
+        } else {
+            return object;
+        }
+    }
+
+    /**
+     * converts javascript objects and arrays into java maps and lists so they can be mapped without using JSON
+     */
+    private Object toJavaObject(Object object) {
+        if (object instanceof ScriptObjectMirror) {
+            ScriptObjectMirror scriptObjectMirror = (ScriptObjectMirror) object;
+            if (scriptObjectMirror.isArray()) {
+                List<Object> list = new ArrayList<>();
+                for (Object value : scriptObjectMirror.values()) {
+                    list.add(toJavaObject(value));
+                }
+                return list;
+            } else if (scriptObjectMirror.isFunction()) {
+                return null;
+            } else {
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (Map.Entry<String, Object> entry : scriptObjectMirror.entrySet()) {
+                    map.put(entry.getKey(), toJavaObject(entry.getValue()));
+                }
+                return map;
+            }
+        } else if (object instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object value : (List<?>) object) {
+                list.add(toJavaObject(value));
+            }
+            return list;
+        } else if (object instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                map.put(String.valueOf(entry.getKey()), toJavaObject(entry.getValue()));
+            }
+            return map;
+        } else {
+            return object;
+        }
+    }
 }
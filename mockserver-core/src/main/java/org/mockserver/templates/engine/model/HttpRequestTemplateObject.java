@@ -1,17 +1,19 @@
 package org.mockserver.templates.engine.model;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.mockserver.model.*;
+import org.mockserver.serialization.ObjectMapperFactory;
 import org.mockserver.serialization.model.BodyDTO;
+import org.mockserver.serialization.model.StringBodyDTO;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * @author jamesdbloom
  */
 public class HttpRequestTemplateObject extends ObjectWithJsonToString {
+    private static final ObjectMapper OBJECT_MAPPER = ObjectMapperFactory.createObjectMapper();
     private String method = "";
     private String path = "";
     private Map<String, List<String>> queryStringParameters = new HashMap<>();
@@ -71,4 +73,39 @@ public class HttpRequestTemplateObject extends ObjectWithJsonToString {
     public Boolean getSecure() {
         return secure;
     }
+
+    /**
+     * Read-only view of this request with the same field names and value shapes as its JSON representation,
+     * allowing script engines to read the request directly without serialising it to JSON and parsing it again
+     */
+    public Map<String, Object> asMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("method", method);
+        map.put("path", path);
+        map.put("queryStringParameters", readOnly(queryStringParameters));
+        map.put("body", bodyValue());
+        map.put("cookies", Collections.unmodifiableMap(cookies));
+        map.put("headers", readOnly(headers));
+        map.put("keepAlive", keepAlive);
+        map.put("secure", secure);
+        return Collections.unmodifiableMap(map);
+    }
+
+    private Map<String, List<String>> readOnly(Map<String, List<String>> multiValueMap) {
+        Map<String, List<String>> readOnly = new HashMap<>();
+        for (Map.Entry<String, List<String>> entry : multiValueMap.entrySet()) {
+            readOnly.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(readOnly);
+    }
+
+    private Object bodyValue() {
+        if (body instanceof StringBodyDTO) {
+            StringBodyDTO stringBody = (StringBodyDTO) body;
+            if ((stringBody.getNot() == null || !stringBody.getNot()) && !stringBody.isSubString() && stringBody.getContentType() == null) {
+                return stringBody.getString();
+            }
+        }
+        return body != null ? OBJECT_MAPPER.convertValue(body, Object.class) : null;
+    }
 }
@@ -0,0 +1,219 @@
+package org.mockserver.templates.engine.serializer;
+
+import org.mockserver.model.*;
+import org.mockserver.serialization.model.DTO;
+import org.mockserver.serialization.model.HttpRequestDTO;
+import org.mockserver.serialization.model.HttpResponseDTO;
+
+import java.util.*;
+
+/**
+ * Builds an {@link HttpResponse} or {@link HttpRequest} directly from the object returned by a template,
+ * avoiding serialising the object to JSON and deserialising it again.
+ *
+ * Only plain fields (status code, reason phrase, method, path, headers, cookies, query string parameters, string bodies and
+ * boolean flags) are supported, null is returned for any other field so the caller can fall back to the JSON deserializer.
+ *
+ * @author jamesdbloom
+ */
+public class HttpTemplateOutputMapper {
+
+    private static final Set<String> RESPONSE_FIELDS = new HashSet<>(Arrays.asList("statusCode", "reasonPhrase", "headers", "cookies", "body"));
+    private static final Set<String> REQUEST_FIELDS = new HashSet<>(Arrays.asList("method", "path", "queryStringParameters", "headers", "cookies", "body", "keepAlive", "secure"));
+
+    @SuppressWarnings("unchecked")
+    public <T> T map(Map<String, Object> output, Class<? extends DTO<T>> dtoClass) {
+        if (output == null) {
+            return null;
+        }
+        if (dtoClass.isAssignableFrom(HttpResponseDTO.class)) {
+            return (T) mapResponse(output);
+        } else if (dtoClass.isAssignableFrom(HttpRequestDTO.class)) {
+            return (T) mapRequest(output);
+        } else {
+            return null;
+        }
+    }
+
+    private HttpResponse mapResponse(Map<String, Object> output) {
+        if (!RESPONSE_FIELDS.containsAll(output.keySet())) {
+            return null;
+        }
+        HttpResponse httpResponse = new HttpResponse();
+        Object statusCode = output.get("statusCode");
+        if (statusCode instanceof Number) {
+            httpResponse.withStatusCode(((Number) statusCode).intValue());
+        } else if (statusCode != null) {
+            return null;
+        }
+        Object reasonPhrase = output.get("reasonPhrase");
+        if (reasonPhrase instanceof String) {
+            httpResponse.withReasonPhrase((String) reasonPhrase);
+        } else if (reasonPhrase != null) {
+            return null;
+        }
+        Headers headers = mapMultiValues(output.get("headers"), new Headers());
+        Cookies cookies = mapKeysAndValues(output.get("cookies"), new Cookies());
+        if (headers == null || cookies == null) {
+            return null;
+        }
+        if (!headers.isEmpty()) {
+            httpResponse.withHeaders(headers);
+        }
+        if (!cookies.isEmpty()) {
+            httpResponse.withCookies(cookies);
+        }
+        Object body = output.get("body");
+        if (body instanceof String) {
+            httpResponse.withBody((String) body);
+        } else if (body != null) {
+            return null;
+        }
+        return httpResponse;
+    }
+
+    private HttpRequest mapRequest(Map<String, Object> output) {
+        if (!REQUEST_FIELDS.containsAll(output.keySet())) {
+            return null;
+        }
+        HttpRequest httpRequest = new HttpRequest();
+        Object method = output.get("method");
+        if (method instanceof String) {
+            httpRequest.withMethod((String) method);
+        } else if (method != null) {
+            return null;
+        }
+        Object path = output.get("path");
+        if (path instanceof String) {
+            httpRequest.withPath((String) path);
+        } else if (path != null) {
+            return null;
+        }
+        Parameters queryStringParameters = mapMultiValues(output.get("queryStringParameters"), new Parameters());
+        Headers headers = mapMultiValues(output.get("headers"), new Headers());
+        Cookies cookies = mapKeysAndValues(output.get("cookies"), new Cookies());
+        if (queryStringParameters == null || headers == null || cookies == null) {
+            return null;
+        }
+        if (!queryStringParameters.isEmpty()) {
+            httpRequest.withQueryStringParameters(queryStringParameters);
+        }
+        if (!headers.isEmpty()) {
+            httpRequest.withHeaders(headers);
+        }
+        if (!cookies.isEmpty()) {
+            httpRequest.withCookies(cookies);
+        }
+        Object body = output.get("body");
+        if (body instanceof String) {
+            httpRequest.withBody((String) body);
+        } else if (body != null) {
+            return null;
+        }
+        Object keepAlive = output.get("keepAlive");
+        Object secure = output.get("secure");
+        if ((keepAlive != null && !(keepAlive instanceof Boolean)) || (secure != null && !(secure instanceof Boolean))) {
+            return null;
+        }
+        return httpRequest
+            .withKeepAlive((Boolean) keepAlive)
+            .withSecure((Boolean) secure);
+    }
+
+    /**
+     * supports both the array format [ { "name": "...", "values": [ "..." ] } ] and the object format { "name": [ "..." ] }
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends KeysToMultiValues<?, T>> T mapMultiValues(Object value, T keysToMultiValues) {
+        if (value instanceof List) {
+            for (Object entry : (List<Object>) value) {
+                if (!(entry instanceof Map)) {
+                    return null;
+                }
+                Object name = ((Map<String, Object>) entry).get("name");
+                List<String> values = toStringList(((Map<String, Object>) entry).get("values"));
+                if (!(name instanceof String) || values == null) {
+                    return null;
+                }
+                if (!values.isEmpty()) {
+                    keysToMultiValues.withEntry((String) name, values);
+                }
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                List<String> values = toStringList(entry.getValue());
+                if (values == null) {
+                    return null;
+                }
+                if (!values.isEmpty()) {
+                    keysToMultiValues.withEntry(entry.getKey(), values);
+                }
+            }
+        } else if (value != null) {
+            return null;
+        }
+        return keysToMultiValues;
+    }
+
+    /**
+     * supports both the array format [ { "name": "...", "value": "..." } ] and the object format { "name": "..." }
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends KeysAndValues<?, T>> T mapKeysAndValues(Object value, T keysAndValues) {
+        if (value instanceof List) {
+            for (Object entry : (List<Object>) value) {
+                if (!(entry instanceof Map)) {
+                    return null;
+                }
+                Object name = ((Map<String, Object>) entry).get("name");
+                String entryValue = scalarToString(((Map<String, Object>) entry).get("value"));
+                if (!(name instanceof String) || entryValue == null) {
+                    return null;
+                }
+                keysAndValues.withEntry((String) name, entryValue);
+            }
+        } else if (value instanceof Map) {
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                String entryValue = scalarToString(entry.getValue());
+                if (entryValue == null) {
+                    return null;
+                }
+                keysAndValues.withEntry(entry.getKey(), entryValue);
+            }
+        } else if (value != null) {
+            return null;
+        }
+        return keysAndValues;
+    }
+
+    private List<String> toStringList(Object value) {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<String> strings = new ArrayList<>();
+        for (Object item : (List<?>) value) {
+            String string = scalarToString(item);
+            if (string == null) {
+                return null;
+            }
+            strings.add(string);
+        }
+        return strings;
+    }
+
+    private String scalarToString(Object value) {
+        if (value instanceof Number) {
+            // javascript numbers are doubles so whole numbers must not be rendered with a trailing ".0"
+            double doubleValue = ((Number) value).doubleValue();
+            if (doubleValue == Math.rint(doubleValue) && !Double.isInfinite(doubleValue)) {
+                return String.valueOf(((Number) value).longValue());
+            } else {
+                return String.valueOf(value);
+            }
+        } else if (value instanceof String || value instanceof Boolean) {
+            return String.valueOf(value);
+        } else {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.mockserver.ui;
+
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.metrics.Metrics;
+import org.mockserver.model.Delay;
+import org.mockserver.scheduler.Scheduler;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Coalesces changes so listeners are notified once per {@link ConfigurationProperties#listenerNotificationInterval()}
+ * instead of once per change, a change only sets a flag so no task is submitted to the scheduler until the first change
+ * after the previous notification.
+ *
+ * Listeners are passed a version, the number of changes so far, so they can tell how many changes each notification covers.
+ *
+ * @author jamesdbloom
+ */
+class CoalescedNotification {
+
+    private final Scheduler scheduler;
+    private final Metrics.Name changeMetric;
+    private final Metrics.Name notificationMetric;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean notificationScheduled = new AtomicBoolean(false);
+
+    CoalescedNotification(Scheduler scheduler, Metrics.Name changeMetric, Metrics.Name notificationMetric) {
+        this.scheduler = scheduler;
+        this.changeMetric = changeMetric;
+        this.notificationMetric = notificationMetric;
+    }
+
+    /**
+     * @param notification called with the latest version once the interval has elapsed, unless a notification is already scheduled
+     */
+    void changed(LongConsumer notification) {
+        version.incrementAndGet();
+        Metrics.increment(changeMetric);
+        if (notificationScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                // cleared before reading the version so a concurrent change is always covered by this or the next notification
+                notificationScheduled.set(false);
+                Metrics.increment(notificationMetric);
+                notification.accept(version.get());
+            }, false, new Delay(MILLISECONDS, ConfigurationProperties.listenerNotificationInterval()));
+        }
+    }
+
+    long getVersion() {
+        return version.get();
+    }
+}
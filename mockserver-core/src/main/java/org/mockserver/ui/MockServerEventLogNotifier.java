@@ -8,6 +8,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockserver.metrics.Metrics.Name.EVENT_LOG_CHANGE_COUNT;
+import static org.mockserver.metrics.Metrics.Name.EVENT_LOG_NOTIFICATION_COUNT;
+
 /**
  * @author jamesdbloom
  */
@@ -15,17 +18,17 @@ public class MockServerEventLogNotifier extends ObjectWithReflectiveEqualsHashCo
 
     private boolean listenerAdded = false;
     private final List<MockServerLogListener> listeners = Collections.synchronizedList(new ArrayList<>());
-    private final Scheduler scheduler;
+    private final CoalescedNotification coalescedNotification;
 
     public MockServerEventLogNotifier(Scheduler scheduler) {
-        this.scheduler = scheduler;
+        this.coalescedNotification = new CoalescedNotification(scheduler, EVENT_LOG_CHANGE_COUNT, EVENT_LOG_NOTIFICATION_COUNT);
     }
 
     protected void notifyListeners(final MockServerEventLog notifier) {
         if (listenerAdded && !listeners.isEmpty()) {
-            scheduler.submit(() -> {
+            coalescedNotification.changed(version -> {
                 for (MockServerLogListener listener : listeners.toArray(new MockServerLogListener[0])) {
-                    listener.updated(notifier);
+                    listener.updated(notifier, version);
                 }
             });
         }
@@ -39,4 +42,11 @@ public class MockServerEventLogNotifier extends ObjectWithReflectiveEqualsHashCo
     public void unregisterListener(MockServerLogListener listener) {
         listeners.remove(listener);
     }
+
+    /**
+     * @return number of changes notified to listeners so far
+     */
+    public long getNotificationVersion() {
+        return coalescedNotification.getVersion();
+    }
 }
@@ -9,4 +9,13 @@ public interface MockServerLogListener {
 
     void updated(MockServerEventLog mockServerLog);
 
+    /**
+     * Called by the notifier, override to receive the version of the log
+     *
+     * @param version number of log changes so far, a single notification may cover several changes
+     */
+    default void updated(MockServerEventLog mockServerLog, long version) {
+        updated(mockServerLog);
+    }
+
 }
@@ -9,4 +9,14 @@ public interface MockServerMatcherListener {
 
     void updated(MockServerMatcher mockServerMatcher, MockServerMatcherNotifier.Cause cause);
 
+    /**
+     * Called by the notifier, override to receive the version of the expectations
+     *
+     * @param cause   API if any of the changes covered by this notification were made by the API
+     * @param version number of expectation changes so far, a single notification may cover several changes
+     */
+    default void updated(MockServerMatcher mockServerMatcher, MockServerMatcherNotifier.Cause cause, long version) {
+        updated(mockServerMatcher, cause);
+    }
+
 }
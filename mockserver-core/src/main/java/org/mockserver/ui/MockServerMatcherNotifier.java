@@ -7,6 +7,10 @@ import org.mockserver.scheduler.Scheduler;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockserver.metrics.Metrics.Name.EXPECTATION_CHANGE_COUNT;
+import static org.mockserver.metrics.Metrics.Name.EXPECTATION_NOTIFICATION_COUNT;
 
 /**
  * @author jamesdbloom
@@ -15,17 +19,25 @@ public class MockServerMatcherNotifier extends ObjectWithReflectiveEqualsHashCod
 
     private boolean listenerAdded = false;
     private final List<MockServerMatcherListener> listeners = Collections.synchronizedList(new ArrayList<>());
-    private final Scheduler scheduler;
+    private final CoalescedNotification coalescedNotification;
+    private final AtomicBoolean apiChanged = new AtomicBoolean(false);
 
     public MockServerMatcherNotifier(Scheduler scheduler) {
-        this.scheduler = scheduler;
+        this.coalescedNotification = new CoalescedNotification(scheduler, EXPECTATION_CHANGE_COUNT, EXPECTATION_NOTIFICATION_COUNT);
     }
 
     protected void notifyListeners(final MockServerMatcher notifier, Cause cause) {
         if (listenerAdded && !listeners.isEmpty()) {
-            for (MockServerMatcherListener listener : listeners.toArray(new MockServerMatcherListener[0])) {
-                scheduler.submit(() -> listener.updated(notifier, cause));
+            if (cause == Cause.API) {
+                apiChanged.set(true);
             }
+            coalescedNotification.changed(version -> {
+                // if any of the coalesced changes were made by the API the notification is for an API change
+                Cause coalescedCause = apiChanged.getAndSet(false) ? Cause.API : Cause.FILE_WATCHER;
+                for (MockServerMatcherListener listener : listeners.toArray(new MockServerMatcherListener[0])) {
+                    listener.updated(notifier, coalescedCause, version);
+                }
+            });
         }
     }
 
@@ -38,6 +50,13 @@ public class MockServerMatcherNotifier extends ObjectWithReflectiveEqualsHashCod
         listeners.remove(listener);
     }
 
+    /**
+     * @return number of changes notified to listeners so far
+     */
+    public long getNotificationVersion() {
+        return coalescedNotification.getVersion();
+    }
+
     public enum Cause {
         FILE_WATCHER,
         API
@@ -16,6 +16,7 @@ import org.mockserver.serialization.ObjectMapperFactory;
 import org.mockserver.validator.Validator;
 import org.slf4j.event.Level;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -34,7 +35,12 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
     private static final Map<String, String> schemaCache = new ConcurrentHashMap<>();
     private final MockServerLogger mockServerLogger;
     private final String schema;
+    private static final String[] EXCLUDED_FIELDS = {
+        "schemaJsonNode"
+    };
     private final JsonValidator validator = JsonSchemaFactory.byDefault().getValidator();
+    // parsed once, on first validation, instead of for every validation
+    private volatile JsonNode schemaJsonNode;
     private ObjectMapper objectMapper = ObjectMapperFactory.createObjectMapper();
 
     public JsonSchemaValidator(MockServerLogger mockServerLogger, String schema) {
@@ -94,12 +100,28 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
     public String isValid(String json) {
         String validationResult = "";
         if (isNotBlank(json)) {
+            try {
+                validationResult = isValidJsonNode(objectMapper.readTree(json));
+            } catch (Exception e) {
+                return validationException(e);
+            }
+        }
+        return validationResult;
+    }
+
+    /**
+     * Validates an already parsed JSON value, so callers that have parsed the JSON, such as streaming readers, don't need to write
+     * it back out as a String only for it to be parsed again
+     */
+    public String isValidJsonNode(JsonNode json) {
+        String validationResult = "";
+        if (json != null) {
             try {
 
                 ProcessingReport processingReport = validator
                     .validate(
-                        objectMapper.readTree(schema),
-                        objectMapper.readTree(json),
+                        schemaJsonNode(),
+                        json,
                         true
                     );
 
@@ -107,19 +129,30 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
                     validationResult = formatProcessingReport(processingReport);
                 }
             } catch (Exception e) {
-                mockServerLogger.logEvent(
-                    new LogEntry()
-                        .setType(LogEntry.LogMessageType.EXCEPTION)
-                        .setLogLevel(Level.ERROR)
-                        .setMessageFormat("exception validating JSON")
-                        .setThrowable(e)
-                );
-                return e.getClass().getSimpleName() + " - " + e.getMessage();
+                return validationException(e);
             }
         }
         return validationResult;
     }
 
+    private String validationException(Exception e) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(LogEntry.LogMessageType.EXCEPTION)
+                .setLogLevel(Level.ERROR)
+                .setMessageFormat("exception validating JSON")
+                .setThrowable(e)
+        );
+        return e.getClass().getSimpleName() + " - " + e.getMessage();
+    }
+
+    private JsonNode schemaJsonNode() throws IOException {
+        if (schemaJsonNode == null) {
+            schemaJsonNode = objectMapper.readTree(schema);
+        }
+        return schemaJsonNode;
+    }
+
     private String formatProcessingReport(ProcessingReport validate) {
         List<String> validationErrors = new ArrayList<>();
         for (ProcessingMessage processingMessage : validate) {
@@ -298,4 +331,9 @@ public class JsonSchemaValidator extends ObjectWithReflectiveEqualsHashCodeToStr
             NEW_LINE +
             OPEN_API_SPECIFICATION_URL;
     }
+
+    @Override
+    protected String[] fieldsExcludedFromEqualsAndHashCode() {
+        return EXCLUDED_FIELDS;
+    }
 }
@@ -0,0 +1,113 @@
+package org.mockserver.client.netty;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockserver.client.PooledNettyHttpClient;
+import org.mockserver.echo.http.EchoServer;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.socket.tls.NettySslContextFactory;
+
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.stop.Stop.stopQuietly;
+
+/**
+ * @author jamesdbloom
+ */
+public class PooledNettyHttpClientTest {
+
+    private static EchoServer echoServer;
+    private static final EventLoopGroup clientEventLoopGroup = new NioEventLoopGroup(3, new Scheduler.SchedulerThreadFactory(PooledNettyHttpClientTest.class.getSimpleName() + "-eventLoop"));
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+
+    @BeforeClass
+    public static void startEchoServer() {
+        echoServer = new EchoServer(false);
+    }
+
+    @AfterClass
+    public static void stopEventLoopGroup() {
+        clientEventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS).syncUninterruptibly();
+    }
+
+    @AfterClass
+    public static void stopEchoServer() {
+        stopQuietly(echoServer);
+    }
+
+    @Test
+    public void shouldSendQueuedRequestsOverSingleKeepAliveConnection() throws Exception {
+        // given
+        PooledNettyHttpClient pooledNettyHttpClient = new PooledNettyHttpClient(mockServerLogger, clientEventLoopGroup, new InetSocketAddress("0.0.0.0", echoServer.getPort()), false, 1, new NettySslContextFactory(mockServerLogger));
+
+        try {
+            // when
+            List<CompletableFuture<HttpResponse>> responseFutures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                responseFutures.add(pooledNettyHttpClient.sendRequest(request("/some_path_" + i).withHeader("Host", "0.0.0.0:" + echoServer.getPort()).withBody("some_body_" + i)));
+            }
+
+            // then
+            for (int i = 0; i < 20; i++) {
+                HttpResponse httpResponse = responseFutures.get(i).get(10, TimeUnit.SECONDS);
+                assertThat(httpResponse.getStatusCode(), is(200));
+                assertThat(httpResponse.getBodyAsString(), is("some_body_" + i));
+            }
+        } finally {
+            pooledNettyHttpClient.close();
+        }
+    }
+
+    @Test
+    public void shouldOpenNewConnectionWhenServerClosesConnection() throws Exception {
+        // given
+        PooledNettyHttpClient pooledNettyHttpClient = new PooledNettyHttpClient(mockServerLogger, clientEventLoopGroup, new InetSocketAddress("0.0.0.0", echoServer.getPort()), false, 1, new NettySslContextFactory(mockServerLogger));
+        echoServer.withNextResponse(response("first_body").withHeader("Connection", "close"));
+
+        try {
+            // when
+            HttpResponse firstResponse = pooledNettyHttpClient.sendRequest(request().withHeader("Host", "0.0.0.0:" + echoServer.getPort())).get(10, TimeUnit.SECONDS);
+            HttpResponse secondResponse = pooledNettyHttpClient.sendRequest(request().withHeader("Host", "0.0.0.0:" + echoServer.getPort()).withBody("second_body")).get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(firstResponse.getBodyAsString(), is("first_body"));
+            assertThat(secondResponse.getBodyAsString(), is("second_body"));
+        } finally {
+            pooledNettyHttpClient.close();
+        }
+    }
+
+    @Test
+    public void shouldFailResponseFutureWhenConnectionRefused() throws Exception {
+        // given
+        PooledNettyHttpClient pooledNettyHttpClient = new PooledNettyHttpClient(mockServerLogger, clientEventLoopGroup, new InetSocketAddress("127.0.0.1", 1), false, 1, new NettySslContextFactory(mockServerLogger));
+
+        try {
+            // when
+            pooledNettyHttpClient.sendRequest(request().withHeader("Host", "127.0.0.1:1")).get(10, TimeUnit.SECONDS);
+            fail("expected exception to be thrown");
+        } catch (ExecutionException ee) {
+            // then
+            assertThat(ee.getCause() instanceof ConnectException, is(true));
+        } finally {
+            pooledNettyHttpClient.close();
+        }
+    }
+}
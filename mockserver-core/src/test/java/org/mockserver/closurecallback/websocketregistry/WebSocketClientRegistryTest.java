@@ -0,0 +1,323 @@
+package org.mockserver.closurecallback.websocketregistry;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpRequestAndHttpResponse;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.WebSocketBinaryMessageSerializer;
+import org.mockserver.serialization.WebSocketMessageSerializer;
+import org.mockserver.serialization.model.InFlightCallbacksDTO;
+import org.mockserver.serialization.model.WebSocketClientIdDTO;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.WEB_SOCKET_CORRELATION_ID_HEADER_NAME;
+import static org.mockserver.metrics.Metrics.Name.WEBSOCKET_CALLBACK_REJECTED_COUNT;
+import static org.mockserver.metrics.Metrics.Name.WEBSOCKET_CALLBACK_TIMEOUT_COUNT;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.notFoundResponse;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @author jamesdbloom
+ */
+public class WebSocketClientRegistryTest {
+
+    private long originalWebSocketCallbackTimeout;
+    private int originalWebSocketCallbackMaxInFlight;
+    private String originalWebSocketCallbackTimeoutResponse;
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+    private Scheduler scheduler;
+    private WebSocketClientRegistry webSocketClientRegistry;
+
+    @Before
+    public void createRegistry() {
+        originalWebSocketCallbackTimeout = ConfigurationProperties.webSocketCallbackTimeout();
+        originalWebSocketCallbackMaxInFlight = ConfigurationProperties.webSocketCallbackMaxInFlight();
+        originalWebSocketCallbackTimeoutResponse = ConfigurationProperties.webSocketCallbackTimeoutResponse();
+        ConfigurationProperties.metricsEnabled(true);
+        Metrics.clear();
+        scheduler = new Scheduler(mockServerLogger);
+        webSocketClientRegistry = new WebSocketClientRegistry(mockServerLogger, scheduler);
+    }
+
+    @After
+    public void shutdownScheduler() {
+        webSocketClientRegistry.reset();
+        scheduler.shutdown();
+        ConfigurationProperties.metricsEnabled(false);
+        ConfigurationProperties.webSocketCallbackTimeout(originalWebSocketCallbackTimeout);
+        ConfigurationProperties.webSocketCallbackMaxInFlight(originalWebSocketCallbackMaxInFlight);
+        ConfigurationProperties.webSocketCallbackTimeoutResponse(originalWebSocketCallbackTimeoutResponse);
+    }
+
+    private EmbeddedChannel registerClient(String clientId, boolean binary) {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        when(ctx.channel()).thenReturn(channel);
+        webSocketClientRegistry.registerClient(clientId, ctx, binary);
+        return channel;
+    }
+
+    private HttpRequest correlatedRequest(String webSocketCorrelationId) {
+        return request("/some_path").withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, webSocketCorrelationId);
+    }
+
+    @Test
+    public void shouldReturnNotFoundWhenCallbackTimesOut() throws Exception {
+        // given
+        ConfigurationProperties.webSocketCallbackTimeout(100);
+        registerClient("some_client", false);
+        CompletableFuture<HttpResponse> callbackResponse = new CompletableFuture<>();
+        webSocketClientRegistry.registerResponseCallbackHandler("some_correlation_id", callbackResponse::complete);
+
+        // when
+        WebSocketClientRegistry.SendResult sent = webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("some_correlation_id"), null);
+
+        // then
+        assertThat(sent, is(WebSocketClientRegistry.SendResult.SENT));
+        assertThat(callbackResponse.get(10, SECONDS), is(notFoundResponse()));
+        assertThat(Metrics.get(WEBSOCKET_CALLBACK_TIMEOUT_COUNT), is(1));
+    }
+
+    @Test
+    public void shouldReturnConfiguredResponseWhenCallbackTimesOut() throws Exception {
+        // given
+        ConfigurationProperties.webSocketCallbackTimeout(100);
+        ConfigurationProperties.webSocketCallbackTimeoutResponse("{\"statusCode\": 503, \"body\": \"callback timed out\"}");
+        registerClient("some_client", false);
+        CompletableFuture<HttpResponse> callbackResponse = new CompletableFuture<>();
+        webSocketClientRegistry.registerForwardCallbackHandler("some_correlation_id", new WebSocketRequestCallback() {
+            @Override
+            public void handle(HttpRequest httpRequest) {
+                callbackResponse.completeExceptionally(new AssertionError("unexpected request " + httpRequest));
+            }
+
+            @Override
+            public void handleError(HttpResponse httpResponse) {
+                callbackResponse.complete(httpResponse);
+            }
+        });
+
+        // when
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("some_correlation_id"), null);
+
+        // then
+        assertThat(callbackResponse.get(10, SECONDS), is(response().withStatusCode(503).withBody("callback timed out")));
+    }
+
+    @Test
+    public void shouldListInFlightCallbacksAndRecordLatencyByClient() throws Exception {
+        // given
+        registerClient("some_client", false);
+        webSocketClientRegistry.registerResponseCallbackHandler("correlation_id_one", httpResponse -> {
+        });
+        webSocketClientRegistry.registerForwardCallbackHandler("correlation_id_two", new WebSocketRequestCallback() {
+            @Override
+            public void handle(HttpRequest httpRequest) {
+            }
+
+            @Override
+            public void handleError(HttpResponse httpResponse) {
+            }
+        });
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("correlation_id_one"), null);
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("correlation_id_two"), null);
+
+        // when
+        InFlightCallbacksDTO inFlightCallbacks = webSocketClientRegistry.retrieveInFlightCallbacks();
+
+        // then
+        assertThat(inFlightCallbacks.getClients(), hasSize(1));
+        assertThat(inFlightCallbacks.getClients().get(0).getClientId(), is("some_client"));
+        assertThat(inFlightCallbacks.getClients().get(0).getInFlight(), is(2));
+        assertThat(inFlightCallbacks.getCallbacks(), hasSize(2));
+        assertThat(inFlightCallbacks.getCallbacks().get(0).getWebSocketCorrelationId(), is("correlation_id_one"));
+        assertThat(inFlightCallbacks.getCallbacks().get(0).getType(), is("RESPONSE"));
+        assertThat(inFlightCallbacks.getCallbacks().get(0).getClientId(), is("some_client"));
+        assertThat(inFlightCallbacks.getCallbacks().get(1).getWebSocketCorrelationId(), is("correlation_id_two"));
+        assertThat(inFlightCallbacks.getCallbacks().get(1).getType(), is("FORWARD"));
+
+        // when
+        webSocketClientRegistry.receivedTextWebSocketFrame(new TextWebSocketFrame(new WebSocketMessageSerializer(mockServerLogger).serialize(
+            response("some_body").withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, "correlation_id_one")
+        )));
+
+        // then
+        assertThat(webSocketClientRegistry.retrieveInFlightCountByClient().get("some_client"), is(1));
+        assertThat(webSocketClientRegistry.retrieveCallbackLatencies().get("some_client").getCount(), is(1L));
+        assertThat(webSocketClientRegistry.retrieveInFlightCallbacks().getCallbacks(), hasSize(1));
+    }
+
+    @Test
+    public void shouldCompleteCallbackOnceWhenResponseReceived() throws Exception {
+        // given
+        ConfigurationProperties.webSocketCallbackTimeout(500);
+        registerClient("some_client", false);
+        TextWebSocketFrame responseFrame = new TextWebSocketFrame(new WebSocketMessageSerializer(mockServerLogger).serialize(
+            response("some_body").withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, "some_correlation_id")
+        ));
+        List<HttpResponse> callbackResponses = new CopyOnWriteArrayList<>();
+        webSocketClientRegistry.registerResponseCallbackHandler("some_correlation_id", callbackResponses::add);
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("some_correlation_id"), null);
+
+        // when
+        webSocketClientRegistry.receivedTextWebSocketFrame(responseFrame);
+        SECONDS.sleep(1);
+
+        // then
+        assertThat(callbackResponses, contains(response("some_body").withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, "some_correlation_id")));
+        assertThat(Metrics.get(WEBSOCKET_CALLBACK_TIMEOUT_COUNT), is(0));
+    }
+
+    @Test
+    public void shouldRejectCallbackWhenClientHasMaximumInFlight() {
+        // given
+        ConfigurationProperties.webSocketCallbackMaxInFlight(1);
+        EmbeddedChannel channel = registerClient("some_client", false);
+        webSocketClientRegistry.registerResponseCallbackHandler("correlation_id_one", httpResponse -> {
+        });
+        webSocketClientRegistry.registerResponseCallbackHandler("correlation_id_two", httpResponse -> {
+        });
+        webSocketClientRegistry.registerResponseCallbackHandler("correlation_id_three", httpResponse -> {
+        });
+
+        // when
+        WebSocketClientRegistry.SendResult firstSent = webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("correlation_id_one"), null);
+        WebSocketClientRegistry.SendResult secondSent = webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("correlation_id_two"), null);
+        webSocketClientRegistry.unregisterResponseCallbackHandler("correlation_id_one");
+        WebSocketClientRegistry.SendResult thirdSent = webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("correlation_id_three"), null);
+
+        // then
+        assertThat(firstSent, is(WebSocketClientRegistry.SendResult.SENT));
+        assertThat(secondSent, is(WebSocketClientRegistry.SendResult.MAX_IN_FLIGHT));
+        assertThat(thirdSent, is(WebSocketClientRegistry.SendResult.SENT));
+        assertThat(Metrics.get(WEBSOCKET_CALLBACK_REJECTED_COUNT), is(1));
+        // client id message followed by the two messages that were sent
+        assertThat(channel.outboundMessages().size(), is(3));
+    }
+
+    @Test
+    public void shouldReturnNotFoundForPendingCallbacksWhenClientDisconnects() throws Exception {
+        // given
+        registerClient("some_client", false);
+        CompletableFuture<HttpResponse> callbackResponse = new CompletableFuture<>();
+        webSocketClientRegistry.registerForwardCallbackHandler("some_correlation_id", new WebSocketRequestCallback() {
+            @Override
+            public void handle(HttpRequest httpRequest) {
+                callbackResponse.completeExceptionally(new AssertionError("unexpected request " + httpRequest));
+            }
+
+            @Override
+            public void handleError(HttpResponse httpResponse) {
+                callbackResponse.complete(httpResponse);
+            }
+        });
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("some_correlation_id"), null);
+
+        // when
+        webSocketClientRegistry.unregisterClient("some_client");
+
+        // then
+        assertThat(callbackResponse.get(10, SECONDS), is(notFoundResponse()));
+    }
+
+    @Test
+    public void shouldReturnNotFoundForPendingCallbacksWhenReset() throws Exception {
+        // given
+        registerClient("some_client", false);
+        CompletableFuture<HttpResponse> responseCallbackResponse = new CompletableFuture<>();
+        webSocketClientRegistry.registerResponseCallbackHandler("response_correlation_id", responseCallbackResponse::complete);
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("response_correlation_id"), null);
+        CompletableFuture<HttpResponse> forwardCallbackResponse = new CompletableFuture<>();
+        webSocketClientRegistry.registerForwardCallbackHandler("forward_correlation_id", new WebSocketRequestCallback() {
+            @Override
+            public void handle(HttpRequest httpRequest) {
+                forwardCallbackResponse.completeExceptionally(new AssertionError("unexpected request " + httpRequest));
+            }
+
+            @Override
+            public void handleError(HttpResponse httpResponse) {
+                forwardCallbackResponse.complete(httpResponse);
+            }
+        });
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("forward_correlation_id"), null);
+
+        // when
+        webSocketClientRegistry.reset();
+
+        // then
+        assertThat(responseCallbackResponse.get(10, SECONDS), is(notFoundResponse()));
+        assertThat(forwardCallbackResponse.get(10, SECONDS), is(notFoundResponse()));
+        assertThat(webSocketClientRegistry.retrieveInFlightCallbacks().getCallbacks().size(), is(0));
+    }
+
+    @Test
+    public void shouldSendMessagesToBinaryClientInSingleFrame() throws Exception {
+        // given
+        EmbeddedChannel channel = registerClient("some_client", true);
+        webSocketClientRegistry.registerResponseCallbackHandler("correlation_id_one", httpResponse -> {
+        });
+
+        // when
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("correlation_id_one"), null);
+        webSocketClientRegistry.sendClientMessage("some_client", correlatedRequest("correlation_id_two"), response("some_body"));
+        channel.runPendingTasks();
+
+        // then
+        assertThat(channel.outboundMessages().size(), is(1));
+        BinaryWebSocketFrame frame = channel.readOutbound();
+        try {
+            assertThat(new WebSocketBinaryMessageSerializer().deserialize(frame.content()), is(Arrays.asList(
+                new WebSocketClientIdDTO().setClientId("some_client"),
+                correlatedRequest("correlation_id_one"),
+                new HttpRequestAndHttpResponse()
+                    .withHttpRequest(correlatedRequest("correlation_id_two"))
+                    .withHttpResponse(response("some_body"))
+            )));
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    public void shouldReceiveBatchOfResponsesInBinaryFrame() throws Exception {
+        // given
+        registerClient("some_client", true);
+        CompletableFuture<HttpResponse> responseOne = new CompletableFuture<>();
+        CompletableFuture<HttpResponse> responseTwo = new CompletableFuture<>();
+        webSocketClientRegistry.registerResponseCallbackHandler("correlation_id_one", responseOne::complete);
+        webSocketClientRegistry.registerResponseCallbackHandler("correlation_id_two", responseTwo::complete);
+        BinaryWebSocketFrame frame = new BinaryWebSocketFrame(Unpooled.buffer());
+        new WebSocketBinaryMessageSerializer().serialize(Arrays.asList(
+            response("body_one").withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, "correlation_id_one"),
+            response("body_two").withHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME, "correlation_id_two")
+        ), frame.content());
+
+        // when
+        webSocketClientRegistry.receivedBinaryWebSocketFrame(frame);
+
+        // then
+        assertThat(responseOne.get(10, SECONDS).getBodyAsString(), is("body_one"));
+        assertThat(responseTwo.get(10, SECONDS).getBodyAsString(), is("body_two"));
+    }
+}
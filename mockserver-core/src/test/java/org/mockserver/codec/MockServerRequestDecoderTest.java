@@ -291,4 +291,39 @@ public class MockServerRequestDecoderTest {
         assertThat(body, is(binary("some_random_bytes".getBytes(UTF_8), MediaType.JPEG)));
     }
 
+    @Test
+    public void shouldDecodeHeadersCookiesAndQueryParametersAfterRequestReleased() {
+        // given
+        fullHttpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/uri?queryStringParameterName=queryStringParameterValue", Unpooled.wrappedBuffer("some_body".getBytes(UTF_8)));
+        fullHttpRequest.headers().add("headerName", "headerValue");
+        fullHttpRequest.headers().add("Cookie", "cookieName=cookieValue");
+
+        // when
+        mockServerRequestDecoder.decode(null, fullHttpRequest, output);
+        fullHttpRequest.release();
+
+        // then
+        HttpRequest httpRequest = (HttpRequest) output.get(0);
+        assertThat(httpRequest.getFirstHeader("headerName"), is("headerValue"));
+        assertThat(httpRequest.getCookieList(), containsInAnyOrder(cookie("cookieName", "cookieValue")));
+        assertThat(httpRequest.getFirstQueryStringParameter("queryStringParameterName"), is("queryStringParameterValue"));
+        assertThat(httpRequest.getBodyAsString(), is("some_body"));
+    }
+
+    @Test
+    public void shouldAddHeaderToDecodedHeaders() {
+        // given
+        fullHttpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/uri");
+        fullHttpRequest.headers().add("headerName", "headerValue");
+
+        // when
+        mockServerRequestDecoder.decode(null, fullHttpRequest, output);
+        HttpRequest httpRequest = ((HttpRequest) output.get(0)).withHeader("otherHeaderName", "otherHeaderValue");
+
+        // then
+        assertThat(httpRequest.getHeaderList(), containsInAnyOrder(
+            header("headerName", "headerValue"),
+            header("otherHeaderName", "otherHeaderValue")
+        ));
+    }
 }
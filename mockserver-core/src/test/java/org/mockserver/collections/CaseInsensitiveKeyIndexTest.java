@@ -0,0 +1,95 @@
+package org.mockserver.collections;
+
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.Headers;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockserver.model.NottableString.not;
+import static org.mockserver.model.NottableString.string;
+
+/**
+ * @author jamesdbloom
+ */
+public class CaseInsensitiveKeyIndexTest {
+
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+
+    @Test
+    public void shouldContainLiteralKeyIgnoringCase() {
+        // given
+        CaseInsensitiveKeyIndex keyIndex = new Headers()
+            .withEntry("Content-Type", "application/json")
+            .withEntry("X-Request-Id", "12345")
+            .toCaseInsensitiveKeyIndex(mockServerLogger, false);
+
+        // then
+        assertThat(keyIndex.containsKeyValue(string("content-type"), string("application/json")), is(true));
+        assertThat(keyIndex.containsKeyValue(string("X-REQUEST-ID"), string("12345")), is(true));
+        assertThat(keyIndex.containsKeyValue(string("X-REQUEST-ID"), string("54321")), is(false));
+        assertThat(keyIndex.containsKeyValue(string("Accept"), string("application/json")), is(false));
+    }
+
+    @Test
+    public void shouldContainRegexKey() {
+        // given
+        CaseInsensitiveKeyIndex keyIndex = new Headers()
+            .withEntry("X-Request-Id", "12345")
+            .toCaseInsensitiveKeyIndex(mockServerLogger, false);
+
+        // then
+        assertThat(keyIndex.containsKeyValue(string("x-request-.*"), string("[0-9]+")), is(true));
+        assertThat(keyIndex.containsKeyValue(string("x-response-.*"), string("[0-9]+")), is(false));
+    }
+
+    @Test
+    public void shouldContainAllWithNottedKeys() {
+        // given
+        CaseInsensitiveKeyIndex keyIndex = new Headers()
+            .withEntry("X-Request-Id", "12345")
+            .toCaseInsensitiveKeyIndex(mockServerLogger, false);
+
+        // then
+        assertThat(keyIndex.containsAll(new Headers()
+            .withEntry(string("X-Request-Id"), string("12345"))
+            .toCaseInsensitiveRegexMultiMap(mockServerLogger, false).entryList()), is(true));
+        assertThat(keyIndex.containsAll(new Headers()
+            .withEntry(not("X-Correlation-Id"), string(".*"))
+            .toCaseInsensitiveRegexMultiMap(mockServerLogger, false).entryList()), is(true));
+        assertThat(keyIndex.containsAll(new Headers()
+            .withEntry(not("X-Request-Id"), string(".*"))
+            .toCaseInsensitiveRegexMultiMap(mockServerLogger, false).entryList()), is(false));
+    }
+
+    @Test
+    public void shouldContainLiteralKeyMatchingRegexEntryForControlPlane() {
+        // given
+        CaseInsensitiveKeyIndex keyIndex = new Headers()
+            .withEntry("X-Request-.*", "[0-9]+")
+            .toCaseInsensitiveKeyIndex(mockServerLogger, true);
+
+        // then
+        assertThat(keyIndex.containsKeyValue(string("x-request-id"), string("12345")), is(true));
+        assertThat(keyIndex.containsKeyValue(string("x-response-id"), string("12345")), is(false));
+    }
+
+    @Test
+    public void shouldReuseKeyIndexUntilEntriesModified() {
+        // given
+        Headers headers = new Headers().withEntry("X-Request-Id", "12345");
+        CaseInsensitiveKeyIndex keyIndex = headers.toCaseInsensitiveKeyIndex(mockServerLogger, false);
+
+        // then
+        assertThat(headers.toCaseInsensitiveKeyIndex(mockServerLogger, false), sameInstance(keyIndex));
+
+        // when
+        headers.withEntry("X-Correlation-Id", "abcde");
+
+        // then
+        CaseInsensitiveKeyIndex modifiedKeyIndex = headers.toCaseInsensitiveKeyIndex(mockServerLogger, false);
+        assertThat(modifiedKeyIndex == keyIndex, is(false));
+        assertThat(modifiedKeyIndex.containsKeyValue(string("x-correlation-id"), string("abcde")), is(true));
+    }
+}
@@ -0,0 +1,129 @@
+package org.mockserver.collections;
+
+import org.junit.Test;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.model.Headers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockserver.model.NottableString.not;
+import static org.mockserver.model.NottableString.string;
+
+/**
+ * @author jamesdbloom
+ */
+public class CaseInsensitiveRegexSubSetTest {
+
+    private final MockServerLogger mockServerLogger = new MockServerLogger();
+
+    private CaseInsensitiveRegexSubSet subSet(Headers headers) {
+        return new CaseInsensitiveRegexSubSet(headers.toCaseInsensitiveRegexMultiMap(mockServerLogger, false).entryList());
+    }
+
+    private CaseInsensitiveKeyIndex keyIndex(Headers headers) {
+        return headers.toCaseInsensitiveKeyIndex(mockServerLogger, false);
+    }
+
+    @Test
+    public void shouldBeSubSetWithLiteralAndRegexKeys() {
+        // given
+        CaseInsensitiveRegexSubSet subSet = subSet(new Headers()
+            .withEntry("content-type", "application/.*")
+            .withEntry("X-Request-.*", "[0-9]+")
+        );
+
+        // then
+        assertThat(subSet.isSubSetOf(keyIndex(new Headers()
+            .withEntry("Content-Type", "application/json")
+            .withEntry("X-Request-Id", "12345")
+        )), is(true));
+        assertThat(subSet.isSubSetOf(keyIndex(new Headers()
+            .withEntry("Content-Type", "application/json")
+            .withEntry("X-Request-Id", "abcde")
+        )), is(false));
+        assertThat(subSet.isSubSetOf(keyIndex(new Headers()
+            .withEntry("Accept", "application/json")
+            .withEntry("X-Request-Id", "12345")
+        )), is(false));
+    }
+
+    @Test
+    public void shouldBeSubSetWithNottedKeys() {
+        // given
+        CaseInsensitiveRegexSubSet subSet = subSet(new Headers()
+            .withEntry(string("Content-Type"), string("application/json"))
+            .withEntry(not("X-Request-Id"), string(".*"))
+        );
+
+        // then
+        assertThat(subSet.allKeysNotted(), is(false));
+        assertThat(subSet.isSubSetOf(keyIndex(new Headers()
+            .withEntry("Content-Type", "application/json")
+        )), is(true));
+        assertThat(subSet.isSubSetOf(keyIndex(new Headers()
+            .withEntry("Content-Type", "application/json")
+            .withEntry("X-Request-Id", "12345")
+        )), is(false));
+    }
+
+    @Test
+    public void shouldEvaluateEveryNottedEntry() {
+        // given
+        CaseInsensitiveRegexSubSet subSet = subSet(new Headers()
+            .withEntry(string("X-First"), not("one"))
+            .withEntry(string("X-Second"), not("two"))
+        );
+
+        // then - first notted entry matches
+        assertThat(subSet.isSubSetOf(keyIndex(new Headers()
+            .withEntry(string("X-First"), string("one"), not("one"))
+            .withEntry(string("X-Second"), not("two"))
+        )), is(true));
+        // and - second notted entry does not match
+        assertThat(subSet.isSubSetOf(keyIndex(new Headers()
+            .withEntry(string("X-First"), string("one"), not("one"))
+            .withEntry(string("X-Second"), string("two"))
+        )), is(false));
+    }
+
+    @Test
+    public void shouldIdentifyAllKeysNotted() {
+        // then
+        assertThat(subSet(new Headers().withEntry(not("X-Request-Id"), string(".*"))).allKeysNotted(), is(true));
+        assertThat(subSet(new Headers()).isEmpty(), is(true));
+        assertThat(subSet(new Headers()).allKeysNotted(), is(true));
+    }
+
+    @Test
+    public void shouldBeSubSetWhenEvaluatedConcurrently() throws Exception {
+        // given
+        CaseInsensitiveRegexSubSet subSet = subSet(new Headers()
+            .withEntry("Content-Type", "application/json")
+            .withEntry("X-Request-.*", "[0-9]+")
+        );
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String requestId = String.valueOf(i);
+                results.add(executorService.submit(() -> subSet.isSubSetOf(keyIndex(new Headers()
+                    .withEntry("Content-Type", "application/json")
+                    .withEntry("X-Request-Id", requestId)
+                ))));
+            }
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS), is(true));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
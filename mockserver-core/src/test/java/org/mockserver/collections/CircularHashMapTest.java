@@ -31,6 +31,26 @@ public class CircularHashMapTest {
         assertTrue(circularHashMap.containsKey("4"));
     }
 
+    @Test
+    public void shouldRemoveLeastRecentlyAccessedEntryInAccessOrder() {
+        // given
+        CircularHashMap<String, String> circularHashMap = new CircularHashMap<>(3, true);
+
+        // when
+        circularHashMap.put("1", "1");
+        circularHashMap.put("2", "2");
+        circularHashMap.put("3", "3");
+        circularHashMap.get("1");
+        circularHashMap.put("4", "4");
+
+        // then
+        assertEquals(3, circularHashMap.size());
+        assertTrue(circularHashMap.containsKey("1"));
+        assertFalse(circularHashMap.containsKey("2"));
+        assertTrue(circularHashMap.containsKey("3"));
+        assertTrue(circularHashMap.containsKey("4"));
+    }
+
     @Test
     public void shouldFindKeyByObject() {
         // given
@@ -7,9 +7,13 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockserver.log.EventLogOverflowPolicy;
+import org.mockserver.persistence.PersistedExpectationsFormat;
+import org.mockserver.scheduler.BlockingExecutorType;
 import org.mockserver.server.initialize.ExpectationInitializerExample;
 import org.mockserver.socket.tls.ForwardProxyTLSX509CertificatesTrustManager;
 import org.mockserver.socket.tls.jdk.CertificateSigningRequest;
+import org.mockserver.socket.transport.TransportType;
 import org.slf4j.event.Level;
 
 import java.io.File;
@@ -79,6 +83,98 @@ public class ConfigurationPropertiesTest {
         assertEquals(2, actionHandlerThreadCount());
     }
 
+    @Test
+    public void shouldSetAndReadBlockingActionExecutorType() {
+        // given
+        System.clearProperty("mockserver.blockingActionExecutorType");
+
+        // when
+        assertEquals(BlockingExecutorType.POOL, blockingActionExecutorType());
+        blockingActionExecutorType("virtual_thread");
+
+        // then
+        assertEquals("virtual_thread", System.getProperty("mockserver.blockingActionExecutorType"));
+        assertEquals(BlockingExecutorType.VIRTUAL_THREAD, blockingActionExecutorType());
+    }
+
+    @Test
+    public void shouldDefaultInvalidBlockingActionExecutorType() {
+        // given
+        System.clearProperty("mockserver.blockingActionExecutorType");
+
+        // when
+        blockingActionExecutorType("invalid");
+
+        // then
+        assertEquals(BlockingExecutorType.POOL, blockingActionExecutorType());
+    }
+
+    @Test
+    public void shouldSetAndReadTransportType() {
+        // given
+        System.clearProperty("mockserver.transportType");
+
+        // when
+        assertEquals(TransportType.AUTO, transportType());
+        transportType("nio");
+
+        // then
+        assertEquals("nio", System.getProperty("mockserver.transportType"));
+        assertEquals(TransportType.NIO, transportType());
+    }
+
+    @Test
+    public void shouldDefaultInvalidTransportType() {
+        // given
+        System.clearProperty("mockserver.transportType");
+
+        // when
+        transportType("invalid");
+
+        // then
+        assertEquals(TransportType.AUTO, transportType());
+    }
+
+    @Test
+    public void shouldSetAndReadEventLogOverflowPolicy() {
+        // given
+        System.clearProperty("mockserver.eventLogOverflowPolicy");
+
+        // when
+        assertEquals(EventLogOverflowPolicy.DROP, eventLogOverflowPolicy());
+        eventLogOverflowPolicy("block");
+
+        // then
+        assertEquals("block", System.getProperty("mockserver.eventLogOverflowPolicy"));
+        assertEquals(EventLogOverflowPolicy.BLOCK, eventLogOverflowPolicy());
+    }
+
+    @Test
+    public void shouldDefaultInvalidEventLogOverflowPolicy() {
+        // given
+        System.clearProperty("mockserver.eventLogOverflowPolicy");
+
+        // when
+        eventLogOverflowPolicy("invalid");
+
+        // then
+        assertEquals(EventLogOverflowPolicy.DROP, eventLogOverflowPolicy());
+    }
+
+    @Test
+    public void shouldSetAndReadEventLogOverflowTimeout() {
+        // given
+        System.clearProperty("mockserver.eventLogOverflowTimeout");
+
+        // when
+        assertEquals(100L, eventLogOverflowTimeout());
+        eventLogOverflowTimeout(500L);
+
+        // then
+        assertEquals("500", System.getProperty("mockserver.eventLogOverflowTimeout"));
+        assertEquals(500L, eventLogOverflowTimeout());
+    }
+
     @Test
     public void shouldSetAndReadWebSocketClientEventLoopThreadCount() {
         // given
@@ -255,6 +351,49 @@ public class ConfigurationPropertiesTest {
         assertEquals(100, maxSocketTimeout());
     }
 
+    @Test
+    public void shouldSetAndReadWebSocketCallbackTimeout() {
+        // given
+        System.clearProperty("mockserver.webSocketCallbackTimeout");
+        System.clearProperty("mockserver.maxSocketTimeout");
+
+        // when
+        assertEquals(maxSocketTimeout(), webSocketCallbackTimeout());
+        webSocketCallbackTimeout(100);
+
+        // then
+        assertEquals("100", System.getProperty("mockserver.webSocketCallbackTimeout"));
+        assertEquals(100, webSocketCallbackTimeout());
+    }
+
+    @Test
+    public void shouldSetAndReadWebSocketCallbackMaxInFlight() {
+        // given
+        System.clearProperty("mockserver.webSocketCallbackMaxInFlight");
+
+        // when
+        assertEquals(1000, webSocketCallbackMaxInFlight());
+        webSocketCallbackMaxInFlight(10);
+
+        // then
+        assertEquals("10", System.getProperty("mockserver.webSocketCallbackMaxInFlight"));
+        assertEquals(10, webSocketCallbackMaxInFlight());
+    }
+
+    @Test
+    public void shouldSetAndReadWebSocketCallbackTimeoutResponse() {
+        // given
+        System.clearProperty("mockserver.webSocketCallbackTimeoutResponse");
+
+        // when
+        assertEquals("", webSocketCallbackTimeoutResponse());
+        webSocketCallbackTimeoutResponse("{\"statusCode\": 503}");
+
+        // then
+        assertEquals("{\"statusCode\": 503}", System.getProperty("mockserver.webSocketCallbackTimeoutResponse"));
+        assertEquals("{\"statusCode\": 503}", webSocketCallbackTimeoutResponse());
+    }
+
     @Test
     public void shouldSetAndReadMaxFutureTimeout() {
         // given
@@ -292,6 +431,52 @@ public class ConfigurationPropertiesTest {
         assertEquals(100, socketConnectionTimeout());
     }
 
+    @Test
+    public void shouldSetAndReadDashboardUpdateInterval() {
+        // given
+        System.clearProperty("mockserver.dashboardUpdateInterval");
+
+        // when
+        assertEquals(1000L, dashboardUpdateInterval());
+        dashboardUpdateInterval(250L);
+
+        // then
+        assertEquals("250", System.getProperty("mockserver.dashboardUpdateInterval"));
+        assertEquals(250L, dashboardUpdateInterval());
+    }
+
+    @Test
+    public void shouldClampNonPositiveDashboardUpdateInterval() {
+        // given
+        System.clearProperty("mockserver.dashboardUpdateInterval");
+
+        // when
+        dashboardUpdateInterval(0L);
+
+        // then
+        assertEquals(1L, dashboardUpdateInterval());
+
+        // when
+        dashboardUpdateInterval(-100L);
+
+        // then
+        assertEquals(1L, dashboardUpdateInterval());
+    }
+
+    @Test
+    public void shouldSetAndReadListenerNotificationInterval() {
+        // given
+        System.clearProperty("mockserver.listenerNotificationInterval");
+
+        // when
+        assertEquals(100L, listenerNotificationInterval());
+        listenerNotificationInterval(10L);
+
+        // then
+        assertEquals("10", System.getProperty("mockserver.listenerNotificationInterval"));
+        assertEquals(10L, listenerNotificationInterval());
+    }
+
     @Test
     public void shouldSetAndReadAlwaysCloseSocketConnections() {
         // given
@@ -306,6 +491,152 @@ public class ConfigurationPropertiesTest {
         assertEquals("true", System.getProperty("mockserver.alwaysCloseSocketConnections"));
     }
 
+    @Test
+    public void shouldSetAndReadClientMaxConnections() {
+        // given
+        System.clearProperty("mockserver.clientMaxConnections");
+
+        // when
+        assertEquals(8, clientMaxConnections());
+        clientMaxConnections(2);
+
+        // then
+        assertEquals("2", System.getProperty("mockserver.clientMaxConnections"));
+        assertEquals(2, clientMaxConnections());
+    }
+
+    @Test
+    public void shouldSetAndReadSocketBacklog() {
+        // given
+        System.clearProperty("mockserver.socketBacklog");
+
+        // when
+        assertEquals(1024, socketBacklog());
+        socketBacklog(4096);
+
+        // then
+        assertEquals("4096", System.getProperty("mockserver.socketBacklog"));
+        assertEquals(4096, socketBacklog());
+    }
+
+    @Test
+    public void shouldSetAndReadSocketTcpNoDelay() {
+        // given
+        System.clearProperty("mockserver.socketTcpNoDelay");
+
+        // when
+        assertTrue(socketTcpNoDelay());
+        socketTcpNoDelay(false);
+
+        // then
+        assertEquals("false", System.getProperty("mockserver.socketTcpNoDelay"));
+        assertFalse(socketTcpNoDelay());
+    }
+
+    @Test
+    public void shouldSetAndReadSocketBufferSizes() {
+        // given
+        System.clearProperty("mockserver.socketReceiveBufferSize");
+        System.clearProperty("mockserver.socketSendBufferSize");
+
+        // when
+        assertEquals(0, socketReceiveBufferSize());
+        assertEquals(0, socketSendBufferSize());
+        socketReceiveBufferSize(65536);
+        socketSendBufferSize(131072);
+
+        // then
+        assertEquals("65536", System.getProperty("mockserver.socketReceiveBufferSize"));
+        assertEquals(65536, socketReceiveBufferSize());
+        assertEquals("131072", System.getProperty("mockserver.socketSendBufferSize"));
+        assertEquals(131072, socketSendBufferSize());
+    }
+
+    @Test
+    public void shouldSetAndReadSocketWriteBufferWaterMarks() {
+        // given
+        System.clearProperty("mockserver.socketWriteBufferLowWaterMark");
+        System.clearProperty("mockserver.socketWriteBufferHighWaterMark");
+
+        // when
+        assertEquals(8 * 1024, socketWriteBufferLowWaterMark());
+        assertEquals(32 * 1024, socketWriteBufferHighWaterMark());
+        socketWriteBufferLowWaterMark(16 * 1024);
+        socketWriteBufferHighWaterMark(64 * 1024);
+
+        // then
+        assertEquals("16384", System.getProperty("mockserver.socketWriteBufferLowWaterMark"));
+        assertEquals(16 * 1024, socketWriteBufferLowWaterMark());
+        assertEquals("65536", System.getProperty("mockserver.socketWriteBufferHighWaterMark"));
+        assertEquals(64 * 1024, socketWriteBufferHighWaterMark());
+    }
+
+    @Test
+    public void shouldSetAndReadAcceptorsPerPort() {
+        // given
+        System.clearProperty("mockserver.acceptorsPerPort");
+
+        // when
+        assertEquals(1, acceptorsPerPort());
+        acceptorsPerPort(4);
+
+        // then
+        assertEquals("4", System.getProperty("mockserver.acceptorsPerPort"));
+        assertEquals(4, acceptorsPerPort());
+    }
+
+    @Test
+    public void shouldSetAndReadMaxConnectionsPerPort() {
+        // given
+        System.clearProperty("mockserver.maxConnectionsPerPort");
+
+        // when
+        assertEquals(0, maxConnectionsPerPort());
+        maxConnectionsPerPort(100);
+
+        // then
+        assertEquals("100", System.getProperty("mockserver.maxConnectionsPerPort"));
+        assertEquals(100, maxConnectionsPerPort());
+    }
+
+    @Test
+    public void shouldSetAndReadMaxInFlightRequests() {
+        // given
+        System.clearProperty("mockserver.maxInFlightRequests");
+
+        // when
+        assertEquals(0, maxInFlightRequests());
+        maxInFlightRequests(50);
+
+        // then
+        assertEquals("50", System.getProperty("mockserver.maxInFlightRequests"));
+        assertEquals(50, maxInFlightRequests());
+    }
+
+    @Test
+    public void shouldSetAndReadClientRateLimitAndBurst() {
+        // given
+        System.clearProperty("mockserver.clientRateLimit");
+        System.clearProperty("mockserver.clientRateLimitBurst");
+
+        // when
+        assertEquals(0, clientRateLimit());
+        assertEquals(0, clientRateLimitBurst());
+        clientRateLimit(10);
+
+        // then
+        assertEquals("10", System.getProperty("mockserver.clientRateLimit"));
+        assertEquals(10, clientRateLimit());
+        assertEquals(10, clientRateLimitBurst());
+
+        // when
+        clientRateLimitBurst(25);
+
+        // then
+        assertEquals("25", System.getProperty("mockserver.clientRateLimitBurst"));
+        assertEquals(25, clientRateLimitBurst());
+    }
+
     @Test
     public void shouldHandleInvalidSocketConnectionTimeout() {
         // given
@@ -1005,6 +1336,58 @@ public class ConfigurationPropertiesTest {
         }
     }
 
+    @Test
+    public void shouldSetAndReadInitializationSnapshotPath() {
+        try {
+            // given
+            System.clearProperty("mockserver.initializationSnapshotPath");
+
+            // when
+            assertEquals("", initializationSnapshotPath());
+            initializationSnapshotPath("expectations.snapshot");
+
+            // then
+            assertEquals("expectations.snapshot", initializationSnapshotPath());
+            assertEquals("expectations.snapshot", System.getProperty("mockserver.initializationSnapshotPath"));
+        } finally {
+            System.clearProperty("mockserver.initializationSnapshotPath");
+        }
+    }
+
+    @Test
+    public void shouldSetAndReadPersistedExpectationsFormat() {
+        try {
+            // given
+            System.clearProperty("mockserver.persistedExpectationsFormat");
+
+            // when
+            assertEquals(PersistedExpectationsFormat.JSON, persistedExpectationsFormat());
+            persistedExpectationsFormat("snapshot");
+
+            // then
+            assertEquals("snapshot", System.getProperty("mockserver.persistedExpectationsFormat"));
+            assertEquals(PersistedExpectationsFormat.SNAPSHOT, persistedExpectationsFormat());
+        } finally {
+            System.clearProperty("mockserver.persistedExpectationsFormat");
+        }
+    }
+
+    @Test
+    public void shouldDefaultInvalidPersistedExpectationsFormat() {
+        try {
+            // given
+            System.clearProperty("mockserver.persistedExpectationsFormat");
+
+            // when
+            persistedExpectationsFormat("invalid");
+
+            // then
+            assertEquals(PersistedExpectationsFormat.JSON, persistedExpectationsFormat());
+        } finally {
+            System.clearProperty("mockserver.persistedExpectationsFormat");
+        }
+    }
+
     @Test
     public void shouldSetAndReadPersistedExpectationsPath() {
         try {
@@ -1133,4 +1516,18 @@ public class ConfigurationPropertiesTest {
         assertEquals("/livenessHttpGetPath", livenessHttpGetPath());
         assertEquals("/livenessHttpGetPath", System.getProperty("mockserver.livenessHttpGetPath"));
     }
+
+    @Test
+    public void shouldSetAndReadJavaScriptTemplateJsonRequestModel() {
+        // given
+        System.clearProperty("mockserver.javaScriptTemplateJsonRequestModel");
+
+        // when
+        assertFalse(javaScriptTemplateJsonRequestModel());
+        javaScriptTemplateJsonRequestModel(true);
+
+        // then
+        assertTrue(javaScriptTemplateJsonRequestModel());
+        assertEquals("true", System.getProperty("mockserver.javaScriptTemplateJsonRequestModel"));
+    }
 }
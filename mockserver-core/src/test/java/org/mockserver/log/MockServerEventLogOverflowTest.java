@@ -0,0 +1,122 @@
+package org.mockserver.log;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.scheduler.Scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.log.model.LogEntry.LogMessageType.RECEIVED_REQUEST;
+import static org.mockserver.log.model.LogEntry.LogMessageType.RUNNABLE;
+import static org.mockserver.model.HttpRequest.request;
+import static org.slf4j.event.Level.INFO;
+
+/**
+ * @author jamesdbloom
+ */
+public class MockServerEventLogOverflowTest {
+
+    private static final int RING_BUFFER_SIZE = 128;
+    private final CountDownLatch logThreadBlocked = new CountDownLatch(1);
+    private int originalMaxExpectations;
+    private MockServerEventLog mockServerEventLog;
+
+    @Before
+    public void setupRingBuffer() {
+        originalMaxExpectations = ConfigurationProperties.maxExpectations();
+        ConfigurationProperties.maxExpectations(8);
+    }
+
+    @After
+    public void resetConfiguration() {
+        logThreadBlocked.countDown();
+        if (mockServerEventLog != null) {
+            mockServerEventLog.stop();
+        }
+        ConfigurationProperties.maxExpectations(originalMaxExpectations);
+        System.clearProperty("mockserver.eventLogOverflowPolicy");
+        System.clearProperty("mockserver.eventLogOverflowTimeout");
+    }
+
+    private void blockLogThread() {
+        mockServerEventLog.add(new LogEntry()
+            .setType(RUNNABLE)
+            .setConsumer(() -> {
+                try {
+                    logThreadBlocked.await(30, TimeUnit.SECONDS);
+                } catch (InterruptedException ignore) {
+                    // ignore interruption
+                }
+            })
+        );
+    }
+
+    private LogEntry diagnosticEntry() {
+        return new LogEntry()
+            .setLogLevel(INFO)
+            .setMessageFormat("some diagnostic message");
+    }
+
+    private LogEntry requestRecord() {
+        return new LogEntry()
+            .setType(RECEIVED_REQUEST)
+            .setLogLevel(INFO)
+            .setHttpRequest(request("/some_path"))
+            .setMessageFormat("received request:{}");
+    }
+
+    @Test
+    public void shouldDropDiagnosticEntriesBeforeRequestRecords() {
+        // given
+        mockServerEventLog = new MockServerEventLog(new MockServerLogger(), mock(Scheduler.class), true);
+        blockLogThread();
+
+        // when
+        for (int i = 0; i < RING_BUFFER_SIZE; i++) {
+            mockServerEventLog.add(diagnosticEntry());
+        }
+        for (int i = 0; i < RING_BUFFER_SIZE / 2; i++) {
+            mockServerEventLog.add(requestRecord());
+        }
+
+        // then - a quarter of the ring buffer is kept for records
+        int diagnosticEntriesAdded = RING_BUFFER_SIZE - 1 - RING_BUFFER_SIZE / 4;
+        assertThat(mockServerEventLog.getDroppedEventCounts().get("info"), is((long) (RING_BUFFER_SIZE - diagnosticEntriesAdded)));
+        assertThat(mockServerEventLog.getDroppedEventCounts().get("received_request"), is((long) (RING_BUFFER_SIZE / 2 - RING_BUFFER_SIZE / 4)));
+        assertThat(mockServerEventLog.ringBufferRemainingCapacity(), is(0L));
+    }
+
+    @Test
+    public void shouldWaitForSpaceForRequestRecordsWhenBlockPolicy() throws InterruptedException {
+        // given
+        ConfigurationProperties.eventLogOverflowPolicy("BLOCK");
+        ConfigurationProperties.eventLogOverflowTimeout(TimeUnit.SECONDS.toMillis(10));
+        mockServerEventLog = new MockServerEventLog(new MockServerLogger(), mock(Scheduler.class), true);
+        blockLogThread();
+        while (mockServerEventLog.ringBufferRemainingCapacity() > 0) {
+            mockServerEventLog.add(requestRecord());
+        }
+
+        // when
+        new Scheduler.SchedulerThreadFactory("MockServerEventLogOverflowTest").newThread(() -> {
+            try {
+                TimeUnit.MILLISECONDS.sleep(100);
+            } catch (InterruptedException ignore) {
+                // ignore interruption
+            }
+            logThreadBlocked.countDown();
+        }).start();
+        mockServerEventLog.add(requestRecord());
+
+        // then
+        assertThat(mockServerEventLog.getDroppedEventCounts().get("received_request"), is(0L));
+    }
+}
@@ -7,9 +7,12 @@ import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.model.VerificationResultsDTO;
 import org.mockserver.verify.Verification;
 import org.mockserver.verify.VerificationSequence;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -485,4 +488,125 @@ public class MockServerEventLogRequestLogEntryVerificationTest {
             ),
             is("Request not found exactly 0 times, expected:<{ }> but was:<{ }>"));
     }
+
+    @Test
+    public void shouldVerifyAllVerificationsAndSequencesInSinglePass() throws Exception {
+        // given
+        HttpRequest httpRequest = new HttpRequest().withPath("some_path");
+        HttpRequest otherHttpRequest = new HttpRequest().withPath("some_other_path");
+
+        // when
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(httpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(otherHttpRequest)
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // then
+        VerificationResultsDTO verificationResults = mockServerEventLog.verifyAll(
+            Arrays.asList(
+                verification()
+                    .withRequest(new HttpRequest().withPath("some_path"))
+                    .withTimes(exactly(1)),
+                verification()
+                    .withRequest(new HttpRequest().withPath("some_other_path"))
+                    .withTimes(atLeast(1))
+            ),
+            Collections.singletonList(
+                new VerificationSequence()
+                    .withRequests(
+                        request("some_path"),
+                        request("some_other_path")
+                    )
+            )
+        ).get(10, SECONDS);
+        assertThat(verificationResults.getPassed(), is(true));
+        assertThat(verificationResults.getResults().size(), is(3));
+        assertThat(verificationResults.getResults().get(0), is(
+            new VerificationResultsDTO.Result()
+                .setType(VerificationResultsDTO.VERIFICATION)
+                .setIndex(0)
+                .setPassed(true)
+                .setMatchingRequestCount(1)
+        ));
+        assertThat(verificationResults.getResults().get(2), is(
+            new VerificationResultsDTO.Result()
+                .setType(VerificationResultsDTO.VERIFICATION_SEQUENCE)
+                .setIndex(0)
+                .setPassed(true)
+        ));
+    }
+
+    @Test
+    public void shouldReturnClosestMatchesForFailedVerificationsAndSequences() throws Exception {
+        // given
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(request("some_path").withMethod("POST"))
+                .setType(RECEIVED_REQUEST)
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(request("some_other_path").withMethod("GET"))
+                .setType(RECEIVED_REQUEST)
+        );
+        mockServerEventLog.add(
+            new LogEntry()
+                .setHttpRequest(request("some_path").withMethod("GET"))
+                .setType(RECEIVED_REQUEST)
+        );
+
+        // when
+        VerificationResultsDTO verificationResults = mockServerEventLog.verifyAll(
+            Arrays.asList(
+                verification()
+                    .withRequest(request("some_path").withMethod("GET"))
+                    .withTimes(exactly(1)),
+                verification()
+                    .withRequest(request("some_path").withMethod("GET").withBody("some_body"))
+                    .withTimes(atLeast(1))
+            ),
+            Collections.singletonList(
+                new VerificationSequence()
+                    .withRequests(
+                        request("some_path").withMethod("GET"),
+                        request("some_other_path")
+                    )
+            )
+        ).get(10, SECONDS);
+
+        // then
+        assertThat(verificationResults.getPassed(), is(false));
+        assertThat(verificationResults.getResults().get(0).getPassed(), is(true));
+        assertThat(verificationResults.getResults().get(1), is(
+            new VerificationResultsDTO.Result()
+                .setType(VerificationResultsDTO.VERIFICATION)
+                .setIndex(1)
+                .setPassed(false)
+                .setMatchingRequestCount(0)
+                .setMessage("Request not found at least once, found 0 matching requests")
+                .setClosestMatches(Arrays.asList(
+                    request("some_path").withMethod("GET"),
+                    request("some_path").withMethod("POST"),
+                    request("some_other_path").withMethod("GET")
+                ))
+        ));
+        assertThat(verificationResults.getResults().get(2), is(
+            new VerificationResultsDTO.Result()
+                .setType(VerificationResultsDTO.VERIFICATION_SEQUENCE)
+                .setIndex(0)
+                .setPassed(false)
+                .setMessage("Request sequence not found, request at position 1 not found in order")
+                .setClosestMatches(Arrays.asList(
+                    request("some_other_path").withMethod("GET"),
+                    request("some_path").withMethod("POST"),
+                    request("some_path").withMethod("GET")
+                ))
+        ));
+    }
 }
@@ -13,11 +13,13 @@ import org.mockserver.mock.HttpStateHandler;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.scheduler.Scheduler;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
@@ -102,6 +104,49 @@ public class MockServerEventLogTest {
         }
     }
 
+    private ReverseVisitor retrieveLogEntriesInReverse(long afterSequence, int maxEntries) {
+        ReverseVisitor visitor = new ReverseVisitor(maxEntries);
+        mockServerEventLog.retrieveLogEntriesInReverse(afterSequence, visitor);
+        try {
+            visitor.completed.get(60, SECONDS);
+        } catch (Exception e) {
+            fail(e.getMessage());
+        }
+        return visitor;
+    }
+
+    private static class ReverseVisitor implements LogEntryVisitor {
+        private final int maxEntries;
+        private final List<String> messageFormats = new ArrayList<>();
+        private final CompletableFuture<Boolean> completed = new CompletableFuture<>();
+        private long latestSequence;
+
+        private ReverseVisitor(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        public boolean visit(LogEntry logEntry) {
+            messageFormats.add(logEntry.getMessageFormat());
+            return messageFormats.size() < maxEntries;
+        }
+
+        @Override
+        public void completed(long latestSequence, boolean incremental) {
+            this.latestSequence = latestSequence;
+            completed.complete(incremental);
+        }
+    }
+
+    private void logMessage(String messageFormat) {
+        mockServerLogger.logEvent(
+            new LogEntry()
+                .setType(LogEntry.LogMessageType.INFO)
+                .setLogLevel(INFO)
+                .setMessageFormat(messageFormat)
+        );
+    }
+
     @Test
     public void shouldRetrieveLogEntriesContainingNulls() {
         // given
@@ -638,4 +683,54 @@ public class MockServerEventLogTest {
         assertThat(retrieveRequestLogEntries(), empty());
         assertThat(retrieveRequestResponseMessageLogEntries(null), empty());
     }
+
+    @Test
+    public void shouldRetrieveLogEntriesInReverseAddedAfterSequence() throws Exception {
+        // given
+        logMessage("one");
+        logMessage("two");
+        ReverseVisitor firstVisitor = retrieveLogEntriesInReverse(-1, Integer.MAX_VALUE);
+        logMessage("three");
+        logMessage("four");
+
+        // when
+        ReverseVisitor secondVisitor = retrieveLogEntriesInReverse(firstVisitor.latestSequence, Integer.MAX_VALUE);
+
+        // then
+        assertThat(firstVisitor.completed.get(), is(false));
+        assertThat(firstVisitor.messageFormats, contains("two", "one"));
+        assertThat(secondVisitor.completed.get(), is(true));
+        assertThat(secondVisitor.messageFormats, contains("four", "three"));
+        assertThat(secondVisitor.latestSequence, is(firstVisitor.latestSequence + 2));
+    }
+
+    @Test
+    public void shouldStopRetrievingLogEntriesInReverseWhenVisitorReturnsFalse() {
+        // given
+        logMessage("one");
+        logMessage("two");
+        logMessage("three");
+
+        // when
+        ReverseVisitor visitor = retrieveLogEntriesInReverse(-1, 2);
+
+        // then
+        assertThat(visitor.messageFormats, contains("three", "two"));
+    }
+
+    @Test
+    public void shouldRetrieveAllLogEntriesInReverseAfterClear() throws Exception {
+        // given
+        logMessage("one");
+        ReverseVisitor firstVisitor = retrieveLogEntriesInReverse(-1, Integer.MAX_VALUE);
+        mockServerEventLog.clear(null);
+        logMessage("two");
+
+        // when
+        ReverseVisitor secondVisitor = retrieveLogEntriesInReverse(firstVisitor.latestSequence, Integer.MAX_VALUE);
+
+        // then
+        assertThat(secondVisitor.completed.get(), is(false));
+        assertThat(secondVisitor.messageFormats, contains("two"));
+    }
 }
@@ -0,0 +1,60 @@
+package org.mockserver.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * @author jamesdbloom
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldMapValuesToBucketsWithBoundedRelativeError() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 100, 1_000, 12_345, 1_000_000, 60_000_000, Long.MAX_VALUE / 3, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upperBound = LatencyHistogram.bucketUpperBound(index);
+
+            assertThat(index, allOf(greaterThanOrEqualTo(0), lessThan(LatencyHistogram.BUCKET_COUNT)));
+            assertThat(upperBound, greaterThanOrEqualTo(value));
+            assertThat((double) (upperBound - value), lessThanOrEqualTo(Math.max(1.0, (double) value / LatencyHistogram.SUB_BUCKET_COUNT)));
+        }
+    }
+
+    @Test
+    public void shouldRecordCountSumAndPercentiles() {
+        // given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            latencyHistogram.record(i, TimeUnit.MILLISECONDS);
+        }
+
+        // then
+        assertThat(latencyHistogram.getCount(), is(100L));
+        assertThat(latencyHistogram.getSum(), is(5_050_000L));
+        assertThat((double) latencyHistogram.getValueAtPercentile(50), closeTo(50_000, 50_000 / 8.0));
+        assertThat((double) latencyHistogram.getValueAtPercentile(99), closeTo(99_000, 99_000 / 8.0));
+        assertThat(latencyHistogram.getCountAtOrBelow(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(10_000))), is(10L));
+        assertThat(latencyHistogram.getCountAtOrBelow(Long.MAX_VALUE), is(100L));
+    }
+
+    @Test
+    public void shouldReset() {
+        // given
+        LatencyHistogram latencyHistogram = new LatencyHistogram();
+        latencyHistogram.record(5, TimeUnit.MILLISECONDS);
+
+        // when
+        latencyHistogram.reset();
+
+        // then
+        assertThat(latencyHistogram.getCount(), is(0L));
+        assertThat(latencyHistogram.getSum(), is(0L));
+        assertThat(latencyHistogram.getValueAtPercentile(50), is(0L));
+    }
+}
@@ -0,0 +1,93 @@
+package org.mockserver.metrics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockserver.metrics.Metrics.Latency.END_TO_END;
+import static org.mockserver.metrics.Metrics.Latency.MATCH;
+import static org.mockserver.model.Action.Type.FORWARD;
+import static org.mockserver.model.Action.Type.RESPONSE;
+
+/**
+ * @author jamesdbloom
+ */
+public class MetricsTest {
+
+    private boolean originalMetricsEnabled;
+
+    @Before
+    public void enableMetrics() {
+        originalMetricsEnabled = ConfigurationProperties.metricsEnabled();
+        ConfigurationProperties.metricsEnabled(true);
+        Metrics.clear();
+    }
+
+    @After
+    public void restoreMetrics() {
+        ConfigurationProperties.metricsEnabled(originalMetricsEnabled);
+        Metrics.clear();
+    }
+
+    @Test
+    public void shouldIncrementAndDecrementCounters() {
+        // when
+        Metrics.increment(Metrics.Name.EXPECTATION_NOT_MATCHED_COUNT);
+        Metrics.increment(Metrics.Name.EXPECTATION_NOT_MATCHED_COUNT);
+        Metrics.increment(RESPONSE);
+        Metrics.increment(FORWARD);
+        Metrics.decrement(FORWARD);
+
+        // then
+        assertThat(Metrics.get(Metrics.Name.EXPECTATION_NOT_MATCHED_COUNT), is(2));
+        assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(1));
+        assertThat(Metrics.get(Metrics.Name.ACTION_FORWARD_COUNT), is(0));
+    }
+
+    @Test
+    public void shouldClearActionMetricsOnly() {
+        // given
+        Metrics.increment(RESPONSE);
+        Metrics.set(Metrics.Name.WEBSOCKET_CALLBACK_CLIENT_COUNT, 3);
+
+        // when
+        Metrics.clearActionMetrics();
+
+        // then
+        assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(0));
+        assertThat(Metrics.get(Metrics.Name.WEBSOCKET_CALLBACK_CLIENT_COUNT), is(3));
+    }
+
+    @Test
+    public void shouldRecordLatencyPerActionType() {
+        // when
+        Metrics.recordLatency(MATCH, RESPONSE, Metrics.startLatency());
+        Metrics.recordLatency(MATCH, null, Metrics.startLatency());
+        Metrics.recordLatency(MATCH, null, Metrics.startLatency());
+
+        // then
+        assertThat(Metrics.getLatency(MATCH, RESPONSE).getCount(), is(1L));
+        assertThat(Metrics.getLatency(MATCH, FORWARD).getCount(), is(0L));
+        assertThat(Metrics.getLatency(MATCH, null).getCount(), is(2L));
+        assertThat(Metrics.getLatency(END_TO_END, RESPONSE).getCount(), is(0L));
+    }
+
+    @Test
+    public void shouldNotRecordWhenDisabled() {
+        // given
+        ConfigurationProperties.metricsEnabled(false);
+
+        // when
+        long startNanos = Metrics.startLatency();
+        Metrics.recordLatency(MATCH, RESPONSE, startNanos);
+        Metrics.increment(RESPONSE);
+
+        // then
+        assertThat(startNanos, is(0L));
+        assertThat(Metrics.getLatency(MATCH, RESPONSE).getCount(), is(0L));
+        assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(0));
+    }
+}
@@ -0,0 +1,133 @@
+package org.mockserver.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockserver.metrics.Metrics.Latency.END_TO_END;
+import static org.mockserver.model.Action.Type.RESPONSE;
+
+/**
+ * @author jamesdbloom
+ */
+public class PrometheusMetricsTest {
+
+    private boolean originalMetricsEnabled;
+
+    @Before
+    public void enableMetrics() {
+        originalMetricsEnabled = ConfigurationProperties.metricsEnabled();
+        ConfigurationProperties.metricsEnabled(true);
+        Metrics.clear();
+    }
+
+    @After
+    public void restoreMetrics() {
+        ConfigurationProperties.metricsEnabled(originalMetricsEnabled);
+        Metrics.clear();
+    }
+
+    @Test
+    public void shouldRenderCounters() {
+        // given
+        Metrics.increment(Metrics.Name.EXPECTATION_NOT_MATCHED_COUNT);
+        Metrics.increment(RESPONSE);
+
+        // when
+        String output = new PrometheusMetrics().render();
+
+        // then
+        assertThat(output, containsString("" +
+            "# HELP mockserver_expectation_not_matched_count expectation not matched count\n" +
+            "# TYPE mockserver_expectation_not_matched_count counter\n" +
+            "mockserver_expectation_not_matched_count 1\n"));
+        assertThat(output, containsString("" +
+            "# TYPE mockserver_action_response_count gauge\n" +
+            "mockserver_action_response_count 1\n"));
+    }
+
+    @Test
+    public void shouldRenderRecordedHistogramsOnly() {
+        // given
+        Metrics.getLatency(END_TO_END, RESPONSE).record(2, TimeUnit.MILLISECONDS);
+        Metrics.getLatency(END_TO_END, RESPONSE).record(3, TimeUnit.SECONDS);
+
+        // when
+        String output = new PrometheusMetrics().render();
+
+        // then
+        assertThat(output, containsString("# TYPE mockserver_latency_seconds histogram\n"));
+        assertThat(output, containsString("mockserver_latency_seconds_bucket{latency=\"end_to_end\",action=\"response\",le=\"0.001023\"} 0\n"));
+        assertThat(output, containsString("mockserver_latency_seconds_bucket{latency=\"end_to_end\",action=\"response\",le=\"0.005119\"} 1\n"));
+        assertThat(output, containsString("mockserver_latency_seconds_bucket{latency=\"end_to_end\",action=\"response\",le=\"+Inf\"} 2\n"));
+        assertThat(output, containsString("mockserver_latency_seconds_sum{latency=\"end_to_end\",action=\"response\"} 3.002\n"));
+        assertThat(output, containsString("mockserver_latency_seconds_count{latency=\"end_to_end\",action=\"response\"} 2\n"));
+        assertThat(output, not(containsString("latency=\"match\"")));
+    }
+
+    @Test
+    public void shouldRenderGauges() {
+        // given
+        PrometheusMetrics prometheusMetrics = new PrometheusMetrics()
+            .gauge("some_gauge", "some help", () -> 5)
+            .gauge("some_labelled_gauge", "some other help", "port", () -> ImmutableMap.of("1080", 2L, "some \"quoted\" value", 3L));
+
+        // when
+        String output = prometheusMetrics.render();
+
+        // then
+        assertThat(output, containsString("" +
+            "# HELP some_gauge some help\n" +
+            "# TYPE some_gauge gauge\n" +
+            "some_gauge 5\n"));
+        assertThat(output, containsString("" +
+            "# HELP some_labelled_gauge some other help\n" +
+            "# TYPE some_labelled_gauge gauge\n" +
+            "some_labelled_gauge{port=\"1080\"} 2\n" +
+            "some_labelled_gauge{port=\"some \\\"quoted\\\" value\"} 3\n"));
+    }
+
+    @Test
+    public void shouldRenderLabelledCounters() {
+        // given
+        PrometheusMetrics prometheusMetrics = new PrometheusMetrics()
+            .counter("some_labelled_counter", "some help", "type", () -> ImmutableMap.of("received_request", 4L, "info", 0L));
+
+        // when
+        String output = prometheusMetrics.render();
+
+        // then
+        assertThat(output, containsString("" +
+            "# HELP some_labelled_counter some help\n" +
+            "# TYPE some_labelled_counter counter\n" +
+            "some_labelled_counter{type=\"received_request\"} 4\n" +
+            "some_labelled_counter{type=\"info\"} 0\n"));
+    }
+
+    @Test
+    public void shouldRenderLabelledHistograms() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2, TimeUnit.MILLISECONDS);
+        PrometheusMetrics prometheusMetrics = new PrometheusMetrics()
+            .histogram("some_histogram_seconds", "some help", "client_id", () -> ImmutableMap.of("some_client", histogram, "other_client", new LatencyHistogram()));
+
+        // when
+        String output = prometheusMetrics.render();
+
+        // then
+        assertThat(output, containsString("" +
+            "# HELP some_histogram_seconds some help\n" +
+            "# TYPE some_histogram_seconds histogram\n"));
+        assertThat(output, containsString("some_histogram_seconds_bucket{client_id=\"some_client\",le=\"0.005119\"} 1\n"));
+        assertThat(output, containsString("some_histogram_seconds_count{client_id=\"some_client\"} 1\n"));
+        assertThat(output, not(containsString("client_id=\"other_client\"")));
+    }
+}
@@ -325,4 +325,28 @@ public class ExpectationTest {
         // then
         new Expectation(httpRequest, Times.once(), TimeToLive.unlimited()).thenRespond(httpResponse).thenRespond(httpObjectCallback);
     }
+
+    @Test
+    public void shouldSnapshotExpectationWithLimitedTimes() {
+        // given
+        Expectation expectation = new Expectation(request().withPath("some_path"), Times.exactly(2), TimeToLive.unlimited());
+
+        // when
+        Expectation snapshot = expectation.snapshot();
+        expectation.getTimes().decrement();
+
+        // then
+        assertNotSame(expectation, snapshot);
+        assertThat(snapshot.getTimes().getRemainingTimes(), is(2));
+        assertThat(expectation.getTimes().getRemainingTimes(), is(1));
+    }
+
+    @Test
+    public void shouldNotCopyExpectationWithUnlimitedTimesForSnapshot() {
+        // given
+        Expectation expectation = new Expectation(request().withPath("some_path"));
+
+        // then
+        assertSame(expectation, expectation.snapshot());
+    }
 }
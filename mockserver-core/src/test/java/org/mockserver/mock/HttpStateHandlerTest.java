@@ -2,26 +2,37 @@ package org.mockserver.mock;
 
 import org.junit.*;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockserver.log.TimeService;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.TimeToLive;
 import org.mockserver.matchers.Times;
+import org.mockserver.metrics.PrometheusMetrics;
+import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.model.MediaType;
+import org.mockserver.responsewriter.ResponseWriter;
 import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.ExpectationSerializer;
 import org.mockserver.serialization.HttpRequestSerializer;
 import org.mockserver.serialization.LogEntrySerializer;
+import org.mockserver.serialization.VerificationsSerializer;
 import org.mockserver.serialization.java.ExpectationToJavaSerializer;
 import org.mockserver.serialization.java.HttpRequestToJavaSerializer;
+import org.mockserver.ui.MockServerMatcherListener;
+import org.mockserver.verify.VerificationSequence;
 import org.slf4j.event.Level;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 
+import static io.netty.handler.codec.http.HttpResponseStatus.ACCEPTED;
+import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_ACCEPTABLE;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static junit.framework.TestCase.fail;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,7 +40,11 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.log.model.LogEntry.LOG_DATE_FORMAT;
@@ -40,6 +55,8 @@ import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.model.RetrieveType.REQUEST_RESPONSES;
+import static org.mockserver.verify.Verification.verification;
+import static org.mockserver.verify.VerificationTimes.exactly;
 import static org.slf4j.event.Level.INFO;
 
 /**
@@ -1267,4 +1284,124 @@ public class HttpStateHandlerTest {
         assertThat(httpStateHandler.firstMatchingExpectation(request("request_one")), nullValue());
     }
 
+    @Test
+    public void shouldVerifyAllVerificationsAndSequencesInSingleRequest() {
+        // given
+        httpStateHandler.log(
+            new LogEntry()
+                .setType(RECEIVED_REQUEST)
+                .setHttpRequest(request("request_one"))
+        );
+        httpStateHandler.log(
+            new LogEntry()
+                .setType(RECEIVED_REQUEST)
+                .setHttpRequest(request("request_two"))
+        );
+        ResponseWriter passingResponseWriter = mock(ResponseWriter.class);
+        ResponseWriter failingResponseWriter = mock(ResponseWriter.class);
+        ArgumentCaptor<String> passingBody = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> failingBody = ArgumentCaptor.forClass(String.class);
+        VerificationsSerializer verificationsSerializer = new VerificationsSerializer(new MockServerLogger());
+
+        // when
+        httpStateHandler.handle(request("/mockserver/verifyAll").withMethod("PUT").withBody(verificationsSerializer.serialize(
+            Arrays.asList(
+                verification().withRequest(request("request_one")).withTimes(exactly(1)),
+                verification().withRequest(request("request_three")).withTimes(exactly(0))
+            ),
+            Collections.singletonList(new VerificationSequence().withRequests(request("request_one"), request("request_two")))
+        )), passingResponseWriter, false);
+        httpStateHandler.handle(request("/mockserver/verifyAll").withMethod("PUT").withBody(verificationsSerializer.serialize(
+            Collections.singletonList(
+                verification().withRequest(request("request_one")).withTimes(exactly(1))
+            ),
+            Collections.singletonList(new VerificationSequence().withRequests(request("request_two"), request("request_one")))
+        )), failingResponseWriter, false);
+
+        // then
+        verify(passingResponseWriter, timeout(1000)).writeResponse(any(HttpRequest.class), eq(ACCEPTED), passingBody.capture(), eq("application/json"));
+        assertThat(passingBody.getValue(), containsString("\"passed\" : true"));
+        verify(failingResponseWriter, timeout(1000)).writeResponse(any(HttpRequest.class), eq(NOT_ACCEPTABLE), failingBody.capture(), eq("application/json"));
+        assertThat(failingBody.getValue(), containsString("\"type\" : \"VERIFICATION_SEQUENCE\""));
+        assertThat(failingBody.getValue(), containsString("\"message\" : \"Request sequence not found, request at position 1 not found in order\""));
+    }
+
+    @Test
+    public void shouldRejectVerifyAllWithInvalidVerification() {
+        // given
+        ResponseWriter responseWriter = mock(ResponseWriter.class);
+
+        try {
+            // when
+            httpStateHandler.handle(request("/mockserver/verifyAll").withMethod("PUT").withBody("{ \"verifications\" : [ { \"times\" : \"invalid\" } ] }"), responseWriter, false);
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            // then
+            assertThat(iae.getMessage(), containsString("times"));
+        }
+    }
+
+    @Test
+    public void shouldNotifyListenersOnceForArrayOfExpectations() {
+        // given
+        httpStateHandler.getMockServerMatcher().registerListener(mock(MockServerMatcherListener.class));
+        ResponseWriter responseWriter = mock(ResponseWriter.class);
+
+        // when
+        httpStateHandler.handle(request("/mockserver/expectation").withMethod("PUT").withBody(httpExpectationSerializer.serialize(
+            new Expectation(request("request_one")).thenRespond(response("response_one")),
+            new Expectation(request("request_two")).thenRespond(response("response_two"))
+        )), responseWriter, false);
+
+        // then
+        verify(responseWriter).writeResponse(any(HttpRequest.class), eq(CREATED));
+        assertThat(httpStateHandler.getMockServerMatcher().size(), is(2));
+        assertThat(httpStateHandler.getMockServerMatcher().getNotificationVersion(), is(1L));
+    }
+
+    @Test
+    public void shouldRenderMetricsInPrometheusFormat() {
+        // given
+        httpStateHandler.add(new Expectation(request("request_one")).thenRespond(response("response_one")));
+        ResponseWriter responseWriter = mock(ResponseWriter.class);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+
+        // when
+        boolean handled = httpStateHandler.handle(request("/mockserver/metrics").withMethod("GET"), responseWriter, false);
+
+        // then
+        assertThat(handled, is(true));
+        verify(responseWriter).writeResponse(any(HttpRequest.class), eq(OK), body.capture(), eq(PrometheusMetrics.CONTENT_TYPE));
+        assertThat(body.getValue(), containsString("# TYPE mockserver_expectation_count gauge\nmockserver_expectation_count 1\n"));
+        assertThat(body.getValue(), containsString("# TYPE mockserver_expectation_not_matched_count counter\n"));
+        assertThat(body.getValue(), containsString("mockserver_scheduler_queue_depth 0\n"));
+        assertThat(body.getValue(), containsString("mockserver_event_log_ring_buffer_remaining_capacity "));
+    }
+
+    @Test
+    public void shouldReturnInFlightCallbacks() {
+        // given
+        httpStateHandler.getWebSocketClientRegistry().registerResponseCallbackHandler("some_correlation_id", httpResponse -> {
+        });
+        ResponseWriter responseWriter = mock(ResponseWriter.class);
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+
+        // when
+        boolean handled = httpStateHandler.handle(request("/mockserver/callbacks").withMethod("GET"), responseWriter, false);
+
+        // then
+        assertThat(handled, is(true));
+        verify(responseWriter).writeResponse(any(HttpRequest.class), eq(OK), body.capture(), eq("application/json"));
+        assertThat(body.getValue(), containsString("\"webSocketCorrelationId\" : \"some_correlation_id\""));
+        assertThat(body.getValue(), containsString("\"type\" : \"RESPONSE\""));
+    }
+
+    @Test
+    public void shouldNotHandleMetricsWithoutPathPrefix() {
+        // when
+        boolean handled = httpStateHandler.handle(request("/metrics").withMethod("GET"), mock(ResponseWriter.class), false);
+
+        // then
+        assertThat(handled, is(false));
+    }
 }
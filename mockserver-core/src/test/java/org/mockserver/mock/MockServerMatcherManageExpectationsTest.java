@@ -3,11 +3,13 @@ package org.mockserver.mock;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.TimeToLive;
 import org.mockserver.matchers.Times;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.scheduler.Scheduler;
+import org.mockserver.ui.MockServerMatcherNotifier;
 
 import java.util.concurrent.TimeUnit;
 
@@ -159,4 +161,50 @@ public class MockServerMatcherManageExpectationsTest {
         assertThat(mockServerMatcher.firstMatchingExpectation(new HttpRequest().withPath("someOtherPath")), nullValue());
         assertThat(mockServerMatcher.httpRequestMatchers, empty());
     }
+
+    @Test
+    public void shouldAddAllExpectationsUpdatingExistingExpectationsById() {
+        // given
+        mockServerMatcher.add(new Expectation(request().withPath("somePath")).withId("one").thenRespond(response().withBody("someBody")));
+
+        // when
+        mockServerMatcher.addAll(new Expectation[]{
+            new Expectation(request().withPath("someOtherPath")).withId("one").thenRespond(response().withBody("someOtherBody")),
+            new Expectation(request().withPath("somePathTwo")).withId("two").thenRespond(response().withBody("someBodyTwo")),
+            null
+        }, MockServerMatcherNotifier.Cause.API);
+
+        // then
+        assertThat(mockServerMatcher.httpRequestMatchers.size(), is(2));
+        assertThat(mockServerMatcher.firstMatchingExpectation(request().withPath("somePath")), nullValue());
+        assertThat(mockServerMatcher.firstMatchingExpectation(request().withPath("someOtherPath")).getId(), is("one"));
+        assertThat(mockServerMatcher.firstMatchingExpectation(request().withPath("somePathTwo")).getId(), is("two"));
+    }
+
+    @Test
+    public void shouldEvictOldestExpectationWhenMaxExpectationsExceeded() {
+        int originalMaxExpectations = ConfigurationProperties.maxExpectations();
+        try {
+            // given
+            ConfigurationProperties.maxExpectations(2);
+            mockServerMatcher = new MockServerMatcher(new MockServerLogger(), mock(Scheduler.class), mock(WebSocketClientRegistry.class));
+
+            // when
+            mockServerMatcher.addAll(new Expectation[]{
+                new Expectation(request().withPath("somePathOne")).withId("one").thenRespond(response().withBody("someBodyOne")),
+                new Expectation(request().withPath("somePathTwo")).withId("two").thenRespond(response().withBody("someBodyTwo")),
+                new Expectation(request().withPath("somePathThree")).withId("three").thenRespond(response().withBody("someBodyThree"))
+            }, MockServerMatcherNotifier.Cause.API);
+            // and - evicted id is added again, not updated
+            mockServerMatcher.add(new Expectation(request().withPath("somePathFour")).withId("one").thenRespond(response().withBody("someBodyFour")));
+
+            // then
+            assertThat(mockServerMatcher.httpRequestMatchers.size(), is(2));
+            assertThat(mockServerMatcher.firstMatchingExpectation(request().withPath("somePathTwo")), nullValue());
+            assertThat(mockServerMatcher.firstMatchingExpectation(request().withPath("somePathThree")).getId(), is("three"));
+            assertThat(mockServerMatcher.firstMatchingExpectation(request().withPath("somePathFour")).getId(), is("one"));
+        } finally {
+            ConfigurationProperties.maxExpectations(originalMaxExpectations);
+        }
+    }
 }
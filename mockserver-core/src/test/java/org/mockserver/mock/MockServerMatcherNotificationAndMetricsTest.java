@@ -16,6 +16,7 @@ import java.util.UUID;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.mock;
@@ -79,6 +80,50 @@ public class MockServerMatcherNotificationAndMetricsTest {
         assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(1));
     }
 
+    @Test
+    public void shouldNotifyOnceForAddAll() throws InterruptedException {
+        // given
+        List<MockServerMatcherNotifier.Cause> causes = new ArrayList<>();
+        mockServerMatcher.registerListener((mockServerMatcher, cause) -> {
+            causes.add(cause);
+        });
+
+        // when
+        mockServerMatcher
+            .addAll(new Expectation[]{
+                new Expectation(request().withPath("somePath")).thenForward(forward()),
+                new Expectation(request().withPath("someOtherPath")).thenRespond(response().withBody("someBody"))
+            }, MockServerMatcherNotifier.Cause.API);
+
+        // then
+        MILLISECONDS.sleep(500);
+        assertThat(mockServerMatcher.httpRequestMatchers.size(), is(2));
+        assertThat(causes, contains(MockServerMatcherNotifier.Cause.API));
+        assertThat(mockServerMatcher.getNotificationVersion(), is(1L));
+        assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(1));
+        assertThat(Metrics.get(Metrics.Name.ACTION_FORWARD_COUNT), is(1));
+    }
+
+    @Test
+    public void shouldNotNotifyOrUpdateMetricsWhenAddingUnchangedExpectation() throws InterruptedException {
+        // given
+        List<MockServerMatcherNotifier.Cause> causes = new ArrayList<>();
+        mockServerMatcher.registerListener((mockServerMatcher, cause) -> {
+            causes.add(cause);
+        });
+        mockServerMatcher.add(new Expectation(request().withPath("somePath")).withId("one").thenRespond(response().withBody("someBody")));
+        MILLISECONDS.sleep(500);
+        causes.clear();
+
+        // when
+        mockServerMatcher.add(new Expectation(request().withPath("somePath")).withId("one").thenRespond(response().withBody("someBody")));
+
+        // then
+        MILLISECONDS.sleep(500);
+        assertThat(causes, empty());
+        assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(1));
+    }
+
     @Test
     public void shouldNotifyOnRemove() throws InterruptedException {
         // given
@@ -109,7 +154,8 @@ public class MockServerMatcherNotificationAndMetricsTest {
         // then
         MILLISECONDS.sleep(500);
         assertThat(mockServerMatcher.httpRequestMatchers.size(), is(2));
-        assertThat(causes, contains(MockServerMatcherNotifier.Cause.API, MockServerMatcherNotifier.Cause.API));
+        // both changes are coalesced into a single notification
+        assertThat(causes, contains(MockServerMatcherNotifier.Cause.API));
         assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(1));
         assertThat(Metrics.get(Metrics.Name.ACTION_FORWARD_COUNT), is(1));
 
@@ -193,11 +239,8 @@ public class MockServerMatcherNotificationAndMetricsTest {
         // then
         MILLISECONDS.sleep(500);
         assertThat(mockServerMatcher.httpRequestMatchers.size(), is(3));
-        assertThat(causes, contains(
-            MockServerMatcherNotifier.Cause.API,
-            MockServerMatcherNotifier.Cause.API,
-            MockServerMatcherNotifier.Cause.API
-        ));
+        // all three changes are coalesced into a single notification
+        assertThat(causes, contains(MockServerMatcherNotifier.Cause.API));
         assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_COUNT), is(1));
         assertThat(Metrics.get(Metrics.Name.ACTION_RESPONSE_OBJECT_CALLBACK_COUNT), is(1));
         assertThat(Metrics.get(Metrics.Name.ACTION_FORWARD_OBJECT_CALLBACK_COUNT), is(1));
@@ -3,16 +3,22 @@ package org.mockserver.mock;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry;
+import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.scheduler.Scheduler;
 import org.mockserver.ui.MockServerMatcherNotifier;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -298,4 +304,26 @@ public class MockServerMatcherUpdateExpectationsTest {
         assertThat(mockServerMatcher.httpRequestMatchers.size(), is(3));
     }
 
+    @Test
+    public void shouldLogChangesWithoutHoldingLock() {
+        // given
+        MockServerLogger mockServerLogger = mock(MockServerLogger.class);
+        List<Boolean> lockHeldWhileLogging = new ArrayList<>();
+        doAnswer(invocation -> lockHeldWhileLogging.add(Thread.holdsLock(mockServerMatcher.httpRequestMatchers))).when(mockServerLogger).logEvent(any(LogEntry.class));
+        mockServerMatcher = new MockServerMatcher(mockServerLogger, mock(Scheduler.class), mock(WebSocketClientRegistry.class));
+        String keyOne = UUID.randomUUID().toString();
+        String keyTwo = UUID.randomUUID().toString();
+        mockServerMatcher.add(new Expectation(request().withPath("path_one")).withId(keyOne).thenRespond(response().withBody("body_one")));
+        mockServerMatcher.add(new Expectation(request().withPath("path_two")).withId(keyTwo).thenRespond(response().withBody("body_two")));
+
+        // when
+        mockServerMatcher.update(new Expectation[]{
+            new Expectation(request().withPath("path_one")).withId(keyOne).thenRespond(response().withBody("body_updated"))
+        }, MockServerMatcherNotifier.Cause.API);
+
+        // then - two created, one updated and one removed
+        assertThat(lockHeldWhileLogging, is(Arrays.asList(false, false, false, false)));
+        assertThat(mockServerMatcher.httpRequestMatchers.size(), is(1));
+    }
+
 }
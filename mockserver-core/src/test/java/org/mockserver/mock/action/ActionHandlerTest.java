@@ -18,6 +18,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.matchers.TimeToLive;
 import org.mockserver.matchers.Times;
 import org.mockserver.mock.Expectation;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.mock.HttpStateHandler;
 import org.mockserver.model.*;
 import org.mockserver.responsewriter.ResponseWriter;
@@ -30,10 +31,13 @@ import java.util.HashSet;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+import static org.mockserver.metrics.Metrics.Latency.*;
 import static org.mockserver.mock.action.ActionHandler.REMOTE_SOCKET;
 import static org.mockserver.model.Delay.milliseconds;
 import static org.mockserver.model.HttpClassCallback.callback;
@@ -160,6 +164,29 @@ public class ActionHandlerTest {
         verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(0)));
     }
 
+    @Test
+    public void shouldRecordLatencyMetricsForResponseAction() {
+        // given
+        boolean originalMetricsEnabled = ConfigurationProperties.metricsEnabled();
+        ConfigurationProperties.metricsEnabled(true);
+        Metrics.clear();
+
+        try {
+            // when
+            actionHandler.processAction(request, mockResponseWriter, null, new HashSet<>(), false, true);
+
+            // then
+            verify(mockResponseWriter).writeResponse(request, response, false);
+            assertThat(Metrics.getLatency(MATCH, Action.Type.RESPONSE).getCount(), is(1L));
+            assertThat(Metrics.getLatency(ACTION, Action.Type.RESPONSE).getCount(), is(1L));
+            assertThat(Metrics.getLatency(END_TO_END, Action.Type.RESPONSE).getCount(), is(1L));
+            assertThat(Metrics.getLatency(FORWARD_ROUND_TRIP, Action.Type.RESPONSE).getCount(), is(0L));
+        } finally {
+            ConfigurationProperties.metricsEnabled(originalMetricsEnabled);
+            Metrics.clear();
+        }
+    }
+
     @Test
     public void shouldProcessResponseTemplateAction() {
         // given
@@ -266,7 +293,7 @@ public class ActionHandlerTest {
                 .setMessageFormat("returning response:{}for request:{}for action:{}")
                 .setArguments(response, request, callback)
         );
-        verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(1)));
+        verify(scheduler).scheduleBlocking(any(Runnable.class), eq(true), eq(milliseconds(1)));
         verify(scheduler).schedule(any(Runnable.class), eq(true), eq(milliseconds(0)));
     }
 
@@ -533,6 +560,30 @@ public class ActionHandlerTest {
         );
     }
 
+    @Test
+    public void shouldReturnNotFoundForErrorActionWithoutChannel() {
+        // given
+        HttpError error = error().withDropConnection(true);
+        expectation = new Expectation(request, Times.unlimited(), TimeToLive.unlimited()).thenError(error);
+        when(mockHttpStateHandler.firstMatchingExpectation(request)).thenReturn(expectation);
+        ResponseWriter mockResponseWriter = mock(ResponseWriter.class);
+
+        // when
+        actionHandler.processAction(request, mockResponseWriter, null, new HashSet<>(), false, true);
+
+        // then
+        verify(mockHttpErrorActionHandler, never()).handle(any(HttpError.class), any(ChannelHandlerContext.class));
+        verify(mockResponseWriter).writeResponse(request, notFoundResponse(), false);
+        verify(mockServerLogger).logEvent(
+            new LogEntry()
+                .setLogLevel(Level.WARN)
+                .setHttpRequest(request)
+                .setMessageFormat("returning{}because HttpError is not supported by MockServer deployed as a WAR for request:{}")
+                .setArguments(notFoundResponse(), request)
+        );
+        verify(mockHttpStateHandler).postProcess(expectation);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void shouldProxyRequestsWithRemoteSocketAttribute() {
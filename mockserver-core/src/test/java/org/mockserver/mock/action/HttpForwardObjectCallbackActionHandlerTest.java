@@ -16,6 +16,7 @@ import java.util.concurrent.ExecutionException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.*;
+import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.SendResult.*;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
 
@@ -34,6 +35,7 @@ public class HttpForwardObjectCallbackActionHandlerTest {
         ResponseWriter mockResponseWriter = mock(ResponseWriter.class);
         when(mockHttpStateHandler.getWebSocketClientRegistry()).thenReturn(mockWebSocketClientRegistry);
         when(mockHttpStateHandler.getMockServerLogger()).thenReturn(new MockServerLogger());
+        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(SENT);
 
         // when
         new HttpForwardObjectCallbackActionHandler(mockHttpStateHandler, null).handle(mock(ActionHandler.class), httpObjectCallback, request, mockResponseWriter, true, null);
@@ -54,7 +56,7 @@ public class HttpForwardObjectCallbackActionHandlerTest {
         ResponseWriter mockResponseWriter = mock(ResponseWriter.class);
         when(mockHttpStateHandler.getWebSocketClientRegistry()).thenReturn(mockWebSocketClientRegistry);
         when(mockHttpStateHandler.getMockServerLogger()).thenReturn(new MockServerLogger());
-        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(false);
+        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(CLIENT_NOT_FOUND);
 
         // when
         new HttpForwardObjectCallbackActionHandler(mockHttpStateHandler, null).handle(mockActionHandler, httpObjectCallback, request, mockResponseWriter, true, null);
@@ -67,4 +69,28 @@ public class HttpForwardObjectCallbackActionHandlerTest {
         assertThat(httpForwardActionResultArgumentCaptor.getValue().getHttpResponse().get(), is(notFoundResponse()));
     }
 
+    @Test
+    public void shouldReturnServiceUnavailableWhenClientHasMaximumInFlight() throws ExecutionException, InterruptedException {
+        // given
+        ActionHandler mockActionHandler = mock(ActionHandler.class);
+        HttpStateHandler mockHttpStateHandler = mock(HttpStateHandler.class);
+        WebSocketClientRegistry mockWebSocketClientRegistry = mock(WebSocketClientRegistry.class);
+        HttpObjectCallback httpObjectCallback = new HttpObjectCallback().withClientId("some_clientId");
+        HttpRequest request = request().withBody("some_body");
+        ResponseWriter mockResponseWriter = mock(ResponseWriter.class);
+        when(mockHttpStateHandler.getWebSocketClientRegistry()).thenReturn(mockWebSocketClientRegistry);
+        when(mockHttpStateHandler.getMockServerLogger()).thenReturn(new MockServerLogger());
+        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(MAX_IN_FLIGHT);
+
+        // when
+        new HttpForwardObjectCallbackActionHandler(mockHttpStateHandler, null).handle(mockActionHandler, httpObjectCallback, request, mockResponseWriter, true, null);
+
+        // then
+        ArgumentCaptor<HttpForwardActionResult> httpForwardActionResultArgumentCaptor = ArgumentCaptor.forClass(HttpForwardActionResult.class);
+        verify(mockActionHandler).writeForwardActionResponse(httpForwardActionResultArgumentCaptor.capture(), same(mockResponseWriter), same(request), same(httpObjectCallback), eq(true));
+        HttpResponse httpResponse = httpForwardActionResultArgumentCaptor.getValue().getHttpResponse().get();
+        assertThat(httpResponse.getStatusCode(), is(503));
+        assertThat(httpResponse.getFirstHeader("Retry-After"), is("1"));
+    }
+
 }
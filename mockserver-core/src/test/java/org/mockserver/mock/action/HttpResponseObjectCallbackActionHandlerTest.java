@@ -10,10 +10,13 @@ import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
 import org.mockserver.responsewriter.ResponseWriter;
 
+import static io.netty.handler.codec.http.HttpHeaderNames.RETRY_AFTER;
 import static org.mockito.Mockito.*;
+import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.SendResult.*;
 import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.WEB_SOCKET_CORRELATION_ID_HEADER_NAME;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.notFoundResponse;
+import static org.mockserver.model.HttpResponse.response;
 
 /**
  * @author jamesdbloom
@@ -30,6 +33,7 @@ public class HttpResponseObjectCallbackActionHandlerTest {
         ResponseWriter mockResponseWriter = mock(ResponseWriter.class);
         when(mockHttpStateHandler.getWebSocketClientRegistry()).thenReturn(mockWebSocketClientRegistry);
         when(mockHttpStateHandler.getMockServerLogger()).thenReturn(new MockServerLogger());
+        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(SENT);
 
         // when
         new HttpResponseObjectCallbackActionHandler(mockHttpStateHandler).handle(mock(ActionHandler.class), httpObjectCallback, request, mockResponseWriter, true, null);
@@ -50,7 +54,7 @@ public class HttpResponseObjectCallbackActionHandlerTest {
         ResponseWriter mockResponseWriter = mock(ResponseWriter.class);
         when(mockHttpStateHandler.getWebSocketClientRegistry()).thenReturn(mockWebSocketClientRegistry);
         when(mockHttpStateHandler.getMockServerLogger()).thenReturn(new MockServerLogger());
-        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(false);
+        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(CLIENT_NOT_FOUND);
 
         // when
         new HttpResponseObjectCallbackActionHandler(mockHttpStateHandler).handle(mockActionHandler, httpObjectCallback, request, mockResponseWriter, true, null);
@@ -60,4 +64,24 @@ public class HttpResponseObjectCallbackActionHandlerTest {
         verify(mockWebSocketClientRegistry).sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class));
         verify(mockActionHandler).writeResponseActionResponse(notFoundResponse().removeHeader(WEB_SOCKET_CORRELATION_ID_HEADER_NAME), mockResponseWriter, request, httpObjectCallback, true);
     }
+
+    @Test
+    public void shouldReturnServiceUnavailableWhenClientHasMaximumInFlight() {
+        // given
+        ActionHandler mockActionHandler = mock(ActionHandler.class);
+        HttpStateHandler mockHttpStateHandler = mock(HttpStateHandler.class);
+        WebSocketClientRegistry mockWebSocketClientRegistry = mock(WebSocketClientRegistry.class);
+        HttpObjectCallback httpObjectCallback = new HttpObjectCallback().withClientId("some_clientId");
+        HttpRequest request = request().withBody("some_body");
+        ResponseWriter mockResponseWriter = mock(ResponseWriter.class);
+        when(mockHttpStateHandler.getWebSocketClientRegistry()).thenReturn(mockWebSocketClientRegistry);
+        when(mockHttpStateHandler.getMockServerLogger()).thenReturn(new MockServerLogger());
+        when(mockWebSocketClientRegistry.sendClientMessage(eq("some_clientId"), any(HttpRequest.class), isNull(HttpResponse.class))).thenReturn(MAX_IN_FLIGHT);
+
+        // when
+        new HttpResponseObjectCallbackActionHandler(mockHttpStateHandler).handle(mockActionHandler, httpObjectCallback, request, mockResponseWriter, true, null);
+
+        // then
+        verify(mockActionHandler).writeResponseActionResponse(response().withStatusCode(503).withReasonPhrase("Service Unavailable").withHeader(RETRY_AFTER.toString(), "1"), mockResponseWriter, request, httpObjectCallback, true);
+    }
 }
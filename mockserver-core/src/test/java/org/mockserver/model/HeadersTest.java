@@ -1,6 +1,8 @@
 package org.mockserver.model;
 
 import org.junit.Test;
+import org.mockserver.collections.CaseInsensitiveKeyIndex;
+import org.mockserver.logging.MockServerLogger;
 
 import java.util.Arrays;
 import java.util.LinkedHashMap;
@@ -12,6 +14,7 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItems;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockserver.model.Header.header;
 import static org.mockserver.model.NottableString.not;
 import static org.mockserver.model.NottableString.string;
@@ -329,4 +332,48 @@ public class HeadersTest {
         assertFalse(headers.containsEntry(string("name_three"), string("value_three_other")));
     }
 
+    @Test
+    public void shouldNotAllowModificationThroughViews() {
+        // given
+        Headers headers = new Headers();
+        headers.withEntry("name", "value");
+        int hashCode = headers.hashCode();
+
+        // when
+        for (Runnable modification : Arrays.<Runnable>asList(
+            () -> headers.getMultimap().put(string("other"), string("value")),
+            () -> headers.keySet().clear(),
+            () -> headers.getValues(string("name")).add(string("other"))
+        )) {
+            try {
+                modification.run();
+                fail("expected UnsupportedOperationException");
+            } catch (UnsupportedOperationException ignore) {
+                // expected
+            }
+        }
+
+        // then
+        assertThat(headers.getValues("name"), is(Arrays.asList("value")));
+        assertThat(headers.hashCode(), is(hashCode));
+    }
+
+    @Test
+    public void shouldRebuildHashCodeAndKeyIndexAfterModification() {
+        // given
+        Headers headers = new Headers();
+        headers.withEntry("name", "value");
+        int hashCode = headers.hashCode();
+        CaseInsensitiveKeyIndex keyIndex = headers.toCaseInsensitiveKeyIndex(new MockServerLogger(), false);
+
+        // when
+        headers.replaceEntry("name", "other_value");
+
+        // then
+        assertThat(headers.hashCode(), is(new Headers().withEntry("name", "other_value").hashCode()));
+        assertThat(headers.hashCode() == hashCode, is(false));
+        assertThat(headers.toCaseInsensitiveKeyIndex(new MockServerLogger(), false) == keyIndex, is(false));
+        assertTrue(headers.toCaseInsensitiveKeyIndex(new MockServerLogger(), false).containsKeyValue(string("name"), string("other_value")));
+    }
+
 }
@@ -244,4 +244,48 @@ public class HttpRequestTest {
         ));
     }
 
+    @Test
+    public void shouldNotBeEqualOnceHeadersModified() {
+        // given
+        HttpRequest requestOne = request().withPath("some_path").withHeader("some_header", "some_header_value");
+        HttpRequest requestTwo = request().withPath("some_path").withHeader("some_header", "some_header_value");
+        assertThat(requestOne, is(requestTwo));
+        assertThat(requestOne.hashCode(), is(requestTwo.hashCode()));
+
+        // when
+        requestTwo.getHeaders().withEntry("some_other_header", "some_other_header_value");
+
+        // then
+        assertThat(requestOne, not(requestTwo));
+        assertThat(requestOne.hashCode(), not(requestTwo.hashCode()));
+    }
+
+    @Test
+    public void shouldNotBeEqualWhenNotted() {
+        // then
+        assertThat(request().withPath("some_path"), not(Not.not(request().withPath("some_path"))));
+        assertThat(request().withBody("some_body"), not(request().withBody(Not.not(new StringBody("some_body")))));
+    }
+
+    @Test
+    public void shouldShareEntriesWithShallowClone() {
+        // given
+        HttpRequest request = request()
+            .withPath("some_path")
+            .withHeader("some_header", "some_header_value")
+            .withCookie("some_cookie", "some_cookie_value")
+            .withQueryStringParameter("some_parameter", "some_parameter_value")
+            .withBody("some_body");
+
+        // when
+        HttpRequest shallowClone = request.shallowClone().withBody("some_other_body");
+
+        // then
+        assertThat(shallowClone.getHeaders(), sameInstance(request.getHeaders()));
+        assertThat(shallowClone.getCookies(), sameInstance(request.getCookies()));
+        assertThat(shallowClone.getQueryStringParameters(), sameInstance(request.getQueryStringParameters()));
+        assertThat(shallowClone.getPath(), is(request.getPath()));
+        assertThat(request.getBodyAsString(), is("some_body"));
+    }
+
 }
@@ -28,6 +28,34 @@ public class MediaTypeTest {
         }
     }
 
+    @Test
+    public void shouldReuseParsedMediaType() {
+        // when
+        MediaType mediaType = MediaType.parse("application/json; charset=utf-8");
+
+        // then
+        assertThat(MediaType.parse("application/json; charset=utf-8") == mediaType, is(true));
+        assertThat(mediaType, is(MediaType.APPLICATION_JSON_UTF_8));
+        assertThat(mediaType.isJson(), is(true));
+        assertThat(mediaType.isString(), is(true));
+        assertThat(mediaType.isXml(), is(false));
+        assertThat(mediaType.getCharset(), is(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldReuseParsedMediaTypeAfterManyDistinctMediaTypes() {
+        // given
+        for (int i = 0; i < 1000; i++) {
+            MediaType.parse("application/x-distinct-" + i);
+        }
+
+        // when
+        MediaType mediaType = MediaType.parse("application/x-parsed-after-distinct");
+
+        // then
+        assertThat(MediaType.parse("application/x-parsed-after-distinct") == mediaType, is(true));
+    }
+
     @Test
     public void shouldParseContentTypeWithSpecialCharacters() {
         assertThat(MediaType.parse("application/my.type+xml"), is(new MediaType("application", "my.type+xml")));
@@ -8,6 +8,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.MockServerMatcher;
 import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.ExpectationSnapshotSerializer;
 import org.mockserver.ui.MockServerMatcherNotifier;
 
 import java.io.File;
@@ -29,7 +30,8 @@ public class ExpectationFileSystemPersistenceTest {
     @Before
     public void createMockServerMatcher() {
         mockServerLogger = new MockServerLogger();
-        mockServerMatcher = new MockServerMatcher(mockServerLogger, new Scheduler(mockServerLogger), new WebSocketClientRegistry(mockServerLogger));
+        Scheduler scheduler = new Scheduler(mockServerLogger);
+        mockServerMatcher = new MockServerMatcher(mockServerLogger, scheduler, new WebSocketClientRegistry(mockServerLogger, scheduler));
     }
 
     @Test
@@ -133,6 +135,38 @@ public class ExpectationFileSystemPersistenceTest {
         }
     }
 
+    @Test
+    public void shouldPersistExpectationsToSnapshotOnAdd() throws Exception {
+        // given
+        String persistedExpectationsPath = ConfigurationProperties.persistedExpectationsPath();
+        ConfigurationProperties.persistExpectations(true);
+        ConfigurationProperties.persistedExpectationsFormat("SNAPSHOT");
+        ExpectationFileSystemPersistence expectationFileSystemPersistence = null;
+        try {
+            File persistedExpectations = File.createTempFile("persistedExpectations", ".snapshot");
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectations.getAbsolutePath());
+            Expectation[] expectations = new Expectation[]{
+                new Expectation(request().withPath("/simpleFirst")).withId("one").thenRespond(response().withBody("some first response")),
+                new Expectation(request().withPath("/simpleSecond")).withId("two").thenRespond(response().withBody("some second response"))
+            };
+
+            // when
+            expectationFileSystemPersistence = new ExpectationFileSystemPersistence(mockServerLogger, mockServerMatcher);
+            mockServerMatcher.addAll(expectations, MockServerMatcherNotifier.Cause.API);
+            MILLISECONDS.sleep(1500);
+
+            // then
+            assertThat(new ExpectationSnapshotSerializer().deserialize(persistedExpectations.getAbsolutePath()), is(expectations));
+        } finally {
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectationsPath);
+            ConfigurationProperties.persistedExpectationsFormat("JSON");
+            ConfigurationProperties.persistExpectations(false);
+            if (expectationFileSystemPersistence != null) {
+                expectationFileSystemPersistence.stop();
+            }
+        }
+    }
+
     @Test
     public void shouldPersistExpectationsToJsonOnRemove() throws Exception {
         // given
@@ -602,4 +636,43 @@ public class ExpectationFileSystemPersistenceTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldNotPersistSnapshotOnUpdateAllFromFileWatcherOfSameSnapshot() throws Exception {
+        // given
+        String persistedExpectationsPath = ConfigurationProperties.persistedExpectationsPath();
+        String initializationSnapshotPath = ConfigurationProperties.initializationSnapshotPath();
+        ConfigurationProperties.persistExpectations(true);
+        ConfigurationProperties.persistedExpectationsFormat("SNAPSHOT");
+        ExpectationFileSystemPersistence expectationFileSystemPersistence = null;
+        try {
+            File persistedExpectations = File.createTempFile("persistedExpectations", ".snapshot");
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectations.getAbsolutePath());
+            ConfigurationProperties.initializationSnapshotPath(persistedExpectations.getAbsolutePath());
+            Expectation[] expectations = new Expectation[]{
+                new Expectation(request().withPath("/simpleFirst")).withId("one").thenRespond(response().withBody("some first response")),
+                new Expectation(request().withPath("/simpleSecond")).withId("two").thenRespond(response().withBody("some second response"))
+            };
+
+            // when
+            expectationFileSystemPersistence = new ExpectationFileSystemPersistence(mockServerLogger, mockServerMatcher);
+            mockServerMatcher.addAll(expectations, MockServerMatcherNotifier.Cause.API);
+            MILLISECONDS.sleep(1500);
+            mockServerMatcher.update(new Expectation[]{
+                new Expectation(request().withPath("/simpleThird")).withId("three").thenRespond(response().withBody("some third response"))
+            }, MockServerMatcherNotifier.Cause.FILE_WATCHER);
+            MILLISECONDS.sleep(1500);
+
+            // then - snapshot not overwritten by changes loaded from itself
+            assertThat(new ExpectationSnapshotSerializer().deserialize(persistedExpectations.getAbsolutePath()), is(expectations));
+        } finally {
+            ConfigurationProperties.persistedExpectationsPath(persistedExpectationsPath);
+            ConfigurationProperties.initializationSnapshotPath(initializationSnapshotPath);
+            ConfigurationProperties.persistedExpectationsFormat("JSON");
+            ConfigurationProperties.persistExpectations(false);
+            if (expectationFileSystemPersistence != null) {
+                expectationFileSystemPersistence.stop();
+            }
+        }
+    }
+
+}
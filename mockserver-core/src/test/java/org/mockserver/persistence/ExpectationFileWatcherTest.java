@@ -8,6 +8,7 @@ import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.MockServerMatcher;
 import org.mockserver.scheduler.Scheduler;
+import org.mockserver.serialization.ExpectationSnapshotSerializer;
 import org.mockserver.ui.MockServerMatcherNotifier;
 
 import java.io.File;
@@ -34,7 +35,8 @@ public class ExpectationFileWatcherTest {
     @Before
     public void createMockServerMatcher() {
         mockServerLogger = new MockServerLogger();
-        mockServerMatcher = new MockServerMatcher(mockServerLogger, new Scheduler(mockServerLogger), new WebSocketClientRegistry(mockServerLogger));
+        Scheduler scheduler = new Scheduler(mockServerLogger);
+        mockServerMatcher = new MockServerMatcher(mockServerLogger, scheduler, new WebSocketClientRegistry(mockServerLogger, scheduler));
     }
 
     @Test
@@ -639,4 +641,42 @@ public class ExpectationFileWatcherTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldDetectModifiedInitialiserSnapshotWhenPersistingSnapshots() throws Exception {
+        String initializationSnapshotPath = ConfigurationProperties.initializationSnapshotPath();
+        ConfigurationProperties.watchInitializationJson(true);
+        ConfigurationProperties.persistedExpectationsFormat("SNAPSHOT");
+        ExpectationFileWatcher expectationFileWatcher = null;
+        try {
+            // given - configuration
+            File mockserverInitialization = new File("mockserverInitialization" + UUID.randomUUID().toString() + ".snapshot");
+            mockserverInitialization.deleteOnExit();
+            ConfigurationProperties.initializationSnapshotPath(mockserverInitialization.getPath());
+            // and - expectation update notification
+            CompletableFuture<String> expectationsUpdated = new CompletableFuture<>();
+            mockServerMatcher.registerListener((mockServerMatcher, cause) -> expectationsUpdated.complete("updated"));
+            // and - file watcher
+            expectationFileWatcher = new ExpectationFileWatcher(mockServerLogger, mockServerMatcher);
+            MILLISECONDS.sleep(1500);
+
+            // when
+            Expectation[] watchedExpectations = new Expectation[]{
+                new Expectation(request().withPath("/simpleFirst")).withId("one").thenRespond(response().withBody("some first response")),
+                new Expectation(request().withPath("/simpleSecond")).withId("two").thenRespond(response().withBody("some second response"))
+            };
+            Files.write(mockserverInitialization.toPath(), new ExpectationSnapshotSerializer().serialize(watchedExpectations));
+            expectationsUpdated.get(30, SECONDS);
+
+            // then
+            assertThat(mockServerMatcher.retrieveActiveExpectations(null), contains(watchedExpectations));
+        } finally {
+            ConfigurationProperties.initializationSnapshotPath(initializationSnapshotPath);
+            ConfigurationProperties.persistedExpectationsFormat("JSON");
+            ConfigurationProperties.watchInitializationJson(false);
+            if (expectationFileWatcher != null) {
+                expectationFileWatcher.stop();
+            }
+        }
+    }
+
+}
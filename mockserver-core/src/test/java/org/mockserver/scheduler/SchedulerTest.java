@@ -0,0 +1,222 @@
+package org.mockserver.scheduler;
+
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.action.HttpForwardActionResult;
+import org.mockserver.model.HttpResponse;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockserver.model.Delay.milliseconds;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @author jamesdbloom
+ */
+public class SchedulerTest {
+
+    @Test
+    public void shouldScheduleWithoutDelayOnCallingThread() {
+        // given
+        Scheduler scheduler = new Scheduler(new MockServerLogger());
+        Thread[] executingThread = new Thread[1];
+
+        try {
+            // when
+            scheduler.schedule(() -> executingThread[0] = Thread.currentThread(), false);
+
+            // then
+            assertThat(executingThread[0], is(Thread.currentThread()));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldApplyDelayWithoutBlockingCallingThread() throws InterruptedException {
+        // given
+        Scheduler scheduler = new Scheduler(new MockServerLogger());
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        long[] executedAt = new long[1];
+
+        try {
+            // when
+            long scheduledAt = System.currentTimeMillis();
+            scheduler.schedule(() -> {
+                executedAt[0] = System.currentTimeMillis();
+                countDownLatch.countDown();
+            }, false, milliseconds(250));
+
+            // then
+            assertThat(System.currentTimeMillis() - scheduledAt, lessThan(250L));
+            assertThat(countDownLatch.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(executedAt[0] - scheduledAt, greaterThanOrEqualTo(250L));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldApplyDelayOnCallingThreadWhenSynchronous() {
+        // given
+        Scheduler scheduler = new Scheduler(new MockServerLogger());
+        Thread[] executingThread = new Thread[1];
+
+        try {
+            // when
+            long scheduledAt = System.currentTimeMillis();
+            scheduler.schedule(() -> executingThread[0] = Thread.currentThread(), true, milliseconds(100));
+
+            // then
+            assertThat(System.currentTimeMillis() - scheduledAt, greaterThanOrEqualTo(100L));
+            assertThat(executingThread[0], is(Thread.currentThread()));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldHandleManyConcurrentDelaysWithSmallThreadPool() throws InterruptedException {
+        // given
+        int originalActionHandlerThreadCount = ConfigurationProperties.actionHandlerThreadCount();
+        ConfigurationProperties.actionHandlerThreadCount(2);
+        Scheduler scheduler = new Scheduler(new MockServerLogger());
+        int numberOfDelayedActions = 10000;
+        CountDownLatch countDownLatch = new CountDownLatch(numberOfDelayedActions);
+        Set<String> executingThreads = ConcurrentHashMap.newKeySet();
+
+        try {
+            // when
+            long scheduledAt = System.currentTimeMillis();
+            for (int i = 0; i < numberOfDelayedActions; i++) {
+                scheduler.schedule(() -> {
+                    executingThreads.add(Thread.currentThread().getName());
+                    countDownLatch.countDown();
+                }, false, milliseconds(2000));
+            }
+
+            // then - all delays are pending at the same time so total time is close to a single delay
+            assertThat(countDownLatch.await(30, TimeUnit.SECONDS), is(true));
+            assertThat(System.currentTimeMillis() - scheduledAt, lessThan(10000L));
+            assertThat(executingThreads.size(), lessThanOrEqualTo(2));
+        } finally {
+            scheduler.shutdown();
+            ConfigurationProperties.actionHandlerThreadCount(originalActionHandlerThreadCount);
+        }
+    }
+
+    @Test
+    public void shouldScheduleBlockingActionOffCallingThread() throws InterruptedException {
+        // given
+        Scheduler scheduler = new Scheduler(new MockServerLogger());
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        Thread[] executingThread = new Thread[1];
+
+        try {
+            // when
+            scheduler.scheduleBlocking(() -> {
+                executingThread[0] = Thread.currentThread();
+                countDownLatch.countDown();
+            }, false);
+
+            // then
+            assertThat(countDownLatch.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(executingThread[0], not(Thread.currentThread()));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldScheduleBlockingActionOnProvidedExecutor() throws InterruptedException {
+        // given
+        ExecutorService blockingExecutor = Executors.newSingleThreadExecutor(new Scheduler.SchedulerThreadFactory("BlockingTest"));
+        Scheduler scheduler = new Scheduler(new MockServerLogger(), blockingExecutor);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        CountDownLatch completedLatch = new CountDownLatch(1);
+        String[] executingThreadName = new String[1];
+
+        try {
+            // when
+            scheduler.scheduleBlocking(() -> {
+                executingThreadName[0] = Thread.currentThread().getName();
+                try {
+                    releaseLatch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignore) {
+                    // ignore interrupted exception
+                }
+                completedLatch.countDown();
+            }, false);
+
+            // then
+            assertThat(scheduler.getBlockingTaskCount(), is(1));
+            releaseLatch.countDown();
+            assertThat(completedLatch.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(executingThreadName[0], startsWith("MockServer-BlockingTest"));
+        } finally {
+            scheduler.shutdown();
+        }
+        assertThat(blockingExecutor.isShutdown(), is(true));
+    }
+
+    @Test
+    public void shouldNotWaitForForwardedResponseOnCallingThread() throws InterruptedException {
+        // given
+        Scheduler scheduler = new Scheduler(new MockServerLogger());
+        CompletableFuture<HttpResponse> httpResponse = new CompletableFuture<>();
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        Thread[] executingThread = new Thread[1];
+
+        try {
+            // when
+            scheduler.submit(new HttpForwardActionResult(request(), httpResponse, null), () -> {
+                executingThread[0] = Thread.currentThread();
+                countDownLatch.countDown();
+            }, false);
+
+            // then - returns before the response is received
+            assertThat(countDownLatch.getCount(), is(1L));
+
+            // when
+            httpResponse.complete(response());
+
+            // then
+            assertThat(countDownLatch.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(executingThread[0], not(Thread.currentThread()));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReportPendingDelaysAndQueueDepth() {
+        // given
+        Scheduler scheduler = new Scheduler(new MockServerLogger());
+
+        try {
+            // when
+            scheduler.schedule(() -> {
+            }, false, milliseconds(5000));
+            scheduler.schedule(() -> {
+            }, false, milliseconds(5000));
+
+            // then
+            assertThat(scheduler.getPendingDelayCount(), is(2L));
+            assertThat(scheduler.getQueueDepth(), is(0));
+            assertThat(scheduler.getActiveTaskCount(), is(0));
+            assertThat(scheduler.getBlockingTaskCount(), is(0));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.mockserver.mock.Expectation;
 import org.mockserver.model.*;
 import org.mockserver.serialization.model.*;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.concurrent.TimeUnit;
@@ -214,6 +215,100 @@ public class ExpectationSerializerIntegrationTest {
         }
     }
 
+    @Test
+    public void shouldStreamSingleObjectForArray() {
+        // given
+        String requestBytes = ("{" + NEW_LINE +
+            "    \"id\" : \"some_key\"," + NEW_LINE +
+            "    \"httpRequest\": {" + NEW_LINE +
+            "        \"path\": \"somePath\"" + NEW_LINE +
+            "    }," + NEW_LINE +
+            "    \"httpResponse\": {" + NEW_LINE +
+            "        \"body\": \"someBody\"" + NEW_LINE +
+            "    }" + NEW_LINE +
+            "}");
+
+        // when
+        Expectation[] expectations = new ExpectationSerializer(new MockServerLogger()).deserializeArray(new ByteArrayInputStream(requestBytes.getBytes(UTF_8)), "someSource");
+
+        // then
+        assertArrayEquals(new Expectation[]{
+            new Expectation(new HttpRequest().withPath("somePath")).withId("some_key").thenRespond(new HttpResponse().withBody("someBody"))
+        }, expectations);
+    }
+
+    @Test
+    public void shouldStreamArrayIgnoringInvalidElements() {
+        // given
+        String requestBytes = ("[" +
+            "  {" + NEW_LINE +
+            "    \"id\" : \"one\"," + NEW_LINE +
+            "    \"httpRequest\": { \"path\": \"somePathOne\" }," + NEW_LINE +
+            "    \"httpResponse\": { \"body\": \"someBodyOne\" }" + NEW_LINE +
+            "  }," + NEW_LINE +
+            "  {" + NEW_LINE +
+            "    \"httpRequest\": { \"path\": \"somePath\", \"extra_field\": \"extra_value\" }," + NEW_LINE +
+            "    \"httpResponse\": { \"body\": \"someBody\" }" + NEW_LINE +
+            "  }," + NEW_LINE +
+            "  {" + NEW_LINE +
+            "    \"id\" : \"two\"," + NEW_LINE +
+            "    \"httpRequest\": { \"path\": \"somePathTwo\" }," + NEW_LINE +
+            "    \"httpResponse\": { \"body\": \"someBodyTwo\" }" + NEW_LINE +
+            "  }" + NEW_LINE +
+            "]");
+
+        // when
+        Expectation[] expectations = new ExpectationSerializer(new MockServerLogger()).deserializeArray(new ByteArrayInputStream(requestBytes.getBytes(UTF_8)), "someSource");
+
+        // then
+        assertArrayEquals(new Expectation[]{
+            new Expectation(new HttpRequest().withPath("somePathOne")).withId("one").thenRespond(new HttpResponse().withBody("someBodyOne")),
+            new Expectation(new HttpRequest().withPath("somePathTwo")).withId("two").thenRespond(new HttpResponse().withBody("someBodyTwo"))
+        }, expectations);
+    }
+
+    @Test
+    public void shouldStreamLargeArrayPreservingOrder() {
+        // given
+        StringBuilder requestBytes = new StringBuilder("[");
+        Expectation[] expected = new Expectation[1100];
+        for (int i = 0; i < expected.length; i++) {
+            requestBytes
+                .append(i > 0 ? "," : "")
+                .append("{ \"id\" : \"").append(i).append("\", \"httpRequest\": { \"path\": \"/path_").append(i).append("\" }, \"httpResponse\": { \"body\": \"body_").append(i).append("\" } }");
+            expected[i] = new Expectation(new HttpRequest().withPath("/path_" + i)).withId(String.valueOf(i)).thenRespond(new HttpResponse().withBody("body_" + i));
+        }
+        requestBytes.append("]");
+
+        // when
+        Expectation[] expectations = new ExpectationSerializer(new MockServerLogger()).deserializeArray(new ByteArrayInputStream(requestBytes.toString().getBytes(UTF_8)), "someSource");
+
+        // then
+        assertArrayEquals(expected, expectations);
+    }
+
+    @Test
+    public void shouldStreamEmptyInput() {
+        // when
+        Expectation[] expectations = new ExpectationSerializer(new MockServerLogger()).deserializeArray(new ByteArrayInputStream(new byte[0]), "someSource");
+
+        // then
+        assertArrayEquals(new Expectation[0], expectations);
+    }
+
+    @Test
+    public void shouldThrowExceptionForInvalidJsonWhenStreaming() {
+        try {
+            // when
+            new ExpectationSerializer(new MockServerLogger()).deserializeArray(new ByteArrayInputStream("[{ \"httpRequest\": {".getBytes(UTF_8)), "someSource");
+
+            // then
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            assertThat(iae.getMessage(), is("Exception while parsing expectations from someSource"));
+        }
+    }
+
     @Test
     public void shouldDeserializeCompleteObjectWithResponse() {
         // given
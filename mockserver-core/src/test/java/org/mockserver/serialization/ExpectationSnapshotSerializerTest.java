@@ -0,0 +1,128 @@
+package org.mockserver.serialization;
+
+import org.junit.Test;
+import org.mockserver.matchers.TimeToLive;
+import org.mockserver.matchers.Times;
+import org.mockserver.mock.Expectation;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpForward.forward;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @author jamesdbloom
+ */
+public class ExpectationSnapshotSerializerTest {
+
+    private final ExpectationSnapshotSerializer expectationSnapshotSerializer = new ExpectationSnapshotSerializer();
+
+    private final Expectation[] expectations = new Expectation[]{
+        new Expectation(request().withPath("/somePathOne").withHeader("someHeader", "someValue"), Times.exactly(2), TimeToLive.unlimited())
+            .withId("one")
+            .thenRespond(response().withStatusCode(201).withBody("someBodyOne")),
+        new Expectation(request().withPath("/somePathTwo"))
+            .withId("two")
+            .thenForward(forward().withHost("localhost").withPort(1080))
+    };
+
+    @Test
+    public void shouldSerializeAndDeserializeSnapshot() {
+        // when
+        byte[] snapshot = expectationSnapshotSerializer.serialize(expectations);
+
+        // then
+        assertArrayEquals(expectations, expectationSnapshotSerializer.deserialize(ByteBuffer.wrap(snapshot)));
+    }
+
+    @Test
+    public void shouldSerializeAndDeserializeEmptySnapshot() {
+        // when
+        byte[] snapshot = expectationSnapshotSerializer.serialize(new Expectation[0]);
+
+        // then
+        assertArrayEquals(new Expectation[0], expectationSnapshotSerializer.deserialize(ByteBuffer.wrap(snapshot)));
+    }
+
+    @Test
+    public void shouldDeserializeSnapshotFromFile() throws Exception {
+        // given
+        File snapshotFile = File.createTempFile("expectations", ".snapshot");
+        snapshotFile.deleteOnExit();
+        Files.write(snapshotFile.toPath(), expectationSnapshotSerializer.serialize(Arrays.asList(expectations)));
+
+        // then
+        assertArrayEquals(expectations, expectationSnapshotSerializer.deserialize(snapshotFile.getAbsolutePath()));
+    }
+
+    @Test
+    public void shouldRejectSnapshotWithInvalidMagic() {
+        try {
+            // when
+            expectationSnapshotSerializer.deserialize(ByteBuffer.wrap("[ { \"httpRequest\" : { } } ]".getBytes()));
+
+            // then
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            assertThat(iae.getMessage(), is("Invalid expectation snapshot, snapshot does not start with MSES"));
+        }
+    }
+
+    @Test
+    public void shouldRejectSnapshotWithUnsupportedVersion() {
+        // given
+        byte[] snapshot = expectationSnapshotSerializer.serialize(expectations);
+        ByteBuffer.wrap(snapshot).putInt(4, ExpectationSnapshotSerializer.VERSION + 1);
+
+        try {
+            // when
+            expectationSnapshotSerializer.deserialize(ByteBuffer.wrap(snapshot));
+
+            // then
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            assertThat(iae.getMessage(), is("Unsupported expectation snapshot version 2, only version 1 is supported"));
+        }
+    }
+
+    @Test
+    public void shouldRejectTruncatedSnapshot() {
+        // given
+        byte[] snapshot = expectationSnapshotSerializer.serialize(expectations);
+
+        try {
+            // when
+            expectationSnapshotSerializer.deserialize(ByteBuffer.wrap(Arrays.copyOf(snapshot, snapshot.length - 10)));
+
+            // then
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            assertThat(iae.getMessage(), is("Invalid expectation snapshot, snapshot is truncated"));
+        }
+    }
+
+    @Test
+    public void shouldRejectSnapshotWithCountLargerThanSnapshot() {
+        // given
+        byte[] snapshot = expectationSnapshotSerializer.serialize(expectations);
+        ByteBuffer.wrap(snapshot).putInt(8, Integer.MAX_VALUE);
+
+        try {
+            // when
+            expectationSnapshotSerializer.deserialize(ByteBuffer.wrap(snapshot));
+
+            // then
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            assertThat(iae.getMessage(), is("Invalid expectation snapshot, expectation count 2147483647 is larger than the snapshot"));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.mockserver.serialization;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.Test;
+import org.mockserver.model.HttpRequestAndHttpResponse;
+import org.mockserver.serialization.model.WebSocketClientIdDTO;
+import org.mockserver.serialization.model.WebSocketErrorDTO;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @author jamesdbloom
+ */
+public class WebSocketBinaryMessageSerializerTest {
+
+    @Test
+    public void shouldSerializeAndDeserializeBatchOfMessages() throws IOException {
+        // given
+        List<Object> messages = Arrays.asList(
+            request("/some_path").withHeader("WebSocketCorrelationId", "one").withBody("some_request_body"),
+            response("some_response_body").withStatusCode(202).withHeader("WebSocketCorrelationId", "two"),
+            new HttpRequestAndHttpResponse()
+                .withHttpRequest(request("/some_other_path").withMethod("POST"))
+                .withHttpResponse(response("some_other_response_body")),
+            new WebSocketErrorDTO().setMessage("some_error").setWebSocketCorrelationId("three"),
+            new WebSocketClientIdDTO().setClientId("some_client_id")
+        );
+        ByteBuf byteBuf = Unpooled.buffer();
+
+        // when
+        new WebSocketBinaryMessageSerializer().serialize(messages, byteBuf);
+        List<Object> deserializedMessages = new WebSocketBinaryMessageSerializer().deserialize(byteBuf);
+
+        // then
+        assertEquals(messages, deserializedMessages);
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+
+    @Test
+    public void shouldNotDeserializeUnsupportedVersion() throws IOException {
+        // given
+        ByteBuf byteBuf = Unpooled.buffer().writeByte(WebSocketBinaryMessageSerializer.VERSION + 1).writeInt(0);
+
+        try {
+            // when
+            new WebSocketBinaryMessageSerializer().deserialize(byteBuf);
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            // then
+            assertThat(iae.getMessage(), is("Unsupported web socket binary message version 2, only version 1 is supported"));
+        }
+    }
+
+    @Test
+    public void shouldNotDeserializeCountLargerThanFrame() throws IOException {
+        // given
+        ByteBuf byteBuf = Unpooled.buffer().writeByte(WebSocketBinaryMessageSerializer.VERSION).writeInt(Integer.MAX_VALUE);
+
+        try {
+            // when
+            new WebSocketBinaryMessageSerializer().deserialize(byteBuf);
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            // then
+            assertThat(iae.getMessage(), is("Invalid web socket binary message count 2147483647 for 0 remaining bytes"));
+        }
+    }
+
+    @Test
+    public void shouldNotDeserializeLengthLargerThanFrame() throws IOException {
+        // given
+        ByteBuf byteBuf = Unpooled.buffer().writeByte(WebSocketBinaryMessageSerializer.VERSION).writeInt(1).writeByte(1).writeInt(10).writeByte('{');
+
+        try {
+            // when
+            new WebSocketBinaryMessageSerializer().deserialize(byteBuf);
+            fail("expected exception to be thrown");
+        } catch (IllegalArgumentException iae) {
+            // then
+            assertThat(iae.getMessage(), is("Invalid web socket binary message length 10 for 1 remaining bytes"));
+        }
+    }
+}
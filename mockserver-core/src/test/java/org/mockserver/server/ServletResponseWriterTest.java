@@ -2,6 +2,7 @@ package org.mockserver.server;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockserver.logging.MockServerLogger;
@@ -11,8 +12,15 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.servlet.responsewriter.ServletResponseWriter;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.io.IOException;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static org.mockito.Mockito.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.mockserver.configuration.ConfigurationProperties.enableCORSForAllResponses;
 import static org.mockserver.model.HttpRequest.request;
@@ -135,4 +143,39 @@ public class ServletResponseWriterTest {
         }
     }
 
+    @Test
+    public void shouldCompleteAsynchronousRequestOnlyOnce() throws IOException {
+        // given
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        ServletResponseWriter servletResponseWriter = new ServletResponseWriter(new MockServerLogger(), httpServletResponse, asyncContext);
+        HttpRequest request = request("some_request");
+
+        // when
+        servletResponseWriter.writeResponse(request, response("some_response"), false);
+        servletResponseWriter.writeResponse(request, response("another_response"), false);
+        servletResponseWriter.complete();
+
+        // then
+        assertThat(httpServletResponse.getContentAsString(), is("some_response"));
+        verify(asyncContext, times(1)).complete();
+    }
+
+    @Test
+    public void shouldCompleteAsynchronousRequestWithGatewayTimeoutWhenNoResponseWritten() throws IOException {
+        // given
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        ServletResponseWriter servletResponseWriter = new ServletResponseWriter(new MockServerLogger(), httpServletResponse, asyncContext);
+        ArgumentCaptor<AsyncListener> asyncListener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(asyncListener.capture());
+
+        // when
+        asyncListener.getValue().onTimeout(new AsyncEvent(asyncContext));
+        servletResponseWriter.writeResponse(request("some_request"), response("some_response"), false);
+
+        // then
+        assertThat(httpServletResponse.getStatus(), is(504));
+        assertThat(httpServletResponse.getContentAsString(), is(""));
+        verify(asyncContext, times(1)).complete();
+    }
+
 }
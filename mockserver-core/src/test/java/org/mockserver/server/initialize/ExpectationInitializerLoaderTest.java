@@ -5,6 +5,10 @@ import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.mock.Expectation;
 import org.mockserver.mock.MockServerMatcher;
+import org.mockserver.serialization.ExpectationSnapshotSerializer;
+
+import java.io.File;
+import java.nio.file.Files;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,4 +85,28 @@ public class ExpectationInitializerLoaderTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldLoadExpectationsFromSnapshot() throws Exception {
+        // given
+        String initializationSnapshotPath = ConfigurationProperties.initializationSnapshotPath();
+        try {
+            Expectation[] snapshotExpectations = new Expectation[]{
+                new Expectation(request("/simpleFirst")).withId("one").thenRespond(response("some first response")),
+                new Expectation(request("/simpleSecond")).withId("two").thenRespond(response("some second response"))
+            };
+            File snapshotFile = File.createTempFile("expectations", ".snapshot");
+            snapshotFile.deleteOnExit();
+            Files.write(snapshotFile.toPath(), new ExpectationSnapshotSerializer().serialize(snapshotExpectations));
+            ConfigurationProperties.initializationSnapshotPath(snapshotFile.getAbsolutePath());
+
+            // when
+            final Expectation[] expectations = new ExpectationInitializerLoader(new MockServerLogger(), mock(MockServerMatcher.class)).loadExpectations();
+
+            // then
+            assertThat(expectations, is(snapshotExpectations));
+        } finally {
+            ConfigurationProperties.initializationSnapshotPath(initializationSnapshotPath);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package org.mockserver.socket.transport;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.junit.After;
+import org.junit.Test;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.scheduler.Scheduler;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author jamesdbloom
+ */
+public class NettyTransportTest {
+
+    @After
+    public void resetTransportType() {
+        System.clearProperty("mockserver.transportType");
+    }
+
+    @Test
+    public void shouldCreateNioEventLoopGroupAndChannels() {
+        // given
+        ConfigurationProperties.transportType("NIO");
+
+        // when
+        EventLoopGroup eventLoopGroup = NettyTransport.eventLoopGroup(1, new Scheduler.SchedulerThreadFactory("NettyTransportTest"));
+
+        try {
+            // then
+            assertThat(NettyTransport.transportType(), is(TransportType.NIO));
+            assertThat(eventLoopGroup instanceof NioEventLoopGroup, is(true));
+            assertThat(NettyTransport.socketChannelClass(eventLoopGroup) == NioSocketChannel.class, is(true));
+            assertThat(NettyTransport.serverSocketChannelClass(eventLoopGroup) == NioServerSocketChannel.class, is(true));
+            assertThat(NettyTransport.socketChannelClass(eventLoopGroup.next()) == NioSocketChannel.class, is(true));
+        } finally {
+            eventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS);
+        }
+    }
+
+    @Test
+    public void shouldCreateEpollEventLoopGroupOnlyWhenAvailable() {
+        // given
+        ConfigurationProperties.transportType("EPOLL");
+
+        // when
+        EventLoopGroup eventLoopGroup = NettyTransport.eventLoopGroup(1, new Scheduler.SchedulerThreadFactory("NettyTransportTest"));
+
+        try {
+            // then
+            if (Epoll.isAvailable()) {
+                assertThat(NettyTransport.transportType(), is(TransportType.EPOLL));
+                assertThat(eventLoopGroup instanceof EpollEventLoopGroup, is(true));
+                assertThat(NettyTransport.socketChannelClass(eventLoopGroup.next()) == EpollSocketChannel.class, is(true));
+            } else {
+                assertThat(NettyTransport.transportType(), is(TransportType.NIO));
+                assertThat(eventLoopGroup instanceof NioEventLoopGroup, is(true));
+                assertThat(NettyTransport.socketChannelClass(eventLoopGroup.next()) == NioSocketChannel.class, is(true));
+            }
+        } finally {
+            eventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS);
+        }
+    }
+
+    @Test
+    public void shouldSelectEpollOnLinux() {
+        // given
+        String osName = System.getProperty("os.name").toLowerCase();
+        String osArch = System.getProperty("os.arch").toLowerCase();
+        assumeTrue(osName.contains("linux") && (osArch.equals("amd64") || osArch.equals("x86_64")));
+        ConfigurationProperties.transportType("AUTO");
+
+        // when
+        EventLoopGroup eventLoopGroup = NettyTransport.eventLoopGroup(1, new Scheduler.SchedulerThreadFactory("NettyTransportTest"));
+
+        try {
+            // then
+            assertThat(String.valueOf(Epoll.unavailabilityCause()), Epoll.isAvailable(), is(true));
+            assertThat(NettyTransport.transportType(), is(TransportType.EPOLL));
+            assertThat(eventLoopGroup instanceof EpollEventLoopGroup, is(true));
+            assertThat(NettyTransport.serverSocketChannelClass(eventLoopGroup) == EpollServerSocketChannel.class, is(true));
+            assertThat(NettyTransport.socketChannelClass(eventLoopGroup.next()) == EpollSocketChannel.class, is(true));
+        } finally {
+            eventLoopGroup.shutdownGracefully(0, 0, MILLISECONDS);
+        }
+    }
+}
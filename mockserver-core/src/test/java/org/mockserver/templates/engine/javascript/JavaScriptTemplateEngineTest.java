@@ -5,6 +5,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.logging.MockServerLogger;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.HttpResponse;
@@ -19,6 +20,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -29,6 +31,7 @@ import static org.mockito.MockitoAnnotations.initMocks;
 import static org.mockserver.character.Character.NEW_LINE;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
 
 /**
  * @author jamesdbloom
@@ -288,6 +291,183 @@ public class JavaScriptTemplateEngineTest {
         }
     }
 
+    @Test
+    public void shouldHandleHttpRequestsWithJavaScriptTemplateUsingJsonRequestModel() {
+        // given
+        boolean originalJsonRequestModel = ConfigurationProperties.javaScriptTemplateJsonRequestModel();
+        ConfigurationProperties.javaScriptTemplateJsonRequestModel(true);
+        String template = "" +
+            "return {" + NEW_LINE +
+            "    'statusCode': 200," + NEW_LINE +
+            "    'headers': [ { 'name': 'someHeader', 'values': request.queryStringParameters['queryParameter'] } ]," + NEW_LINE +
+            "    'body': JSON.stringify(request.queryStringParameters)" + NEW_LINE +
+            "};";
+
+        try {
+            // when
+            HttpResponse actualHttpResponse = new JavaScriptTemplateEngine(logFormatter).executeTemplate(template, request()
+                    .withPath("/somePath")
+                    .withQueryStringParameter("queryParameter", "someValue"),
+                HttpResponseDTO.class
+            );
+
+            // then
+            if (new ScriptEngineManager().getEngineByName("nashorn") != null) {
+                assertThat(actualHttpResponse, is(
+                    response()
+                        .withStatusCode(200)
+                        .withHeader("someHeader", "someValue")
+                        .withBody("{\"queryParameter\":[\"someValue\"]}")
+                ));
+            } else {
+                assertThat(actualHttpResponse, nullValue());
+            }
+        } finally {
+            ConfigurationProperties.javaScriptTemplateJsonRequestModel(originalJsonRequestModel);
+        }
+    }
+
+    @Test
+    public void shouldHandleSameTemplateWhenJsonRequestModelChanges() {
+        // given
+        boolean originalJsonRequestModel = ConfigurationProperties.javaScriptTemplateJsonRequestModel();
+        String template = "" +
+            "return {" + NEW_LINE +
+            "    'statusCode': 200," + NEW_LINE +
+            "    'body': request.path" + NEW_LINE +
+            "};";
+        JavaScriptTemplateEngine javaScriptTemplateEngine = new JavaScriptTemplateEngine(logFormatter);
+
+        try {
+            // when
+            ConfigurationProperties.javaScriptTemplateJsonRequestModel(false);
+            HttpResponse nativeObjectHttpResponse = javaScriptTemplateEngine.executeTemplate(template, request().withPath("/somePath"), HttpResponseDTO.class);
+            ConfigurationProperties.javaScriptTemplateJsonRequestModel(true);
+            HttpResponse jsonHttpResponse = javaScriptTemplateEngine.executeTemplate(template, request().withPath("/somePath"), HttpResponseDTO.class);
+
+            // then
+            if (new ScriptEngineManager().getEngineByName("nashorn") != null) {
+                assertThat(nativeObjectHttpResponse, is(response().withStatusCode(200).withBody("/somePath")));
+                assertThat(jsonHttpResponse, is(response().withStatusCode(200).withBody("/somePath")));
+            } else {
+                assertThat(nativeObjectHttpResponse, nullValue());
+                assertThat(jsonHttpResponse, nullValue());
+            }
+        } finally {
+            ConfigurationProperties.javaScriptTemplateJsonRequestModel(originalJsonRequestModel);
+        }
+    }
+
+    @Test
+    public void shouldHandleHttpRequestsWithJavaScriptTemplateUsingNativeJavaScriptObjectFunctions() {
+        // given
+        String template = "" +
+            "var names = [];" + NEW_LINE +
+            "for (var name in request.queryStringParameters) {" + NEW_LINE +
+            "    names.push(name);" + NEW_LINE +
+            "}" + NEW_LINE +
+            "return {" + NEW_LINE +
+            "    'statusCode': 200," + NEW_LINE +
+            "    'headers': [" + NEW_LINE +
+            "        { 'name': 'parameterCount', 'values': [ '' + Object.keys(request.queryStringParameters).length ] }," + NEW_LINE +
+            "        { 'name': 'parameterNames', 'values': names }," + NEW_LINE +
+            "        { 'name': 'isArray', 'values': [ '' + Array.isArray(request.headers['someHeader']) ] }," + NEW_LINE +
+            "        { 'name': 'joined', 'values': [ request.headers['someHeader'].join(',') ] }" + NEW_LINE +
+            "    ]," + NEW_LINE +
+            "    'body': JSON.stringify(request.queryStringParameters)" + NEW_LINE +
+            "};";
+
+        // when
+        HttpResponse actualHttpResponse = new JavaScriptTemplateEngine(logFormatter).executeTemplate(template, request()
+                .withPath("/somePath")
+                .withQueryStringParameter("queryParameterOne", "someValue")
+                .withQueryStringParameter("queryParameterTwo", "someValueOne", "someValueTwo")
+                .withHeader("someHeader", "someValueOne", "someValueTwo"),
+            HttpResponseDTO.class
+        );
+
+        // then
+        if (new ScriptEngineManager().getEngineByName("nashorn") != null) {
+            assertThat(actualHttpResponse, is(
+                response()
+                    .withStatusCode(200)
+                    .withHeader("parameterCount", "2")
+                    .withHeader("parameterNames", "queryParameterOne", "queryParameterTwo")
+                    .withHeader("isArray", "true")
+                    .withHeader("joined", "someValueOne,someValueTwo")
+                    .withBody("{\"queryParameterOne\":[\"someValue\"],\"queryParameterTwo\":[\"someValueOne\",\"someValueTwo\"]}")
+            ));
+        } else {
+            assertThat(actualHttpResponse, nullValue());
+        }
+    }
+
+    @Test
+    public void shouldHandleHttpRequestsWithJavaScriptTemplateUsingHeadersAndCookiesInObjectFormat() {
+        // given
+        String template = "" +
+            "return {" + NEW_LINE +
+            "    'statusCode': 201," + NEW_LINE +
+            "    'reasonPhrase': 'Created'," + NEW_LINE +
+            "    'headers': { 'someHeader': request.headers['someHeader'], 'count': [ 5 ] }," + NEW_LINE +
+            "    'cookies': { 'someCookie': request.cookies['someCookie'] }," + NEW_LINE +
+            "    'body': request.method + ' ' + request.path" + NEW_LINE +
+            "};";
+
+        // when
+        HttpResponse actualHttpResponse = new JavaScriptTemplateEngine(logFormatter).executeTemplate(template, request()
+                .withMethod("POST")
+                .withPath("/somePath")
+                .withHeader("someHeader", "someValueOne", "someValueTwo")
+                .withCookie("someCookie", "someValue"),
+            HttpResponseDTO.class
+        );
+
+        // then
+        if (new ScriptEngineManager().getEngineByName("nashorn") != null) {
+            assertThat(actualHttpResponse, is(
+                response()
+                    .withStatusCode(201)
+                    .withReasonPhrase("Created")
+                    .withHeader("someHeader", "someValueOne", "someValueTwo")
+                    .withHeader("count", "5")
+                    .withCookie("someCookie", "someValue")
+                    .withBody("POST /somePath")
+            ));
+        } else {
+            assertThat(actualHttpResponse, nullValue());
+        }
+    }
+
+    @Test
+    public void shouldHandleHttpRequestsWithJavaScriptTemplateWithFieldsOnlySupportedByJsonDeserializer() {
+        // given
+        String template = "" +
+            "return {" + NEW_LINE +
+            "    'statusCode': 200," + NEW_LINE +
+            "    'body': { 'type': 'JSON', 'json': { 'path': request.path } }," + NEW_LINE +
+            "    'delay': { 'timeUnit': 'MILLISECONDS', 'value': 10 }" + NEW_LINE +
+            "};";
+
+        // when
+        HttpResponse actualHttpResponse = new JavaScriptTemplateEngine(logFormatter).executeTemplate(template, request()
+                .withPath("/somePath"),
+            HttpResponseDTO.class
+        );
+
+        // then
+        if (new ScriptEngineManager().getEngineByName("nashorn") != null) {
+            assertThat(actualHttpResponse, is(
+                response()
+                    .withStatusCode(200)
+                    .withBody(json("{\"path\":\"/somePath\"}"))
+                    .withDelay(TimeUnit.MILLISECONDS, 10)
+            ));
+        } else {
+            assertThat(actualHttpResponse, nullValue());
+        }
+    }
+
     @Test
     public void shouldHandleInvalidJavaScript() {
         // given
@@ -0,0 +1,100 @@
+package org.mockserver.templates.engine.serializer;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.serialization.model.HttpRequestDTO;
+import org.mockserver.serialization.model.HttpResponseDTO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * @author jamesdbloom
+ */
+public class HttpTemplateOutputMapperTest {
+
+    private final HttpTemplateOutputMapper httpTemplateOutputMapper = new HttpTemplateOutputMapper();
+
+    @Test
+    public void shouldMapResponse() {
+        // given
+        Map<String, Object> output = new HashMap<>();
+        output.put("statusCode", 200);
+        output.put("reasonPhrase", "OK");
+        output.put("headers", Collections.singletonList(ImmutableMap.of("name", "someHeader", "values", Arrays.asList("someValue", 1.0))));
+        output.put("cookies", ImmutableMap.of("someCookie", "someValue"));
+        output.put("body", "some_body");
+
+        // when
+        HttpResponse httpResponse = httpTemplateOutputMapper.map(output, HttpResponseDTO.class);
+
+        // then
+        assertThat(httpResponse, is(
+            response()
+                .withStatusCode(200)
+                .withReasonPhrase("OK")
+                .withHeader("someHeader", "someValue", "1")
+                .withCookie("someCookie", "someValue")
+                .withBody("some_body")
+        ));
+    }
+
+    @Test
+    public void shouldMapRequest() {
+        // given
+        Map<String, Object> output = new HashMap<>();
+        output.put("method", "POST");
+        output.put("path", "/somePath");
+        output.put("queryStringParameters", ImmutableMap.of("someParameter", Arrays.asList("someValue", "someOtherValue")));
+        output.put("headers", ImmutableMap.of("someHeader", Collections.singletonList("someValue")));
+        output.put("cookies", Collections.singletonList(ImmutableMap.of("name", "someCookie", "value", "someValue")));
+        output.put("keepAlive", true);
+        output.put("secure", false);
+        output.put("body", "some_body");
+
+        // when
+        HttpRequest httpRequest = httpTemplateOutputMapper.map(output, HttpRequestDTO.class);
+
+        // then
+        assertThat(httpRequest, is(
+            request()
+                .withMethod("POST")
+                .withPath("/somePath")
+                .withQueryStringParameter("someParameter", "someValue", "someOtherValue")
+                .withHeader("someHeader", "someValue")
+                .withCookie("someCookie", "someValue")
+                .withKeepAlive(true)
+                .withSecure(false)
+                .withBody("some_body")
+        ));
+    }
+
+    @Test
+    public void shouldNotMapUnsupportedFields() {
+        // given
+        Map<String, Object> output = new HashMap<>();
+        output.put("statusCode", 200);
+        output.put("delay", ImmutableMap.of("timeUnit", "SECONDS", "value", 1));
+
+        // then
+        assertThat(httpTemplateOutputMapper.map(output, HttpResponseDTO.class), nullValue());
+    }
+
+    @Test
+    public void shouldNotMapUnsupportedValues() {
+        // then
+        assertThat(httpTemplateOutputMapper.map(ImmutableMap.of("statusCode", "200"), HttpResponseDTO.class), nullValue());
+        assertThat(httpTemplateOutputMapper.map(ImmutableMap.of("body", ImmutableMap.of("type", "JSON")), HttpResponseDTO.class), nullValue());
+        assertThat(httpTemplateOutputMapper.map(ImmutableMap.of("headers", ImmutableMap.of("someHeader", "notAList")), HttpRequestDTO.class), nullValue());
+    }
+}
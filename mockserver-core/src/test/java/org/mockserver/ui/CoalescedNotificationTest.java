@@ -0,0 +1,132 @@
+package org.mockserver.ui;
+
+import org.junit.*;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.log.MockServerEventLog;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
+import org.mockserver.mock.MockServerMatcher;
+import org.mockserver.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.metrics.Metrics.Name.*;
+
+/**
+ * @author jamesdbloom
+ */
+public class CoalescedNotificationTest {
+
+    private static Scheduler scheduler;
+    private static long originalListenerNotificationInterval;
+
+    @BeforeClass
+    public static void createScheduler() {
+        scheduler = new Scheduler(new MockServerLogger());
+        originalListenerNotificationInterval = ConfigurationProperties.listenerNotificationInterval();
+        ConfigurationProperties.listenerNotificationInterval(50);
+        ConfigurationProperties.metricsEnabled(true);
+    }
+
+    @AfterClass
+    public static void shutdownScheduler() {
+        scheduler.shutdown();
+        ConfigurationProperties.listenerNotificationInterval(originalListenerNotificationInterval);
+        ConfigurationProperties.metricsEnabled(false);
+    }
+
+    @Before
+    public void clearMetrics() {
+        Metrics.clear();
+    }
+
+    @Test
+    public void shouldCoalesceBurstOfExpectationChanges() throws InterruptedException {
+        // given
+        MockServerMatcherNotifier notifier = new MockServerMatcherNotifier(scheduler);
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        notifier.registerListener(new MockServerMatcherListener() {
+            @Override
+            public void updated(MockServerMatcher mockServerMatcher, MockServerMatcherNotifier.Cause cause) {
+                throw new AssertionError("expected versioned notification");
+            }
+
+            @Override
+            public void updated(MockServerMatcher mockServerMatcher, MockServerMatcherNotifier.Cause cause, long version) {
+                versions.add(version);
+            }
+        });
+
+        MockServerMatcher mockServerMatcher = mock(MockServerMatcher.class);
+
+        // when
+        for (int i = 0; i < 10000; i++) {
+            notifier.notifyListeners(mockServerMatcher, MockServerMatcherNotifier.Cause.API);
+        }
+        MILLISECONDS.sleep(500);
+
+        // then
+        assertThat(versions.size(), lessThanOrEqualTo(10));
+        assertThat(versions.get(versions.size() - 1), is(10000L));
+        assertThat(notifier.getNotificationVersion(), is(10000L));
+        assertThat(Metrics.get(EXPECTATION_CHANGE_COUNT), is(10000));
+        assertThat(Metrics.get(EXPECTATION_NOTIFICATION_COUNT), is(versions.size()));
+    }
+
+    @Test
+    public void shouldNotifyApiCauseIfAnyCoalescedChangeWasFromApi() throws InterruptedException {
+        // given
+        MockServerMatcherNotifier notifier = new MockServerMatcherNotifier(scheduler);
+        List<MockServerMatcherNotifier.Cause> causes = new CopyOnWriteArrayList<>();
+        notifier.registerListener((mockServerMatcher, cause) -> causes.add(cause));
+
+        // when
+        notifier.notifyListeners(mock(MockServerMatcher.class), MockServerMatcherNotifier.Cause.FILE_WATCHER);
+        notifier.notifyListeners(mock(MockServerMatcher.class), MockServerMatcherNotifier.Cause.API);
+        MILLISECONDS.sleep(500);
+        notifier.notifyListeners(mock(MockServerMatcher.class), MockServerMatcherNotifier.Cause.FILE_WATCHER);
+        MILLISECONDS.sleep(500);
+
+        // then
+        assertThat(causes, contains(MockServerMatcherNotifier.Cause.API, MockServerMatcherNotifier.Cause.FILE_WATCHER));
+    }
+
+    @Test
+    public void shouldCoalesceBurstOfLogChanges() throws InterruptedException {
+        // given
+        MockServerEventLogNotifier notifier = new MockServerEventLogNotifier(scheduler);
+        List<Long> versions = new CopyOnWriteArrayList<>();
+        notifier.registerListener(new MockServerLogListener() {
+            @Override
+            public void updated(MockServerEventLog mockServerLog) {
+                throw new AssertionError("expected versioned notification");
+            }
+
+            @Override
+            public void updated(MockServerEventLog mockServerLog, long version) {
+                versions.add(version);
+            }
+        });
+
+        MockServerEventLog mockServerEventLog = mock(MockServerEventLog.class);
+
+        // when
+        for (int i = 0; i < 10000; i++) {
+            notifier.notifyListeners(mockServerEventLog);
+        }
+        MILLISECONDS.sleep(500);
+
+        // then
+        assertThat(versions.size(), lessThanOrEqualTo(10));
+        assertThat(versions.get(versions.size() - 1), is(10000L));
+        assertThat(Metrics.get(EVENT_LOG_CHANGE_COUNT), is(10000));
+        assertThat(Metrics.get(EVENT_LOG_NOTIFICATION_COUNT), is(versions.size()));
+    }
+}
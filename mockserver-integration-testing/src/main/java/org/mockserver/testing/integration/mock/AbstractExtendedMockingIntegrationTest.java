@@ -63,6 +63,7 @@ import static org.mockserver.model.XPathBody.xpath;
 import static org.mockserver.model.XmlBody.xml;
 import static org.mockserver.model.XmlSchemaBody.xmlSchema;
 import static org.mockserver.model.XmlSchemaBody.xmlSchemaFromResource;
+import static org.mockserver.verify.Verification.verification;
 
 /**
  * @author jamesdbloom
@@ -3631,6 +3632,35 @@ public abstract class AbstractExtendedMockingIntegrationTest extends AbstractBas
             .withPath(calculatePath("some_path")), VerificationTimes.exactly(1));
     }
 
+    @Test
+    public void shouldVerifyAllReceivedRequestsInSingleRequest() {
+        // when
+        makeRequest(
+            request()
+                .withPath(calculatePath("some_path")),
+            headersToIgnore);
+        makeRequest(
+            request()
+                .withPath(calculatePath("some_other_path")),
+            headersToIgnore);
+
+        // then
+        mockServerClient.verifyAll(
+            verification().withRequest(request().withPath(calculatePath("some_path"))).withTimes(VerificationTimes.once()),
+            verification().withRequest(request().withPath(calculatePath("some_other_path"))).withTimes(VerificationTimes.once())
+        );
+        try {
+            mockServerClient.verifyAll(
+                verification().withRequest(request().withPath(calculatePath("some_path"))).withTimes(VerificationTimes.once()),
+                verification().withRequest(request().withPath(calculatePath("some_other_path"))).withTimes(VerificationTimes.exactly(2))
+            );
+            fail("expected exception to be thrown");
+        } catch (AssertionError ae) {
+            assertThat(ae.getMessage(), containsString("\"passed\" : false"));
+            assertThat(ae.getMessage(), containsString("Request not found exactly 2 times, found 1 matching request"));
+        }
+    }
+
     @Test
     public void shouldVerifyReceivedRequestsWithNoMatchingExpectation() {
         // when
@@ -22,6 +22,8 @@ import static com.google.common.net.HttpHeaders.HOST;
 import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
 import static org.mockserver.netty.unification.PortUnificationHandler.isSslEnabledUpstream;
 import static org.mockserver.closurecallback.websocketclient.WebSocketClient.CLIENT_REGISTRATION_ID_HEADER;
+import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.BINARY_CALLBACK_PROTOCOL;
+import static org.mockserver.closurecallback.websocketregistry.WebSocketClientRegistry.CALLBACK_PROTOCOL_HEADER;
 
 /**
  * @author jamesdbloom
@@ -85,11 +87,16 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
                 HttpUtil.setContentLength(res, 0);
                 ctx.channel().writeAndFlush(res, ctx.channel().newPromise());
             } else {
+                final boolean binary = BINARY_CALLBACK_PROTOCOL.equals(httpRequest.headers().get(CALLBACK_PROTOCOL_HEADER));
+                HttpHeaders responseHeaders = new DefaultHttpHeaders().add(CLIENT_REGISTRATION_ID_HEADER, clientId);
+                if (binary) {
+                    responseHeaders.add(CALLBACK_PROTOCOL_HEADER, BINARY_CALLBACK_PROTOCOL);
+                }
                 handshaker
                     .handshake(
                         ctx.channel(),
                         httpRequest,
-                        new DefaultHttpHeaders().add(CLIENT_REGISTRATION_ID_HEADER, clientId),
+                        responseHeaders,
                         ctx.channel().newPromise()
                     )
                     .addListener((ChannelFutureListener) future -> {
@@ -101,7 +108,7 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
                                 .setLogLevel(Level.TRACE)
                                 .setMessageFormat("registering client " + clientId)
                         );
-                        webSocketClientRegistry.registerClient(clientId, ctx);
+                        webSocketClientRegistry.registerClient(clientId, ctx, binary);
                         future.channel().closeFuture().addListener((ChannelFutureListener) closeFuture -> {
                             mockServerLogger.logEvent(
                                 new LogEntry()
@@ -120,6 +127,8 @@ public class CallbackWebSocketServerHandler extends ChannelInboundHandlerAdapter
             handshaker.close(ctx.channel(), (CloseWebSocketFrame) frame.retain());
         } else if (frame instanceof TextWebSocketFrame) {
             webSocketClientRegistry.receivedTextWebSocketFrame(((TextWebSocketFrame) frame));
+        } else if (frame instanceof BinaryWebSocketFrame) {
+            webSocketClientRegistry.receivedBinaryWebSocketFrame(((BinaryWebSocketFrame) frame));
         } else if (frame instanceof PingWebSocketFrame) {
             ctx.write(new PongWebSocketFrame(frame.content().retain()));
         } else {
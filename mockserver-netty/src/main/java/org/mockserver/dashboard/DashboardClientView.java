@@ -0,0 +1,182 @@
+package org.mockserver.dashboard;
+
+import com.google.common.collect.ImmutableMap;
+import org.mockserver.dashboard.model.DashboardLogEntryDTO;
+import org.mockserver.log.LogEntryVisitor;
+import org.mockserver.log.MockServerEventLog;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.matchers.HttpRequestMatcher;
+import org.mockserver.matchers.MatcherBuilder;
+import org.mockserver.matchers.TimeToLive;
+import org.mockserver.matchers.Times;
+import org.mockserver.mock.Expectation;
+import org.mockserver.mock.MockServerMatcher;
+import org.mockserver.model.HttpRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.mockserver.log.model.LogEntry.LogMessageType.*;
+
+/**
+ * The items shown by a single dashboard client, kept up to date from only the log entries added since the previous update
+ * instead of rescanning, and mapping, the whole log for every update.
+ *
+ * Log entries are checked by type before the client's request filter is applied and are only mapped if they will be shown,
+ * changes are only flagged as they happen so they can be coalesced and sent periodically.
+ *
+ * @author jamesdbloom
+ */
+class DashboardClientView implements LogEntryVisitor {
+
+    static final int UI_UPDATE_ITEM_LIMIT = 50;
+    private static final Predicate<LogEntry> requestLogPredicate = input
+        -> input.getType() == RECEIVED_REQUEST;
+    private static final Predicate<LogEntry> requestResponseLogPredicate = input
+        -> input.getType() == EXPECTATION_RESPONSE
+        || input.getType() == EXPECTATION_NOT_MATCHED_RESPONSE
+        || input.getType() == FORWARDED_REQUEST;
+    private static final Predicate<LogEntry> recordedExpectationLogPredicate = input
+        -> input.getType() == FORWARDED_REQUEST;
+    private final HttpRequest httpRequest;
+    private final HttpRequestMatcher httpRequestMatcher;
+    private final MockServerMatcher mockServerMatcher;
+    private final Consumer<Map<String, Object>> updateConsumer;
+    private final AtomicBoolean logUpdated = new AtomicBoolean(true);
+    private final AtomicBoolean expectationsUpdated = new AtomicBoolean(true);
+    private final AtomicBoolean updateInProgress = new AtomicBoolean(false);
+    // the following are only accessed on the log thread
+    private long lastSequence = -1;
+    private List<Map<String, Object>> activeExpectations = Collections.emptyList();
+    private List<Map<String, Object>> recordedExpectations = Collections.emptyList();
+    private List<Map<String, Object>> recordedRequests = Collections.emptyList();
+    private List<DashboardLogEntryDTO> recordedRequestResponses = Collections.emptyList();
+    private List<DashboardLogEntryDTO> logMessages = Collections.emptyList();
+    private final List<Map<String, Object>> newRecordedExpectations = new ArrayList<>();
+    private final List<Map<String, Object>> newRecordedRequests = new ArrayList<>();
+    private final List<DashboardLogEntryDTO> newRecordedRequestResponses = new ArrayList<>();
+    private final List<DashboardLogEntryDTO> newLogMessages = new ArrayList<>();
+
+    DashboardClientView(MockServerLogger mockServerLogger, HttpRequest httpRequest, MockServerMatcher mockServerMatcher, Consumer<Map<String, Object>> updateConsumer) {
+        this.httpRequest = httpRequest;
+        this.httpRequestMatcher = new MatcherBuilder(mockServerLogger).transformsToMatcher(httpRequest);
+        this.mockServerMatcher = mockServerMatcher;
+        this.updateConsumer = updateConsumer;
+    }
+
+    void logUpdated() {
+        logUpdated.set(true);
+    }
+
+    void expectationsUpdated() {
+        expectationsUpdated.set(true);
+    }
+
+    boolean isUpdated() {
+        return logUpdated.get() || expectationsUpdated.get();
+    }
+
+    /**
+     * Retrieves the log entries added since the last update and passes the resulting items to the update consumer on the log thread,
+     * does nothing if the previous update has not completed yet
+     */
+    void update(MockServerEventLog mockServerEventLog) {
+        if (updateInProgress.compareAndSet(false, true)) {
+            logUpdated.set(false);
+            mockServerEventLog.retrieveLogEntriesInReverse(lastSequence, this);
+        }
+    }
+
+    @Override
+    public boolean visit(LogEntry logEntry) {
+        boolean recordedExpectation = newRecordedExpectations.size() < UI_UPDATE_ITEM_LIMIT && recordedExpectationLogPredicate.test(logEntry);
+        boolean recordedRequest = newRecordedRequests.size() < UI_UPDATE_ITEM_LIMIT && requestLogPredicate.test(logEntry);
+        boolean recordedRequestResponse = newRecordedRequestResponses.size() < UI_UPDATE_ITEM_LIMIT && requestResponseLogPredicate.test(logEntry);
+        boolean logMessage = newLogMessages.size() < UI_UPDATE_ITEM_LIMIT;
+        if ((recordedExpectation || recordedRequest || recordedRequestResponse || logMessage) && logEntry.matches(httpRequestMatcher)) {
+            DashboardLogEntryDTO logEntryDTO = new DashboardLogEntryDTO(logEntry);
+            if (recordedExpectation) {
+                newRecordedExpectations.add(
+                    ImmutableMap.of(
+                        "key", logEntryDTO.getId(),
+                        "value", new Expectation(logEntryDTO.getHttpRequest(), Times.once(), TimeToLive.unlimited())
+                            .thenRespond(logEntryDTO.getHttpResponse())
+                    )
+                );
+            }
+            if (recordedRequest) {
+                HttpRequest[] httpRequests = logEntryDTO.getHttpRequests();
+                for (int i = 0; i < httpRequests.length; i++) {
+                    newRecordedRequests.add(ImmutableMap.of(
+                        "key", logEntryDTO.getId() + i,
+                        "value", httpRequests[i]
+                    ));
+                }
+            }
+            if (recordedRequestResponse) {
+                newRecordedRequestResponses.add(logEntryDTO);
+            }
+            if (logMessage) {
+                newLogMessages.add(logEntryDTO);
+            }
+        }
+        return newRecordedExpectations.size() < UI_UPDATE_ITEM_LIMIT
+            || newRecordedRequests.size() < UI_UPDATE_ITEM_LIMIT
+            || newRecordedRequestResponses.size() < UI_UPDATE_ITEM_LIMIT
+            || newLogMessages.size() < UI_UPDATE_ITEM_LIMIT;
+    }
+
+    @Override
+    public void completed(long latestSequence, boolean incremental) {
+        Map<String, Object> update;
+        try {
+            recordedExpectations = merge(newRecordedExpectations, recordedExpectations, incremental);
+            recordedRequests = merge(newRecordedRequests, recordedRequests, incremental);
+            recordedRequestResponses = merge(newRecordedRequestResponses, recordedRequestResponses, incremental);
+            logMessages = merge(newLogMessages, logMessages, incremental);
+            lastSequence = latestSequence;
+            if (expectationsUpdated.getAndSet(false)) {
+                activeExpectations = mockServerMatcher
+                    .retrieveActiveExpectations(httpRequest)
+                    .stream()
+                    .limit(UI_UPDATE_ITEM_LIMIT)
+                    .map(expectation -> ImmutableMap.<String, Object>of(
+                        "key", expectation.getId(),
+                        "value", expectation
+                    ))
+                    .collect(Collectors.toList());
+            }
+            update = ImmutableMap.of(
+                "activeExpectations", activeExpectations,
+                "recordedExpectations", recordedExpectations,
+                "recordedRequests", recordedRequests,
+                "recordedRequestResponses", recordedRequestResponses,
+                "logMessages", logMessages
+            );
+        } finally {
+            // cleared before the update is passed on, so an update requested as soon as this one is received isn't skipped
+            updateInProgress.set(false);
+        }
+        updateConsumer.accept(update);
+    }
+
+    /**
+     * @return a new list (so lists already passed to the update consumer are never modified) of the newest items followed by the previous items, up to the limit
+     */
+    private <T> List<T> merge(List<T> newItems, List<T> previousItems, boolean incremental) {
+        List<T> items = new ArrayList<>(newItems.subList(0, Math.min(newItems.size(), UI_UPDATE_ITEM_LIMIT)));
+        if (incremental) {
+            items.addAll(previousItems.subList(0, Math.min(previousItems.size(), UI_UPDATE_ITEM_LIMIT - items.size())));
+        }
+        newItems.clear();
+        return items;
+    }
+
+}
@@ -13,15 +13,12 @@ import io.netty.handler.codec.http.websocketx.*;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
 import org.mockserver.collections.CircularHashMap;
-import org.mockserver.dashboard.model.DashboardLogEntryDTO;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.dashboard.serializers.DashboardLogEntryDTOSerializer;
 import org.mockserver.dashboard.serializers.ThrowableSerializer;
 import org.mockserver.log.MockServerEventLog;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
-import org.mockserver.matchers.TimeToLive;
-import org.mockserver.matchers.Times;
-import org.mockserver.mock.Expectation;
 import org.mockserver.mock.HttpStateHandler;
 import org.mockserver.mock.MockServerMatcher;
 import org.mockserver.model.HttpRequest;
@@ -33,13 +30,13 @@ import org.mockserver.ui.MockServerMatcherNotifier;
 import org.slf4j.event.Level;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.google.common.net.HttpHeaders.HOST;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mockserver.exception.ExceptionHandling.connectionClosedException;
 import static org.mockserver.log.model.LogEntry.LogMessageType.*;
@@ -51,29 +48,20 @@ import static org.mockserver.model.HttpRequest.request;
 @ChannelHandler.Sharable
 public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapter implements MockServerLogListener, MockServerMatcherListener {
 
-    private static final Predicate<DashboardLogEntryDTO> requestLogPredicate = input
-        -> input.getType() == RECEIVED_REQUEST;
-    private static final Predicate<DashboardLogEntryDTO> requestResponseLogPredicate = input
-        -> input.getType() == EXPECTATION_RESPONSE
-        || input.getType() == EXPECTATION_NOT_MATCHED_RESPONSE
-        || input.getType() == FORWARDED_REQUEST;
-    private static final Predicate<DashboardLogEntryDTO> recordedExpectationLogPredicate = input
-        -> input.getType() == FORWARDED_REQUEST;
     private static final AttributeKey<Boolean> CHANNEL_UPGRADED_FOR_UI_WEB_SOCKET = AttributeKey.valueOf("CHANNEL_UPGRADED_FOR_UI_WEB_SOCKET");
     private static final String UPGRADE_CHANNEL_FOR_UI_WEB_SOCKET_URI = "/_mockserver_ui_websocket";
-    private static final int UI_UPDATE_ITEM_LIMIT = 50;
     private static ObjectMapper objectMapper;
     private final MockServerLogger mockServerLogger;
     private final boolean sslEnabledUpstream;
     private final HttpStateHandler httpStateHandler;
     private HttpRequestSerializer httpRequestSerializer;
     private WebSocketServerHandshaker handshaker;
-    private final Map<ChannelHandlerContext, HttpRequest> clientRegistry = new CircularHashMap<>(100);
+    // updated by netty threads and read by the update thread
+    private final Map<ChannelHandlerContext, DashboardClientView> clientRegistry = Collections.synchronizedMap(new CircularHashMap<>(100));
     private MockServerMatcher mockServerMatcher;
     private MockServerEventLog mockServerEventLog;
     private ThreadPoolExecutor scheduler;
-    private ScheduledExecutorService throttleExecutorService;
-    private Semaphore semaphore;
+    private ScheduledExecutorService updateExecutorService;
 
     public DashboardWebSocketServerHandler(HttpStateHandler httpStateHandler, boolean sslEnabledUpstream) {
         this.httpStateHandler = httpStateHandler;
@@ -109,8 +97,8 @@ public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapte
         if (this.scheduler != null) {
             scheduler.shutdown();
         }
-        if (this.throttleExecutorService != null) {
-            throttleExecutorService.shutdownNow();
+        if (this.updateExecutorService != null) {
+            updateExecutorService.shutdownNow();
         }
     }
 
@@ -170,7 +158,7 @@ public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapte
                 httpRequest,
                 new DefaultHttpHeaders(),
                 ctx.channel().newPromise()
-            ).addListener((ChannelFutureListener) future -> clientRegistry.put(ctx, request()));
+            ).addListener((ChannelFutureListener) future -> clientRegistry.put(ctx, clientView(ctx, request())));
         }
         if (objectMapper == null) {
             objectMapper = ObjectMapperFactory.createObjectMapper(
@@ -181,11 +169,11 @@ public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapte
         if (httpRequestSerializer == null) {
             httpRequestSerializer = new HttpRequestSerializer(mockServerLogger);
         }
-        if (semaphore == null) {
-            semaphore = new Semaphore(1);
-        }
-        if (throttleExecutorService == null) {
-            throttleExecutorService = Executors.newScheduledThreadPool(1);
+        if (updateExecutorService == null) {
+            updateExecutorService = Executors.newScheduledThreadPool(1);
+            // changes are coalesced and sent at a fixed interval, instead of for every log entry or expectation change
+            long updateInterval = ConfigurationProperties.dashboardUpdateInterval();
+            updateExecutorService.scheduleAtFixedRate(this::updateClients, updateInterval, updateInterval, MILLISECONDS);
         }
         if (scheduler == null) {
             scheduler = new ThreadPoolExecutor(
@@ -198,11 +186,33 @@ public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapte
                 new ThreadPoolExecutor.DiscardOldestPolicy()
             );
         }
-        throttleExecutorService.scheduleAtFixedRate(() -> {
-            if (semaphore.availablePermits() == 0) {
-                semaphore.release(1);
+    }
+
+    private void updateClients() {
+        // an exception would cancel all future updates
+        try {
+            List<DashboardClientView> clientViews;
+            synchronized (clientRegistry) {
+                clientViews = new ArrayList<>(clientRegistry.values());
             }
-        }, 0, 1, SECONDS);
+            for (DashboardClientView clientView : clientViews) {
+                if (clientView.isUpdated()) {
+                    clientView.update(mockServerEventLog);
+                }
+            }
+        } catch (Throwable throwable) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(LogEntry.LogMessageType.EXCEPTION)
+                    .setLogLevel(Level.ERROR)
+                    .setMessageFormat("exception updating dashboard " + throwable.getMessage())
+                    .setThrowable(throwable)
+            );
+        }
+    }
+
+    private DashboardClientView clientView(ChannelHandlerContext ctx, HttpRequest httpRequest) {
+        return new DashboardClientView(mockServerLogger, httpRequest, mockServerMatcher, message -> sendMessage(ctx, message));
     }
 
     private void handleWebSocketFrame(final ChannelHandlerContext ctx, WebSocketFrame frame) {
@@ -211,8 +221,9 @@ public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapte
         } else if (frame instanceof TextWebSocketFrame) {
             try {
                 HttpRequest httpRequest = httpRequestSerializer.deserialize(((TextWebSocketFrame) frame).text());
-                clientRegistry.put(ctx, httpRequest);
-                sendUpdate(httpRequest, ctx);
+                DashboardClientView clientView = clientView(ctx, httpRequest);
+                clientRegistry.put(ctx, clientView);
+                clientView.update(mockServerEventLog);
             } catch (IllegalArgumentException iae) {
                 sendMessage(ctx, ImmutableMap.of("error", iae.getMessage()));
             }
@@ -223,24 +234,22 @@ public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapte
         }
     }
 
-    private void sendMessage(ChannelHandlerContext ctx, ImmutableMap<String, Object> message) {
-        if (semaphore.tryAcquire()) {
-            scheduler.submit(() -> {
-                try {
-                    ctx.writeAndFlush(new TextWebSocketFrame(
-                        objectMapper.writeValueAsString(message)
-                    ));
-                } catch (JsonProcessingException jpe) {
-                    mockServerLogger.logEvent(
-                        new LogEntry()
-                            .setType(LogEntry.LogMessageType.EXCEPTION)
-                            .setLogLevel(Level.ERROR)
-                            .setMessageFormat("exception will serialising UI data " + jpe.getMessage())
-                            .setThrowable(jpe)
-                    );
-                }
-            });
-        }
+    private void sendMessage(ChannelHandlerContext ctx, Map<String, Object> message) {
+        scheduler.submit(() -> {
+            try {
+                ctx.writeAndFlush(new TextWebSocketFrame(
+                    objectMapper.writeValueAsString(message)
+                ));
+            } catch (JsonProcessingException jpe) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setType(LogEntry.LogMessageType.EXCEPTION)
+                        .setLogLevel(Level.ERROR)
+                        .setMessageFormat("exception will serialising UI data " + jpe.getMessage())
+                        .setThrowable(jpe)
+                );
+            }
+        });
     }
 
     @Override
@@ -270,75 +279,19 @@ public class DashboardWebSocketServerHandler extends ChannelInboundHandlerAdapte
 
     @Override
     public void updated(MockServerEventLog mockServerLog) {
-        for (Map.Entry<ChannelHandlerContext, HttpRequest> registryEntry : clientRegistry.entrySet()) {
-            sendUpdate(registryEntry.getValue(), registryEntry.getKey());
+        synchronized (clientRegistry) {
+            for (DashboardClientView clientView : clientRegistry.values()) {
+                clientView.logUpdated();
+            }
         }
     }
 
     @Override
     public void updated(MockServerMatcher mockServerMatcher, MockServerMatcherNotifier.Cause cause) {
-        for (Map.Entry<ChannelHandlerContext, HttpRequest> registryEntry : clientRegistry.entrySet()) {
-            sendUpdate(registryEntry.getValue(), registryEntry.getKey());
+        synchronized (clientRegistry) {
+            for (DashboardClientView clientView : clientRegistry.values()) {
+                clientView.expectationsUpdated();
+            }
         }
     }
-
-    private void sendUpdate(HttpRequest httpRequest, ChannelHandlerContext channelHandlerContext) {
-        mockServerEventLog
-            .retrieveLogEntriesInReverse(
-                httpRequest,
-                logEntry -> true,
-                DashboardLogEntryDTO::new,
-                reverseLogEventsStream -> {
-                    List<Map<String, Object>> recordedExpectations = new ArrayList<>();
-                    List<Map<String, Object>> recordedRequests = new ArrayList<>();
-                    List<DashboardLogEntryDTO> recordedRequestResponses = new ArrayList<>();
-                    List<DashboardLogEntryDTO> logMessages = new ArrayList<>();
-                    reverseLogEventsStream
-                        .forEach(logEntryDTO -> {
-                            if (recordedExpectationLogPredicate.test(logEntryDTO)
-                                && recordedExpectations.size() < UI_UPDATE_ITEM_LIMIT) {
-                                recordedExpectations.add(
-                                    ImmutableMap.of(
-                                        "key", logEntryDTO.getId(),
-                                        "value", new Expectation(logEntryDTO.getHttpRequest(), Times.once(), TimeToLive.unlimited())
-                                            .thenRespond(logEntryDTO.getHttpResponse())
-                                    )
-                                );
-                            }
-                            if (requestLogPredicate.test(logEntryDTO)
-                                && recordedRequests.size() < UI_UPDATE_ITEM_LIMIT) {
-                                HttpRequest[] httpRequests = logEntryDTO.getHttpRequests();
-                                for (int i = 0; i < httpRequests.length; i++) {
-                                    recordedRequests.add(ImmutableMap.of(
-                                        "key", logEntryDTO.getId() + i,
-                                        "value", httpRequests[i]
-                                    ));
-                                }
-                            }
-                            if (requestResponseLogPredicate.test(logEntryDTO)
-                                && recordedRequestResponses.size() < UI_UPDATE_ITEM_LIMIT) {
-                                recordedRequestResponses.add(logEntryDTO);
-                            }
-                            if (logMessages.size() < UI_UPDATE_ITEM_LIMIT) {
-                                logMessages.add(logEntryDTO);
-                            }
-                        });
-                    sendMessage(channelHandlerContext, ImmutableMap.of(
-                        "activeExpectations", mockServerMatcher
-                            .retrieveActiveExpectations(httpRequest)
-                            .stream()
-                            .limit(UI_UPDATE_ITEM_LIMIT)
-                            .map(expectation -> ImmutableMap.of(
-                                "key", expectation.getId(),
-                                "value", expectation
-                            ))
-                            .collect(Collectors.toList()),
-                        "recordedExpectations", recordedExpectations,
-                        "recordedRequests", recordedRequests,
-                        "recordedRequestResponses", recordedRequestResponses,
-                        "logMessages", logMessages
-                    ));
-                }
-            );
-    }
 }
@@ -1,30 +1,44 @@
 package org.mockserver.lifecycle;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.unix.Errors;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.MockServerEventLog;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.metrics.Metrics;
 import org.mockserver.mock.HttpStateHandler;
+import org.mockserver.netty.admission.RequestAdmission;
 import org.mockserver.scheduler.Scheduler;
+import org.mockserver.socket.transport.NettyTransport;
 import org.mockserver.stop.Stoppable;
 
+import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.mockserver.configuration.ConfigurationProperties.maxFutureTimeout;
 import static org.mockserver.log.model.LogEntry.LogMessageType.SERVER_CONFIGURATION;
+import static org.mockserver.metrics.Metrics.Name.CONNECTION_REJECTED_COUNT;
 import static org.mockserver.model.HttpRequest.request;
 import static org.slf4j.event.Level.*;
 
@@ -34,17 +48,25 @@ import static org.slf4j.event.Level.*;
 public abstract class LifeCycle implements Stoppable {
 
     protected final MockServerLogger mockServerLogger;
-    protected EventLoopGroup bossGroup = new NioEventLoopGroup(5, new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-bossEventLoop"));
-    protected EventLoopGroup workerGroup = new NioEventLoopGroup(ConfigurationProperties.nioEventLoopThreadCount(), new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-workerEventLoop"));
+    protected EventLoopGroup bossGroup = NettyTransport.eventLoopGroup(Math.max(5, ConfigurationProperties.acceptorsPerPort()), new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-bossEventLoop"));
+    protected EventLoopGroup workerGroup = NettyTransport.eventLoopGroup(ConfigurationProperties.nioEventLoopThreadCount(), new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-workerEventLoop"));
     protected HttpStateHandler httpStateHandler;
     protected ServerBootstrap serverServerBootstrap;
     private List<Future<Channel>> serverChannelFutures = new ArrayList<>();
+    // every server channel bound to each port, more than one per port when several acceptors share it with SO_REUSEPORT
+    private final Map<Integer, List<Channel>> serverChannels = new ConcurrentHashMap<>();
     private Scheduler scheduler;
+    private final Map<Integer, LongAdder> connectionCounts = new ConcurrentHashMap<>();
+    private final RequestAdmission requestAdmission = new RequestAdmission();
 
     protected LifeCycle() {
         this.mockServerLogger = new MockServerLogger(MockServerEventLog.class);
         this.scheduler = new Scheduler(this.mockServerLogger);
         this.httpStateHandler = new HttpStateHandler(this.mockServerLogger, this.scheduler);
+        this.httpStateHandler.getPrometheusMetrics()
+            .gauge("mockserver_netty_direct_memory_used_bytes", "direct memory used by the netty pooled allocator", () -> PooledByteBufAllocator.DEFAULT.metric().usedDirectMemory())
+            .gauge("mockserver_connection_count", "number of open connections by local port", "port", this::getConnectionCounts)
+            .gauge("mockserver_in_flight_request_count", "number of admitted requests waiting for a response", requestAdmission::getInFlightRequests);
     }
 
     public Future<String> stopAsync() {
@@ -53,6 +75,12 @@ public abstract class LifeCycle implements Stoppable {
             scheduler.shutdown();
             httpStateHandler.stop();
 
+            // Close every acceptor explicitly so no port is left bound by an acceptor that is not reported.
+            for (List<Channel> channels : serverChannels.values()) {
+                closeChannels(channels);
+            }
+            serverChannels.clear();
+
             // Shut down all event loops to terminate all threads.
             bossGroup.shutdownGracefully(5, 5, MILLISECONDS);
             workerGroup.shutdownGracefully(5, 5, MILLISECONDS);
@@ -101,6 +129,42 @@ public abstract class LifeCycle implements Stoppable {
         return !bossGroup.isShuttingDown() || !workerGroup.isShuttingDown();
     }
 
+    public RequestAdmission getRequestAdmission() {
+        return requestAdmission;
+    }
+
+    /**
+     * Count a newly accepted connection against its local port until the connection is closed, connections above
+     * maxConnectionsPerPort are closed immediately
+     */
+    public void connectionOpened(Channel channel) {
+        if (channel.localAddress() instanceof InetSocketAddress) {
+            int port = ((InetSocketAddress) channel.localAddress()).getPort();
+            LongAdder connectionCount = connectionCounts.get(port);
+            if (connectionCount == null) {
+                connectionCount = connectionCounts.computeIfAbsent(port, key -> new LongAdder());
+            }
+            connectionCount.increment();
+            int maxConnectionsPerPort = ConfigurationProperties.maxConnectionsPerPort();
+            if (maxConnectionsPerPort > 0 && connectionCount.sum() > maxConnectionsPerPort) {
+                connectionCount.decrement();
+                Metrics.increment(CONNECTION_REJECTED_COUNT);
+                channel.close();
+                return;
+            }
+            final LongAdder openConnectionCount = connectionCount;
+            channel.closeFuture().addListener(future -> openConnectionCount.decrement());
+        }
+    }
+
+    public Map<String, Long> getConnectionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<Integer, LongAdder> entry : connectionCounts.entrySet()) {
+            counts.put(String.valueOf(entry.getKey()), entry.getValue().sum());
+        }
+        return counts;
+    }
+
     public List<Integer> getLocalPorts() {
         return getBoundPorts(serverChannelFutures);
     }
@@ -150,6 +214,23 @@ public abstract class LifeCycle implements Stoppable {
         return ports;
     }
 
+    /**
+     * @return the number of server sockets to bind to each port, more than one is only possible with the epoll transport as it relies on SO_REUSEPORT
+     */
+    protected int acceptorsPerPort() {
+        int acceptorsPerPort = ConfigurationProperties.acceptorsPerPort();
+        if (acceptorsPerPort > 1 && !NettyTransport.isEpoll(bossGroup)) {
+            mockServerLogger.logEvent(
+                new LogEntry()
+                    .setType(SERVER_CONFIGURATION)
+                    .setLogLevel(WARN)
+                    .setMessageFormat("acceptorsPerPort of " + acceptorsPerPort + " requires the epoll transport, a single acceptor will be bound to each port")
+            );
+            return 1;
+        }
+        return Math.max(1, acceptorsPerPort);
+    }
+
     public List<Integer> bindServerPorts(final List<Integer> requestedPortBindings) {
         return bindPorts(serverServerBootstrap, requestedPortBindings, serverChannelFutures);
     }
@@ -185,14 +266,58 @@ public abstract class LifeCycle implements Stoppable {
                     }
                 }, "MockServer thread for port: " + portToBind).start();
 
-                actualPortBindings.add(((InetSocketAddress) channelOpened.get(maxFutureTimeout(), MILLISECONDS).localAddress()).getPort());
+                Channel channel = channelOpened.get(maxFutureTimeout(), MILLISECONDS);
+                InetSocketAddress boundAddress = (InetSocketAddress) channel.localAddress();
+                List<Channel> acceptorChannels = new ArrayList<>();
+                acceptorChannels.add(channel);
+                if (serverBootstrap.config().options().containsKey(EpollChannelOption.SO_REUSEPORT)) {
+                    // additional acceptors on the same address (i.e. the actual port when any free port was requested), the kernel spreads new connections across them
+                    int acceptorsPerPort = acceptorsPerPort();
+                    try {
+                        for (int i = 1; i < acceptorsPerPort; i++) {
+                            acceptorChannels.add(serverBootstrap.bind(boundAddress).syncUninterruptibly().channel());
+                        }
+                    } catch (RuntimeException e) {
+                        // unbind the acceptors already bound so a partially bound port is not left open
+                        closeChannels(acceptorChannels);
+                        throw new ExecutionException(e);
+                    }
+                }
+                serverChannels.computeIfAbsent(boundAddress.getPort(), port -> new CopyOnWriteArrayList<>()).addAll(acceptorChannels);
+                actualPortBindings.add(boundAddress.getPort());
             } catch (Exception e) {
-                throw new RuntimeException("Exception while binding MockServer to port " + portToBind, e.getCause());
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof Errors.NativeIoException) {
+                    // the epoll transport reports bind failures as native io exceptions, report them as BindException like NIO does
+                    BindException bindException = new BindException(cause.getMessage());
+                    bindException.initCause(cause);
+                    cause = bindException;
+                }
+                throw new RuntimeException("Exception while binding MockServer to port " + portToBind, cause);
             }
         }
         return actualPortBindings;
     }
 
+    protected List<Channel> getServerChannels(int port) {
+        return serverChannels.getOrDefault(port, Collections.emptyList());
+    }
+
+    private void closeChannels(List<Channel> channels) {
+        for (Channel channel : channels) {
+            try {
+                channel.close().syncUninterruptibly();
+            } catch (Exception e) {
+                mockServerLogger.logEvent(
+                    new LogEntry()
+                        .setLogLevel(TRACE)
+                        .setMessageFormat("exception while closing server channel " + channel)
+                        .setArguments(e)
+                );
+            }
+        }
+    }
+
     protected void startedServer(List<Integer> ports) {
         final String message = "started on port" + (ports.size() == 1 ? ": " + ports.get(0) : "s: " + ports);
         mockServerLogger.logEvent(
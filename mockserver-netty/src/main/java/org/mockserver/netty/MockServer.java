@@ -4,12 +4,14 @@ import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.WriteBufferWaterMark;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.epoll.EpollChannelOption;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.lifecycle.LifeCycle;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.mock.action.ActionHandler;
 import org.mockserver.proxyconfiguration.ProxyConfiguration;
 import org.mockserver.socket.tls.NettySslContextFactory;
+import org.mockserver.socket.transport.NettyTransport;
 import org.slf4j.event.Level;
 
 import javax.annotation.Nullable;
@@ -105,14 +107,25 @@ public class MockServer extends LifeCycle {
         NettySslContextFactory nettySslContextFactory = new NettySslContextFactory(mockServerLogger);
         serverServerBootstrap = new ServerBootstrap()
             .group(bossGroup, workerGroup)
-            .option(ChannelOption.SO_BACKLOG, 1024)
-            .channel(NioServerSocketChannel.class)
+            .option(ChannelOption.SO_BACKLOG, ConfigurationProperties.socketBacklog())
+            .channel(NettyTransport.serverSocketChannelClass(bossGroup))
             .childOption(ChannelOption.AUTO_READ, true)
             .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
-            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(8 * 1024, 32 * 1024))
+            .childOption(ChannelOption.TCP_NODELAY, ConfigurationProperties.socketTcpNoDelay())
+            .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(ConfigurationProperties.socketWriteBufferLowWaterMark(), ConfigurationProperties.socketWriteBufferHighWaterMark()))
             .childHandler(new MockServerUnificationInitializer(MockServer.this, httpStateHandler, new ActionHandler(getEventLoopGroup(), httpStateHandler, proxyConfiguration, nettySslContextFactory), nettySslContextFactory))
             .childAttr(REMOTE_SOCKET, remoteSocket)
             .childAttr(PROXYING, remoteSocket != null);
+        if (ConfigurationProperties.socketReceiveBufferSize() > 0) {
+            // set on the server socket so accepted connections inherit it before the tcp window is agreed
+            serverServerBootstrap.option(ChannelOption.SO_RCVBUF, ConfigurationProperties.socketReceiveBufferSize());
+        }
+        if (ConfigurationProperties.socketSendBufferSize() > 0) {
+            serverServerBootstrap.childOption(ChannelOption.SO_SNDBUF, ConfigurationProperties.socketSendBufferSize());
+        }
+        if (acceptorsPerPort() > 1) {
+            serverServerBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
 
         try {
             bindServerPorts(portBindings);
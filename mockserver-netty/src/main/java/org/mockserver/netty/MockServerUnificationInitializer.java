@@ -25,6 +25,10 @@ public class MockServerUnificationInitializer extends ChannelHandlerAdapter {
 
     @Override
     public void handlerAdded(ChannelHandlerContext ctx) {
+        server.connectionOpened(ctx.channel());
+        if (!ctx.channel().isOpen()) {
+            return;
+        }
         ctx.pipeline().replace(this, null, new PortUnificationHandler(server, httpStateHandler, actionHandler, nettySslContextFactory));
     }
 }
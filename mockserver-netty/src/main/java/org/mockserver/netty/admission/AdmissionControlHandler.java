@@ -0,0 +1,155 @@
+package org.mockserver.netty.admission;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.*;
+import io.netty.util.ReferenceCountUtil;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
+import static org.mockserver.mock.HttpStateHandler.PATH_PREFIX;
+
+/**
+ * Admits or rejects each request received on a connection before it is decoded into a MockServer request, rejected
+ * requests are answered on the event loop with a 503 (in flight limit) or 429 (client rate limit) response, once the
+ * responses to any earlier pipelined requests on the connection have been written so responses stay in request order.
+ *
+ * Control plane and web socket requests (i.e. /mockserver/... and /_mockserver_..._websocket) are always admitted so a flooded instance can still be inspected and reset.
+ *
+ * @author jamesdbloom
+ */
+public class AdmissionControlHandler extends ChannelDuplexHandler {
+
+    private final RequestAdmission requestAdmission;
+    // one entry per request waiting for a response, in the order responses are written
+    private final Queue<PendingResponse> pendingResponses = new ArrayDeque<>();
+    // true while the content of a response is still being written
+    private boolean writingResponse;
+
+    public AdmissionControlHandler(RequestAdmission requestAdmission) {
+        this.requestAdmission = requestAdmission;
+    }
+
+    static boolean isControlPlane(String uri) {
+        int queryStart = uri.indexOf('?');
+        String path = queryStart >= 0 ? uri.substring(0, queryStart) : uri;
+        return path.equals(PATH_PREFIX)
+            || path.startsWith(PATH_PREFIX + "/")
+            || path.equals("/_mockserver_callback_websocket")
+            || path.equals("/_mockserver_ui_websocket");
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof FullHttpRequest) {
+            FullHttpRequest request = (FullHttpRequest) msg;
+            if (isControlPlane(request.uri())) {
+                pendingResponses.add(PendingResponse.UNCOUNTED);
+            } else {
+                RequestAdmission.Result result = requestAdmission.admit(ctx.channel().remoteAddress());
+                if (result == RequestAdmission.Result.ADMITTED) {
+                    pendingResponses.add(PendingResponse.COUNTED);
+                } else {
+                    reject(ctx, request, result == RequestAdmission.Result.RATE_LIMIT_EXCEEDED ? TOO_MANY_REQUESTS : SERVICE_UNAVAILABLE);
+                    return;
+                }
+            }
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private void reject(ChannelHandlerContext ctx, FullHttpRequest request, HttpResponseStatus status) {
+        boolean keepAlive = HttpUtil.isKeepAlive(request);
+        ReferenceCountUtil.release(request);
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, status);
+        response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+        response.headers().set(HttpHeaderNames.RETRY_AFTER, 1);
+        if (!keepAlive) {
+            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+        }
+        PendingResponse rejection = new PendingResponse(false, response, !keepAlive);
+        if (pendingResponses.isEmpty() && !writingResponse) {
+            writeRejection(ctx, rejection);
+        } else {
+            // an earlier request is still waiting for its response, so the rejection is written after it
+            pendingResponses.add(rejection);
+        }
+    }
+
+    private void writeRejection(ChannelHandlerContext ctx, PendingResponse rejection) {
+        if (rejection.closeAfterWrite) {
+            ctx.writeAndFlush(rejection.rejection).addListener(ChannelFutureListener.CLOSE);
+        } else {
+            ctx.writeAndFlush(rejection.rejection);
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof HttpResponse) {
+            PendingResponse pendingResponse = pendingResponses.poll();
+            if (pendingResponse != null && pendingResponse.counted) {
+                requestAdmission.completed(1);
+            }
+            writingResponse = true;
+        }
+        super.write(ctx, msg, promise);
+        if (msg instanceof LastHttpContent) {
+            writingResponse = false;
+            // the response is complete, so write the rejections queued behind it
+            while (pendingResponses.peek() != null && pendingResponses.peek().rejection != null) {
+                writeRejection(ctx, pendingResponses.poll());
+            }
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        releasePendingResponses();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        releasePendingResponses();
+    }
+
+    private void releasePendingResponses() {
+        int counted = 0;
+        for (PendingResponse pendingResponse : pendingResponses) {
+            if (pendingResponse.counted) {
+                counted++;
+            }
+            if (pendingResponse.rejection != null) {
+                ReferenceCountUtil.release(pendingResponse.rejection);
+            }
+        }
+        pendingResponses.clear();
+        if (counted > 0) {
+            requestAdmission.completed(counted);
+        }
+    }
+
+    private static class PendingResponse {
+
+        private static final PendingResponse COUNTED = new PendingResponse(true, null, false);
+        private static final PendingResponse UNCOUNTED = new PendingResponse(false, null, false);
+
+        // true if counted as in flight
+        private final boolean counted;
+        // rejection to write once all earlier responses are written, null for requests passed on to be handled
+        private final FullHttpResponse rejection;
+        private final boolean closeAfterWrite;
+
+        private PendingResponse(boolean counted, FullHttpResponse rejection, boolean closeAfterWrite) {
+            this.counted = counted;
+            this.rejection = rejection;
+            this.closeAfterWrite = closeAfterWrite;
+        }
+    }
+}
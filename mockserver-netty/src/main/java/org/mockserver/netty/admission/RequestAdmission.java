@@ -0,0 +1,121 @@
+package org.mockserver.netty.admission;
+
+import org.mockserver.collections.CircularHashMap;
+import org.mockserver.configuration.ConfigurationProperties;
+import org.mockserver.metrics.Metrics;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockserver.metrics.Metrics.Name.REQUEST_REJECTED_IN_FLIGHT_LIMIT_COUNT;
+import static org.mockserver.metrics.Metrics.Name.REQUEST_REJECTED_RATE_LIMIT_COUNT;
+
+/**
+ * Decides whether a request is handled or rejected, shared by all connections to a server, so a single client flooding
+ * a shared instance can't exhaust the threads and memory used by every other client:
+ * <p>
+ * - each client IP address has a token bucket refilled at clientRateLimit tokens per second up to clientRateLimitBurst tokens
+ * - at most maxInFlightRequests admitted requests can be waiting for a response
+ *
+ * @author jamesdbloom
+ */
+public class RequestAdmission {
+
+    // least recently seen clients are removed once this many clients are tracked, their buckets are almost always full (i.e. idle for longer than it takes to refill)
+    static final int MAX_TRACKED_CLIENTS = 10_000;
+    private final int maxInFlightRequests;
+    private final double tokensPerNano;
+    private final int burst;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final Map<InetAddress, TokenBucket> tokenBuckets = new CircularHashMap<>(MAX_TRACKED_CLIENTS, true);
+
+    public enum Result {
+        ADMITTED,
+        IN_FLIGHT_LIMIT_EXCEEDED,
+        RATE_LIMIT_EXCEEDED
+    }
+
+    public RequestAdmission() {
+        this(ConfigurationProperties.maxInFlightRequests(), ConfigurationProperties.clientRateLimit(), ConfigurationProperties.clientRateLimitBurst());
+    }
+
+    /**
+     * @param maxInFlightRequests  maximum admitted requests without a response, 0 is unlimited
+     * @param clientRateLimit      maximum requests per second from each client IP address, 0 is unlimited
+     * @param clientRateLimitBurst maximum requests a client IP address can send at once
+     */
+    public RequestAdmission(int maxInFlightRequests, int clientRateLimit, int clientRateLimitBurst) {
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.tokensPerNano = clientRateLimit / (double) TimeUnit.SECONDS.toNanos(1);
+        this.burst = Math.max(1, clientRateLimitBurst);
+    }
+
+    /**
+     * @return ADMITTED if the request should be handled, in which case {@link #completed(int)} must be called once a response is written or the connection is closed
+     */
+    public Result admit(SocketAddress remoteAddress) {
+        if (tokensPerNano > 0 && remoteAddress instanceof InetSocketAddress && !tryAcquire(((InetSocketAddress) remoteAddress).getAddress(), System.nanoTime())) {
+            Metrics.increment(REQUEST_REJECTED_RATE_LIMIT_COUNT);
+            return Result.RATE_LIMIT_EXCEEDED;
+        }
+        if (inFlightRequests.incrementAndGet() > maxInFlightRequests && maxInFlightRequests > 0) {
+            inFlightRequests.decrementAndGet();
+            Metrics.increment(REQUEST_REJECTED_IN_FLIGHT_LIMIT_COUNT);
+            return Result.IN_FLIGHT_LIMIT_EXCEEDED;
+        }
+        return Result.ADMITTED;
+    }
+
+    public void completed(int requests) {
+        inFlightRequests.addAndGet(-requests);
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    int getTrackedClients() {
+        synchronized (tokenBuckets) {
+            return tokenBuckets.size();
+        }
+    }
+
+    boolean tryAcquire(InetAddress clientAddress, long nowNanos) {
+        TokenBucket tokenBucket;
+        synchronized (tokenBuckets) {
+            tokenBucket = tokenBuckets.computeIfAbsent(clientAddress, key -> new TokenBucket(nowNanos));
+        }
+        return tokenBucket.tryAcquire(nowNanos);
+    }
+
+    private class TokenBucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(long nowNanos) {
+            this.tokens = burst;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        private synchronized boolean tryAcquire(long nowNanos) {
+            refill(nowNanos);
+            if (tokens >= 1) {
+                tokens--;
+                return true;
+            }
+            return false;
+        }
+
+        private void refill(long nowNanos) {
+            if (nowNanos > lastRefillNanos) {
+                tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+                lastRefillNanos = nowNanos;
+            }
+        }
+    }
+}
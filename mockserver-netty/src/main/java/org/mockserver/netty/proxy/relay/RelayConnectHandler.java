@@ -3,7 +3,6 @@ package org.mockserver.netty.proxy.relay;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.*;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.codec.http.HttpObjectAggregator;
@@ -14,6 +13,7 @@ import org.mockserver.lifecycle.LifeCycle;
 import org.mockserver.log.model.LogEntry;
 import org.mockserver.logging.LoggingHandler;
 import org.mockserver.logging.MockServerLogger;
+import org.mockserver.socket.transport.NettyTransport;
 import org.slf4j.event.Level;
 
 import java.net.InetSocketAddress;
@@ -43,7 +43,7 @@ public abstract class RelayConnectHandler<T> extends SimpleChannelInboundHandler
     public void channelRead0(final ChannelHandlerContext serverCtx, final T request) {
         Bootstrap bootstrap = new Bootstrap()
             .group(serverCtx.channel().eventLoop())
-            .channel(NioSocketChannel.class)
+            .channel(NettyTransport.socketChannelClass(serverCtx.channel().eventLoop()))
             .handler(new ChannelInboundHandlerAdapter() {
                 @Override
                 public void channelActive(final ChannelHandlerContext clientCtx) {
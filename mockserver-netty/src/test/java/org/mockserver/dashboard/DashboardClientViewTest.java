@@ -0,0 +1,131 @@
+package org.mockserver.dashboard;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockserver.dashboard.model.DashboardLogEntryDTO;
+import org.mockserver.log.MockServerEventLog;
+import org.mockserver.log.model.LogEntry;
+import org.mockserver.logging.MockServerLogger;
+import org.mockserver.mock.HttpStateHandler;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockserver.dashboard.DashboardClientView.UI_UPDATE_ITEM_LIMIT;
+import static org.mockserver.log.model.LogEntry.LogMessageType.RECEIVED_REQUEST;
+import static org.mockserver.model.HttpRequest.request;
+import static org.slf4j.event.Level.INFO;
+
+/**
+ * @author jamesdbloom
+ */
+public class DashboardClientViewTest {
+
+    private HttpStateHandler httpStateHandler;
+    private MockServerEventLog mockServerEventLog;
+    private final BlockingQueue<Map<String, Object>> updates = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setupTestFixture() {
+        httpStateHandler = new HttpStateHandler(new MockServerLogger(), mock(Scheduler.class));
+        mockServerEventLog = httpStateHandler.getMockServerLog();
+    }
+
+    private DashboardClientView clientView(HttpRequest httpRequest) {
+        return new DashboardClientView(httpStateHandler.getMockServerLogger(), httpRequest, httpStateHandler.getMockServerMatcher(), updates::add);
+    }
+
+    private void receivedRequest(String path) {
+        httpStateHandler.getMockServerLogger().logEvent(
+            new LogEntry()
+                .setType(RECEIVED_REQUEST)
+                .setLogLevel(INFO)
+                .setHttpRequest(request(path))
+                .setMessageFormat("received request:{}")
+                .setArguments(request(path))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> logMessagePaths(DashboardClientView clientView) throws InterruptedException {
+        clientView.update(mockServerEventLog);
+        Map<String, Object> update = updates.poll(10, SECONDS);
+        return ((List<DashboardLogEntryDTO>) update.get("logMessages"))
+            .stream()
+            .map(logEntryDTO -> logEntryDTO.getHttpRequest().getPath().getValue())
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    public void shouldReturnMatchingEntriesNewestFirst() throws InterruptedException {
+        // given
+        DashboardClientView clientView = clientView(request("/some.*"));
+        receivedRequest("/some_path_one");
+        receivedRequest("/other_path");
+        receivedRequest("/some_path_two");
+
+        // then
+        assertThat(logMessagePaths(clientView), contains("/some_path_two", "/some_path_one"));
+    }
+
+    @Test
+    public void shouldMergeEntriesAddedSinceLastUpdate() throws InterruptedException {
+        // given
+        DashboardClientView clientView = clientView(request());
+        receivedRequest("/one");
+        receivedRequest("/two");
+        assertThat(logMessagePaths(clientView), contains("/two", "/one"));
+
+        // when
+        receivedRequest("/three");
+
+        // then
+        assertThat(logMessagePaths(clientView), contains("/three", "/two", "/one"));
+        assertThat(clientView.isUpdated(), is(false));
+    }
+
+    @Test
+    public void shouldLimitEntries() throws InterruptedException {
+        // given
+        DashboardClientView clientView = clientView(request());
+        for (int i = 0; i < UI_UPDATE_ITEM_LIMIT; i++) {
+            receivedRequest("/before_" + i);
+        }
+        assertThat(logMessagePaths(clientView), hasSize(UI_UPDATE_ITEM_LIMIT));
+
+        // when
+        receivedRequest("/after");
+
+        // then
+        List<String> paths = logMessagePaths(clientView);
+        assertThat(paths, hasSize(UI_UPDATE_ITEM_LIMIT));
+        assertThat(paths.get(0), is("/after"));
+        assertThat(paths.get(UI_UPDATE_ITEM_LIMIT - 1), is("/before_1"));
+    }
+
+    @Test
+    public void shouldRemoveClearedEntries() throws InterruptedException {
+        // given
+        DashboardClientView clientView = clientView(request());
+        receivedRequest("/one");
+        assertThat(logMessagePaths(clientView), contains("/one"));
+
+        // when
+        mockServerEventLog.reset();
+        receivedRequest("/two");
+
+        // then
+        assertThat(logMessagePaths(clientView), contains("/two"));
+    }
+}
@@ -1,11 +1,27 @@
 package org.mockserver.lifecycle;
 
+import io.netty.channel.Channel;
+import org.apache.commons.io.IOUtils;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.netty.MockServer;
 import org.mockserver.socket.PortFactory;
+import org.mockserver.socket.transport.NettyTransport;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
 
 /**
  * @author jamesdbloom
@@ -40,4 +56,83 @@ public class PortBindingIntegrationTest {
             }
         }
     }
+
+    @Test
+    public void shouldBindWithSocketOptionsAndAcceptorsPerPort() throws IOException {
+        MockServer mockServer = null;
+        try {
+            // given
+            ConfigurationProperties.socketBacklog(2048);
+            ConfigurationProperties.socketTcpNoDelay(true);
+            ConfigurationProperties.socketReceiveBufferSize(64 * 1024);
+            ConfigurationProperties.socketSendBufferSize(64 * 1024);
+            ConfigurationProperties.socketWriteBufferLowWaterMark(16 * 1024);
+            ConfigurationProperties.socketWriteBufferHighWaterMark(64 * 1024);
+            ConfigurationProperties.acceptorsPerPort(3);
+
+            // when
+            mockServer = new MockServer(0);
+            MockServerClient mockServerClient = new MockServerClient("localhost", mockServer.getLocalPort());
+            mockServerClient.when(request("/some_path")).respond(response("some_body"));
+
+            // then - port only reported once, even when several acceptors are bound to it with the epoll transport
+            assertThat(mockServer.getLocalPorts().size(), is(1));
+            for (int i = 0; i < 10; i++) {
+                HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + mockServer.getLocalPort() + "/some_path").openConnection();
+                assertThat(connection.getResponseCode(), is(200));
+                assertThat(IOUtils.toString(connection.getInputStream(), StandardCharsets.UTF_8), is("some_body"));
+            }
+
+            // and - every acceptor is tracked and closed on stop
+            List<Channel> serverChannels = mockServer.getServerChannels(mockServer.getLocalPort());
+            assertThat(serverChannels.size(), is(NettyTransport.isEpoll(mockServer.bossGroup) ? 3 : 1));
+            mockServer.stop();
+            for (Channel serverChannel : serverChannels) {
+                assertThat(serverChannel.isOpen(), is(false));
+            }
+        } finally {
+            System.clearProperty("mockserver.socketBacklog");
+            System.clearProperty("mockserver.socketTcpNoDelay");
+            System.clearProperty("mockserver.socketReceiveBufferSize");
+            System.clearProperty("mockserver.socketSendBufferSize");
+            System.clearProperty("mockserver.socketWriteBufferLowWaterMark");
+            System.clearProperty("mockserver.socketWriteBufferHighWaterMark");
+            System.clearProperty("mockserver.acceptorsPerPort");
+            if (mockServer != null) {
+                mockServer.stop();
+            }
+        }
+    }
+
+    @Test
+    public void shouldRejectRequestsAboveClientRateLimitButNotControlPlaneRequests() throws IOException {
+        MockServer mockServer = null;
+        try {
+            // given
+            ConfigurationProperties.clientRateLimit(1);
+            ConfigurationProperties.clientRateLimitBurst(2);
+            mockServer = new MockServer(0);
+            MockServerClient mockServerClient = new MockServerClient("localhost", mockServer.getLocalPort());
+            mockServerClient.when(request("/some_path")).respond(response("some_body"));
+
+            // when
+            int[] statusCodes = new int[3];
+            for (int i = 0; i < statusCodes.length; i++) {
+                HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + mockServer.getLocalPort() + "/some_path").openConnection();
+                statusCodes[i] = connection.getResponseCode();
+            }
+
+            // then
+            assertThat(statusCodes[0], is(200));
+            assertThat(statusCodes[1], is(200));
+            assertThat(statusCodes[2], is(429));
+            assertThat(mockServerClient.retrieveRecordedRequests(request("/some_path")).length, is(2));
+        } finally {
+            System.clearProperty("mockserver.clientRateLimit");
+            System.clearProperty("mockserver.clientRateLimitBurst");
+            if (mockServer != null) {
+                mockServer.stop();
+            }
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package org.mockserver.netty.admission;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.junit.Test;
+
+import static io.netty.handler.codec.http.HttpMethod.GET;
+import static io.netty.handler.codec.http.HttpMethod.PUT;
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * @author jamesdbloom
+ */
+public class AdmissionControlHandlerTest {
+
+    @Test
+    public void shouldRejectRequestsAboveInFlightLimitUntilResponseWritten() {
+        // given
+        RequestAdmission requestAdmission = new RequestAdmission(1, 0, 0);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new AdmissionControlHandler(requestAdmission));
+
+        // when - first request admitted
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+
+        // then
+        assertThat(((FullHttpRequest) embeddedChannel.readInbound()).uri(), is("/some_path"));
+        assertThat(requestAdmission.getInFlightRequests(), is(1));
+
+        // when - second request rejected
+        FullHttpRequest rejectedRequest = new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_other_path");
+        embeddedChannel.writeInbound(rejectedRequest);
+
+        // then - rejection waits for the response to the earlier request
+        assertThat(embeddedChannel.readInbound(), nullValue());
+        assertThat(rejectedRequest.refCnt(), is(0));
+        assertThat(embeddedChannel.readOutbound(), nullValue());
+        assertThat(requestAdmission.getInFlightRequests(), is(1));
+
+        // when - response for first request
+        embeddedChannel.writeOutbound(new DefaultFullHttpResponse(HTTP_1_1, OK));
+
+        // then - responses written in request order
+        assertThat(((FullHttpResponse) embeddedChannel.readOutbound()).status(), is(OK));
+        assertThat(((FullHttpResponse) embeddedChannel.readOutbound()).status(), is(SERVICE_UNAVAILABLE));
+        assertThat(requestAdmission.getInFlightRequests(), is(0));
+    }
+
+    @Test
+    public void shouldRejectImmediatelyWhenNoEarlierResponsePending() {
+        // given - limit reached by request on another connection
+        RequestAdmission requestAdmission = new RequestAdmission(1, 0, 0);
+        EmbeddedChannel otherChannel = new EmbeddedChannel(new AdmissionControlHandler(requestAdmission));
+        otherChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new AdmissionControlHandler(requestAdmission));
+
+        // when
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+
+        // then
+        assertThat(((FullHttpResponse) embeddedChannel.readOutbound()).status(), is(SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    public void shouldWriteRejectionAfterEarlierChunkedResponseCompletes() {
+        // given - response started
+        RequestAdmission requestAdmission = new RequestAdmission(1, 0, 0);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new AdmissionControlHandler(requestAdmission));
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+        embeddedChannel.writeOutbound(new DefaultHttpResponse(HTTP_1_1, OK));
+        // and - limit reached by request on another connection
+        EmbeddedChannel otherChannel = new EmbeddedChannel(new AdmissionControlHandler(requestAdmission));
+        otherChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+
+        // when - rejected while the content of the first response is still being written
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+
+        // then
+        assertThat(((HttpResponse) embeddedChannel.readOutbound()).status(), is(OK));
+        assertThat(embeddedChannel.readOutbound(), nullValue());
+
+        // when
+        embeddedChannel.writeOutbound(LastHttpContent.EMPTY_LAST_CONTENT);
+
+        // then
+        assertThat(embeddedChannel.readOutbound(), is(LastHttpContent.EMPTY_LAST_CONTENT));
+        assertThat(((FullHttpResponse) embeddedChannel.readOutbound()).status(), is(SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    public void shouldAlwaysAdmitControlPlaneRequests() {
+        // given
+        RequestAdmission requestAdmission = new RequestAdmission(1, 0, 0);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new AdmissionControlHandler(requestAdmission));
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+        embeddedChannel.readInbound();
+
+        // when
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, PUT, "/mockserver/reset"));
+
+        // then
+        assertThat(((FullHttpRequest) embeddedChannel.readInbound()).uri(), is("/mockserver/reset"));
+        assertThat(requestAdmission.getInFlightRequests(), is(1));
+    }
+
+    @Test
+    public void shouldOnlyTreatMockServerPathsAsControlPlane() {
+        assertThat(AdmissionControlHandler.isControlPlane("/mockserver/retrieve?type=REQUESTS"), is(true));
+        assertThat(AdmissionControlHandler.isControlPlane("/mockserver"), is(true));
+        assertThat(AdmissionControlHandler.isControlPlane("/_mockserver_callback_websocket"), is(true));
+        assertThat(AdmissionControlHandler.isControlPlane("/_mockserver_ui_websocket"), is(true));
+        assertThat(AdmissionControlHandler.isControlPlane("/mockserverX"), is(false));
+        assertThat(AdmissionControlHandler.isControlPlane("/mockserver_other/path"), is(false));
+        assertThat(AdmissionControlHandler.isControlPlane("/_mockserver_other"), is(false));
+        assertThat(AdmissionControlHandler.isControlPlane("/some_path?path=/mockserver/"), is(false));
+    }
+
+    @Test
+    public void shouldReleaseInFlightRequestsWhenConnectionClosed() {
+        // given
+        RequestAdmission requestAdmission = new RequestAdmission(10, 0, 0);
+        EmbeddedChannel embeddedChannel = new EmbeddedChannel(new AdmissionControlHandler(requestAdmission));
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+        embeddedChannel.writeInbound(new DefaultFullHttpRequest(HTTP_1_1, GET, "/some_path"));
+        assertThat(requestAdmission.getInFlightRequests(), is(2));
+
+        // when
+        embeddedChannel.finishAndReleaseAll();
+
+        // then
+        assertThat(requestAdmission.getInFlightRequests(), is(0));
+    }
+}
@@ -0,0 +1,103 @@
+package org.mockserver.netty.admission;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * @author jamesdbloom
+ */
+public class RequestAdmissionTest {
+
+    @Test
+    public void shouldAdmitUpToMaxInFlightRequests() {
+        // given
+        RequestAdmission requestAdmission = new RequestAdmission(2, 0, 0);
+        InetSocketAddress remoteAddress = new InetSocketAddress("127.0.0.1", 1234);
+
+        // then
+        assertThat(requestAdmission.admit(remoteAddress), is(RequestAdmission.Result.ADMITTED));
+        assertThat(requestAdmission.admit(remoteAddress), is(RequestAdmission.Result.ADMITTED));
+        assertThat(requestAdmission.admit(remoteAddress), is(RequestAdmission.Result.IN_FLIGHT_LIMIT_EXCEEDED));
+        assertThat(requestAdmission.getInFlightRequests(), is(2));
+
+        // when
+        requestAdmission.completed(1);
+
+        // then
+        assertThat(requestAdmission.getInFlightRequests(), is(1));
+        assertThat(requestAdmission.admit(remoteAddress), is(RequestAdmission.Result.ADMITTED));
+    }
+
+    @Test
+    public void shouldAdmitUnlimitedRequestsByDefault() {
+        // given
+        RequestAdmission requestAdmission = new RequestAdmission(0, 0, 0);
+        InetSocketAddress remoteAddress = new InetSocketAddress("127.0.0.1", 1234);
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(requestAdmission.admit(remoteAddress), is(RequestAdmission.Result.ADMITTED));
+        }
+        assertThat(requestAdmission.getInFlightRequests(), is(1000));
+    }
+
+    @Test
+    public void shouldLimitBurstAndRefillAtRateForEachClient() throws Exception {
+        // given
+        RequestAdmission requestAdmission = new RequestAdmission(0, 10, 3);
+        InetAddress clientOne = InetAddress.getByName("10.0.0.1");
+        InetAddress clientTwo = InetAddress.getByName("10.0.0.2");
+        long start = System.nanoTime();
+
+        // then - burst
+        assertThat(requestAdmission.tryAcquire(clientOne, start), is(true));
+        assertThat(requestAdmission.tryAcquire(clientOne, start), is(true));
+        assertThat(requestAdmission.tryAcquire(clientOne, start), is(true));
+        assertThat(requestAdmission.tryAcquire(clientOne, start), is(false));
+
+        // and - other clients have their own bucket
+        assertThat(requestAdmission.tryAcquire(clientTwo, start), is(true));
+
+        // and - one token every 100ms
+        assertThat(requestAdmission.tryAcquire(clientOne, start + TimeUnit.MILLISECONDS.toNanos(50)), is(false));
+        assertThat(requestAdmission.tryAcquire(clientOne, start + TimeUnit.MILLISECONDS.toNanos(100)), is(true));
+        assertThat(requestAdmission.tryAcquire(clientOne, start + TimeUnit.MILLISECONDS.toNanos(100)), is(false));
+
+        // and - never refills beyond burst
+        long later = start + TimeUnit.SECONDS.toNanos(10);
+        assertThat(requestAdmission.tryAcquire(clientOne, later), is(true));
+        assertThat(requestAdmission.tryAcquire(clientOne, later), is(true));
+        assertThat(requestAdmission.tryAcquire(clientOne, later), is(true));
+        assertThat(requestAdmission.tryAcquire(clientOne, later), is(false));
+    }
+
+    @Test
+    public void shouldTrackAtMostMaxClientsRemovingLeastRecentlySeen() throws Exception {
+        // given
+        RequestAdmission requestAdmission = new RequestAdmission(0, 10, 1);
+        InetAddress recentClient = InetAddress.getByName("10.0.0.1");
+        long now = System.nanoTime();
+        assertThat(requestAdmission.tryAcquire(recentClient, now), is(true));
+
+        // when
+        byte[] address = {11, 0, 0, 0};
+        for (int i = 0; i < RequestAdmission.MAX_TRACKED_CLIENTS + 100; i++) {
+            address[2] = (byte) (i >> 8);
+            address[3] = (byte) i;
+            requestAdmission.tryAcquire(InetAddress.getByAddress(address), now);
+            if (i % 1000 == 0) {
+                requestAdmission.tryAcquire(recentClient, now);
+            }
+        }
+
+        // then - bounded, and recently seen client still tracked (its empty bucket isn't replaced by a full one)
+        assertThat(requestAdmission.getTrackedClients(), is(RequestAdmission.MAX_TRACKED_CLIENTS));
+        assertThat(requestAdmission.tryAcquire(recentClient, now), is(false));
+    }
+}
@@ -930,6 +930,23 @@ public abstract class AbstractExtendedNettyMockingIntegrationTest extends Abstra
         );
     }
 
+    @Test
+    public void shouldReturnMetricsInPrometheusFormat() {
+        // when
+        HttpResponse response = makeRequest(
+            request()
+                .withPath(calculatePath("mockserver/metrics"))
+                .withMethod("GET"),
+            headersToIgnore);
+
+        // then
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(response.getFirstHeader(CONTENT_TYPE.toString()), is("text/plain; version=0.0.4; charset=utf-8"));
+        assertThat(response.getBodyAsString(), containsString("# TYPE mockserver_expectation_count gauge\n"));
+        assertThat(response.getBodyAsString(), containsString("# TYPE mockserver_netty_direct_memory_used_bytes gauge\n"));
+        assertThat(response.getBodyAsString(), containsString("mockserver_connection_count{port=\"" + getServerPort() + "\"} "));
+    }
+
     @Test
     public void shouldBindToNewSocketAndReturnStatus() {
         // given
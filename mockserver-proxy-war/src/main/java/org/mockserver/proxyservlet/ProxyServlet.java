@@ -2,7 +2,6 @@ package org.mockserver.proxyservlet;
 
 import com.google.common.collect.ImmutableSet;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import org.mockserver.configuration.ConfigurationProperties;
 import org.mockserver.log.MockServerEventLog;
 import org.mockserver.log.model.LogEntry;
@@ -12,13 +11,14 @@ import org.mockserver.mock.HttpStateHandler;
 import org.mockserver.mock.action.ActionHandler;
 import org.mockserver.model.HttpRequest;
 import org.mockserver.model.MediaType;
-import org.mockserver.responsewriter.ResponseWriter;
 import org.mockserver.scheduler.Scheduler;
 import org.mockserver.serialization.PortBindingSerializer;
 import org.mockserver.servlet.responsewriter.ServletResponseWriter;
 import org.mockserver.socket.tls.NettySslContextFactory;
+import org.mockserver.socket.transport.NettyTransport;
 import org.slf4j.event.Level;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 import javax.servlet.http.HttpServlet;
@@ -51,7 +51,7 @@ public class ProxyServlet extends HttpServlet implements ServletContextListener
     private HttpServletRequestToMockServerRequestDecoder httpServletRequestToMockServerRequestDecoder;
     // mockserver
     private ActionHandler actionHandler;
-    private EventLoopGroup workerGroup = new NioEventLoopGroup(ConfigurationProperties.nioEventLoopThreadCount(), new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"));
+    private EventLoopGroup workerGroup = NettyTransport.eventLoopGroup(ConfigurationProperties.nioEventLoopThreadCount(), new Scheduler.SchedulerThreadFactory(this.getClass().getSimpleName() + "-eventLoop"));
 
     @SuppressWarnings("WeakerAccess")
     public ProxyServlet() {
@@ -90,8 +90,15 @@ public class ProxyServlet extends HttpServlet implements ServletContextListener
     @Override
     public void service(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
 
-        ResponseWriter responseWriter = new ServletResponseWriter(new MockServerLogger(), httpServletResponse);
+        // asynchronous requests allow response delays and forwarded requests to complete without holding a container thread
+        AsyncContext asyncContext = httpServletRequest.isAsyncSupported() ? httpServletRequest.startAsync() : null;
+        if (asyncContext != null) {
+            asyncContext.setTimeout(ConfigurationProperties.maxFutureTimeout());
+        }
+        ServletResponseWriter responseWriter = new ServletResponseWriter(new MockServerLogger(), httpServletResponse, asyncContext);
         HttpRequest request = null;
+        // only the action handler may respond after this method returns, every other path must complete the request here
+        boolean respondingAsynchronously = false;
         try {
 
             request = httpServletRequestToMockServerRequestDecoder.mapHttpServletRequestToMockServerRequest(httpServletRequest);
@@ -129,7 +136,8 @@ public class ProxyServlet extends HttpServlet implements ServletContextListener
                         httpServletRequest.getLocalAddr() + portExtension,
                         "localhost" + portExtension,
                         "127.0.0.1" + portExtension
-                    ), true, true);
+                    ), true, asyncContext == null);
+                    respondingAsynchronously = true;
 
                 }
             }
@@ -154,6 +162,10 @@ public class ProxyServlet extends HttpServlet implements ServletContextListener
                     .setThrowable(e)
             );
             responseWriter.writeResponse(request, response().withStatusCode(BAD_REQUEST.code()).withBody(e.getMessage()), true);
+        } finally {
+            if (!respondingAsynchronously) {
+                responseWriter.complete();
+            }
         }
     }
 }
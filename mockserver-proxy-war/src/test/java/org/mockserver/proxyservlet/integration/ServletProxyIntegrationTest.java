@@ -67,7 +67,7 @@ public class ServletProxyIntegrationTest extends AbstractProxyIntegrationTest {
 
         // add servlet
         Context ctx = tomcat.addContext("/" + servletContext, new File(".").getAbsolutePath());
-        tomcat.addServlet("/" + servletContext, "mockServerServlet", new ProxyServlet());
+        tomcat.addServlet("/" + servletContext, "mockServerServlet", new ProxyServlet()).setAsyncSupported(true);
         ctx.addServletMappingDecoded("/*", "mockServerServlet");
         ctx.addApplicationListener(ProxyServlet.class.getName());
 
@@ -55,7 +55,7 @@ public class ExtendedWARMockingIntegrationTest extends AbstractExtendedDeployabl
 
         // add servlet
         Context ctx = tomcat.addContext("/" + servletContext, new File(".").getAbsolutePath());
-        tomcat.addServlet("/" + servletContext, "mockServerServlet", new MockServerServlet());
+        tomcat.addServlet("/" + servletContext, "mockServerServlet", new MockServerServlet()).setAsyncSupported(true);
         ctx.addServletMappingDecoded("/*", "mockServerServlet");
         ctx.addApplicationListener(MockServerServlet.class.getName());
 